@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.jsonrpc.JsonRpcRequestHandler;
 import io.openems.backend.common.metadata.Metadata;
+import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.common.exceptions.OpenemsException;
 
 @Designate(ocd = Config.class, factory = true)
@@ -35,6 +36,9 @@ public class Backend2BackendRest extends AbstractOpenemsBackendComponent {
 	@Reference(cardinality = ReferenceCardinality.MANDATORY, policy = ReferencePolicy.DYNAMIC)
 	protected volatile Metadata metadata;
 
+	@Reference(cardinality = ReferenceCardinality.MANDATORY, policy = ReferencePolicy.DYNAMIC)
+	protected volatile TimedataManager timedataManager;
+
 	private Server server = null;
 
 	public Backend2BackendRest() {
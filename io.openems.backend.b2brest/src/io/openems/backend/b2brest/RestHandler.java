@@ -29,6 +29,9 @@ import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseError;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.request.EdgeRpcRequest;
+import io.openems.common.jsonrpc.request.QueryHistoricTimeseriesExportXlxsRequest;
+import io.openems.common.session.Role;
 import io.openems.common.utils.JsonUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -62,6 +65,9 @@ public class RestHandler extends AbstractHandler {
 			case "jsonrpc":
 				this.handleJsonRpc(user, baseRequest, request, response);
 				break;
+			case "xlsx":
+				this.handleXlsx(user, baseRequest, request, response);
+				break;
 			}
 		} catch (OpenemsNamedException e) {
 			throw new IOException(e.getMessage());
@@ -155,6 +161,95 @@ public class RestHandler extends AbstractHandler {
 		}
 	}
 
+	/**
+	 * Parses a Request to a {@link JsonrpcRequest}; adds "jsonrpc" and "id"
+	 * properties if missing.
+	 *
+	 * @param baseRequest the Request
+	 * @return the {@link JsonrpcRequest}
+	 * @throws OpenemsNamedException on error
+	 */
+	private static JsonrpcRequest parseJsonrpcRequest(Request baseRequest) throws OpenemsNamedException {
+		var json = RestHandler.parseJson(baseRequest);
+		if (!json.has("jsonrpc")) {
+			json.addProperty("jsonrpc", "2.0");
+		}
+		if (!json.has("id")) {
+			json.addProperty("id", UUID.randomUUID().toString());
+		}
+		if (json.has("params")) {
+			var params = JsonUtils.getAsJsonObject(json, "params");
+			if (params.has("payload")) {
+				var payload = JsonUtils.getAsJsonObject(params, "payload");
+				if (!payload.has("jsonrpc")) {
+					payload.addProperty("jsonrpc", "2.0");
+				}
+				if (!payload.has("id")) {
+					payload.addProperty("id", UUID.randomUUID().toString());
+				}
+				params.add("payload", payload);
+			}
+			json.add("params", params);
+		}
+		// parse JSON-RPC Request
+		var message = JsonrpcMessage.from(json);
+		if (!(message instanceof JsonrpcRequest)) {
+			throw new OpenemsException("Only JSON-RPC Request is supported here.");
+		}
+		return (JsonrpcRequest) message;
+	}
+
+	/**
+	 * Handles an http request to 'xlsx' endpoint.
+	 *
+	 * <p>
+	 * Expects an {@link EdgeRpcRequest} with a
+	 * {@link QueryHistoricTimeseriesExportXlxsRequest} payload and streams the
+	 * Excel file as chunked download, i.e. without holding the complete file in
+	 * memory.
+	 *
+	 * @param user         the {@link User}
+	 * @param baseRequest  the {@link Request}
+	 * @param httpRequest  the {@link HttpServletRequest}
+	 * @param httpResponse the {@link HttpServletResponse}
+	 */
+	private void handleXlsx(User user, Request baseRequest, HttpServletRequest httpRequest,
+			HttpServletResponse httpResponse) {
+		var requestId = new UUID(0L, 0L); /* dummy UUID */
+		try {
+			if (!httpRequest.getMethod().equals("POST")) {
+				throw new OpenemsException(
+						"Method [" + httpRequest.getMethod() + "] is not supported for XLSX endpoint");
+			}
+
+			var edgeRpcRequest = EdgeRpcRequest.from(RestHandler.parseJsonrpcRequest(baseRequest));
+			requestId = edgeRpcRequest.getId();
+			var edgeId = edgeRpcRequest.getEdgeId();
+			user.assertEdgeRoleIsAtLeast(EdgeRpcRequest.METHOD, edgeId, Role.GUEST);
+			var request = QueryHistoricTimeseriesExportXlxsRequest.from(edgeRpcRequest.getPayload());
+
+			httpResponse.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+			httpResponse.setHeader("Content-Disposition", "attachment; filename=\"" + edgeId + "-export.xlsx\"");
+			httpResponse.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			// Not closed on error: closing would commit a truncated file as complete
+			var os = httpResponse.getOutputStream();
+			this.parent.timedataManager.exportXlsx(edgeId, request, user.getLanguage(), os);
+			os.close();
+
+		} catch (OpenemsNamedException | IOException | RuntimeException e) {
+			if (httpResponse.isCommitted()) {
+				// Download already started; abort it
+				this.parent.logWarn(this.log, "Unable to stream XLSX export: " + e.getMessage());
+				baseRequest.getHttpChannel().abort(e);
+				return;
+			}
+			httpResponse.reset();
+			this.sendErrorResponse(baseRequest, httpResponse, requestId,
+					new OpenemsException("Unable to export XLSX: " + e.getMessage()));
+		}
+	}
+
 	/**
 	 * Handles an http request to 'jsonrpc' endpoint.
 	 *
@@ -173,34 +268,7 @@ public class RestHandler extends AbstractHandler {
 						"Method [" + httpRequest.getMethod() + "] is not supported for JSON-RPC endpoint");
 			}
 
-			// parse json and add "jsonrpc" and "id" properties if missing
-			var json = RestHandler.parseJson(baseRequest);
-			if (!json.has("jsonrpc")) {
-				json.addProperty("jsonrpc", "2.0");
-			}
-			if (!json.has("id")) {
-				json.addProperty("id", UUID.randomUUID().toString());
-			}
-			if (json.has("params")) {
-				var params = JsonUtils.getAsJsonObject(json, "params");
-				if (params.has("payload")) {
-					var payload = JsonUtils.getAsJsonObject(params, "payload");
-					if (!payload.has("jsonrpc")) {
-						payload.addProperty("jsonrpc", "2.0");
-					}
-					if (!payload.has("id")) {
-						payload.addProperty("id", UUID.randomUUID().toString());
-					}
-					params.add("payload", payload);
-				}
-				json.add("params", params);
-			}
-			// parse JSON-RPC Request
-			var message = JsonrpcMessage.from(json);
-			if (!(message instanceof JsonrpcRequest)) {
-				throw new OpenemsException("Only JSON-RPC Request is supported here.");
-			}
-			var request = (JsonrpcRequest) message;
+			var request = RestHandler.parseJsonrpcRequest(baseRequest);
 
 			// handle the request
 			CompletableFuture<? extends JsonrpcResponseSuccess> responseFuture = this.parent.jsonRpcRequestHandler
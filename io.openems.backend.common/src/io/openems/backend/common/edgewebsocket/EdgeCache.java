@@ -1,12 +1,15 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 
@@ -22,19 +25,80 @@ public class EdgeCache {
 
 	}
 
+	/**
+	 * Interns Channel-Address keys, so that thousands of Edges do not each hold
+	 * their own copy of the same Channel-Address String.
+	 */
+	private static final Interner<String> CHANNEL_ADDRESSES = Interners.newWeakInterner();
+
 	private static class ChannelDataCache {
+
+		/**
+		 * Number of optimistic reads before a reader waits for the writer.
+		 */
+		private static final int MAX_OPTIMISTIC_READS = 16;
+
+		/**
+		 * Makes reads of several values consistent with one update. Readers only
+		 * validate an optimistic stamp and do not block the writer.
+		 */
+		private final StampedLock lock = new StampedLock();
+
+		/**
+		 * The values; updated in place, so an update only touches the incoming
+		 * Channels.
+		 */
+		private final ConcurrentHashMap<String, JsonElement> data = new ConcurrentHashMap<>();
+
+		/**
+		 * The timestamp of the last applied data; guarded by {@link #lock}.
+		 */
 		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
+			return this.data.get(address);
+		}
+
+		/**
+		 * Gets the values of several channels as of the same update.
+		 *
+		 * @param addresses the Channel-Addresses of the channels
+		 * @return the values in the order of the addresses; null if not in cache
+		 */
+		public final JsonElement[] getChannelValues(String[] addresses) {
+			final var result = new JsonElement[addresses.length];
+			for (var i = 0; i < MAX_OPTIMISTIC_READS; i++) {
+				final var stamp = this.lock.tryOptimisticRead();
+				if (stamp == 0L) {
+					// Update in progress
+					Thread.onSpinWait();
+					continue;
+				}
+				this.readChannelValues(addresses, result);
+				if (this.lock.validate(stamp)) {
+					return result;
+				}
+			}
+
+			// Updates are too frequent for optimistic reads
+			final var stamp = this.lock.readLock();
+			try {
+				this.readChannelValues(addresses, result);
+				return result;
+			} finally {
+				this.lock.unlockRead(stamp);
+			}
+		}
+
+		private void readChannelValues(String[] addresses, JsonElement[] result) {
+			for (var i = 0; i < addresses.length; i++) {
+				result[i] = this.data.get(addresses[i]);
 			}
 		}
 
@@ -44,30 +108,34 @@ public class EdgeCache {
 		 * @param incomingDatas the incoming data
 		 */
 		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
-			for (var entry : incomingDatas.entrySet()) {
-				var incomingTimestamp = entry.getKey();
-				var incomingData = entry.getValue();
-
-				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
-					// Incoming data is older than cache -> do not apply cache
+			final var stamp = this.lock.writeLock();
+			try {
+				for (var entry : incomingDatas.entrySet()) {
+					final long incomingTimestamp = entry.getKey();
+
+					// Check if cache should be applied
+					if (incomingTimestamp < this.timestamp) {
+						// Incoming data is older than cache -> do not apply cache
+						continue;
+					}
 
-				} else {
 					// Incoming data is more recent than cache
-
 					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
 						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
+						this.data.clear();
 					}
 
 					// update cache
 					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
+					for (var channel : entry.getValue().entrySet()) {
+						// Only new Channel-Addresses need to be interned
+						if (this.data.replace(channel.getKey(), channel.getValue()) == null) {
+							this.data.put(CHANNEL_ADDRESSES.intern(channel.getKey()), channel.getValue());
+						}
 					}
 				}
+			} finally {
+				this.lock.unlockWrite(stamp);
 			}
 		}
 	}
@@ -101,15 +169,17 @@ public class EdgeCache {
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
 		final var result = new TreeMap<String, JsonElement>();
 		final var aggregatedChannelValues = new TreeSet<String>();
-		for (var address : addresses) {
-			final var value = this.current.getChannelValue(address);
-			if (value != null) {
-				result.put(address, value);
+		final var addressesArray = addresses.toArray(String[]::new);
+		final var current = this.current.getChannelValues(addressesArray);
+		final var aggregated = this.aggregated.getChannelValues(addressesArray);
+		for (var i = 0; i < addressesArray.length; i++) {
+			final var address = addressesArray[i];
+			if (current[i] != null) {
+				result.put(address, current[i]);
 				continue;
 			}
-			final var aggregatedValue = this.aggregated.getChannelValue(address);
-			if (aggregatedValue != null) {
-				result.put(address, aggregatedValue);
+			if (aggregated[i] != null) {
+				result.put(address, aggregated[i]);
 				aggregatedChannelValues.add(address);
 				continue;
 			}
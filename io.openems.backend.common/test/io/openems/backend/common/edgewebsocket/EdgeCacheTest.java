@@ -2,9 +2,15 @@ package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 
@@ -51,6 +57,48 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testConcurrentReadersAndWriter() throws Exception {
+		var cache = new EdgeCache();
+		var channels = Set.of(CHANNEL1, CHANNEL2);
+		cache.updateCurrentData(buildData(0L, -1L));
+		var running = new AtomicBoolean(true);
+
+		// Readers must always see both Channels of one update
+		var executor = Executors.newFixedThreadPool(4);
+		var readers = new ArrayList<Future<?>>();
+		for (var i = 0; i < 4; i++) {
+			readers.add(executor.submit(() -> {
+				while (running.get()) {
+					var values = cache.getChannelValues(channels).a();
+					assertEquals(values.get(CHANNEL1), values.get(CHANNEL2));
+				}
+			}));
+		}
+
+		try {
+			for (var timestamp = 1L; timestamp < 10_000L; timestamp++) {
+				cache.updateCurrentData(buildData(timestamp, timestamp));
+			}
+		} finally {
+			running.set(false);
+			executor.shutdown();
+		}
+		for (var reader : readers) {
+			// Rethrows AssertionErrors of the readers
+			reader.get(10, TimeUnit.SECONDS);
+		}
+
+		assertEquals(9_999L, cache.getChannelValue(CHANNEL1).getAsLong());
+	}
+
+	private static TimestampedDataNotification buildData(long timestamp, long value) {
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(timestamp, CHANNEL1, new JsonPrimitive(value));
+		table.put(timestamp, CHANNEL2, new JsonPrimitive(value));
+		return new TimestampedDataNotification(table);
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
@@ -13,4 +13,19 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Hedged queries?", description = "Query the next Timedata Service in parallel if the previous one does not answer in time. The first valid answer is used.")
+	boolean hedgedQueries() default false;
+
+	@AttributeDefinition(name = "Hedge percentile", description = "Start the next Timedata Service after this percentile of the query latency of the previous one.")
+	int hedgePercentile() default 95;
+
+	@AttributeDefinition(name = "Hedge minimum delay [ms]", description = "Minimum delay before the next Timedata Service is started. Also used while no latencies are known yet.")
+	int hedgeMinDelay() default 200;
+
+	@AttributeDefinition(name = "Query cache size", description = "Maximum number of values in all cached historic query results. Zero disables the cache.")
+	int queryCacheSize() default 1_000_000;
+
+	@AttributeDefinition(name = "Query cache TTL for recent ranges [s]", description = "Time-to-live of cached results for ranges that ended less than one day ago. Results for older ranges are kept until evicted or until the Edge resends data for them.")
+	int queryCacheTodayTtl() default 60;
+
 }
\ No newline at end of file
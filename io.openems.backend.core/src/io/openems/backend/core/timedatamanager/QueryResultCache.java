@@ -0,0 +1,222 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches results of historic energy queries.
+ *
+ * <p>
+ * Results for ranges that ended more than {@link #CLOSED_RANGE_GRACE} ago are
+ * not expected to change and are kept until they are evicted by size or
+ * invalidated by resent data of the Edge. Results for more recent ranges expire
+ * after a short TTL.
+ *
+ * <p>
+ * The size of the cache is limited by the number of values in the cached
+ * results, so that a few results with many timestamps cannot exhaust the memory.
+ */
+public class QueryResultCache {
+
+	/**
+	 * The key of a cached query.
+	 */
+	public static record Key(String method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, long resolutionValue, ChronoUnit resolutionUnit) {
+
+		/**
+		 * Creates a {@link Key}.
+		 *
+		 * @param method     the name of the query method
+		 * @param edgeId     the Edge-ID
+		 * @param fromDate   the From-Date
+		 * @param toDate     the To-Date
+		 * @param channels   the Channels
+		 * @param resolution the {@link Resolution}; null for none
+		 * @return the {@link Key}
+		 */
+		public static Key of(String method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+				Set<ChannelAddress> channels, Resolution resolution) {
+			return new Key(method, edgeId, fromDate, toDate, ImmutableSet.copyOf(channels), //
+					resolution == null ? 0 : resolution.getValue(), //
+					resolution == null ? null : resolution.getUnit());
+		}
+	}
+
+	/**
+	 * Minimum age of the end of a range before its result is cached without TTL.
+	 */
+	public static final Duration CLOSED_RANGE_GRACE = Duration.ofDays(1);
+
+	/**
+	 * Weighs a result by its number of values.
+	 */
+	private static final Weigher<Key, Object> WEIGHER = (key, result) -> weigh(result);
+
+	private final Clock clock;
+	private final Cache<Key, Object> closedRanges;
+	private final Cache<Key, Object> openRanges;
+	/**
+	 * Incremented on every invalidation of an Edge; results of queries that ran
+	 * during an invalidation are not cached.
+	 */
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public QueryResultCache(Clock clock, int maxWeight, Duration openRangeTtl) {
+		this.clock = clock;
+		this.closedRanges = CacheBuilder.newBuilder() //
+				.maximumWeight(maxWeight) //
+				.weigher(WEIGHER) //
+				.build();
+		this.openRanges = CacheBuilder.newBuilder() //
+				.maximumWeight(maxWeight) //
+				.weigher(WEIGHER) //
+				.expireAfterWrite(openRangeTtl) //
+				.ticker(new Ticker() {
+					@Override
+					public long read() {
+						return TimeUnit.MILLISECONDS.toNanos(clock.millis());
+					}
+				}) //
+				.build();
+	}
+
+	/**
+	 * Gets the cached result or executes the query and caches its result.
+	 *
+	 * <p>
+	 * Null results are not cached.
+	 *
+	 * @param <T>   the type of the result
+	 * @param key   the {@link Key}
+	 * @param query the query
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> query) throws OpenemsNamedException {
+		var cache = this.isClosedRange(key) ? this.closedRanges : this.openRanges;
+		var result = (T) cache.getIfPresent(key);
+		if (result != null) {
+			this.hits.incrementAndGet();
+			return result;
+		}
+		this.misses.incrementAndGet();
+		var generation = this.getGeneration(key.edgeId());
+		var before = generation.get();
+		result = query.get();
+		if (result != null && generation.get() == before) {
+			cache.put(key, result);
+			if (generation.get() != before) {
+				// Invalidated concurrently -> result might be outdated
+				cache.invalidate(key);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the cached results of an Edge whose range ends at or after the given
+	 * timestamp, e.g. because the Edge resent data for that period.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param since  the oldest timestamp of the new data
+	 */
+	public void invalidate(String edgeId, Instant since) {
+		this.getGeneration(edgeId).incrementAndGet();
+		Predicate<Key> isAffected = key -> Objects.equals(key.edgeId(), edgeId) //
+				&& !key.toDate().toInstant().isBefore(since);
+		this.closedRanges.asMap().keySet().removeIf(isAffected);
+		this.openRanges.asMap().keySet().removeIf(isAffected);
+	}
+
+	private AtomicLong getGeneration(String edgeId) {
+		return this.generations.computeIfAbsent(Objects.toString(edgeId), ignore -> new AtomicLong());
+	}
+
+	/**
+	 * Gets the weight of a result, i.e. its number of values.
+	 *
+	 * @param result the result
+	 * @return the weight; at least 1
+	 */
+	protected static int weigh(Object result) {
+		var weight = 1;
+		if (result instanceof Map<?, ?> map) {
+			for (var value : map.values()) {
+				weight += value instanceof Map<?, ?> m ? m.size() : 1;
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * Checks if the range of the {@link Key} ended more than
+	 * {@link #CLOSED_RANGE_GRACE} ago, i.e. its data is not expected to change
+	 * anymore.
+	 *
+	 * @param key the {@link Key}
+	 * @return true for a closed range
+	 */
+	protected boolean isClosedRange(Key key) {
+		return !key.toDate().toInstant().isAfter(this.clock.instant().minus(CLOSED_RANGE_GRACE));
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 *
+	 * @return debug log
+	 */
+	public String debugLog() {
+		return new StringBuilder() //
+				.append(this.hits.get()) //
+				.append("/") //
+				.append(this.hits.get() + this.misses.get()) //
+				.append("|Size:") //
+				.append(this.closedRanges.size() + this.openRanges.size()) //
+				.toString();
+	}
+
+	/**
+	 * Adds the DebugMetrics of this cache.
+	 *
+	 * @param prefix  the prefix for the keys
+	 * @param metrics the metrics map
+	 */
+	public void addDebugMetrics(String prefix, Map<String, JsonElement> metrics) {
+		final var hits = this.hits.get();
+		final var total = hits + this.misses.get();
+		metrics.put(prefix + "Hits", new JsonPrimitive(hits));
+		metrics.put(prefix + "Misses", new JsonPrimitive(total - hits));
+		metrics.put(prefix + "HitRate", new JsonPrimitive(total == 0 ? 0. : (double) hits / total));
+		metrics.put(prefix + "ClosedRanges", new JsonPrimitive(this.closedRanges.size()));
+		metrics.put(prefix + "OpenRanges", new JsonPrimitive(this.openRanges.size()));
+	}
+
+}
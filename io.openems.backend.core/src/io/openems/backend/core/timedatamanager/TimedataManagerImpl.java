@@ -1,17 +1,31 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -22,15 +36,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
+import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.function.ThrowingTriConsumer;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
@@ -38,13 +56,32 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.utils.TimingHistogram;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
+
+	/**
+	 * Number of recorded queries of a Timedata service before its latency
+	 * percentile is used as hedge delay.
+	 */
+	private static final int HEDGE_MIN_SAMPLES = 20;
+
+	/**
+	 * Half-life of the recorded query latencies.
+	 */
+	private static final long LATENCY_HALF_LIFE = TimeUnit.MINUTES.toNanos(5);
+
+	/**
+	 * Maximum number of parallel queries; further queries run in the calling
+	 * thread, i.e. without hedging.
+	 */
+	private static final int EXECUTOR_MAX_THREADS = 20;
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
@@ -53,6 +90,25 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
 
+	/**
+	 * Query latencies per Timedata service.
+	 */
+	private final Map<String, TimingHistogram> latencies = new ConcurrentHashMap<>();
+
+	private final AtomicLong nextLatencyDecay = new AtomicLong(System.nanoTime() + LATENCY_HALF_LIFE);
+
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, EXECUTOR_MAX_THREADS, 60L,
+			TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+			new ThreadFactoryBuilder().setNameFormat("Core.TimedataManager.Query-%d").build(),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+
+	private volatile Config config;
+
+	/**
+	 * Cache for historic energy queries; null if disabled.
+	 */
+	private volatile QueryResultCache queryCache = null;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -114,10 +170,25 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Activate
 	@Modified
 	public void activate(Config config) {
+		this.config = config;
+		if (config.queryCacheSize() > 0) {
+			this.queryCache = new QueryResultCache(Clock.systemDefaultZone(), config.queryCacheSize(),
+					Duration.ofSeconds(config.queryCacheTodayTtl()));
+		} else {
+			this.queryCache = null;
+		}
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
 	}
 
+	/**
+	 * Deactivates the component.
+	 */
+	@Deactivate
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 1);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -149,7 +220,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.cached(
+				QueryResultCache.Key.of("queryHistoricEnergy", edgeId, fromDate, toDate, channels, null),
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +243,11 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.cached(
+				QueryResultCache.Key.of("queryHistoricEnergyPerPeriod", edgeId, fromDate, toDate, channels,
+						resolution),
+				() -> this.firstOf(//
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -194,22 +270,31 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		throw new OpenemsException("Unable to query first value before. Result is null");
 	}
 
+	private <T> T cached(QueryResultCache.Key key, ThrowingSupplier<T, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		var queryCache = this.queryCache;
+		if (queryCache == null) {
+			return query.get();
+		}
+		return queryCache.get(key, query);
+	}
+
 	private <T> T firstOf(ThrowingFunction<Timedata, T, OpenemsNamedException> function) throws OpenemsNamedException {
+		var config = this.config;
+		if (config != null && config.hedgedQueries() && !this.executor.isShutdown()) {
+			return this.hedgedFirstOf(function, config);
+		}
+
 		var timedatas = this.timedatas.get();
 		final var errors = new ArrayList<Exception>();
 		for (var timedata : timedatas) {
 			try {
-				var data = function.apply(timedata);
+				var data = this.apply(timedata, function);
 				if (data != null) {
 					return data;
 				}
-			} catch (InternalTimedataException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-			} catch (OpenemsNamedException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-				errors.add(e);
-			} catch (RuntimeException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage(), e);
+			} catch (Exception e) {
+				this.handleQueryError(timedata, e, errors);
 			}
 		}
 		if (!errors.isEmpty()) {
@@ -218,6 +303,221 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		return null;
 	}
 
+	/**
+	 * Queries the Timedata services in order; the next service is started in
+	 * parallel if the previous one did not answer within its hedge delay. Returns
+	 * the first valid answer and cancels the remaining queries.
+	 * 
+	 * @param <T>      the type of the result
+	 * @param function the query
+	 * @param config   the {@link Config}
+	 * @return the result; null if no service had a result
+	 * @throws OpenemsNamedException on error
+	 */
+	private <T> T hedgedFirstOf(ThrowingFunction<Timedata, T, OpenemsNamedException> function, Config config)
+			throws OpenemsNamedException {
+		var timedatas = this.timedatas.get().asList();
+		final var errors = new ArrayList<Exception>();
+		final var completion = new ExecutorCompletionService<Timed<T>>(this.executor);
+		final var futures = new HashMap<Future<Timed<T>>, Timedata>();
+		var next = 0;
+		try {
+			while (next < timedatas.size() || !futures.isEmpty()) {
+				if (futures.isEmpty()) {
+					// Nothing running -> start next service immediately
+					final var timedata = timedatas.get(next++);
+					futures.put(completion.submit(() -> timed(timedata, function)), timedata);
+				}
+
+				final Future<Timed<T>> done;
+				if (next < timedatas.size()) {
+					done = completion.poll(this.getHedgeDelay(timedatas.get(next - 1), config), TimeUnit.MILLISECONDS);
+					if (done == null) {
+						// No answer in time -> hedge with next service
+						final var timedata = timedatas.get(next++);
+						futures.put(completion.submit(() -> timed(timedata, function)), timedata);
+						continue;
+					}
+				} else {
+					done = completion.take();
+				}
+
+				var timedata = futures.remove(done);
+				try {
+					// Only the latencies of the calls that completed are recorded; losers that
+					// are cancelled below would distort the hedge delay
+					var timed = done.get();
+					this.recordLatency(timedata, timed.duration());
+					if (timed.result() != null) {
+						return timed.result();
+					}
+				} catch (ExecutionException e) {
+					this.handleQueryError(timedata, e.getCause(), errors);
+				}
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while querying Timedata");
+
+		} finally {
+			// Cancel the losers
+			futures.keySet().forEach(f -> f.cancel(true));
+		}
+		if (!errors.isEmpty()) {
+			throw new OpenemsException(errors.stream().map(t -> t.getMessage()).collect(Collectors.joining("; ")));
+		}
+		return null;
+	}
+
+	/**
+	 * Result of a query and its duration.
+	 * 
+	 * @param <T>      the type of the result
+	 * @param result   the result
+	 * @param duration the duration in [us]
+	 */
+	private static record Timed<T>(T result, long duration) {
+	}
+
+	/**
+	 * Applies the query to a Timedata service and measures its duration.
+	 * 
+	 * @param <T>      the type of the result
+	 * @param timedata the {@link Timedata}
+	 * @param function the query
+	 * @return the result and its duration
+	 * @throws OpenemsNamedException on error
+	 */
+	private static <T> Timed<T> timed(Timedata timedata,
+			ThrowingFunction<Timedata, T, OpenemsNamedException> function) throws OpenemsNamedException {
+		final var start = System.nanoTime();
+		var result = function.apply(timedata);
+		return new Timed<>(result, (System.nanoTime() - start) / 1_000);
+	}
+
+	/**
+	 * Applies the query to a Timedata service and records its latency, if it
+	 * completed normally.
+	 * 
+	 * @param <T>      the type of the result
+	 * @param timedata the {@link Timedata}
+	 * @param function the query
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	private <T> T apply(Timedata timedata, ThrowingFunction<Timedata, T, OpenemsNamedException> function)
+			throws OpenemsNamedException {
+		var timed = timed(timedata, function);
+		this.recordLatency(timedata, timed.duration());
+		return timed.result();
+	}
+
+	/**
+	 * Records the latency of a completed query.
+	 * 
+	 * @param timedata the {@link Timedata}
+	 * @param duration the duration in [us]
+	 */
+	private void recordLatency(Timedata timedata, long duration) {
+		this.getLatency(timedata).record(duration);
+		this.decayLatencies(System.nanoTime());
+	}
+
+	/**
+	 * Halves the recorded latencies once per {@link #LATENCY_HALF_LIFE}, so that
+	 * the hedge delay follows changes of the latency.
+	 * 
+	 * @param now the current {@link System#nanoTime()}
+	 */
+	private void decayLatencies(long now) {
+		var next = this.nextLatencyDecay.get();
+		if (now - next < 0 || !this.nextLatencyDecay.compareAndSet(next, now + LATENCY_HALF_LIFE)) {
+			return;
+		}
+		this.latencies.values().forEach(TimingHistogram::decay);
+	}
+
+	private void handleQueryError(Timedata timedata, Throwable e, List<Exception> errors) {
+		if (e instanceof InternalTimedataException) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+		} else if (e instanceof OpenemsNamedException) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+			errors.add((OpenemsNamedException) e);
+		} else {
+			this.log.info(timedata.id() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the delay after which the next Timedata service is queried in parallel.
+	 * 
+	 * @param timedata the {@link Timedata} that was started last
+	 * @param config   the {@link Config}
+	 * @return the delay in [ms]
+	 */
+	private long getHedgeDelay(Timedata timedata, Config config) {
+		var latency = this.getLatency(timedata);
+		if (latency.getCount() < HEDGE_MIN_SAMPLES) {
+			return config.hedgeMinDelay();
+		}
+		return Math.max(config.hedgeMinDelay(), latency.getValueAtPercentile(config.hedgePercentile()) / 1_000);
+	}
+
+	/**
+	 * Gets the recorded latencies of a Timedata service.
+	 * 
+	 * @param timedata the {@link Timedata}
+	 * @return the {@link TimingHistogram} in [us]
+	 */
+	TimingHistogram getLatency(Timedata timedata) {
+		return this.latencies.computeIfAbsent(getKey(timedata), ignore -> new TimingHistogram());
+	}
+
+	private static String getKey(Timedata timedata) {
+		var id = timedata.id();
+		if (id != null) {
+			return id;
+		}
+		return timedata.getClass().getSimpleName();
+	}
+
+	@Override
+	public String debugLog() {
+		var b = new StringBuilder("[").append(this.getName()).append("]");
+		for (var timedata : this.timedatas.get()) {
+			var latency = this.getLatency(timedata);
+			b.append(" ").append(getKey(timedata)) //
+					.append(":").append(latency.getCount()) //
+					.append("|p50:").append(latency.getValueAtPercentile(50) / 1_000) //
+					.append("|p99:").append(latency.getValueAtPercentile(99) / 1_000) //
+					.append("|max:").append(latency.getMax() / 1_000).append("ms");
+		}
+		var queryCache = this.queryCache;
+		if (queryCache != null) {
+			b.append(" Cache:").append(queryCache.debugLog());
+		}
+		return b.toString();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var metrics = new HashMap<String, JsonElement>();
+		this.latencies.forEach((key, latency) -> {
+			var prefix = this.getName() + "/" + key + "/QueryLatency";
+			metrics.put(prefix + "Count", new JsonPrimitive(latency.getCount()));
+			metrics.put(prefix + "P50", new JsonPrimitive(latency.getValueAtPercentile(50) / 1_000));
+			metrics.put(prefix + "P90", new JsonPrimitive(latency.getValueAtPercentile(90) / 1_000));
+			metrics.put(prefix + "P99", new JsonPrimitive(latency.getValueAtPercentile(99) / 1_000));
+			metrics.put(prefix + "Max", new JsonPrimitive(latency.getMax() / 1_000));
+		});
+		var queryCache = this.queryCache;
+		if (queryCache != null) {
+			queryCache.addDebugMetrics(this.getName() + "/QueryCache", metrics);
+		}
+		return metrics;
+	}
+
 	@Override
 	public void write(String edgeId, AggregatedDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
@@ -231,6 +531,13 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+
+		// Resent data might change cached results
+		var queryCache = this.queryCache;
+		var timestamps = data.getData().rowKeySet();
+		if (queryCache != null && !timestamps.isEmpty()) {
+			queryCache.invalidate(edgeId, Instant.ofEpochMilli(timestamps.first()));
+		}
 	}
 
 	private <T extends AbstractDataNotification> void write(//
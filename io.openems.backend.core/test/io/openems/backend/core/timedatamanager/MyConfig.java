@@ -0,0 +1,100 @@
+package io.openems.backend.core.timedatamanager;
+
+import io.openems.common.test.AbstractComponentConfig;
+
+@SuppressWarnings("all")
+public class MyConfig extends AbstractComponentConfig implements Config {
+
+	protected static class Builder {
+		private String[] timedataIds = {};
+		private boolean hedgedQueries = false;
+		private int hedgePercentile = 95;
+		private int hedgeMinDelay = 200;
+		private int queryCacheSize = 1_000_000;
+		private int queryCacheTodayTtl = 60;
+
+		private Builder() {
+		}
+
+		public Builder setTimedataIds(String... timedataIds) {
+			this.timedataIds = timedataIds;
+			return this;
+		}
+
+		public Builder setHedgedQueries(boolean hedgedQueries) {
+			this.hedgedQueries = hedgedQueries;
+			return this;
+		}
+
+		public Builder setHedgePercentile(int hedgePercentile) {
+			this.hedgePercentile = hedgePercentile;
+			return this;
+		}
+
+		public Builder setHedgeMinDelay(int hedgeMinDelay) {
+			this.hedgeMinDelay = hedgeMinDelay;
+			return this;
+		}
+
+		public Builder setQueryCacheSize(int queryCacheSize) {
+			this.queryCacheSize = queryCacheSize;
+			return this;
+		}
+
+		public Builder setQueryCacheTodayTtl(int queryCacheTodayTtl) {
+			this.queryCacheTodayTtl = queryCacheTodayTtl;
+			return this;
+		}
+
+		public MyConfig build() {
+			return new MyConfig(this);
+		}
+	}
+
+	/**
+	 * Create a Config builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	private final Builder builder;
+
+	private MyConfig(Builder builder) {
+		super(Config.class, "Core.TimedataManager");
+		this.builder = builder;
+	}
+
+	@Override
+	public String[] timedata_ids() {
+		return this.builder.timedataIds;
+	}
+
+	@Override
+	public boolean hedgedQueries() {
+		return this.builder.hedgedQueries;
+	}
+
+	@Override
+	public int hedgePercentile() {
+		return this.builder.hedgePercentile;
+	}
+
+	@Override
+	public int hedgeMinDelay() {
+		return this.builder.hedgeMinDelay;
+	}
+
+	@Override
+	public int queryCacheSize() {
+		return this.builder.queryCacheSize;
+	}
+
+	@Override
+	public int queryCacheTodayTtl() {
+		return this.builder.queryCacheTodayTtl;
+	}
+
+}
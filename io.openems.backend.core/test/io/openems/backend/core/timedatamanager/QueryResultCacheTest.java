@@ -0,0 +1,151 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.core.timedatamanager.QueryResultCache.Key;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.types.ChannelAddress;
+
+public class QueryResultCacheTest {
+
+	private static final Set<ChannelAddress> CHANNELS = Set.of(new ChannelAddress("_sum", "EssDischargeEnergy"));
+	private static final ZonedDateTime NOW = ZonedDateTime.parse("2024-01-10T12:00:00Z");
+	private static final int TTL = 60; // [s]
+
+	private TimeLeapClock clock;
+	private QueryResultCache sut;
+	private AtomicInteger queries;
+
+	@Before
+	public void before() {
+		this.clock = new TimeLeapClock(NOW.toInstant(), ZoneOffset.UTC);
+		this.sut = new QueryResultCache(this.clock, 100, Duration.ofSeconds(TTL));
+		this.queries = new AtomicInteger();
+	}
+
+	private static Key key(String edgeId, ZonedDateTime toDate) {
+		return Key.of("queryHistoricEnergy", edgeId, toDate.minusDays(1), toDate, CHANNELS, null);
+	}
+
+	private String get(Key key) throws OpenemsNamedException {
+		return this.sut.get(key, () -> "result" + this.queries.incrementAndGet());
+	}
+
+	@Test
+	public void testRecentRangeExpires() throws OpenemsNamedException {
+		// Ended at start of today, i.e. within the grace period
+		var key = key("edge0", NOW.truncatedTo(ChronoUnit.DAYS));
+		assertEquals("result1", this.get(key));
+		assertEquals("result1", this.get(key));
+
+		this.clock.leap(TTL + 1, ChronoUnit.SECONDS);
+		assertEquals("result2", this.get(key));
+	}
+
+	@Test
+	public void testClosedRangeIsKept() throws OpenemsNamedException {
+		var key = key("edge0", NOW.minus(QueryResultCache.CLOSED_RANGE_GRACE));
+		assertEquals("result1", this.get(key));
+
+		this.clock.leap(1, ChronoUnit.DAYS);
+		assertEquals("result1", this.get(key));
+		assertEquals("1/2|Size:1", this.sut.debugLog());
+	}
+
+	@Test
+	public void testNullIsNotCached() throws OpenemsNamedException {
+		var key = key("edge0", NOW.minusDays(10));
+		assertNull(this.sut.get(key, () -> {
+			this.queries.incrementAndGet();
+			return null;
+		}));
+		assertEquals("result2", this.get(key));
+	}
+
+	@Test
+	public void testInvalidateOnResend() throws OpenemsNamedException {
+		var before = key("edge0", NOW.minusDays(10));
+		var after = key("edge0", NOW.minusDays(3));
+		var otherEdge = key("edge1", NOW.minusDays(3));
+		assertEquals("result1", this.get(before));
+		assertEquals("result2", this.get(after));
+		assertEquals("result3", this.get(otherEdge));
+
+		// edge0 resends data of five days ago
+		this.sut.invalidate("edge0", NOW.minusDays(5).toInstant());
+
+		assertEquals("result1", this.get(before));
+		assertEquals("result4", this.get(after));
+		assertEquals("result3", this.get(otherEdge));
+	}
+
+	@Test
+	public void testInvalidateDuringQuery() throws OpenemsNamedException {
+		var key = key("edge0", NOW.minusDays(3));
+		// edge0 resends data while the query is running
+		assertEquals("result1", this.sut.get(key, () -> {
+			this.sut.invalidate("edge0", NOW.minusDays(5).toInstant());
+			return "result" + this.queries.incrementAndGet();
+		}));
+		assertEquals("result2", this.get(key));
+		assertEquals("result2", this.get(key));
+	}
+
+	@Test
+	public void testEvictByWeight() throws OpenemsNamedException {
+		var small = key("edge0", NOW.minusDays(10));
+		var large = key("edge0", NOW.minusDays(3));
+		var values = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var i = 0; i < 60; i++) {
+			values.put(NOW.plusMinutes(i), new TreeMap<>(Map.of(//
+					new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(i), //
+					new ChannelAddress("_sum", "GridActivePower"), new JsonPrimitive(i))));
+		}
+		assertEquals(121, QueryResultCache.weigh(values));
+		assertEquals(1, QueryResultCache.weigh("result"));
+
+		// Larger than the whole cache -> not kept
+		this.get(small);
+		this.sut.get(large, () -> {
+			this.queries.incrementAndGet();
+			return values;
+		});
+		assertEquals(2, this.queries.get());
+		this.sut.get(large, () -> {
+			this.queries.incrementAndGet();
+			return values;
+		});
+		assertEquals(3, this.queries.get());
+		assertEquals("result1", this.get(small));
+	}
+
+	@Test
+	public void testIsClosedRange() {
+		var endOfGrace = NOW.minus(QueryResultCache.CLOSED_RANGE_GRACE);
+		assertTrue(this.sut.isClosedRange(key("edge0", endOfGrace)));
+		assertFalse(this.sut.isClosedRange(key("edge0", endOfGrace.plusSeconds(1))));
+		// Time zone of the range does not matter
+		assertTrue(this.sut.isClosedRange(key("edge0", endOfGrace.withZoneSameInstant(ZoneOffset.ofHours(5)))));
+	}
+
+}
@@ -0,0 +1,171 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class TimedataManagerImplTest {
+
+	private static final ChannelAddress SUM_SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ZonedDateTime DATE = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+
+	/**
+	 * Answers 'queryFirstValueBefore' with its ID after a delay; returns null if
+	 * 'hasData' is false.
+	 */
+	private static class MyTimedata implements Timedata {
+
+		private final String id;
+		private final long delay;
+		private final boolean hasData;
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch cancelled = new CountDownLatch(1);
+
+		public MyTimedata(String id, long delay, boolean hasData) {
+			this.id = id;
+			this.delay = delay;
+			this.hasData = hasData;
+		}
+
+		@Override
+		public SortedMap<ChannelAddress, JsonElement> queryFirstValueBefore(String edgeId, ZonedDateTime date,
+				Set<ChannelAddress> channels) throws OpenemsNamedException {
+			this.started.countDown();
+			try {
+				Thread.sleep(this.delay);
+			} catch (InterruptedException e) {
+				this.cancelled.countDown();
+				throw new OpenemsException("Cancelled");
+			}
+			if (!this.hasData) {
+				return null;
+			}
+			return ImmutableSortedMap.of(SUM_SOC, new JsonPrimitive(this.id));
+		}
+
+		@Override
+		public String id() {
+			return this.id;
+		}
+
+		@Override
+		public void write(String edgeId, TimestampedDataNotification data) {
+		}
+
+		@Override
+		public void write(String edgeId, AggregatedDataNotification data) {
+		}
+
+		@Override
+		public void write(String edgeId, ResendDataNotification data) {
+		}
+
+		@Override
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
+				ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution) {
+			return new TreeMap<>();
+		}
+
+		@Override
+		public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
+				ZonedDateTime toDate, Set<ChannelAddress> channels) {
+			return new TreeMap<>();
+		}
+
+		@Override
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
+				String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+				Resolution resolution) {
+			return new TreeMap<>();
+		}
+	}
+
+	private TimedataManagerImpl sut;
+
+	@Before
+	public void before() {
+		this.sut = new TimedataManagerImpl();
+	}
+
+	@After
+	public void after() {
+		this.sut.deactivate();
+	}
+
+	private void activate(int hedgeMinDelay, MyTimedata... timedatas) {
+		for (var timedata : timedatas) {
+			this.sut.addTimedata(timedata);
+		}
+		this.sut.activate(MyConfig.create() //
+				.setTimedataIds("primary", "secondary") //
+				.setHedgedQueries(true) //
+				.setHedgeMinDelay(hedgeMinDelay) //
+				.build());
+	}
+
+	private String query() throws OpenemsNamedException {
+		return this.sut.queryFirstValueBefore("edge0", DATE, Set.of(SUM_SOC)).get(SUM_SOC).getAsString();
+	}
+
+	@Test
+	public void testHedgeWinsAndCancelsSlowPrimary() throws Exception {
+		var primary = new MyTimedata("primary", 10_000, true);
+		var secondary = new MyTimedata("secondary", 0, true);
+		this.activate(50, primary, secondary);
+
+		var start = System.nanoTime();
+		assertEquals("secondary", this.query());
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+		// The losing query gets interrupted; only the winner is recorded
+		assertTrue(primary.cancelled.await(5, TimeUnit.SECONDS));
+		assertEquals(0, this.sut.getLatency(primary).getCount());
+		assertEquals(1, this.sut.getLatency(secondary).getCount());
+	}
+
+	@Test
+	public void testPrimaryWinsWithinHedgeDelay() throws Exception {
+		var primary = new MyTimedata("primary", 0, true);
+		var secondary = new MyTimedata("secondary", 0, true);
+		this.activate(10_000, primary, secondary);
+
+		assertEquals("primary", this.query());
+		assertEquals(1, secondary.started.getCount());
+	}
+
+	@Test
+	public void testNullResultStartsNextImmediately() throws Exception {
+		var primary = new MyTimedata("primary", 0, false);
+		var secondary = new MyTimedata("secondary", 0, true);
+		this.activate(10_000, primary, secondary);
+
+		var start = System.nanoTime();
+		assertEquals("secondary", this.query());
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+		assertEquals(0, primary.started.getCount());
+	}
+
+}
@@ -4,6 +4,7 @@ import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.Compression;
 
 @ObjectClassDefinition(//
 		name = "Edge.Websocket", //
@@ -19,6 +20,9 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
+	@AttributeDefinition(name = "Compression", description = "Per-message compression offered to OpenEMS Edges.")
+	Compression compression() default Compression.OFF;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 
 }
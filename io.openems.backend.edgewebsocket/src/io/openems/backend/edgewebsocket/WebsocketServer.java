@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -14,6 +15,8 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
@@ -27,6 +30,8 @@ import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SystemLog;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataEncoding;
+import io.openems.common.websocket.Compression;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -37,8 +42,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			Compression compression) {
+		super(name, port, poolSize, debugMode, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -130,6 +136,20 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("EdgeWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer bytes) throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		return wsData.binaryDataDecoder.decode(bytes);
+	}
+
+	@Override
+	protected void addHandshakeResponseHeaders(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Accept binary data encoding if requested by the Edge
+		if (BinaryDataEncoding.VERSION_1.equals(request.getFieldValue(BinaryDataEncoding.HTTP_HEADER))) {
+			response.put(BinaryDataEncoding.HTTP_HEADER, BinaryDataEncoding.VERSION_1);
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
@@ -33,6 +33,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Spill directory", description = "Directory for buffering data on disk while the database is unavailable or too slow. Empty to disable.")
+	String spillDirectory() default "";
+
+	@AttributeDefinition(name = "Spill max disk usage [MB]", description = "Maximum disk usage of the spill directory. If it is reached, the oldest data is dropped.")
+	int spillMaxDiskUsage() default 1024;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
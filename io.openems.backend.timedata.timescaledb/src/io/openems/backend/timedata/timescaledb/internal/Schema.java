@@ -5,7 +5,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.google.gson.JsonElement;
@@ -27,6 +29,12 @@ public class Schema {
 		}
 	}
 
+	/**
+	 * A request for a {@link ChannelRecord} that is not yet in the Cache.
+	 */
+	public static record ChannelRequest(String edgeId, String channelAddress, Type type) {
+	}
+
 	private static class Cache {
 
 		/**
@@ -130,6 +138,15 @@ public class Schema {
 		}
 	}
 
+	/**
+	 * Creates a {@link Schema} with an empty Channels Cache, e.g. for JUnit tests.
+	 * 
+	 * @return the {@link Schema}
+	 */
+	public static Schema empty() {
+		return new Schema(new Cache());
+	}
+
 	private final Cache cache;
 
 	private Schema(Cache cache) {
@@ -178,6 +195,77 @@ public class Schema {
 		return this.cache.get(edgeId, channelAddress);
 	}
 
+	/**
+	 * Gets or creates multiple {@link ChannelRecord}s in the database with one
+	 * query and adds them to the local Cache.
+	 * 
+	 * @param con      the {@link Connection}
+	 * @param requests the {@link ChannelRequest}s
+	 * @return the {@link ChannelRecord}s in the order of the requests; null for
+	 *         invalid Channel-Addresses
+	 * @throws SQLException on error
+	 */
+	public List<ChannelRecord> getOrCreateChannels(Connection con, List<ChannelRequest> requests)
+			throws SQLException {
+		var result = new ArrayList<ChannelRecord>(requests.size());
+		var edges = new ArrayList<String>(requests.size());
+		var components = new ArrayList<String>(requests.size());
+		var channels = new ArrayList<String>(requests.size());
+		var types = new ArrayList<Integer>(requests.size());
+		var indexes = new ArrayList<Integer>(requests.size());
+		for (var i = 0; i < requests.size(); i++) {
+			result.add(null);
+			var request = requests.get(i);
+			var channelAddressArray = request.channelAddress().split("/");
+			if (channelAddressArray.length != 2) {
+				continue;
+			}
+			edges.add(request.edgeId());
+			components.add(channelAddressArray[0] /* Component-ID */);
+			channels.add(channelAddressArray[1] /* Channel-ID */);
+			types.add(request.type().id);
+			indexes.add(i);
+		}
+		if (indexes.isEmpty()) {
+			return result;
+		}
+
+		var pst = con.prepareStatement("" //
+				+ "SELECT t.idx, c._channel_id, c._channel_type, c._priority, c._available_since " //
+				+ "FROM unnest(?::text[], ?::text[], ?::text[], ?::int[]) " //
+				+ " WITH ORDINALITY AS t(edge, component, channel, type, idx) " //
+				+ "CROSS JOIN LATERAL openems_get_or_create_edge_channel_id(" //
+				+ " t.edge, t.component, t.channel, t.type) c;");
+		pst.setArray(1, con.createArrayOf("text", edges.toArray()));
+		pst.setArray(2, con.createArrayOf("text", components.toArray()));
+		pst.setArray(3, con.createArrayOf("text", channels.toArray()));
+		pst.setArray(4, con.createArrayOf("int4", types.toArray()));
+		var rs = pst.executeQuery();
+		while (rs.next()) {
+			var index = indexes.get(rs.getInt(1) - 1 /* ordinality starts at 1 */);
+			var request = requests.get(index);
+			result.set(index, this.addToCache(request.edgeId(), request.channelAddress(), rs.getInt(2), rs.getInt(3),
+					rs.getInt(4), rs.getObject(5, OffsetDateTime.class)));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets or creates a single {@link ChannelRecord} in the database and adds it to
+	 * the local Cache.
+	 * 
+	 * @param con     the {@link Connection}
+	 * @param request the {@link ChannelRequest}
+	 * @return the {@link ChannelRecord}; null for an invalid Channel-Address
+	 * @throws SQLException on error
+	 */
+	public ChannelRecord getOrCreateChannel(Connection con, ChannelRequest request) throws SQLException {
+		if (request.channelAddress().split("/").length != 2) {
+			return null;
+		}
+		return this.getOrCreateEdgeChannel(con, request.edgeId(), request.channelAddress(), null, request.type());
+	}
+
 	/**
 	 * Gets or creates the {@link ChannelRecord} in the database and adds it to the
 	 * local Cache.
@@ -202,11 +290,13 @@ public class Schema {
 		pst.setInt(4, type.id);
 		var rs = pst.executeQuery();
 		rs.next();
-		var channelId = rs.getInt(1);
-		var channelTypeId = rs.getInt(2);
-		var priority = rs.getInt(3);
+		return this.addToCache(edgeId, channelAddress, rs.getInt(1), rs.getInt(2), rs.getInt(3),
+				rs.getObject(4, OffsetDateTime.class));
+	}
+
+	private ChannelRecord addToCache(String edgeId, String channelAddress, int channelId, int channelTypeId,
+			int priority, OffsetDateTime availableSinceRaw) {
 		final ZonedDateTime availableSince;
-		var availableSinceRaw = rs.getObject(4, OffsetDateTime.class);
 		if (availableSinceRaw != null) {
 			availableSince = availableSinceRaw.toZonedDateTime();
 		} else {
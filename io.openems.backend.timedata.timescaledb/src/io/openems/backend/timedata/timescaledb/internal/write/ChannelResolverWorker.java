@@ -0,0 +1,358 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Schema.ChannelRecord;
+import io.openems.backend.timedata.timescaledb.internal.Schema.ChannelRequest;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.common.worker.AbstractWorker;
+
+/**
+ * Resolves Channels that are missing in the {@link Schema} Cache in batches.
+ *
+ * <p>
+ * Unknown (Edge-ID, Channel-Address) pairs are collected for
+ * {@link #BATCH_WINDOW} milliseconds or until {@link #MAX_BATCH_SIZE} pairs are
+ * pending. They are then resolved or created with one query per batch via
+ * {@link Schema#getOrCreateChannels(java.sql.Connection, List)}. The values of
+ * these Channels are held in a pending buffer until their IDs are known.
+ *
+ * <p>
+ * If a batch fails, its Channels are resolved one by one; values of a Channel
+ * that still fails are dropped. On connection errors all values are kept and
+ * the next try is delayed with exponential backoff up to {@link #MAX_BACKOFF}.
+ */
+public class ChannelResolverWorker extends AbstractWorker {
+
+	public static final int BATCH_WINDOW = 500; // [ms]
+	public static final int MAX_BATCH_SIZE = 1_000;
+	public static final int MAX_PENDING_VALUES = 100_000;
+	public static final int MAX_BACKOFF = 60_000; // [ms]
+	private static final int MAX_BACKOFF_SHIFT = 8;
+
+	public static interface OnResolved {
+
+		/**
+		 * Called for every pending value of a resolved Channel.
+		 *
+		 * @param channel   the {@link ChannelRecord}
+		 * @param timestamp the timestamp
+		 * @param value     the value
+		 */
+		public void accept(ChannelRecord channel, long timestamp, JsonElement value);
+	}
+
+	private record Key(String edgeId, String channelAddress) {
+	}
+
+	private static class PendingChannel {
+		private final List<Long> timestamps = new ArrayList<>();
+		private final List<JsonElement> values = new ArrayList<>();
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ChannelResolverWorker.class);
+
+	private final HikariDataSource dataSource;
+	private final OnResolved onResolved;
+
+	private volatile Schema schema = null;
+	private LinkedHashMap<Key, PendingChannel> pending = new LinkedHashMap<>();
+	private int pendingValues = 0;
+	private long droppedValues = 0;
+	/**
+	 * Consecutive connection errors; the cycle time doubles with each one.
+	 */
+	private volatile int failures = 0;
+
+	public ChannelResolverWorker(HikariDataSource dataSource, OnResolved onResolved) {
+		this.dataSource = dataSource;
+		this.onResolved = onResolved;
+	}
+
+	/**
+	 * Sets the initialized {@link Schema}.
+	 *
+	 * @param schema the {@link Schema}
+	 */
+	public void setSchema(Schema schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * Adds a value of a Channel that is missing in the Cache.
+	 *
+	 * @param edgeId         the Edge-ID
+	 * @param channelAddress the Channel-Address
+	 * @param timestamp      the timestamp
+	 * @param value          the value
+	 */
+	public void add(String edgeId, String channelAddress, long timestamp, JsonElement value) {
+		boolean isBatchFull;
+		synchronized (this) {
+			if (this.pendingValues >= MAX_PENDING_VALUES) {
+				this.droppedValues++;
+				return;
+			}
+			var channel = this.pending.computeIfAbsent(new Key(edgeId, channelAddress),
+					ignore -> new PendingChannel());
+			channel.timestamps.add(timestamp);
+			channel.values.add(value);
+			this.pendingValues++;
+			isBatchFull = this.pending.size() >= MAX_BATCH_SIZE;
+		}
+		if (isBatchFull && this.failures == 0) {
+			this.triggerNextRun();
+		}
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		var schema = this.schema;
+		if (schema == null) {
+			return;
+		}
+
+		final Map<Key, PendingChannel> batch;
+		synchronized (this) {
+			if (this.pending.isEmpty()) {
+				return;
+			}
+			batch = this.pending;
+			this.pending = new LinkedHashMap<>();
+			this.pendingValues = 0;
+		}
+
+		var keys = new ArrayList<Key>(MAX_BATCH_SIZE);
+		var requests = new ArrayList<ChannelRequest>(MAX_BATCH_SIZE);
+		for (var entry : batch.entrySet()) {
+			var key = entry.getKey();
+			var channel = entry.getValue();
+
+			// Channel might have been resolved in the meantime
+			var record = schema.getChannelFromCache(key.edgeId(), key.channelAddress());
+			if (record != null) {
+				this.forward(record, channel);
+				continue;
+			}
+
+			var type = detectType(channel);
+			if (type == null) {
+				if (channel.values.stream().anyMatch(v -> v != null && v != JsonNull.INSTANCE)) {
+					// Error and value was not null
+					this.log.error("Unable to detect Type for Channel " //
+							+ "[" + key.edgeId() + "/" + key.channelAddress() + "=" + channel.values + "]");
+				}
+				continue;
+			}
+			keys.add(key);
+			requests.add(new ChannelRequest(key.edgeId(), key.channelAddress(), type));
+
+			if (requests.size() >= MAX_BATCH_SIZE) {
+				this.resolve(schema, keys, requests, batch);
+				keys.clear();
+				requests.clear();
+			}
+		}
+		if (!requests.isEmpty()) {
+			this.resolve(schema, keys, requests, batch);
+		}
+	}
+
+	private void resolve(Schema schema, List<Key> keys, List<ChannelRequest> requests,
+			Map<Key, PendingChannel> batch) {
+		try {
+			var records = this.getOrCreateChannels(schema, requests);
+			this.failures = 0;
+			for (var i = 0; i < keys.size(); i++) {
+				var record = records.get(i);
+				if (record == null) {
+					this.log.error("Unable to get ChannelRecord for Channel " //
+							+ "[" + keys.get(i).edgeId() + "/" + keys.get(i).channelAddress() + "]");
+					continue;
+				}
+				this.forward(record, batch.get(keys.get(i)));
+			}
+			return;
+
+		} catch (SQLException e) {
+			if (isConnectionError(e)) {
+				this.onConnectionError(keys, 0, batch, e);
+				return;
+			}
+			this.log.warn("Unable to get ChannelRecords for [" + keys.size() + "] Channels: " + e.getMessage()
+					+ ". Resolving them one by one");
+		}
+
+		// Fallback: resolve one by one to isolate the failing Channels
+		for (var i = 0; i < keys.size(); i++) {
+			var key = keys.get(i);
+			var channel = batch.get(key);
+			try {
+				var record = this.getOrCreateChannel(schema, requests.get(i));
+				this.failures = 0;
+				if (record == null) {
+					this.log.error("Unable to get ChannelRecord for Channel " //
+							+ "[" + key.edgeId() + "/" + key.channelAddress() + "]");
+					continue;
+				}
+				this.forward(record, channel);
+
+			} catch (SQLException e) {
+				if (isConnectionError(e)) {
+					this.onConnectionError(keys, i, batch, e);
+					return;
+				}
+				this.log.error("Unable to get ChannelRecord for Channel " //
+						+ "[" + key.edgeId() + "/" + key.channelAddress() + "]: " + e.getMessage() //
+						+ ". Dropping [" + channel.values.size() + "] values");
+				synchronized (this) {
+					this.droppedValues += channel.values.size();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Keeps the values of the unresolved Channels for the next try and backs off
+	 * exponentially.
+	 * 
+	 * @param keys  the {@link Key}s of the current batch
+	 * @param from  the index of the first unresolved {@link Key}
+	 * @param batch the {@link PendingChannel}s
+	 * @param e     the {@link SQLException}
+	 */
+	private void onConnectionError(List<Key> keys, int from, Map<Key, PendingChannel> batch, SQLException e) {
+		this.failures = Math.min(this.failures + 1, MAX_BACKOFF_SHIFT);
+		this.log.error("Unable to get ChannelRecords for [" + (keys.size() - from) + "] Channels: "
+				+ e.getMessage() + ". Retry in [" + this.getCycleTime() + "] ms");
+		for (var key : keys.subList(from, keys.size())) {
+			var channel = batch.get(key);
+			for (var i = 0; i < channel.values.size(); i++) {
+				this.add(key.edgeId(), key.channelAddress(), channel.timestamps.get(i), channel.values.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Is the {@link SQLException} caused by an unavailable database, i.e. is a
+	 * later retry expected to succeed?.
+	 * 
+	 * @param e the {@link SQLException}
+	 * @return true for connection errors
+	 */
+	private static boolean isConnectionError(SQLException e) {
+		if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+				|| e instanceof SQLNonTransientConnectionException) {
+			return true;
+		}
+		// SQLState class 08: Connection Exception
+		return e.getSQLState() != null && e.getSQLState().startsWith("08");
+	}
+
+	/**
+	 * Gets or creates the {@link ChannelRecord}s with one query.
+	 * 
+	 * @param schema   the {@link Schema}
+	 * @param requests the {@link ChannelRequest}s
+	 * @return the {@link ChannelRecord}s in the order of the requests
+	 * @throws SQLException on error
+	 */
+	protected List<ChannelRecord> getOrCreateChannels(Schema schema, List<ChannelRequest> requests)
+			throws SQLException {
+		try (var con = this.dataSource.getConnection()) {
+			return schema.getOrCreateChannels(con, requests);
+		}
+	}
+
+	/**
+	 * Gets or creates a single {@link ChannelRecord}.
+	 * 
+	 * @param schema  the {@link Schema}
+	 * @param request the {@link ChannelRequest}
+	 * @return the {@link ChannelRecord}
+	 * @throws SQLException on error
+	 */
+	protected ChannelRecord getOrCreateChannel(Schema schema, ChannelRequest request) throws SQLException {
+		try (var con = this.dataSource.getConnection()) {
+			return schema.getOrCreateChannel(con, request);
+		}
+	}
+
+	private void forward(ChannelRecord record, PendingChannel channel) {
+		for (var i = 0; i < channel.values.size(); i++) {
+			this.onResolved.accept(record, channel.timestamps.get(i), channel.values.get(i));
+		}
+	}
+
+	private static Type detectType(PendingChannel channel) {
+		for (var value : channel.values) {
+			var type = Type.detect(value);
+			if (type != null) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected int getCycleTime() {
+		return Math.min(BATCH_WINDOW << this.failures, MAX_BACKOFF);
+	}
+
+	/**
+	 * Gets the number of Channels that are waiting to be resolved.
+	 *
+	 * @return the number of Channels
+	 */
+	synchronized int getPendingChannels() {
+		return this.pending.size();
+	}
+
+	/**
+	 * Gets the number of values that are waiting for their Channel.
+	 *
+	 * @return the number of values
+	 */
+	synchronized int getPendingValues() {
+		return this.pendingValues;
+	}
+
+	/**
+	 * Gets the total number of dropped values.
+	 *
+	 * @return the number of values
+	 */
+	synchronized long getDroppedValues() {
+		return this.droppedValues;
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 *
+	 * @return debug log
+	 */
+	public synchronized String debugLog() {
+		return new StringBuilder() //
+				.append(this.pending.size()) //
+				.append("/") //
+				.append(this.pendingValues) //
+				.append("|Dropped:") //
+				.append(this.droppedValues) //
+				.toString();
+	}
+}
@@ -3,15 +3,21 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.WritePointsHandler.Result;
 import io.openems.common.worker.AbstractImmediateWorker;
 
 public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWorker {
@@ -24,18 +30,69 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	// https://github.com/google/guava/issues/3882
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private long countPoints = 0;
+	private final AtomicLong countDropped = new AtomicLong();
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
+	/**
+	 * Absorbs Points on overflow and failed writes; null if disabled.
+	 */
+	private final SpillLog spillLog;
+	private final AtomicBoolean isReplaying = new AtomicBoolean(false);
+	private volatile boolean lastWriteSucceeded = true;
+	private long lastReplayedPoints = 0;
+	private long lastReplayRateTimestamp = System.nanoTime();
+	private double replayRate = 0; // [points/s]
+
+	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+			SpillLog spillLog) {
 		this.dataSource = dataSource;
 		this.executor = executor;
 		this.type = type;
 		this.priority = priority;
+		this.spillLog = spillLog;
 	}
 
 	public BlockingQueue<POINT> getQueue() {
 		return this.queue;
 	}
 
+	/**
+	 * Spills a Point directly to disk; adds it to the queue if spilling is
+	 * disabled.
+	 * 
+	 * @param point the Point
+	 * @return true if the Point was spilled or queued
+	 */
+	public boolean spill(POINT point) {
+		if (this.spillLog != null) {
+			return this.spillLog.append(point);
+		}
+		return this.queue.offer(point);
+	}
+
+	/**
+	 * Adds a Point to the queue; spills it to disk if the queue is full.
+	 * 
+	 * @param point the Point
+	 * @return true if the Point was queued or spilled
+	 */
+	public boolean offer(POINT point) {
+		if (this.queue.offer(point)) {
+			return true;
+		}
+		if (this.spillLog != null) {
+			return this.spillLog.append(point);
+		}
+		return false;
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		if (this.spillLog != null) {
+			this.spillLog.close();
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		/**
@@ -46,14 +103,91 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		// Poll and merge Points. Wait max 10 seconds in total.
 		var points = pollAndMergePoints(this.queue);
 
+		if (this.spillLog != null) {
+			this.spillLog.flush();
+			this.startReplay();
+		}
+
 		if (points.isEmpty()) {
 			return;
 		}
 
+		this.write(points);
+	}
+
+	/**
+	 * Writes Points async; spills them on error.
+	 * 
+	 * @param points the Points
+	 */
+	void write(List<Point> points) {
 		this.countPoints += points.size();
+		this.executor.execute(this.createWritePointsHandler(points, this::onWriteFinished));
+	}
+
+	/**
+	 * Creates the {@link Runnable} that writes the Points to the database.
+	 * 
+	 * @param points     the Points
+	 * @param onFinished called with the Points and the {@link Result}
+	 * @return a {@link WritePointsHandler}
+	 */
+	protected Runnable createWritePointsHandler(List<Point> points, BiConsumer<List<Point>, Result> onFinished) {
+		return new WritePointsHandler(this.dataSource, this.type, this.priority, points, onFinished);
+	}
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+	private void onWriteFinished(List<Point> points, Result result) {
+		this.lastWriteSucceeded = result != Result.RETRY;
+		if (result == Result.RETRY && this.spillLog != null) {
+			this.spillLog.append(points);
+		} else if (result == Result.DROP) {
+			this.countDropped.addAndGet(points.size());
+		}
+	}
+
+	/**
+	 * Starts replaying spilled Points, if the last write succeeded and no replay
+	 * is running. Replay batches are chained until the {@link SpillLog} is empty
+	 * or a write fails.
+	 */
+	void startReplay() {
+		if (!this.lastWriteSucceeded || this.spillLog.getPendingPoints() == 0
+				|| !this.isReplaying.compareAndSet(false, true)) {
+			return;
+		}
+		this.replayNextBatch();
+	}
+
+	/**
+	 * Writes the next {@link SpillLog.Batch}. The Batch is only removed from the
+	 * {@link SpillLog} after it was written - or dropped because it can never be
+	 * written.
+	 */
+	private void replayNextBatch() {
+		var batch = this.spillLog.peek(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
+		if (batch.points.isEmpty()) {
+			this.isReplaying.set(false);
+			return;
+		}
+		try {
+			this.executor.execute(this.createWritePointsHandler(batch.points, //
+					(points, result) -> {
+						this.lastWriteSucceeded = result != Result.RETRY;
+						if (result == Result.RETRY) {
+							// Keep Points in SpillLog for next replay
+							this.isReplaying.set(false);
+							return;
+						}
+						this.spillLog.commit(batch);
+						if (result == Result.DROP) {
+							this.countDropped.addAndGet(points.size());
+						}
+						this.replayNextBatch();
+					}));
+		} catch (RejectedExecutionException e) {
+			// Executor was shut down -> Points are kept for next start
+			this.isReplaying.set(false);
+		}
 	}
 
 	/**
@@ -87,12 +221,71 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	 * @return debug log
 	 */
 	public String debugLog() {
-		return new StringBuilder() //
+		var sb = new StringBuilder() //
 				.append(this.queue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
 				.append("|Total:") //
 				.append(this.countPoints) //
-				.toString();
+				.append("|Dropped:") //
+				.append(this.countDropped.get());
+		if (this.spillLog != null) {
+			sb //
+					.append("|Spill:") //
+					.append(this.spillLog.getPendingPoints()) //
+					.append("|Replay:") //
+					.append(Math.round(this.updateReplayRate())) //
+					.append("/s");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Calculates the replay rate since the last call.
+	 * 
+	 * @return the replay rate in [points/s]
+	 */
+	private synchronized double updateReplayRate() {
+		var now = System.nanoTime();
+		var replayedPoints = this.spillLog.getReplayedPoints();
+		var seconds = (now - this.lastReplayRateTimestamp) / 1_000_000_000.;
+		if (seconds > 0) {
+			this.replayRate = (replayedPoints - this.lastReplayedPoints) / seconds;
+		}
+		this.lastReplayedPoints = replayedPoints;
+		this.lastReplayRateTimestamp = now;
+		return this.replayRate;
+	}
+
+	/**
+	 * Gets the total number of Points that were dropped because they can never be
+	 * written.
+	 * 
+	 * @return the number of Points
+	 */
+	long getDroppedPoints() {
+		return this.countDropped.get();
+	}
+
+	/**
+	 * Adds the metrics of the writes and the {@link SpillLog} to the given map.
+	 * 
+	 * @param metrics the metrics
+	 */
+	public void addDebugMetrics(Map<String, Number> metrics) {
+		var suffix = this.type.name().toLowerCase() + "/" + this.priority.getTableSuffix();
+		metrics.put("write/" + suffix + "/dropped", this.countDropped.get());
+		if (this.spillLog == null) {
+			return;
+		}
+		var prefix = "spill/" + suffix + "/";
+		metrics.put(prefix + "pending", this.spillLog.getPendingPoints());
+		metrics.put(prefix + "spilled", this.spillLog.getSpilledPoints());
+		metrics.put(prefix + "replayed", this.spillLog.getReplayedPoints());
+		metrics.put(prefix + "dropped", this.spillLog.getDroppedPoints());
+		metrics.put(prefix + "diskUsage", this.spillLog.getDiskUsage());
+		synchronized (this) {
+			metrics.put(prefix + "replayRate", this.replayRate);
+		}
 	}
 }
@@ -34,7 +34,8 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param channel   the channel
 	 * @param timestamp the timestamp
 	 * @param json      the value
-	 * @return true if the element was added to this queue, else false
+	 * @return true if the element was added to this queue or spilled to disk, else
+	 *         false
 	 * @throws OpenemsNamedException on error
 	 */
 	public boolean offer(ChannelRecord channel, long timestamp, JsonElement json) throws OpenemsNamedException {
@@ -43,7 +44,27 @@ public abstract class QueueHandler<T extends Point> {
 		if (value == null) {
 			return false;
 		}
-		return this.mergePointsWorker.getQueue().offer(value);
+		return this.mergePointsWorker.offer(value);
+	}
+
+	/**
+	 * Spills a point directly to disk, bypassing the queue; e.g. if the queue of
+	 * the {@link SplitDataWorker} is full.
+	 * 
+	 * @param channel   the channel
+	 * @param timestamp the timestamp
+	 * @param json      the value
+	 * @return true if the element was spilled to disk or - if spilling is disabled
+	 *         - added to this queue, else false
+	 * @throws OpenemsNamedException on error
+	 */
+	public boolean spill(ChannelRecord channel, long timestamp, JsonElement json) throws OpenemsNamedException {
+		var time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneOffset.UTC);
+		var value = this.dataToPointConverter(channel, time, json);
+		if (value == null) {
+			return false;
+		}
+		return this.mergePointsWorker.spill(value);
 	}
 
 	public MergePointsWorker<T> getMergePointsWorker() {
@@ -80,25 +101,27 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param priority   the priority of the handler
 	 * @param dataSource the dataSource to get database connections
 	 * @param executor   the executor to execute writes
+	 * @param spillLog   the {@link SpillLog}; null to disable spilling
 	 * @return the handler
 	 */
 	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+			ExecutorService executor, SpillLog spillLog) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, executor, type, priority, spillLog);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, executor, type, priority, spillLog);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, executor, type, priority, spillLog);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				SpillLog spillLog) {
+			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority, spillLog), IntPoint.class);
 		}
 
 		@Override
@@ -115,8 +138,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				SpillLog spillLog) {
+			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority, spillLog), FloatPoint.class);
 		}
 
 		@Override
@@ -133,8 +157,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				SpillLog spillLog) {
+			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority, spillLog), StringPoint.class);
 		}
 
 		@Override
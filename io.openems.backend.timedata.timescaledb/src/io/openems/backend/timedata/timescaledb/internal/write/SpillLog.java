@@ -0,0 +1,424 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+/**
+ * An append-only log of {@link Point}s of one {@link Type} on disk. It absorbs
+ * Points that could not be queued or written - e.g. while the database is down
+ * - and gives them back for replay.
+ *
+ * <p>
+ * The log consists of memory-mapped segment files of fixed size. Each segment
+ * starts with a header that holds the read position, so that a restarted log
+ * continues where the replay stopped. Points are only removed once their replay
+ * was committed, see {@link #peek(int)}. Fully replayed segments are deleted. If
+ * the maximum number of segments is reached, the oldest segment is dropped.
+ *
+ * <p>
+ * Record layout: length of the rest of the record (int), Channel-ID (int),
+ * timestamp in epoch milliseconds (long), value (long, double or UTF-8 bytes).
+ * A length of zero marks the end of the segment.
+ */
+public class SpillLog {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024; // [bytes]
+	public static final int MIN_SEGMENT_SIZE = 64 * 1024; // [bytes]
+
+	private static final int MAGIC = 0x4f454d53;
+	private static final int READ_POSITION_OFFSET = 4;
+	private static final int HEADER_SIZE = 8;
+	private static final int RECORD_HEADER_SIZE = 4 + 4 + 8;
+	private static final String SUFFIX = ".seg";
+
+	private final Logger log = LoggerFactory.getLogger(SpillLog.class);
+
+	private final Path directory;
+	private final Type type;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSegmentId = 0;
+	private long pendingPoints = 0;
+	private long spilledPoints = 0;
+	private long replayedPoints = 0;
+	private long droppedPoints = 0;
+
+	private static class Segment {
+		private final Path path;
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+		private int readPosition;
+		private int writePosition;
+		private int pendingPoints;
+
+		private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+			this.path = path;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * {@link Point}s handed out for replay by {@link SpillLog#peek(int)}.
+	 */
+	public static final class Batch {
+		public final List<Point> points;
+
+		private final Segment segment;
+		private final int endPosition;
+
+		private Batch(Segment segment, int endPosition, List<Point> points) {
+			this.segment = segment;
+			this.endPosition = endPosition;
+			this.points = points;
+		}
+	}
+
+	/**
+	 * Opens a {@link SpillLog} in the given directory and restores existing
+	 * segments.
+	 *
+	 * @param directory   the directory; created if it does not exist
+	 * @param type        the {@link Type} of the {@link Point}s
+	 * @param segmentSize the size of one segment file in [bytes]
+	 * @param maxSegments the maximum number of segment files
+	 * @throws IOException on error
+	 */
+	public SpillLog(Path directory, Type type, int segmentSize, int maxSegments) throws IOException {
+		this.directory = directory;
+		this.type = type;
+		this.segmentSize = segmentSize;
+		this.maxSegments = Math.max(2, maxSegments);
+
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (var path : files //
+					.filter(p -> p.getFileName().toString().endsWith(SUFFIX)) //
+					.sorted() //
+					.toList()) {
+				var segment = this.openSegment(path, false);
+				this.segments.add(segment);
+				this.pendingPoints += segment.pendingPoints;
+				this.nextSegmentId = Math.max(this.nextSegmentId, parseSegmentId(path) + 1);
+			}
+		}
+	}
+
+	/**
+	 * Appends a {@link Point}.
+	 *
+	 * @param point the {@link Point}
+	 * @return true if the Point was appended
+	 */
+	public synchronized boolean append(Point point) {
+		var value = this.encodeValue(point);
+		if (value == null) {
+			return false;
+		}
+		var recordLength = RECORD_HEADER_SIZE + value.length;
+		if (HEADER_SIZE + recordLength + 4 > this.segmentSize) {
+			this.droppedPoints++;
+			return false;
+		}
+		try {
+			var segment = this.segments.peekLast();
+			if (segment == null || segment.writePosition + recordLength + 4 > this.segmentSize) {
+				segment = this.addSegment();
+			}
+			var buffer = segment.buffer;
+			buffer.putInt(segment.writePosition, recordLength - 4);
+			buffer.putInt(segment.writePosition + 4, point.channelId);
+			buffer.putLong(segment.writePosition + 8, point.timestamp.toInstant().toEpochMilli());
+			buffer.put(segment.writePosition + RECORD_HEADER_SIZE, value);
+			segment.writePosition += recordLength;
+			segment.pendingPoints++;
+			this.pendingPoints++;
+			this.spilledPoints++;
+			return true;
+
+		} catch (IOException e) {
+			this.log.error("Unable to spill Point to [" + this.directory + "]: " + e.getMessage());
+			this.droppedPoints++;
+			return false;
+		}
+	}
+
+	/**
+	 * Appends {@link Point}s.
+	 *
+	 * @param points the {@link Point}s
+	 * @return the number of appended Points
+	 */
+	public synchronized int append(Collection<Point> points) {
+		var result = 0;
+		for (var point : points) {
+			if (this.append(point)) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns up to 'max' of the oldest {@link Point}s without removing them. The
+	 * Points stay in the log until the {@link Batch} is committed via
+	 * {@link #commit(Batch)}, i.e. they survive a failed replay or a restart. A
+	 * Batch never spans more than one segment.
+	 *
+	 * @param max the maximum number of Points
+	 * @return a {@link Batch}; with empty Points if the log is empty
+	 */
+	public synchronized Batch peek(int max) {
+		while (true) {
+			var segment = this.segments.peekFirst();
+			if (segment == null) {
+				return new Batch(null, 0, List.of());
+			}
+			if (segment.readPosition >= segment.writePosition) {
+				if (segment == this.segments.peekLast()) {
+					// Keep the current write segment
+					return new Batch(segment, segment.readPosition, List.of());
+				}
+				this.deleteFirstSegment();
+				continue;
+			}
+			var buffer = segment.buffer;
+			var position = segment.readPosition;
+			var points = new ArrayList<Point>(Math.min(max, segment.pendingPoints));
+			while (points.size() < max && position < segment.writePosition) {
+				var length = buffer.getInt(position);
+				var channelId = buffer.getInt(position + 4);
+				var timestamp = ZonedDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong(position + 8)),
+						ZoneOffset.UTC);
+				var valuePosition = position + RECORD_HEADER_SIZE;
+				var valueLength = length + 4 - RECORD_HEADER_SIZE;
+				points.add(this.decodePoint(buffer, valuePosition, valueLength, channelId, timestamp));
+				position += length + 4;
+			}
+			return new Batch(segment, position, points);
+		}
+	}
+
+	/**
+	 * Removes the {@link Point}s of a {@link Batch} from the log and persists the
+	 * new read position.
+	 *
+	 * <p>
+	 * Only one Batch may be pending at a time. If its segment was dropped in the
+	 * meantime because the maximum disk usage was reached, the Points are no
+	 * longer counted as dropped.
+	 *
+	 * @param batch the {@link Batch} from {@link #peek(int)}
+	 */
+	public synchronized void commit(Batch batch) {
+		var count = batch.points.size();
+		if (count == 0) {
+			return;
+		}
+		this.replayedPoints += count;
+		var segment = batch.segment;
+		if (!this.segments.contains(segment)) {
+			this.droppedPoints -= count;
+			return;
+		}
+		segment.readPosition = batch.endPosition;
+		segment.pendingPoints -= count;
+		segment.buffer.putInt(READ_POSITION_OFFSET, segment.readPosition);
+		this.pendingPoints -= count;
+	}
+
+	/**
+	 * Removes and returns up to 'max' of the oldest {@link Point}s.
+	 *
+	 * @param max the maximum number of Points
+	 * @return a list of Points; empty if the log is empty
+	 */
+	public synchronized List<Point> poll(int max) {
+		var result = new ArrayList<Point>();
+		while (result.size() < max) {
+			var batch = this.peek(max - result.size());
+			if (batch.points.isEmpty()) {
+				break;
+			}
+			this.commit(batch);
+			result.addAll(batch.points);
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the mapped segments to disk.
+	 */
+	public synchronized void flush() {
+		for (var segment : this.segments) {
+			segment.buffer.force();
+		}
+	}
+
+	/**
+	 * Flushes and closes all segments.
+	 */
+	public synchronized void close() {
+		this.flush();
+		for (var segment : this.segments) {
+			try {
+				segment.channel.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close [" + segment.path + "]: " + e.getMessage());
+			}
+		}
+		this.segments.clear();
+	}
+
+	/**
+	 * Gets the number of {@link Point}s that are waiting for replay.
+	 *
+	 * @return the number of Points
+	 */
+	public synchronized long getPendingPoints() {
+		return this.pendingPoints;
+	}
+
+	/**
+	 * Gets the total number of spilled {@link Point}s.
+	 *
+	 * @return the number of Points
+	 */
+	public synchronized long getSpilledPoints() {
+		return this.spilledPoints;
+	}
+
+	/**
+	 * Gets the total number of {@link Point}s that were handed out for replay.
+	 *
+	 * @return the number of Points
+	 */
+	public synchronized long getReplayedPoints() {
+		return this.replayedPoints;
+	}
+
+	/**
+	 * Gets the total number of {@link Point}s that were dropped because the
+	 * maximum disk usage was reached or on error.
+	 *
+	 * @return the number of Points
+	 */
+	public synchronized long getDroppedPoints() {
+		return this.droppedPoints;
+	}
+
+	/**
+	 * Gets the disk usage.
+	 *
+	 * @return the size of all segment files in [bytes]
+	 */
+	public synchronized long getDiskUsage() {
+		return (long) this.segments.size() * this.segmentSize;
+	}
+
+	private Segment addSegment() throws IOException {
+		while (this.segments.size() >= this.maxSegments) {
+			var dropped = this.segments.peekFirst().pendingPoints;
+			this.deleteFirstSegment();
+			this.pendingPoints -= dropped;
+			this.droppedPoints += dropped;
+			this.log.warn("Maximum disk usage of [" + this.directory + "] reached. Dropped [" + dropped + "] Points");
+		}
+		var path = this.directory.resolve(String.format("%016d%s", this.nextSegmentId++, SUFFIX));
+		var segment = this.openSegment(path, true);
+		this.segments.add(segment);
+		return segment;
+	}
+
+	private void deleteFirstSegment() {
+		var segment = this.segments.pollFirst();
+		try {
+			segment.channel.close();
+			Files.deleteIfExists(segment.path);
+		} catch (IOException e) {
+			this.log.warn("Unable to delete [" + segment.path + "]: " + e.getMessage());
+		}
+	}
+
+	private Segment openSegment(Path path, boolean create) throws IOException {
+		var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		var buffer = channel.map(MapMode.READ_WRITE, 0, this.segmentSize);
+		var segment = new Segment(path, channel, buffer);
+		if (create || buffer.getInt(0) != MAGIC) {
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(READ_POSITION_OFFSET, HEADER_SIZE);
+		}
+		segment.readPosition = Math.max(HEADER_SIZE, buffer.getInt(READ_POSITION_OFFSET));
+
+		// Find write position and count pending Points
+		var position = segment.readPosition;
+		while (position + 4 <= this.segmentSize) {
+			var length = buffer.getInt(position);
+			if (length <= 0 || position + 4 + length > this.segmentSize) {
+				break;
+			}
+			position += 4 + length;
+			segment.pendingPoints++;
+		}
+		segment.writePosition = position;
+		return segment;
+	}
+
+	private byte[] encodeValue(Point point) {
+		if (point instanceof IntPoint p) {
+			return ByteBuffer.allocate(8).putLong(p.value).array();
+		} else if (point instanceof FloatPoint p) {
+			return ByteBuffer.allocate(8).putDouble(p.value).array();
+		} else if (point instanceof StringPoint p) {
+			return p.value.getBytes(StandardCharsets.UTF_8);
+		}
+		return null;
+	}
+
+	private Point decodePoint(MappedByteBuffer buffer, int position, int length, int channelId,
+			ZonedDateTime timestamp) {
+		return switch (this.type) {
+		case INTEGER -> new IntPoint(channelId, timestamp, buffer.getLong(position));
+		case FLOAT -> new FloatPoint(channelId, timestamp, buffer.getDouble(position));
+		case STRING -> {
+			var bytes = new byte[length];
+			buffer.get(position, bytes);
+			yield new StringPoint(channelId, timestamp, new String(bytes, StandardCharsets.UTF_8));
+		}
+		};
+	}
+
+	private static long parseSegmentId(Path path) {
+		var name = path.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
@@ -1,9 +1,10 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -11,7 +12,6 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.DoubleKeyMap;
@@ -26,6 +26,16 @@ import io.openems.common.worker.AbstractImmediateWorker;
  * {@link SplitDataWorker} manages an internal Queue which can be filled via
  * {@link #addData(String, TreeBasedTable)}. The worker then splits the data
  * into typed queues for integer, float and string.
+ * 
+ * <p>
+ * Channels that are missing in the {@link Schema} Cache are resolved in
+ * batches by a {@link ChannelResolverWorker}.
+ * 
+ * <p>
+ * If the internal Queue is full, the data is split on the calling thread and
+ * spilled directly to the {@link SpillLog}s of the typed queues. Data that
+ * arrives before the {@link Schema} is initialized cannot be split; it is
+ * dropped once the Queue is full.
  */
 public class SplitDataWorker extends AbstractImmediateWorker {
 
@@ -42,32 +52,70 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 	private final Logger log = LoggerFactory.getLogger(SplitDataWorker.class);
 
 	private final HikariDataSource dataSource;
-	private final ExecutorService executor;
+	private final ChannelResolverWorker channelResolver;
 	private final BlockingQueue<WriteData> sourceQueue = new LinkedBlockingQueue<>(
 			TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private final DoubleKeyMap<Type, Priority, QueueHandler<?>> queueHandler;
 	private final Consumer<Schema> onInitializedSchema;
 
-	private Schema schema;
+	private final AtomicLong countSpilled = new AtomicLong();
+	private final AtomicLong countDropped = new AtomicLong();
+
+	private volatile Schema schema;
 
 	public SplitDataWorker(HikariDataSource dataSource, //
-			ExecutorService executor, //
 			DoubleKeyMap<Type, Priority, QueueHandler<?>> queueHandler, //
 			Consumer<Schema> onInitializedSchema) {
 		this.dataSource = dataSource;
-		this.executor = executor;
 		this.queueHandler = queueHandler;
 		this.onInitializedSchema = onInitializedSchema;
+		this.channelResolver = new ChannelResolverWorker(dataSource, this::addToTypedQueue);
 	}
 
 	/**
-	 * Adds new 'write' data to the Queue.
+	 * Adds new 'write' data to the Queue; spills it if the Queue is full.
 	 * 
 	 * @param edgeId the Edge-ID
 	 * @param table  the data table
 	 */
 	public void addData(String edgeId, TreeBasedTable<Long, String, JsonElement> table) {
-		this.sourceQueue.offer(new WriteData(edgeId, table));
+		if (this.sourceQueue.offer(new WriteData(edgeId, table))) {
+			return;
+		}
+		this.spill(edgeId, table);
+	}
+
+	/**
+	 * Splits the data and spills it directly to the typed queues.
+	 * 
+	 * @param edgeId the Edge-ID
+	 * @param table  the data table
+	 */
+	private void spill(String edgeId, TreeBasedTable<Long, String, JsonElement> table) {
+		var schema = this.schema;
+		if (schema == null) {
+			this.countDropped.addAndGet(table.size());
+			return;
+		}
+		for (var cell : table.cellSet()) {
+			var channel = schema.getChannelFromCache(edgeId, cell.getColumnKey());
+			if (channel == null) {
+				// Channel missing in Cache -> resolver drops the value if it is full
+				this.channelResolver.add(edgeId, cell.getColumnKey(), cell.getRowKey(), cell.getValue());
+				continue;
+			}
+			try {
+				if (this.queueHandler.get(channel.type, channel.priority).spill(channel, cell.getRowKey(),
+						cell.getValue())) {
+					this.countSpilled.incrementAndGet();
+				} else {
+					this.countDropped.incrementAndGet();
+				}
+			} catch (OpenemsNamedException e) {
+				this.log.warn("Unable to parse [" + cell.getValue() + "] to [" + channel.type + "] for Channel-ID ["
+						+ channel.id + "]: " + e.getMessage());
+			}
+		}
 	}
 
 	@Override
@@ -92,29 +140,8 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 				this.addToTypedQueue(channel, cell.getRowKey(), cell.getValue());
 
 			} else {
-				// Channel missing in Cache -> async
-				this.executor.execute(() -> {
-					try (var con = this.dataSource.getConnection()) {
-						var channelRecord = schema.getChannel(con, data.edgeId, cell.getColumnKey(), cell.getValue());
-						if (channelRecord != null) {
-							// Ok -> add to queue
-							this.addToTypedQueue(channelRecord, cell.getRowKey(), cell.getValue());
-							return;
-						}
-
-						if (cell.getValue() != null && cell.getValue() != JsonNull.INSTANCE) {
-							// Error and value was not null
-							this.log.error("Unable to get ChannelRecord for Channel " //
-									+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]");
-						}
-
-					} catch (SQLException e) {
-						this.log.error("Unable to get ChannelRecord for Channel " //
-								+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]: "
-								+ e.getMessage());
-					}
-				});
-
+				// Channel missing in Cache -> resolve in batches
+				this.channelResolver.add(data.edgeId, cell.getColumnKey(), cell.getRowKey(), cell.getValue());
 			}
 		}
 	}
@@ -152,6 +179,7 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 		try {
 			schema = Schema.initialize(this.dataSource);
 			this.schema = schema;
+			this.channelResolver.setSchema(schema);
 			this.onInitializedSchema.accept(schema);
 			return schema;
 
@@ -167,6 +195,48 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	@Override
+	public void activate(String name) {
+		super.activate(name);
+		this.channelResolver.activate(name + "-ChannelResolver");
+	}
+
+	@Override
+	public void deactivate() {
+		this.channelResolver.deactivate();
+		super.deactivate();
+	}
+
+	/**
+	 * Gets the total number of values that were spilled because the Queue was
+	 * full.
+	 * 
+	 * @return the number of values
+	 */
+	long getSpilledValues() {
+		return this.countSpilled.get();
+	}
+
+	/**
+	 * Gets the total number of values that were dropped because the Queue was
+	 * full and they could not be spilled.
+	 * 
+	 * @return the number of values
+	 */
+	long getDroppedValues() {
+		return this.countDropped.get();
+	}
+
+	/**
+	 * Adds the metrics to the given map.
+	 * 
+	 * @param metrics the metrics
+	 */
+	public void addDebugMetrics(Map<String, Number> metrics) {
+		metrics.put("split/spilled", this.countSpilled.get());
+		metrics.put("split/dropped", this.countDropped.get());
+	}
+
 	/**
 	 * Returns a DebugLog String.
 	 * 
@@ -177,6 +247,12 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 				.append(this.sourceQueue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
+				.append("|Spilled:") //
+				.append(this.countSpilled.get()) //
+				.append("|Dropped:") //
+				.append(this.countDropped.get()) //
+				.append(" RESOLVE:") //
+				.append(this.channelResolver.debugLog()) //
 				.toString();
 	}
 
@@ -1,7 +1,10 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -75,14 +78,14 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, this.executor,
+								this.openSpillLog(config, type, priority)));
 			}
 		}
 
 		// Split incoming data to Points and add to typed queues
 		this.splitPointsWorker = new SplitDataWorker(//
 				this.dataSource, //
-				this.executor, //
 				this.queueHandler, //
 				(schema) -> {
 					// only after Schema is initialized -> start all dependent workers
@@ -92,6 +95,38 @@ public class TimescaledbWriteHandler {
 		this.splitPointsWorker.activate("TimescaleDB-SplitPoints");
 	}
 
+	/**
+	 * Opens the {@link SpillLog} for a {@link Type} and {@link Priority}.
+	 * 
+	 * @param config   the {@link Config}
+	 * @param type     the {@link Type}
+	 * @param priority the {@link Priority}
+	 * @return the {@link SpillLog}; null if disabled or on error
+	 */
+	private SpillLog openSpillLog(Config config, Type type, Priority priority) {
+		if (config.spillDirectory() == null || config.spillDirectory().isBlank()) {
+			return null;
+		}
+		var directory = Path.of(config.spillDirectory(), type.name().toLowerCase() + "_" + priority.getTableSuffix());
+		// Share the maximum disk usage between all Types and Priorities; a SpillLog
+		// needs at least two segments, so smaller budgets use smaller segments
+		var maxDiskUsage = (long) config.spillMaxDiskUsage() * 1024 * 1024
+				/ (Type.values().length * Priority.values().length);
+		var segmentSize = (int) Math.min(SpillLog.DEFAULT_SEGMENT_SIZE, maxDiskUsage / 2);
+		if (segmentSize < SpillLog.MIN_SEGMENT_SIZE) {
+			this.log.error("Spill max disk usage [" + config.spillMaxDiskUsage() + " MB] is too small. " //
+					+ "Spilling is disabled.");
+			return null;
+		}
+		var maxSegments = (int) (maxDiskUsage / segmentSize);
+		try {
+			return new SpillLog(directory, type, segmentSize, maxSegments);
+		} catch (IOException e) {
+			this.log.error("Unable to open spill directory [" + directory + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
 	private final Stream<QueueHandler<?>> streamHandler() {
 		return this.queueHandler.values().stream() //
 				.flatMap(t -> t.values().stream()); //
@@ -154,7 +189,12 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Number> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var metrics = new HashMap<>(ThreadPoolUtils.debugMetrics(this.executor));
+		this.splitPointsWorker.addDebugMetrics(metrics);
+		this.streamHandler() //
+				.map(QueueHandler::getMergePointsWorker) //
+				.forEach(w -> w.addDebugMetrics(metrics));
+		return metrics;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
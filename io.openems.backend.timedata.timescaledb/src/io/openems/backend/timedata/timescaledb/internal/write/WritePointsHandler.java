@@ -1,7 +1,9 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,17 +18,46 @@ import io.openems.backend.timedata.timescaledb.internal.Type;
 
 public class WritePointsHandler implements Runnable {
 
+	public enum Result {
+		/**
+		 * The Points were written.
+		 */
+		SUCCESS,
+		/**
+		 * The Points could not be written, e.g. because the database is not
+		 * available; they should be written again later.
+		 */
+		RETRY,
+		/**
+		 * The Points can never be written, e.g. because of invalid data; they should
+		 * be dropped.
+		 */
+		DROP;
+	}
+
 	private final Logger log = LoggerFactory.getLogger(WritePointsHandler.class);
 
 	private final HikariDataSource dataSource;
 	private final Type type;
 	private final List<Point> points;
+	private final BiConsumer<List<Point>, Result> onFinished;
 	private final Table table;
 
-	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points) {
+	/**
+	 * Constructor.
+	 * 
+	 * @param dataSource the {@link HikariDataSource}
+	 * @param type       the {@link Type} of the Points
+	 * @param priority   the {@link Priority} of the Points
+	 * @param points     the Points
+	 * @param onFinished called with the Points and the {@link Result}
+	 */
+	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points,
+			BiConsumer<List<Point>, Result> onFinished) {
 		this.dataSource = dataSource;
 		this.type = type;
 		this.points = points;
+		this.onFinished = onFinished;
 
 		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
 				"time", //
@@ -49,13 +80,38 @@ public class WritePointsHandler implements Runnable {
 			// 'Expected errors', e.g. PostgreSQL server stopped
 			// -> short error log
 			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			this.onFinished.accept(this.points, Result.RETRY);
+			return;
 
 		} catch (Exception e) {
-			// 'Unexpected errors' -> long stacktrace
-			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
-			e.printStackTrace();
+			if (isRetryable(e)) {
+				this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+				this.onFinished.accept(this.points, Result.RETRY);
+				return;
+			}
+			// 'Unexpected errors' -> long stacktrace; retrying would fail again
+			this.log.error("Unable to write Points. Dropping [" + this.points.size() + "] Points. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+			this.onFinished.accept(this.points, Result.DROP);
+			return;
+		}
+		this.onFinished.accept(this.points, Result.SUCCESS);
+	}
 
+	/**
+	 * Is the Exception caused by a database or I/O error, e.g. a connection that
+	 * was closed while writing?.
+	 * 
+	 * @param e the {@link Exception}
+	 * @return true if a later retry might succeed
+	 */
+	private static boolean isRetryable(Throwable e) {
+		for (var cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException || cause instanceof IOException) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 }
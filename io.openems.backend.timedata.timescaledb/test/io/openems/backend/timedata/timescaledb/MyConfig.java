@@ -14,6 +14,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String database;
 		private boolean isReadOnly;
 		private int poolSize;
+		private String spillDirectory = "";
+		private int spillMaxDiskUsage = 1024;
 
 		private Builder() {
 		}
@@ -58,6 +60,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setSpillDirectory(String spillDirectory) {
+			this.spillDirectory = spillDirectory;
+			return this;
+		}
+
+		public Builder setSpillMaxDiskUsage(int spillMaxDiskUsage) {
+			this.spillMaxDiskUsage = spillMaxDiskUsage;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -114,4 +126,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.poolSize;
 	}
 
+	@Override
+	public String spillDirectory() {
+		return this.builder.spillDirectory;
+	}
+
+	@Override
+	public int spillMaxDiskUsage() {
+		return this.builder.spillMaxDiskUsage;
+	}
+
 }
@@ -0,0 +1,148 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Schema.ChannelRecord;
+import io.openems.backend.timedata.timescaledb.internal.Schema.ChannelRequest;
+
+public class ChannelResolverWorkerTest {
+
+	private static class MyChannelResolverWorker extends ChannelResolverWorker {
+
+		private final List<Integer> batchSizes = new ArrayList<>();
+		private final Set<String> failingChannels = new HashSet<>();
+		private SQLException batchException = null;
+		private SQLException connectionException = null;
+		private int nextId = 1;
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param values collects the resolved values as "Channel-ID@timestamp"
+		 */
+		public MyChannelResolverWorker(List<String> values) {
+			super(null, (channel, timestamp, value) -> values.add(channel.id + "@" + timestamp));
+			this.setSchema(Schema.empty());
+		}
+
+		@Override
+		protected List<ChannelRecord> getOrCreateChannels(Schema schema, List<ChannelRequest> requests)
+				throws SQLException {
+			this.batchSizes.add(requests.size());
+			if (this.connectionException != null) {
+				throw this.connectionException;
+			}
+			if (this.batchException != null) {
+				throw this.batchException;
+			}
+			var result = new ArrayList<ChannelRecord>();
+			for (var request : requests) {
+				result.add(this.createRecord(request));
+			}
+			return result;
+		}
+
+		@Override
+		protected ChannelRecord getOrCreateChannel(Schema schema, ChannelRequest request) throws SQLException {
+			if (this.failingChannels.contains(request.channelAddress())) {
+				throw new SQLException("value too long", "22001");
+			}
+			return this.createRecord(request);
+		}
+
+		private ChannelRecord createRecord(ChannelRequest request) {
+			return new ChannelRecord(this.nextId++, request.type(), Priority.LOW, null);
+		}
+	}
+
+	@Test
+	public void testBatching() throws Exception {
+		var values = new ArrayList<String>();
+		var sut = new MyChannelResolverWorker(values);
+
+		for (var i = 0; i < ChannelResolverWorker.MAX_BATCH_SIZE + 1; i++) {
+			sut.add("edge0", "meter0/Channel" + i, 1000L, new JsonPrimitive(i));
+		}
+		sut.add("edge0", "meter0/Channel0", 2000L, new JsonPrimitive(1));
+		// Type of a null-only Channel is not detectable -> skipped
+		sut.add("edge0", "meter0/NullChannel", 1000L, JsonNull.INSTANCE);
+
+		sut.forever();
+
+		assertEquals(List.of(ChannelResolverWorker.MAX_BATCH_SIZE, 1), sut.batchSizes);
+		assertEquals(ChannelResolverWorker.MAX_BATCH_SIZE + 2, values.size());
+		assertEquals("1@1000", values.get(0));
+		assertEquals("1@2000", values.get(1));
+		assertEquals(0, sut.getPendingChannels());
+	}
+
+	@Test
+	public void testResolveOneByOne() throws Exception {
+		var values = new ArrayList<String>();
+		var sut = new MyChannelResolverWorker(values);
+		sut.batchException = new SQLException("value too long", "22001");
+		sut.failingChannels.add("meter0/Bad");
+
+		sut.add("edge0", "meter0/Good1", 1000L, new JsonPrimitive(1));
+		sut.add("edge0", "meter0/Bad", 1000L, new JsonPrimitive(2));
+		sut.add("edge0", "meter0/Bad", 2000L, new JsonPrimitive(3));
+		sut.add("edge0", "meter0/Good2", 1000L, new JsonPrimitive(4));
+
+		sut.forever();
+
+		// Good Channels are resolved; values of the failing Channel are dropped
+		assertEquals(List.of("1@1000", "2@1000"), values);
+		assertEquals(2, sut.getDroppedValues());
+		assertEquals(0, sut.getPendingChannels());
+		assertEquals(ChannelResolverWorker.BATCH_WINDOW, sut.getCycleTime());
+	}
+
+	@Test
+	public void testBackoffOnConnectionError() throws Exception {
+		var values = new ArrayList<String>();
+		var sut = new MyChannelResolverWorker(values);
+		sut.connectionException = new SQLException("Connection refused", "08001");
+
+		sut.add("edge0", "meter0/Channel0", 1000L, new JsonPrimitive(1));
+		sut.add("edge0", "meter0/Channel1", 1000L, new JsonPrimitive(2));
+
+		sut.forever();
+		assertEquals(2, sut.getPendingChannels());
+		assertEquals(2, sut.getPendingValues());
+		assertEquals(ChannelResolverWorker.BATCH_WINDOW * 2, sut.getCycleTime());
+
+		sut.forever();
+		assertEquals(2, sut.getPendingChannels());
+		assertEquals(ChannelResolverWorker.BATCH_WINDOW * 4, sut.getCycleTime());
+
+		for (var i = 0; i < 10; i++) {
+			sut.forever();
+		}
+		assertEquals(ChannelResolverWorker.MAX_BACKOFF, sut.getCycleTime());
+		assertTrue(values.isEmpty());
+		assertEquals(0, sut.getDroppedValues());
+
+		// Database is back
+		sut.connectionException = null;
+		sut.forever();
+		assertEquals(List.of("1@1000", "2@1000"), values);
+		assertEquals(0, sut.getPendingChannels());
+		assertEquals(0, sut.getPendingValues());
+		assertEquals(ChannelResolverWorker.BATCH_WINDOW, sut.getCycleTime());
+	}
+
+}
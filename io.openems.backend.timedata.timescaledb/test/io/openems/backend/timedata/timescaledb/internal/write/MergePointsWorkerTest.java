@@ -0,0 +1,145 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.WritePointsHandler.Result;
+
+public class MergePointsWorkerTest {
+
+	private static final ZonedDateTime TIME = ZonedDateTime.ofInstant(Instant.ofEpochMilli(1_700_000_000_000L),
+			ZoneOffset.UTC);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static class MyMergePointsWorker extends MergePointsWorker<IntPoint> {
+
+		private final List<Point> written = new ArrayList<>();
+		private boolean isDatabaseAvailable = false;
+		private int poisonChannelId = -1;
+
+		public MyMergePointsWorker(SpillLog spillLog) {
+			super(null, MoreExecutors.newDirectExecutorService(), Type.INTEGER, Priority.HIGH, spillLog);
+		}
+
+		@Override
+		protected Runnable createWritePointsHandler(List<Point> points,
+				BiConsumer<List<Point>, Result> onFinished) {
+			return () -> {
+				if (!this.isDatabaseAvailable) {
+					onFinished.accept(points, Result.RETRY);
+				} else if (points.stream().anyMatch(p -> p.channelId == this.poisonChannelId)) {
+					onFinished.accept(points, Result.DROP);
+				} else {
+					this.written.addAll(points);
+					onFinished.accept(points, Result.SUCCESS);
+				}
+			};
+		}
+	}
+
+	private static List<Point> createPoints(int from, int to) {
+		var result = new ArrayList<Point>();
+		for (var i = from; i < to; i++) {
+			result.add(new IntPoint(i, TIME.plusSeconds(i), i));
+		}
+		return result;
+	}
+
+	@Test
+	public void testSpillAndReplay() throws IOException {
+		var spillLog = new SpillLog(this.folder.getRoot().toPath(), Type.INTEGER, 1024, 100);
+		var sut = new MyMergePointsWorker(spillLog);
+
+		// Database outage: failed writes are spilled
+		sut.write(createPoints(0, 50));
+		sut.write(createPoints(50, 100));
+		assertEquals(100, spillLog.getPendingPoints());
+		assertTrue(sut.written.isEmpty());
+
+		// No replay while writes are failing
+		sut.startReplay();
+		assertEquals(100, spillLog.getPendingPoints());
+
+		// Database is back: live write succeeds, then spilled Points are replayed
+		sut.isDatabaseAvailable = true;
+		sut.write(createPoints(100, 110));
+		sut.startReplay();
+		assertEquals(0, spillLog.getPendingPoints());
+		assertEquals(100, spillLog.getReplayedPoints());
+		assertEquals(110, sut.written.size());
+		for (var i = 0; i < 100; i++) {
+			var point = (IntPoint) sut.written.get(10 + i);
+			assertEquals(i, point.channelId);
+			assertEquals(TIME.plusSeconds(i), point.timestamp);
+			assertEquals(i, point.value);
+		}
+		spillLog.close();
+	}
+
+	@Test
+	public void testFailedReplayKeepsPoints() throws IOException {
+		var spillLog = new SpillLog(this.folder.getRoot().toPath(), Type.INTEGER, 1024, 100);
+		var sut = new MyMergePointsWorker(spillLog);
+		sut.write(createPoints(0, 100));
+		assertEquals(100, spillLog.getPendingPoints());
+
+		// Database is back for the live write, but fails again during replay
+		sut.isDatabaseAvailable = true;
+		sut.write(createPoints(100, 110));
+		sut.isDatabaseAvailable = false;
+		sut.startReplay();
+		assertEquals(100, spillLog.getPendingPoints());
+		assertEquals(0, spillLog.getReplayedPoints());
+
+		// Points are neither lost nor duplicated in the SpillLog
+		sut.isDatabaseAvailable = true;
+		sut.write(createPoints(110, 120));
+		sut.startReplay();
+		assertEquals(0, spillLog.getPendingPoints());
+		assertEquals(100, spillLog.getReplayedPoints());
+		assertEquals(120, sut.written.size());
+		spillLog.close();
+	}
+
+	@Test
+	public void testDropPoisonBatch() throws IOException {
+		var spillLog = new SpillLog(this.folder.getRoot().toPath(), Type.INTEGER, 1024, 100);
+		var sut = new MyMergePointsWorker(spillLog);
+		sut.write(createPoints(0, 100));
+		assertEquals(100, spillLog.getPendingPoints());
+
+		// The batch with the poison Point is dropped; replay continues
+		sut.isDatabaseAvailable = true;
+		sut.poisonChannelId = 5;
+		sut.write(createPoints(100, 110));
+		sut.startReplay();
+		assertEquals(0, spillLog.getPendingPoints());
+		assertTrue(sut.getDroppedPoints() > 0);
+		assertEquals(100, sut.getDroppedPoints() + sut.written.size() - 10);
+
+		// Live writes with a poison Point are dropped, not spilled
+		sut.write(createPoints(0, 10));
+		assertEquals(0, spillLog.getPendingPoints());
+		spillLog.close();
+	}
+
+}
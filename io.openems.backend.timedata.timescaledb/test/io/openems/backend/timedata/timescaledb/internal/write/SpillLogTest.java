@@ -0,0 +1,102 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class SpillLogTest {
+
+	private static final ZonedDateTime TIME = ZonedDateTime.ofInstant(Instant.ofEpochMilli(1_700_000_000_000L),
+			ZoneOffset.UTC);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendAndPoll() throws IOException {
+		var directory = folder.getRoot().toPath();
+		var sut = new SpillLog(directory, Type.STRING, 1024, 10);
+		for (var i = 0; i < 100; i++) {
+			assertTrue(sut.append(new StringPoint(i, TIME.plusSeconds(i), "value" + i)));
+		}
+		assertEquals(100, sut.getPendingPoints());
+
+		var points = sut.poll(30);
+		assertEquals(30, points.size());
+		var point = (StringPoint) points.get(29);
+		assertEquals(29, point.channelId);
+		assertEquals(TIME.plusSeconds(29), point.timestamp);
+		assertEquals("value29", point.value);
+
+		// Restore from disk continues at the read position
+		sut.close();
+		sut = new SpillLog(directory, Type.STRING, 1024, 10);
+		assertEquals(70, sut.getPendingPoints());
+		point = (StringPoint) sut.poll(1).get(0);
+		assertEquals(30, point.channelId);
+
+		assertEquals(69, sut.poll(1000).size());
+		assertEquals(0, sut.getPendingPoints());
+		assertTrue(sut.poll(10).isEmpty());
+		sut.close();
+	}
+
+	@Test
+	public void testMaxDiskUsage() throws IOException {
+		// 8 bytes header; 24 bytes per record -> 42 records per segment
+		var sut = new SpillLog(folder.getRoot().toPath(), Type.INTEGER, 1024, 2);
+		for (var i = 0; i < 100; i++) {
+			sut.append(new IntPoint(i, TIME, i));
+		}
+		assertEquals(2 * 1024, sut.getDiskUsage());
+		assertTrue(sut.getDroppedPoints() > 0);
+		assertEquals(100, sut.getPendingPoints() + sut.getDroppedPoints());
+
+		// Oldest Points were dropped
+		var first = (IntPoint) sut.poll(1).get(0);
+		assertEquals(sut.getDroppedPoints(), first.value);
+		sut.close();
+	}
+
+	@Test
+	public void testPeekAndCommit() throws IOException {
+		var directory = folder.getRoot().toPath();
+		var sut = new SpillLog(directory, Type.INTEGER, 1024, 10);
+		for (var i = 0; i < 20; i++) {
+			sut.append(new IntPoint(i, TIME, i));
+		}
+
+		// Peek does not remove Points; not even after a restart
+		var batch = sut.peek(10);
+		assertEquals(10, batch.points.size());
+		assertEquals(10, sut.peek(10).points.size());
+		sut.close();
+		sut = new SpillLog(directory, Type.INTEGER, 1024, 10);
+		assertEquals(20, sut.getPendingPoints());
+
+		// Commit removes Points and persists the read position
+		batch = sut.peek(10);
+		sut.commit(batch);
+		assertEquals(10, sut.getPendingPoints());
+		assertEquals(10, sut.getReplayedPoints());
+		assertEquals(10, ((IntPoint) sut.peek(1).points.get(0)).value);
+		sut.close();
+		sut = new SpillLog(directory, Type.INTEGER, 1024, 10);
+		assertEquals(10, sut.getPendingPoints());
+		assertEquals(10, ((IntPoint) sut.peek(1).points.get(0)).value);
+		sut.close();
+	}
+
+}
@@ -4,6 +4,7 @@ import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.Compression;
 
 @ObjectClassDefinition(//
 		name = "Ui.Websocket", //
@@ -19,6 +20,12 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
+	@AttributeDefinition(name = "Compression", description = "Per-message compression offered to OpenEMS UIs.")
+	Compression compression() default Compression.OFF;
+
+	@AttributeDefinition(name = "Share Current-Data", description = "Serialize Current-Data once per Edge update and set of subscribed Channels and send it to all UI sessions with identical subscriptions")
+	boolean shareCurrentData() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Ui Websocket";
 
 }
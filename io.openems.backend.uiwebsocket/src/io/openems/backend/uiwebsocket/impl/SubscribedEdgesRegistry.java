@@ -0,0 +1,111 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the UI sessions that subscribed to an Edge-ID.
+ *
+ * <p>
+ * Allows forwarding data of one Edge to only the interested UI sessions,
+ * instead of iterating over all open connections.
+ */
+public class SubscribedEdgesRegistry {
+
+	private final ConcurrentHashMap<String, Set<WsData>> wsDatasByEdgeId = new ConcurrentHashMap<>();
+
+	private final LongAdder fanOutCount = new LongAdder();
+	private final LongAdder fanOutNanosSum = new LongAdder();
+	private final LongAccumulator fanOutNanosMax = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * Registers a UI session for an Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the {@link WsData} of the UI session
+	 */
+	public void subscribe(String edgeId, WsData wsData) {
+		this.wsDatasByEdgeId.compute(edgeId, (key, wsDatas) -> {
+			if (wsDatas == null) {
+				wsDatas = ConcurrentHashMap.newKeySet();
+			}
+			wsDatas.add(wsData);
+			return wsDatas;
+		});
+	}
+
+	/**
+	 * Unregisters a UI session for an Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the {@link WsData} of the UI session
+	 */
+	public void unsubscribe(String edgeId, WsData wsData) {
+		this.wsDatasByEdgeId.computeIfPresent(edgeId, (key, wsDatas) -> {
+			wsDatas.remove(wsData);
+			return wsDatas.isEmpty() ? null : wsDatas;
+		});
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed to an Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty Set if there are none
+	 */
+	public Set<WsData> getWsDatas(String edgeId) {
+		var wsDatas = this.wsDatasByEdgeId.get(edgeId);
+		if (wsDatas == null) {
+			return Collections.emptySet();
+		}
+		return wsDatas;
+	}
+
+	/**
+	 * Records the duration of forwarding data of one Edge to its subscribers.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void recordFanOut(long nanos) {
+		this.fanOutCount.increment();
+		this.fanOutNanosSum.add(nanos);
+		this.fanOutNanosMax.accumulate(nanos);
+	}
+
+	/**
+	 * Returns debug metrics of the subscriptions. Fan-Out timings are reset on
+	 * every call.
+	 *
+	 * @return the debug metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		var subscribedEdges = 0;
+		var sessionsSum = 0;
+		var sessionsMax = 0;
+		for (var wsDatas : this.wsDatasByEdgeId.values()) {
+			var sessions = wsDatas.size();
+			subscribedEdges++;
+			sessionsSum += sessions;
+			sessionsMax = Math.max(sessionsMax, sessions);
+		}
+
+		final var count = this.fanOutCount.sumThenReset();
+		final var nanosSum = this.fanOutNanosSum.sumThenReset();
+		final var nanosMax = this.fanOutNanosMax.getThenReset();
+
+		final var metrics = new HashMap<String, Number>();
+		metrics.put("SubscribedEdges", subscribedEdges);
+		metrics.put("SessionsPerEdgeAvg", subscribedEdges == 0 ? 0 : (double) sessionsSum / subscribedEdges);
+		metrics.put("SessionsPerEdgeMax", sessionsMax);
+		metrics.put("FanOutCount", count);
+		metrics.put("FanOutAvgMicros", count == 0 ? 0 : nanosSum / count / 1_000);
+		metrics.put("FanOutMaxMicros", nanosMax / 1_000);
+		return metrics;
+	}
+
+}
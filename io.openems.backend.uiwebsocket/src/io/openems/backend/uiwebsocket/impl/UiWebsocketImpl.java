@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -30,6 +31,7 @@ import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.backend.common.uiwebsocket.UiWebsocket;
+import io.openems.backend.uiwebsocket.impl.WsData.SharedCurrentData;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -92,7 +94,7 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), this.config.compression());
 			this.server.start();
 		}
 	}
@@ -143,9 +145,6 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		var wsDatas = this.getWsDatasForEdgeId(edgeId);
 		OpenemsNamedException exception = null;
 		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
-				continue;
-			}
 			try {
 				wsData.send(notification);
 			} catch (OpenemsNamedException e) {
@@ -179,20 +178,15 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Gets the WebSocket connection attachments of all connections that
+	 * subscribed to and have access to an Edge-ID.
 	 *
 	 * @param edgeId the Edge-ID
 	 * @return the WsDatas; empty list if there are none
 	 */
 	private List<WsData> getWsDatasForEdgeId(String edgeId) {
 		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
+		for (var wsData : this.server.subscribedEdges.getWsDatas(edgeId)) {
 			// get attachment User-ID
 			var userIdOpt = wsData.getUserId();
 			if (userIdOpt.isPresent()) {
@@ -226,13 +220,19 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
+		final var subscribedEdges = this.server.subscribedEdges;
+		final var start = System.nanoTime();
+		if (this.config.shareCurrentData()) {
+			final var sharedMessages = new HashMap<Set<String>, SharedCurrentData>();
+			for (var wsData : subscribedEdges.getWsDatas(edgeId)) {
+				wsData.sendSubscribedChannels(edgeId, edgeCache, sharedMessages);
+			}
+		} else {
+			for (var wsData : subscribedEdges.getWsDatas(edgeId)) {
 				wsData.sendSubscribedChannels(edgeId, edgeCache);
 			}
 		}
+		subscribedEdges.recordFanOut(System.nanoTime() - start);
 	}
 
 	/**
@@ -274,6 +274,9 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		this.server.debugMetrics().forEach((key, value) -> {
 			metrics.put(this.getId() + "/" + key, new JsonPrimitive(value));
 		});
+		this.server.subscribedEdges.debugMetrics().forEach((key, value) -> {
+			metrics.put(this.getId() + "/" + key, new JsonPrimitive(value));
+		});
 
 		return metrics;
 	}
@@ -47,6 +47,16 @@ public class WsData extends io.openems.common.websocket.WsData {
 			}
 		}
 
+		/**
+		 * Gets the subscribed Channels.
+		 * 
+		 * @param edgeId the Edge-ID
+		 * @return the Channel-Addresses; null if there are none
+		 */
+		public SortedSet<String> getChannels(String edgeId) {
+			return this.subscribedChannels.get(edgeId);
+		}
+
 		/**
 		 * Gets the values for subscribed Channels.
 		 * 
@@ -61,14 +71,26 @@ public class WsData extends io.openems.common.websocket.WsData {
 			}
 
 			var result = edgeCache.getChannelValues(subscribedChannels);
-			if (!result.b().isEmpty()) {
-				if (!result.b().equals(this.currentDataMissingChannelValues)) {
-					LOG.info("[" + edgeId + "] Channels missing in Current-Data: [" + String.join(", ", result.b())
+			this.handleMissingChannelValues(edgeId, result.b());
+			return result.a();
+		}
+
+		/**
+		 * Logs Channels that are missing in Current-Data, if they changed since the
+		 * last call.
+		 * 
+		 * @param edgeId          the Edge-ID
+		 * @param missingChannels the Channel-Addresses that are only available as
+		 *                        aggregated data
+		 */
+		public void handleMissingChannelValues(String edgeId, Set<String> missingChannels) {
+			if (!missingChannels.isEmpty()) {
+				if (!missingChannels.equals(this.currentDataMissingChannelValues)) {
+					LOG.info("[" + edgeId + "] Channels missing in Current-Data: [" + String.join(", ", missingChannels)
 							+ "]");
 				}
-				this.currentDataMissingChannelValues = result.b();
+				this.currentDataMissingChannelValues = missingChannels;
 			}
-			return result.a();
 		}
 
 		protected void dispose() {
@@ -85,12 +107,18 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = new HashSet<>();
 
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
 	}
 
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
+	}
+
 	/**
 	 * Logout and invalidate Session.
 	 */
@@ -98,6 +126,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.unsetToken();
 		this.unsetUserId();
 		this.subscribedChannels.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -195,9 +224,21 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
+		final var previousEdgeIds = this.subscribedEdges;
 		this.subscribedEdges = edgeIds;
+
+		// Keep registry of subscribed Edges in sync
+		final var registry = this.parent.subscribedEdges;
+		for (var edgeId : previousEdgeIds) {
+			if (!edgeIds.contains(edgeId)) {
+				registry.unsubscribe(edgeId, this);
+			}
+		}
+		for (var edgeId : edgeIds) {
+			registry.subscribe(edgeId, this);
+		}
 	}
 
 	/**
@@ -226,6 +267,61 @@ public class WsData extends io.openems.common.websocket.WsData {
 		}
 	}
 
+	/**
+	 * Sends the subscribed Channels to the UI session, sharing the serialized
+	 * {@link CurrentDataNotification} with all other UI sessions that subscribed
+	 * the same Channels of the Edge.
+	 * 
+	 * @param edgeId         the Edge-ID
+	 * @param edgeCache      the {@link EdgeCache} for the Edge-ID
+	 * @param sharedMessages the serialized messages of this Edge update per set of
+	 *                       subscribed Channels
+	 */
+	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache,
+			Map<Set<String>, SharedCurrentData> sharedMessages) {
+		if (!this.isEdgeSubscribed(edgeId)) {
+			return;
+		}
+		var channels = this.subscribedChannels.getChannels(edgeId);
+		if (channels == null || channels.isEmpty()) {
+			return;
+		}
+		var sharedCurrentData = sharedMessages.computeIfAbsent(channels, c -> {
+			var result = edgeCache.getChannelValues(c);
+			if (result.a().isEmpty()) {
+				return new SharedCurrentData(null, result.b());
+			}
+			return new SharedCurrentData(//
+					new EdgeRpcNotification(edgeId, //
+							new CurrentDataNotification(result.a())).toString(), //
+					result.b());
+		});
+		this.subscribedChannels.handleMissingChannelValues(edgeId, sharedCurrentData.missingChannels());
+		if (sharedCurrentData.message() == null) {
+			return;
+		}
+		try {
+			this.sendMessage(sharedCurrentData.message());
+
+		} catch (OpenemsException e) {
+			// Log & stop subscribes
+			this.parent.logWarn(this.log, "Unable to send CurrentDataNotification: " + e.getMessage());
+			this.subscribedChannels.dispose();
+		}
+	}
+
+	/**
+	 * A serialized {@link CurrentDataNotification} that is shared among UI
+	 * sessions with identical Channel subscriptions.
+	 * 
+	 * @param message         the serialized {@link EdgeRpcNotification}; null if
+	 *                        there are no values
+	 * @param missingChannels the Channel-Addresses that are only available as
+	 *                        aggregated data
+	 */
+	public static record SharedCurrentData(String message, Set<String> missingChannels) {
+	}
+
 	/**
 	 * Is the given Edge subscribed by this UI session?.
 	 * 
@@ -0,0 +1,48 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.Compression;
+
+public class SubscribedEdgesRegistryTest {
+
+	private static final String EDGE0 = "edge0";
+	private static final String EDGE1 = "edge1";
+
+	@Test
+	public void test() {
+		var server = new WebsocketServer(null, "UiWebsocketTest", 0, 1, DebugMode.OFF, Compression.OFF);
+		var registry = server.subscribedEdges;
+		var wsData1 = new WsData(server);
+		var wsData2 = new WsData(server);
+
+		wsData1.handleSubscribeEdgesRequest(Set.of(EDGE0, EDGE1));
+		wsData2.handleSubscribeEdgesRequest(Set.of(EDGE0));
+		assertEquals(Set.of(wsData1, wsData2), registry.getWsDatas(EDGE0));
+		assertEquals(Set.of(wsData1), registry.getWsDatas(EDGE1));
+
+		// Replacing the subscription removes the session from the other Edge
+		wsData1.handleSubscribeEdgesRequest(Set.of(EDGE1));
+		assertEquals(Set.of(wsData2), registry.getWsDatas(EDGE0));
+		assertEquals(Set.of(wsData1), registry.getWsDatas(EDGE1));
+
+		// Logout drops all subscriptions of the session
+		wsData1.logout();
+		assertFalse(wsData1.isEdgeSubscribed(EDGE1));
+		assertTrue(registry.getWsDatas(EDGE1).isEmpty());
+		assertEquals(Set.of(wsData2), registry.getWsDatas(EDGE0));
+
+		// Closing the connection drops all subscriptions of the session
+		wsData2.dispose();
+		assertTrue(registry.getWsDatas(EDGE0).isEmpty());
+		assertEquals(0, registry.debugMetrics().get("SubscribedEdges"));
+	}
+
+}
@@ -0,0 +1,103 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.edgewebsocket.EdgeCache;
+import io.openems.backend.uiwebsocket.impl.WsData.SharedCurrentData;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.Compression;
+
+public class WsDataTest {
+
+	private static final String EDGE_ID = "edge0";
+	private static final String ESS_SOC = "_sum/EssSoc";
+	private static final String GRID_ACTIVE_POWER = "_sum/GridActivePower";
+
+	private static class MyWsData extends WsData {
+
+		private final List<String> messages = new ArrayList<>();
+
+		public MyWsData(WebsocketServer parent) {
+			super(parent);
+		}
+
+		@Override
+		protected void sendMessage(String message) {
+			this.messages.add(message);
+		}
+	}
+
+	private static MyWsData createWsData(WebsocketServer server, String... channels) throws OpenemsNamedException {
+		var result = new MyWsData(server);
+		result.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		var array = JsonUtils.buildJsonArray();
+		for (var channel : channels) {
+			array.add(channel);
+		}
+		result.handleSubscribeChannelsRequest(EDGE_ID, SubscribeChannelsRequest.from(//
+				new GenericJsonrpcRequest(SubscribeChannelsRequest.METHOD, JsonUtils.buildJsonObject() //
+						.addProperty("count", 0) //
+						.add("channels", array.build()) //
+						.build())));
+		return result;
+	}
+
+	private static EdgeCache createEdgeCache() {
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(0L, ESS_SOC, new JsonPrimitive(50));
+		table.put(0L, GRID_ACTIVE_POWER, new JsonPrimitive(1000));
+		var result = new EdgeCache();
+		result.updateCurrentData(new TimestampedDataNotification(table));
+		return result;
+	}
+
+	@Test
+	public void testSharedCurrentData() throws OpenemsNamedException {
+		var server = new WebsocketServer(null, "UiWebsocketTest", 0, 1, DebugMode.OFF, Compression.OFF);
+		var edgeCache = createEdgeCache();
+		var soc1 = createWsData(server, ESS_SOC);
+		var soc2 = createWsData(server, ESS_SOC);
+		var socAndGrid = createWsData(server, ESS_SOC, GRID_ACTIVE_POWER);
+		var noChannels = createWsData(server);
+		var otherEdge = createWsData(server, ESS_SOC);
+		otherEdge.handleSubscribeEdgesRequest(Set.of("edge1"));
+
+		var sharedMessages = new HashMap<Set<String>, SharedCurrentData>();
+		for (var wsData : List.of(soc1, soc2, socAndGrid, noChannels, otherEdge)) {
+			wsData.sendSubscribedChannels(EDGE_ID, edgeCache, sharedMessages);
+		}
+
+		// One message per distinct set of Channels, serialized once
+		assertEquals(2, sharedMessages.size());
+		assertEquals(1, soc1.messages.size());
+		assertSame(soc1.messages.get(0), soc2.messages.get(0));
+		assertNotEquals(soc1.messages.get(0), socAndGrid.messages.get(0));
+		assertTrue(socAndGrid.messages.get(0).contains(GRID_ACTIVE_POWER));
+		assertTrue(noChannels.messages.isEmpty());
+		assertTrue(otherEdge.messages.isEmpty());
+
+		// Same message as without sharing
+		soc1.sendSubscribedChannels(EDGE_ID, edgeCache);
+		assertEquals(soc1.messages.get(0), soc1.messages.get(1));
+	}
+
+}
@@ -2,6 +2,7 @@ package io.openems.common.jsonrpc.response;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -22,6 +23,8 @@ import com.google.gson.JsonElement;
 
 import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingBiFunction;
 import io.openems.common.session.Language;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.JsonUtils;
@@ -73,6 +76,12 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 			Channel.ESS_SOC //
 	).collect(Collectors.toCollection(HashSet::new));
 
+	/**
+	 * Number of days of power data that are queried and written at once by
+	 * {@link #writeTo}.
+	 */
+	public static final int STREAM_CHUNK_DAYS = 7;
+
 	/**
 	 * All Energy Channels, i.e. exported with one value per channel.
 	 */
@@ -109,11 +118,78 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 		super(id, XlsxUtils.generatePayload(edgeId, fromDate, toDate, historicData, historicEnergy, language));
 	}
 
+	/**
+	 * Writes the Excel file directly to an {@link OutputStream}.
+	 *
+	 * <p>
+	 * Contrary to the constructor, the power data is queried and written in
+	 * chunks of {@link #STREAM_CHUNK_DAYS} days; written rows are flushed after
+	 * each chunk. Memory usage is therefore bounded by the size of one chunk,
+	 * regardless of the length of the exported range.
+	 *
+	 * @param os             the {@link OutputStream}
+	 * @param edgeId         the Edge-ID
+	 * @param fromDate       the start date of the export
+	 * @param toDate         the end date of the export
+	 * @param historicEnergy the energy data, one value per channel
+	 * @param historicData   queries the power data per channel and timestamp for
+	 *                       a chunk, given its start and end date
+	 * @param language       the {@link Language}
+	 * @throws IOException           on error
+	 * @throws OpenemsNamedException on error
+	 */
+	public static void writeTo(OutputStream os, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			SortedMap<ChannelAddress, JsonElement> historicEnergy,
+			ThrowingBiFunction<ZonedDateTime, ZonedDateTime, //
+					SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, //
+					OpenemsNamedException> historicData, //
+			Language language) throws IOException, OpenemsNamedException {
+		var wb = new Workbook(os, OpenemsConstants.MANUFACTURER_MODEL, null);
+		var ws = wb.newWorksheet("Export");
+
+		var translationBundle = ResourceBundle.getBundle("io.openems.common.jsonrpc.response.translation",
+				language.getLocal());
+
+		XlsxUtils.addBasicInfo(ws, edgeId, fromDate, toDate, translationBundle);
+		XlsxUtils.addEnergyData(ws, historicEnergy, translationBundle);
+		XlsxUtils.addPowerDataHeader(ws, translationBundle);
+		// Show date cells instead of "#####"
+		ws.width(0, 20);
+		ws.flush();
+
+		var rowCount = XlsxUtils.POWER_DATA_FIRST_ROW;
+		for (var chunkFrom = fromDate; chunkFrom.isBefore(toDate); chunkFrom = chunkFrom
+				.plusDays(STREAM_CHUNK_DAYS)) {
+			var chunkTo = chunkFrom.plusDays(STREAM_CHUNK_DAYS);
+			final boolean isLastChunk;
+			if (!chunkTo.isBefore(toDate)) {
+				chunkTo = toDate;
+				isLastChunk = true;
+			} else {
+				isLastChunk = false;
+			}
+			var data = historicData.apply(chunkFrom, chunkTo);
+			if (data == null) {
+				throw new OpenemsException("Unable to query historic data from [" + chunkFrom + "] to [" + chunkTo
+						+ "]. Result is null");
+			}
+			// Avoid duplicated rows at chunk borders
+			rowCount = XlsxUtils.addPowerDataRows(ws, rowCount,
+					isLastChunk ? data.tailMap(chunkFrom) : data.subMap(chunkFrom, chunkTo), true);
+			ws.flush();
+		}
+
+		wb.finish();
+	}
+
 	protected static class XlsxUtils {
 
+		private static final int POWER_DATA_FIRST_ROW = 8;
+
 		private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
 		private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter
 				.ofPattern("dd.MM.yyyy HH:mm:ss Z");
+		private static final String DATE_TIME_CELL_FORMAT = "dd.mm.yyyy hh:mm:ss";
 
 		/**
 		 * Generates the Payload for a
@@ -133,11 +209,8 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 				SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> powerData,
 				SortedMap<ChannelAddress, JsonElement> energyData, Language language)
 				throws IOException, OpenemsNamedException {
-			byte[] payload = {};
-			try (//
-					var os = new ByteArrayOutputStream();
-					var wb = new Workbook(os, OpenemsConstants.MANUFACTURER_MODEL, null) //
-			) {
+			var os = new ByteArrayOutputStream();
+			try (var wb = new Workbook(os, OpenemsConstants.MANUFACTURER_MODEL, null)) {
 				var ws = wb.newWorksheet("Export");
 
 				Locale currentLocale = language.getLocal();
@@ -150,12 +223,8 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 				XlsxUtils.addPowerData(ws, powerData, translationBundle);
 
 				wb.finish();
-				os.flush();
-				payload = os.toByteArray();
-
-				os.close();
 			}
-			return payload;
+			return os.toByteArray();
 		}
 
 		/**
@@ -236,7 +305,17 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 		protected static void addPowerData(Worksheet ws,
 				SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> data, ResourceBundle translationBundle)
 				throws OpenemsNamedException {
-			// Adding the headers
+			XlsxUtils.addPowerDataHeader(ws, translationBundle);
+			XlsxUtils.addPowerDataRows(ws, POWER_DATA_FIRST_ROW, data, false);
+		}
+
+		/**
+		 * Adds the power data header.
+		 *
+		 * @param ws                the {@link Worksheet}
+		 * @param translationBundle the {@link ResourceBundle} for translations
+		 */
+		protected static void addPowerDataHeader(Worksheet ws, ResourceBundle translationBundle) {
 			XlsxUtils.addStringValueBold(ws, 7, 0, translationBundle.getString("date/time"));
 			XlsxUtils.addStringValueBold(ws, 7, 1, translationBundle.getString("gridBuy") + " [W]");
 			XlsxUtils.addStringValueBold(ws, 7, 2, translationBundle.getString("gridFeedIn") + " [W]");
@@ -245,14 +324,35 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 			XlsxUtils.addStringValueBold(ws, 7, 5, translationBundle.getString("storageDischarging") + " [W]");
 			XlsxUtils.addStringValueBold(ws, 7, 6, translationBundle.getString("consumption") + " [W]");
 			XlsxUtils.addStringValueBold(ws, 7, 7, translationBundle.getString("stateOfCharge") + " [%]");
+		}
 
-			var rowCount = 8;
-
+		/**
+		 * Adds power data values.
+		 *
+		 * <p>
+		 * Streamed exports write the date/time as date cell in local time, because
+		 * every distinct String is kept in memory until the workbook is finished.
+		 * Otherwise the date/time is written as String including the UTC offset.
+		 *
+		 * @param ws          the {@link Worksheet}
+		 * @param rowCount    the first row to write
+		 * @param data        the power data map
+		 * @param asDateCells write the date/time as date cell instead of String
+		 * @return the next free row
+		 * @throws OpenemsNamedException on error
+		 */
+		protected static int addPowerDataRows(Worksheet ws, int rowCount,
+				SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> data, boolean asDateCells)
+				throws OpenemsNamedException {
 			for (Entry<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> row : data.entrySet()) {
 				var values = row.getValue();
 
 				// Adding Date/time data column
-				XlsxUtils.addStringValue(ws, rowCount, 0, row.getKey().format(XlsxUtils.DATE_TIME_FORMATTER));
+				if (asDateCells) {
+					XlsxUtils.addDateTimeValue(ws, rowCount, 0, row.getKey());
+				} else {
+					XlsxUtils.addStringValue(ws, rowCount, 0, row.getKey().format(XlsxUtils.DATE_TIME_FORMATTER));
+				}
 
 				if (XlsxUtils.isNotNull(values.get(Channel.GRID_ACTIVE_POWER))) {
 					var gridActivePower = JsonUtils.getAsFloat(values.get(Channel.GRID_ACTIVE_POWER));
@@ -298,6 +398,7 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 				}
 				rowCount++;
 			}
+			return rowCount;
 		}
 
 		/**
@@ -373,6 +474,21 @@ public class QueryHistoricTimeseriesExportXlsxResponse extends Base64PayloadResp
 			ws.value(row, col, value);
 		}
 
+		/**
+		 * Helper method to add a date-time to the excel sheet. The value is written
+		 * as number with a date-time format, i.e. it does not add an entry to the
+		 * shared strings table of the workbook.
+		 *
+		 * @param ws    the {@link Worksheet}
+		 * @param row   row number
+		 * @param col   column number
+		 * @param value the date-time in its local time
+		 */
+		protected static void addDateTimeValue(Worksheet ws, int row, int col, ZonedDateTime value) {
+			ws.value(row, col, value);
+			ws.style(row, col).format(DATE_TIME_CELL_FORMAT).set();
+		}
+
 		/**
 		 * Helper method to add the value to the excel sheet. The float value is
 		 * mathematically rounded.
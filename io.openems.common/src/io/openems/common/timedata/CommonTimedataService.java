@@ -1,6 +1,7 @@
 package io.openems.common.timedata;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Period;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -50,6 +51,41 @@ public interface CommonTimedataService {
 		}
 	}
 
+	/**
+	 * Handles a {@link QueryHistoricTimeseriesExportXlxsRequest} by streaming the
+	 * Excel file to an {@link OutputStream}.
+	 *
+	 * <p>
+	 * Historic data is queried in chunks, so memory usage is independent of the
+	 * length of the exported range. See
+	 * {@link QueryHistoricTimeseriesExportXlsxResponse#writeTo}.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param request  the {@link QueryHistoricTimeseriesExportXlxsRequest} request
+	 * @param language the {@link Language}
+	 * @param os       the {@link OutputStream}
+	 * @throws OpenemsNamedException on error
+	 */
+	public default void exportXlsx(String edgeId, QueryHistoricTimeseriesExportXlxsRequest request,
+			Language language, OutputStream os) throws OpenemsNamedException {
+		var energyData = this.queryHistoricEnergy(edgeId, request.getFromDate(), request.getToDate(),
+				QueryHistoricTimeseriesExportXlsxResponse.ENERGY_CHANNELS);
+		if (energyData == null) {
+			throw new OpenemsException("Unable to query historic energy. Result is null");
+		}
+
+		try {
+			QueryHistoricTimeseriesExportXlsxResponse.writeTo(os, edgeId, request.getFromDate(),
+					request.getToDate(), energyData, //
+					(fromDate, toDate) -> this.queryHistoricData(edgeId, fromDate, toDate,
+							QueryHistoricTimeseriesExportXlsxResponse.POWER_CHANNELS,
+							new Resolution(15, ChronoUnit.MINUTES)), //
+					language);
+		} catch (IOException e) {
+			throw new OpenemsException("QueryHistoricTimeseriesExportXlxsRequest failed: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Calculates the time {@link Resolution} for the period.
 	 *
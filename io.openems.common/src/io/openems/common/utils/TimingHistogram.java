@@ -0,0 +1,166 @@
+package io.openems.common.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A histogram of durations in [us] with logarithmic buckets.
+ *
+ * <p>
+ * Values below 16 us are counted exactly; above that every power of two is
+ * split into eight linear sub-buckets, i.e. values are recorded with a
+ * precision of at least 12.5 %. Recording does not allocate and is
+ * thread-safe.
+ */
+public class TimingHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+	private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param micros the duration in [us]
+	 */
+	public void record(long micros) {
+		final var value = Math.min(Math.max(micros, 0), MAX_VALUE);
+		this.counts.incrementAndGet(getIndex(value));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(value);
+		this.max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Gets the number of recorded values.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * Gets the highest recorded value.
+	 *
+	 * @return the maximum in [us]
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * Gets the mean of the recorded values.
+	 *
+	 * @return the mean in [us]; 0 if nothing was recorded
+	 */
+	public long getMean() {
+		final var count = this.count.get();
+		if (count == 0) {
+			return 0;
+		}
+		return this.sum.get() / count;
+	}
+
+	/**
+	 * Gets the value at the given percentile, i.e. the upper bound of the bucket
+	 * that contains it.
+	 *
+	 * @param percentile the percentile, e.g. 99.
+	 * @return the value in [us]; 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		final var count = this.count.get();
+		if (count == 0) {
+			return 0;
+		}
+		final var target = Math.max(1, (long) Math.ceil(percentile / 100. * count));
+		var cumulated = 0L;
+		for (var i = 0; i < BUCKETS; i++) {
+			cumulated += this.counts.get(i);
+			if (cumulated >= target) {
+				return Math.min(getUpperBound(i), this.max.get());
+			}
+		}
+		return this.max.get();
+	}
+
+	/**
+	 * Resets all recorded values.
+	 */
+	public void reset() {
+		for (var i = 0; i < BUCKETS; i++) {
+			this.counts.set(i, 0);
+		}
+		this.count.set(0);
+		this.sum.set(0);
+		this.max.set(0);
+	}
+
+	/**
+	 * Halves all recorded counts, so that older values lose weight against newly
+	 * recorded ones. Called periodically this turns the histogram into an
+	 * exponentially decaying one. Values that are recorded concurrently might be
+	 * halved or not.
+	 */
+	public void decay() {
+		var count = 0L;
+		var max = 0L;
+		for (var i = 0; i < BUCKETS; i++) {
+			var bucket = this.counts.updateAndGet(i, c -> c >> 1);
+			if (bucket > 0) {
+				count += bucket;
+				max = getUpperBound(i);
+			}
+		}
+		this.count.set(count);
+		this.sum.updateAndGet(s -> s >> 1);
+		final var upperBound = max;
+		this.max.updateAndGet(m -> Math.min(m, upperBound));
+	}
+
+	/**
+	 * Gets a summary of the histogram as {@link JsonObject}.
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("count", this.getCount()) //
+				.addProperty("mean", this.getMean()) //
+				.addProperty("p50", this.getValueAtPercentile(50)) //
+				.addProperty("p90", this.getValueAtPercentile(90)) //
+				.addProperty("p99", this.getValueAtPercentile(99)) //
+				.addProperty("max", this.getMax()) //
+				.build();
+	}
+
+	protected static int getIndex(long value) {
+		if (value < SUB_BUCKETS * 2) {
+			return (int) value;
+		}
+		final var exponent = 63 - Long.numberOfLeadingZeros(value);
+		final var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+	}
+
+	protected static long getUpperBound(int index) {
+		if (index < SUB_BUCKETS * 2) {
+			return index;
+		}
+		final var exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+		final var subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+		final var shift = exponent - SUB_BUCKET_BITS;
+		return ((long) (SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+	}
+
+}
@@ -2,6 +2,7 @@ package io.openems.common.websocket;
 
 import java.net.Proxy;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -233,6 +234,27 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		}
 	}
 
+	/**
+	 * Sends a binary message. Returns true if sending was successful, otherwise
+	 * false. Also logs a warning in that case.
+	 *
+	 * @param message the binary message
+	 * @return true if sending was successful
+	 */
+	public boolean sendMessage(ByteBuffer message) {
+		try {
+			this.ws.send(message);
+			return true;
+
+		} catch (Exception e) {
+			if (e instanceof WebsocketNotConnectedException) {
+				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
+			}
+			this.logWarn(this.log, "Unable to send binary message. " + e.getClass().getSimpleName());
+			return false;
+		}
+	}
+
 	/**
 	 * Sends a JSON-RPC Request and returns a future Response.
 	 *
@@ -2,8 +2,8 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,8 +14,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +77,21 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 *                      tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode) {
+		this(name, port, poolSize, debugMode, Compression.OFF);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name        to identify this server
+	 * @param port        to listen on
+	 * @param poolSize    number of threads dedicated to handle the tasks
+	 * @param debugMode   activate a regular debug log about the state of the
+	 *                    tasks
+	 * @param compression the {@link Compression} offered to clients
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode,
+			Compression compression) {
 		super(name);
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
@@ -81,7 +99,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
 				/* AVAILABLE_PROCESSORS */ Runtime.getRuntime().availableProcessors(), //
-				/* drafts, no filter */ Collections.emptyList(), //
+				/* drafts; no filter if empty */ compression.createServerDrafts(), //
 				this.connections) {
 
 			@Override
@@ -103,6 +121,14 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				}
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.addHandshakeResponseHeaders(request, response);
+				return response;
+			}
+
 			@Override
 			public void onMessage(WebSocket ws, String stringMessage) {
 				try {
@@ -124,26 +150,52 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						return;
 					}
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+					this.handleMessage(ws, message);
 
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
 
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer bytes) {
+				try {
+					JsonrpcMessage message;
+					try {
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, bytes);
+						if (message == null) {
+							// silently ignore 'null'
+							return;
+						}
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
 					}
 
+					this.handleMessage(ws, message);
+
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			private void handleMessage(WebSocket ws, JsonrpcMessage message) {
+				if (message instanceof JsonrpcRequest) {
+					AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
+							(JsonrpcRequest) message, response -> {
+								AbstractWebsocketServer.this.sendMessage(ws, response);
+							}));
+
+				} else if (message instanceof JsonrpcResponse) {
+					AbstractWebsocketServer.this.execute(
+							new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+
+				} else if (message instanceof JsonrpcNotification) {
+					AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
+							(JsonrpcNotification) message));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -386,4 +438,27 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages.
+	 * 
+	 * @param ws    the {@link WebSocket}
+	 * @param bytes the binary message
+	 * @return message converted to {@link JsonrpcMessage}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer bytes) throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
+	/**
+	 * Adds HTTP-Headers to the response of the websocket handshake, e.g. to
+	 * negotiate optional features with the client.
+	 * 
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void addHandshakeResponseHeaders(ClientHandshake request, ServerHandshakeBuilder response) {
+		// no additional headers by default
+	}
+
 }
@@ -0,0 +1,336 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compact binary encoding of {@link TimestampedDataNotification}s for the
+ * websocket connection between OpenEMS Edge and OpenEMS Backend.
+ *
+ * <p>
+ * Channel-Addresses are replaced by integer IDs of a per-session dictionary;
+ * new dictionary entries are transmitted within the frame that uses them
+ * first. IDs within a timestamp are sorted and delta-encoded, all integers are
+ * written as (zig-zag) varints.
+ *
+ * <pre>
+ * [byte version]
+ * [varint new dictionary entries] ([varint id] [varint length] [UTF-8 address])*
+ * [varint timestamps] ([varlong timestamp] [varint values] ([varint id delta] [byte tag] [value])*)*
+ * </pre>
+ *
+ * <p>
+ * The encoding has to be negotiated via the {@link #HTTP_HEADER} in the
+ * websocket handshake; peers that do not answer the header keep using JSON.
+ */
+public class BinaryDataEncoding {
+
+	/**
+	 * HTTP-Header used to negotiate the encoding in the websocket handshake.
+	 */
+	public static final String HTTP_HEADER = "openems-data-encoding";
+
+	/**
+	 * Value of the {@link #HTTP_HEADER} for this version of the encoding.
+	 */
+	public static final String VERSION_1 = "binary-v1";
+
+	private static final byte VERSION = 1;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_LONG = 1;
+	private static final byte TAG_DOUBLE = 2;
+	private static final byte TAG_FLOAT = 3;
+	private static final byte TAG_TRUE = 4;
+	private static final byte TAG_FALSE = 5;
+	private static final byte TAG_STRING = 6;
+	private static final byte TAG_NUMBER = 7;
+	private static final byte TAG_JSON = 8;
+
+	private BinaryDataEncoding() {
+	}
+
+	/**
+	 * Encodes {@link TimestampedDataNotification}s; holds the dictionary of the
+	 * sending side of one websocket session.
+	 */
+	public static class Encoder {
+
+		private final Map<String, Integer> ids = new HashMap<>();
+
+		/**
+		 * Resets the dictionary, e.g. after a failed send. All Channel-Addresses
+		 * will be transmitted again.
+		 */
+		public synchronized void reset() {
+			this.ids.clear();
+		}
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification}.
+		 *
+		 * @param notification the {@link TimestampedDataNotification}
+		 * @return the binary frame payload
+		 */
+		public synchronized ByteBuffer encode(TimestampedDataNotification notification) {
+			final var rows = notification.getData().rowMap();
+
+			// Assign IDs to new Channel-Addresses
+			final var dictionary = new ByteArrayOutputStream();
+			var newEntries = 0;
+			for (var row : rows.values()) {
+				for (var address : row.keySet()) {
+					if (this.ids.containsKey(address)) {
+						continue;
+					}
+					final var id = this.ids.size();
+					this.ids.put(address, id);
+					writeVarInt(dictionary, id);
+					writeString(dictionary, address);
+					newEntries++;
+				}
+			}
+
+			final var out = new ByteArrayOutputStream(dictionary.size() + 16 + rows.size() * 256);
+			out.write(VERSION);
+			writeVarInt(out, newEntries);
+			final var dictionaryBytes = dictionary.toByteArray();
+			out.write(dictionaryBytes, 0, dictionaryBytes.length);
+
+			writeVarInt(out, rows.size());
+			for (var row : rows.entrySet()) {
+				writeVarLong(out, row.getKey());
+				final var values = row.getValue();
+
+				// Sort by ID to allow delta encoding
+				final var keys = new long[values.size()];
+				final var elements = new JsonElement[values.size()];
+				var i = 0;
+				for (var entry : values.entrySet()) {
+					keys[i] = ((long) this.ids.get(entry.getKey()) << 32) | i;
+					elements[i] = entry.getValue();
+					i++;
+				}
+				Arrays.sort(keys);
+
+				writeVarInt(out, keys.length);
+				var lastId = 0;
+				for (var key : keys) {
+					final var id = (int) (key >>> 32);
+					writeVarInt(out, id - lastId);
+					writeValue(out, elements[(int) key]);
+					lastId = id;
+				}
+			}
+			return ByteBuffer.wrap(out.toByteArray());
+		}
+	}
+
+	/**
+	 * Decodes {@link TimestampedDataNotification}s; holds the dictionary of the
+	 * receiving side of one websocket session.
+	 */
+	public static class Decoder {
+
+		private final ArrayList<String> addresses = new ArrayList<>();
+
+		/**
+		 * Decodes a binary frame payload.
+		 *
+		 * @param buffer the binary frame payload
+		 * @return the {@link TimestampedDataNotification}
+		 * @throws OpenemsException on error
+		 */
+		public synchronized TimestampedDataNotification decode(ByteBuffer buffer) throws OpenemsException {
+			try {
+				final var version = buffer.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary data encoding version [" + version + "]");
+				}
+
+				// Apply new dictionary entries
+				final var newEntries = readVarInt(buffer);
+				for (var i = 0; i < newEntries; i++) {
+					final var id = readVarInt(buffer);
+					final var address = readString(buffer);
+					// IDs are assigned in order; 'size' is the next new ID
+					if (id < 0 || id > this.addresses.size()) {
+						throw new OpenemsException("Invalid Channel-ID [" + id + "] in binary data dictionary");
+					}
+					if (id == this.addresses.size()) {
+						this.addresses.add(address);
+					} else {
+						this.addresses.set(id, address);
+					}
+				}
+
+				final var data = TreeBasedTable.<Long, String, JsonElement>create();
+				final var rows = readVarInt(buffer);
+				for (var r = 0; r < rows; r++) {
+					final var timestamp = readVarLong(buffer);
+					final var values = readVarInt(buffer);
+					var id = 0;
+					for (var v = 0; v < values; v++) {
+						id += readVarInt(buffer);
+						final var value = readValue(buffer);
+						if (id < 0 || id >= this.addresses.size()) {
+							throw new OpenemsException("Unknown Channel-ID [" + id + "] in binary data");
+						}
+						data.put(timestamp, this.addresses.get(id), value);
+					}
+				}
+				return new TimestampedDataNotification(data);
+
+			} catch (BufferUnderflowException | IllegalArgumentException | JsonParseException e) {
+				throw new OpenemsException("Unable to decode binary data: " + e.getMessage());
+			}
+		}
+	}
+
+	private static void writeValue(ByteArrayOutputStream out, JsonElement element) {
+		if (element == null || element.isJsonNull()) {
+			out.write(TAG_NULL);
+
+		} else if (element.isJsonPrimitive()) {
+			final var primitive = element.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				out.write(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+
+			} else if (primitive.isNumber()) {
+				final var number = primitive.getAsNumber();
+				if (number instanceof Integer || number instanceof Long || number instanceof Short
+						|| number instanceof Byte) {
+					out.write(TAG_LONG);
+					writeVarLong(out, number.longValue());
+				} else if (number instanceof Double) {
+					out.write(TAG_DOUBLE);
+					writeLong(out, Double.doubleToRawLongBits(number.doubleValue()));
+				} else if (number instanceof Float) {
+					out.write(TAG_FLOAT);
+					writeVarInt(out, Float.floatToRawIntBits(number.floatValue()));
+				} else {
+					// e.g. LazilyParsedNumber or BigDecimal: keep textual representation
+					out.write(TAG_NUMBER);
+					writeString(out, number.toString());
+				}
+
+			} else {
+				out.write(TAG_STRING);
+				writeString(out, primitive.getAsString());
+			}
+
+		} else {
+			out.write(TAG_JSON);
+			writeString(out, element.toString());
+		}
+	}
+
+	private static JsonElement readValue(ByteBuffer buffer) throws OpenemsException {
+		final var tag = buffer.get();
+		return switch (tag) {
+		case TAG_NULL -> JsonNull.INSTANCE;
+		case TAG_LONG -> new JsonPrimitive(readVarLong(buffer));
+		case TAG_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(buffer.getLong()));
+		case TAG_FLOAT -> new JsonPrimitive(Float.intBitsToFloat(readVarInt(buffer)));
+		case TAG_TRUE -> new JsonPrimitive(true);
+		case TAG_FALSE -> new JsonPrimitive(false);
+		case TAG_STRING -> new JsonPrimitive(readString(buffer));
+		case TAG_NUMBER -> new JsonPrimitive(new LazilyParsedNumber(readString(buffer)));
+		case TAG_JSON -> JsonParser.parseString(readString(buffer));
+		default -> throw new OpenemsException("Unknown value tag [" + tag + "] in binary data");
+		};
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		final var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		final var length = readVarInt(buffer);
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid String length [" + length + "]");
+		}
+		final var bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, long value) {
+		for (var shift = 56; shift >= 0; shift -= 8) {
+			out.write((int) (value >>> shift));
+		}
+	}
+
+	/**
+	 * Writes an unsigned varint; negative values use the full five bytes.
+	 *
+	 * @param out   the {@link ByteArrayOutputStream}
+	 * @param value the value
+	 */
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(ByteBuffer buffer) {
+		var result = 0;
+		for (var shift = 0; shift < 35; shift += 7) {
+			final var b = buffer.get();
+			result |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	/**
+	 * Writes a zig-zag encoded varlong.
+	 *
+	 * @param out   the {@link ByteArrayOutputStream}
+	 * @param value the value
+	 */
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		var v = (value << 1) ^ (value >> 63);
+		while ((v & ~0x7FL) != 0) {
+			out.write((int) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.write((int) v);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		var v = 0L;
+		for (var shift = 0; shift < 70; shift += 7) {
+			final var b = buffer.get();
+			v |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (v >>> 1) ^ -(v & 1);
+			}
+		}
+		throw new IllegalArgumentException("Malformed varlong");
+	}
+
+}
@@ -0,0 +1,61 @@
+package io.openems.common.websocket;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
+
+/**
+ * Per-message compression of websocket messages (RFC 7692
+ * "permessage-deflate").
+ *
+ * <p>
+ * Compression is only used if both sides of a connection support it; a server
+ * with compression still accepts clients without. JSON-RPC data notifications
+ * repeat the same Channel-Addresses in every message, so they compress well.
+ *
+ * <p>
+ * Context takeover is negotiated per connection by {@link PerMessageDeflate};
+ * a side only keeps its compression context if the peer did not ask otherwise.
+ */
+public enum Compression {
+	/**
+	 * No compression.
+	 */
+	OFF,
+	/**
+	 * permessage-deflate; every message is compressed on its own.
+	 */
+	PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER,
+	/**
+	 * permessage-deflate with context takeover on both sides, unless the peer asks
+	 * for 'no_context_takeover'.
+	 */
+	PER_MESSAGE_DEFLATE;
+
+	/**
+	 * Creates a new websocket {@link Draft} for this {@link Compression}.
+	 *
+	 * @return the {@link Draft}
+	 */
+	public Draft createDraft() {
+		if (this == OFF) {
+			return new Draft_6455();
+		}
+		return new Draft_6455(new PerMessageDeflate(this == PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER));
+	}
+
+	/**
+	 * Creates the list of {@link Draft}s for a websocket server.
+	 *
+	 * @return the {@link Draft}s; an empty list for all default drafts
+	 */
+	public List<Draft> createServerDrafts() {
+		if (this == OFF) {
+			return Collections.emptyList();
+		}
+		return List.of(this.createDraft());
+	}
+
+}
@@ -0,0 +1,123 @@
+package io.openems.common.websocket;
+
+import org.java_websocket.extensions.ExtensionRequestData;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+
+/**
+ * A {@link PerMessageDeflateExtension} that negotiates context takeover.
+ *
+ * <p>
+ * Java-WebSocket 1.5.4 always offers and answers 'server_no_context_takeover'
+ * and {@link PerMessageDeflateExtension#copyInstance()} drops all settings, so
+ * every connection compresses each message on its own. This extension keeps its
+ * settings per connection and only resets its compression context if that was
+ * configured or requested by the peer.
+ *
+ * <p>
+ * Independent of the role of the connection, the base class resets the
+ * Deflater after every message if 'serverNoContextTakeover' is set and the
+ * Inflater if 'clientNoContextTakeover' is set. The Inflater is only reset if
+ * the handshake obliges the peer to reset its Deflater as well.
+ */
+final class PerMessageDeflate extends PerMessageDeflateExtension {
+
+	private static final String EXTENSION_NAME = "permessage-deflate";
+	private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+	private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+
+	private final boolean noContextTakeover;
+
+	/**
+	 * Server only: answer 'client_no_context_takeover' in the handshake.
+	 */
+	private boolean answerClientNoContextTakeover;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param noContextTakeover true to compress every message on its own in both
+	 *                          directions
+	 */
+	PerMessageDeflate(boolean noContextTakeover) {
+		this.noContextTakeover = noContextTakeover;
+		this.answerClientNoContextTakeover = noContextTakeover;
+		this.setServerNoContextTakeover(noContextTakeover);
+		this.setClientNoContextTakeover(noContextTakeover);
+	}
+
+	@Override
+	public boolean acceptProvidedExtensionAsServer(String inputExtension) {
+		var request = findRequest(inputExtension);
+		if (request == null) {
+			return false;
+		}
+		var parameters = request.getExtensionParameters();
+		this.setServerNoContextTakeover(
+				this.noContextTakeover || parameters.containsKey(SERVER_NO_CONTEXT_TAKEOVER));
+		this.answerClientNoContextTakeover = this.noContextTakeover
+				|| parameters.containsKey(CLIENT_NO_CONTEXT_TAKEOVER);
+		this.setClientNoContextTakeover(this.answerClientNoContextTakeover);
+		return true;
+	}
+
+	@Override
+	public boolean acceptProvidedExtensionAsClient(String inputExtension) {
+		var response = findRequest(inputExtension);
+		if (response == null) {
+			return false;
+		}
+		// The answer of the server decides which side keeps its context
+		var parameters = response.getExtensionParameters();
+		this.setServerNoContextTakeover(this.noContextTakeover || parameters.containsKey(CLIENT_NO_CONTEXT_TAKEOVER));
+		this.setClientNoContextTakeover(parameters.containsKey(SERVER_NO_CONTEXT_TAKEOVER));
+		return true;
+	}
+
+	@Override
+	public String getProvidedExtensionAsClient() {
+		if (this.noContextTakeover) {
+			return EXTENSION_NAME + "; " + SERVER_NO_CONTEXT_TAKEOVER + "; " + CLIENT_NO_CONTEXT_TAKEOVER;
+		}
+		return EXTENSION_NAME;
+	}
+
+	@Override
+	public String getProvidedExtensionAsServer() {
+		var result = new StringBuilder(EXTENSION_NAME);
+		if (this.isServerNoContextTakeover()) {
+			result.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+		}
+		if (this.answerClientNoContextTakeover) {
+			result.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+		}
+		return result.toString();
+	}
+
+	@Override
+	public IExtension copyInstance() {
+		return new PerMessageDeflate(this.noContextTakeover);
+	}
+
+	@Override
+	public String toString() {
+		return "PerMessageDeflate [noContextTakeover=" + this.noContextTakeover + "]";
+	}
+
+	/**
+	 * Finds the 'permessage-deflate' offer or answer in a handshake header.
+	 *
+	 * @param header the value of the 'Sec-WebSocket-Extensions' header
+	 * @return the {@link ExtensionRequestData}; null if there is none
+	 */
+	private static ExtensionRequestData findRequest(String header) {
+		for (var extension : header.split(",")) {
+			var request = ExtensionRequestData.parseExtensionRequest(extension);
+			if (EXTENSION_NAME.equalsIgnoreCase(request.getExtensionName())) {
+				return request;
+			}
+		}
+		return null;
+	}
+
+}
@@ -97,11 +97,25 @@ public abstract class WsData {
 	 * @throws OpenemsException on error
 	 */
 	private void sendMessage(JsonrpcMessage message) throws OpenemsException {
+		this.sendMessage(message.toString());
+	}
+
+	/**
+	 * Sends an already serialized JSON-RPC message.
+	 *
+	 * <p>
+	 * Allows sending the same serialized message to multiple WebSockets without
+	 * serializing it again for each one.
+	 *
+	 * @param message the serialized JSON-RPC Message
+	 * @throws OpenemsException on error
+	 */
+	protected void sendMessage(String message) throws OpenemsException {
 		if (this.websocket == null) {
 			throw new OpenemsException("There is no Websocket defined for this WsData.");
 		}
 		try {
-			this.websocket.send(message.toString());
+			this.websocket.send(message);
 		} catch (WebsocketNotConnectedException e) {
 			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
 		}
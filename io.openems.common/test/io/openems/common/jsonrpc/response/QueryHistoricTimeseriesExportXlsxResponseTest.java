@@ -1,20 +1,39 @@
 package io.openems.common.jsonrpc.response;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.Base64;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.zip.ZipFile;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.dhatim.fastexcel.Workbook;
-import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
@@ -22,10 +41,14 @@ import com.google.gson.JsonPrimitive;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.response.QueryHistoricTimeseriesExportXlsxResponse.Channel;
 import io.openems.common.jsonrpc.response.QueryHistoricTimeseriesExportXlsxResponse.XlsxUtils;
+import io.openems.common.session.Language;
 import io.openems.common.types.ChannelAddress;
 
 public class QueryHistoricTimeseriesExportXlsxResponseTest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private static SortedMap<ChannelAddress, JsonElement> getMockedEnergyData() {
 		SortedMap<ChannelAddress, JsonElement> values = new TreeMap<>();
 
@@ -62,12 +85,8 @@ public class QueryHistoricTimeseriesExportXlsxResponseTest {
 
 		var energyData = QueryHistoricTimeseriesExportXlsxResponseTest.getMockedEnergyData();
 
-		final byte[] result;
-
-		try (//
-				var os = new ByteArrayOutputStream();
-				var workbook = new Workbook(os, "Historic data", null) //
-		) {
+		var os = new ByteArrayOutputStream();
+		try (var workbook = new Workbook(os, "Historic data", null)) {
 			var ws = workbook.newWorksheet("Export");
 
 			Locale currentLocale = new Locale("en", "EN");
@@ -80,23 +99,119 @@ public class QueryHistoricTimeseriesExportXlsxResponseTest {
 			XlsxUtils.addPowerData(ws, powerData, translationBundle);
 
 			workbook.finish();
-			os.flush();
+		}
+		return os.toByteArray();
+	}
 
-			result = os.toByteArray();
+	/**
+	 * Reads the cell values of the first worksheet of an Excel file.
+	 *
+	 * @param xlsx the Excel file
+	 * @return a map of cell reference (e.g. "A1") to value; shared and inline
+	 *         strings are resolved
+	 * @throws Exception on error
+	 */
+	private Map<String, String> readCells(byte[] xlsx) throws Exception {
+		// ZipInputStream cannot read the streamed Zip64 entries; ZipFile can
+		var file = this.folder.newFile("export.xlsx");
+		Files.write(file.toPath(), xlsx);
+		var files = new HashMap<String, byte[]>();
+		try (var zip = new ZipFile(file)) {
+			for (var entry : Collections.list(zip.entries())) {
+				files.put(entry.getName(), zip.getInputStream(entry).readAllBytes());
+			}
+		}
+		var builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+
+		var sharedStrings = new ArrayList<String>();
+		if (files.containsKey("xl/sharedStrings.xml")) {
+			var items = builder.parse(new ByteArrayInputStream(files.get("xl/sharedStrings.xml")))
+					.getElementsByTagName("si");
+			for (var i = 0; i < items.getLength(); i++) {
+				sharedStrings.add(items.item(i).getTextContent());
+			}
+		}
 
-			os.close();
+		var result = new HashMap<String, String>();
+		var cells = builder.parse(new ByteArrayInputStream(files.get("xl/worksheets/sheet1.xml")))
+				.getElementsByTagName("c");
+		for (var i = 0; i < cells.getLength(); i++) {
+			var cell = (Element) cells.item(i);
+			var value = cell.getTextContent();
+			switch (cell.getAttribute("t")) {
+			case "s" -> value = sharedStrings.get(Integer.parseInt(value));
+			case "inlineStr", "n", "" -> {
+			}
+			default -> fail("Unexpected cell type " + cell.getAttribute("t"));
+			}
+			result.put(cell.getAttribute("r"), value);
 		}
+		result.put("#sharedStrings", String.valueOf(sharedStrings.size()));
 		return result;
 	}
 
+	private static double toExcelDate(ZonedDateTime date) {
+		return Duration.between(LocalDateTime.of(1899, 12, 30, 0, 0), date.toLocalDateTime()).toSeconds() / 86400.;
+	}
+
 	@Test
-	public void test() throws IOException, OpenemsNamedException {
-		var content = this.generateXlsxFile();
+	public void test() throws Exception {
+		var cells = this.readCells(this.generateXlsxFile());
+
+		assertEquals("Edge-Nr.", cells.get("A1"));
+		assertEquals("0", cells.get("B1"));
+		assertEquals("01.07.2020", cells.get("B3"));
+		assertEquals(String.format("%.1f", 0.5), cells.get("B6"));
+		assertEquals(String.format("%.1f", 0.7), cells.get("G6"));
+
+		// Date/time is a String including the UTC offset
+		var date = getMockedPowerData().firstKey();
+		assertEquals(date.format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm:ss Z")), cells.get("A9"));
+		assertEquals("50", cells.get("B9")); // Grid buy
+		assertEquals("0", cells.get("C9")); // Grid sell
+		assertEquals("50", cells.get("D9")); // Production
+		assertEquals("0", cells.get("E9")); // Charge
+		assertEquals("50", cells.get("F9")); // Discharge
+		assertEquals("50", cells.get("G9")); // Consumption
+		assertEquals("50", cells.get("H9")); // State of charge
+		assertNull(cells.get("A10"));
+	}
 
-		var expectedPayload = "UEsDBC0ACAAIAAAAAAAAAAAAAAAAAAAAAAAYAAAAeGwvd29ya3".substring(0, 50);
-		var actualPayload = Base64.getEncoder().encodeToString(content).substring(0, 50);
+	@Test
+	public void testWriteTo() throws Exception {
+		var fromDate = ZonedDateTime.of(2020, 07, 01, 0, 0, 0, 0, ZoneId.systemDefault());
+		var toDate = fromDate.plusDays(QueryHistoricTimeseriesExportXlsxResponse.STREAM_CHUNK_DAYS * 2 + 1);
+		var rowsPerChunk = 96; // one day
+		var values = getMockedPowerData().values().iterator().next();
+
+		var os = new ByteArrayOutputStream();
+		QueryHistoricTimeseriesExportXlsxResponse.writeTo(os, "0", fromDate, toDate, getMockedEnergyData(), //
+				(chunkFrom, chunkTo) -> {
+					// Rows of the chunk plus one row at its end, which belongs to the next chunk
+					var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+					for (var i = 0; i < rowsPerChunk; i++) {
+						result.put(chunkFrom.plusMinutes(15 * i), values);
+					}
+					result.put(chunkTo, values);
+					return result;
+				}, Language.EN);
+
+		var cells = this.readCells(os.toByteArray());
+		var chunkStarts = List.of(fromDate, fromDate.plusDays(7), fromDate.plusDays(14));
+		var row = 9;
+		for (var chunkStart : chunkStarts) {
+			for (var i = 0; i < rowsPerChunk; i++, row++) {
+				assertEquals(toExcelDate(chunkStart.plusMinutes(15 * i)), Double.parseDouble(cells.get("A" + row)),
+						0.000001);
+				assertEquals("50", cells.get("H" + row));
+			}
+		}
+		// Only the last chunk includes its end
+		assertEquals(toExcelDate(toDate), Double.parseDouble(cells.get("A" + row)), 0.000001);
+		assertNull(cells.get("A" + (row + 1)));
 
-		Assert.assertEquals(expectedPayload, actualPayload);
+		// Number of shared strings does not grow with the number of rows
+		assertTrue(Integer.parseInt(cells.get("#sharedStrings")) < 30);
 	}
 
 	/**
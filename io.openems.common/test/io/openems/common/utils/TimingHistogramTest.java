@@ -0,0 +1,73 @@
+package io.openems.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimingHistogramTest {
+
+	@Test
+	public void testBuckets() {
+		for (var value = 0L; value < 100_000; value++) {
+			var index = TimingHistogram.getIndex(value);
+			var upperBound = TimingHistogram.getUpperBound(index);
+			assertTrue(value <= upperBound);
+			// Precision of at least 12.5 %
+			assertTrue(upperBound - value <= value / 8 + 1);
+			if (index > 0) {
+				assertTrue(value > TimingHistogram.getUpperBound(index - 1));
+			}
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		var sut = new TimingHistogram();
+		assertEquals(0, sut.getValueAtPercentile(99));
+
+		for (var i = 1; i <= 1000; i++) {
+			sut.record(i);
+		}
+		sut.record(50_000);
+
+		assertEquals(1001, sut.getCount());
+		assertEquals(50_000, sut.getMax());
+		assertEquals((500_500 + 50_000) / 1001, sut.getMean());
+		var p50 = sut.getValueAtPercentile(50);
+		assertTrue(p50 >= 501 && p50 <= 501 * 9 / 8);
+		var p99 = sut.getValueAtPercentile(99);
+		assertTrue(p99 >= 991 && p99 <= 991 * 9 / 8);
+		assertEquals(50_000, sut.getValueAtPercentile(100));
+
+		sut.reset();
+		assertEquals(0, sut.getCount());
+		assertEquals(0, sut.getMax());
+	}
+
+	@Test
+	public void testDecay() {
+		var sut = new TimingHistogram();
+		for (var i = 0; i < 100; i++) {
+			sut.record(1_000);
+		}
+		sut.record(50_000);
+		assertEquals(50_000, sut.getValueAtPercentile(100));
+
+		// Single outlier vanishes, repeated values lose weight
+		sut.decay();
+		assertEquals(50, sut.getCount());
+		assertTrue(sut.getMax() < 50_000);
+		assertTrue(sut.getValueAtPercentile(100) >= 1_000 && sut.getValueAtPercentile(100) <= 1_000 * 9 / 8);
+
+		// New values dominate after a few decays
+		sut.decay();
+		sut.decay();
+		for (var i = 0; i < 100; i++) {
+			sut.record(10_000);
+		}
+		var p50 = sut.getValueAtPercentile(50);
+		assertTrue(p50 >= 10_000 && p50 <= 10_000 * 9 / 8);
+	}
+
+}
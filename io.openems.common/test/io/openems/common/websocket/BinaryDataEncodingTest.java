@@ -0,0 +1,143 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataEncodingTest {
+
+	private static final long TIMESTAMP = 1577836800000L;
+
+	@Test
+	public void testRoundtrip() throws OpenemsException {
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(TIMESTAMP, "_sum/EssSoc", new JsonPrimitive(55));
+		data.put(TIMESTAMP, "_sum/GridActivePower", new JsonPrimitive(-1234L));
+		data.put(TIMESTAMP, "ess0/Voltage", new JsonPrimitive(230.5));
+		data.put(TIMESTAMP, "ess0/Temperature", new JsonPrimitive(21.3F));
+		data.put(TIMESTAMP, "ess0/State", JsonNull.INSTANCE);
+		data.put(TIMESTAMP, "ess0/Running", new JsonPrimitive(true));
+		data.put(TIMESTAMP, "ess0/SerialNumber", new JsonPrimitive("ABC-123"));
+		var object = new JsonObject();
+		object.addProperty("foo", "bar");
+		data.put(TIMESTAMP, "ess0/Object", object);
+		data.put(TIMESTAMP + 1000, "_sum/EssSoc", new JsonPrimitive(56));
+		var notification = new TimestampedDataNotification(data);
+
+		var encoder = new BinaryDataEncoding.Encoder();
+		var decoder = new BinaryDataEncoding.Decoder();
+		var result = decoder.decode(encoder.encode(notification));
+
+		assertEquals(notification.getParams(), result.getParams());
+		assertEquals(notification.toString(), result.toString());
+	}
+
+	@Test
+	public void testDictionary() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder();
+		var decoder = new BinaryDataEncoding.Decoder();
+
+		var first = encoder.encode(buildData(TIMESTAMP, 100, 0));
+		var second = encoder.encode(buildData(TIMESTAMP + 1000, 100, 1));
+		// Channel-Addresses are only sent in the first frame
+		assertTrue(second.remaining() < first.remaining() / 4);
+
+		decoder.decode(first);
+		var result = decoder.decode(second);
+		assertEquals(buildData(TIMESTAMP + 1000, 100, 1).getParams(), result.getParams());
+
+		// After reset the dictionary is transmitted again
+		encoder.reset();
+		var third = encoder.encode(buildData(TIMESTAMP + 2000, 100, 2));
+		assertEquals(buildData(TIMESTAMP + 2000, 100, 2).getParams(), decoder.decode(third).getParams());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testUnknownChannelId() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder();
+		encoder.encode(buildData(TIMESTAMP, 10, 0));
+		var second = encoder.encode(buildData(TIMESTAMP + 1000, 10, 1));
+
+		// Decoder missed the first frame
+		new BinaryDataEncoding.Decoder().decode(second);
+	}
+
+	@Test
+	public void testCorruptFrames() {
+		final var version = new BinaryDataEncoding.Encoder().encode(buildData(TIMESTAMP, 1, 0)).get(0);
+		final var address = new byte[] { 3, 'a', '/', 'b' };
+		final var maxInt = new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+		final var minusOne = new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+
+		// Dictionary entry with a huge ID must not grow the dictionary
+		assertDecodeFails(frame(new byte[] { version, 1 }, maxInt, address, new byte[] { 0 }));
+		// Dictionary entry with a negative ID
+		assertDecodeFails(frame(new byte[] { version, 1 }, minusOne, address, new byte[] { 0 }));
+		// Dictionary entry that skips an ID
+		assertDecodeFails(frame(new byte[] { version, 1, 1 }, address, new byte[] { 0 }));
+		// Negative ID delta for a value
+		assertDecodeFails(frame(new byte[] { version, 1, 0 }, address, new byte[] { 1, 0, 1 }, minusOne,
+				new byte[] { 0 }));
+		// Invalid JSON value
+		assertDecodeFails(frame(new byte[] { version, 1, 0 }, address, new byte[] { 1, 0, 1, 0, 8, 1, '{' }));
+		// Truncated frame
+		assertDecodeFails(frame(new byte[] { version, 1, 0 }, address, new byte[] { 1 }));
+	}
+
+	private static ByteBuffer frame(byte[]... parts) {
+		final var out = new ByteArrayOutputStream();
+		for (var part : parts) {
+			out.write(part, 0, part.length);
+		}
+		return ByteBuffer.wrap(out.toByteArray());
+	}
+
+	private static void assertDecodeFails(ByteBuffer frame) {
+		assertThrows(OpenemsException.class, () -> new BinaryDataEncoding.Decoder().decode(frame));
+	}
+
+	@Test
+	public void testBytesPerCycle() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder();
+		var decoder = new BinaryDataEncoding.Decoder();
+		decoder.decode(encoder.encode(buildData(TIMESTAMP, 2000, 0)));
+
+		long jsonBytes = 0;
+		long binaryBytes = 0;
+		for (var cycle = 1; cycle <= 10; cycle++) {
+			var notification = buildData(TIMESTAMP + cycle * 1000, 2000, cycle);
+			jsonBytes += notification.toString().getBytes(StandardCharsets.UTF_8).length;
+
+			var binary = encoder.encode(notification);
+			binaryBytes += binary.remaining();
+			assertEquals(notification.getParams(), decoder.decode(binary).getParams());
+		}
+
+		// Once the dictionary is known, a Cycle takes less than a third of the JSON
+		assertTrue(binaryBytes * 3 < jsonBytes);
+	}
+
+	private static TimestampedDataNotification buildData(long timestamp, int channels, int offset) {
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < channels; i++) {
+			data.put(timestamp, "component" + i / 20 + "/Channel" + i, new JsonPrimitive(i * 10 + offset));
+		}
+		return new TimestampedDataNotification(data);
+	}
+
+}
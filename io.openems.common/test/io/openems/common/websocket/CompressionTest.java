@@ -0,0 +1,164 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.TextFrame;
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class CompressionTest {
+
+	private static final long TIMESTAMP = 1577836800000L;
+	private static final int CHANNELS = 300;
+
+	private static PerMessageDeflateExtension getExtension(Compression compression) {
+		var draft = (Draft_6455) compression.createDraft();
+		for (var extension : draft.getKnownExtensions()) {
+			if (extension instanceof PerMessageDeflateExtension e) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	private static byte[] buildMessage(Random random, int cycle) {
+		var message = new TimestampedDataNotification();
+		for (var i = 0; i < CHANNELS; i++) {
+			// Every fourth Channel changes its value on every Cycle
+			var value = i % 4 == 0 ? random.nextInt(10_000) : i * 10;
+			message.add(TIMESTAMP + cycle * 1000L, "component" + i / 20 + "/Channel" + i, new JsonPrimitive(value));
+		}
+		return message.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] getPayload(Framedata frame) {
+		var payload = frame.getPayloadData();
+		var result = new byte[payload.remaining()];
+		payload.get(result);
+		return result;
+	}
+
+	/**
+	 * Copies a frame like it is received from the network. The decoder reads the
+	 * whole backing array of the payload, which after encoding still contains the
+	 * stripped deflate tail.
+	 *
+	 * @param frame the encoded {@link TextFrame}
+	 * @return the received {@link TextFrame}
+	 */
+	private static TextFrame transmit(TextFrame frame) {
+		var result = new TextFrame();
+		result.setRSV1(frame.isRSV1());
+		result.setPayload(ByteBuffer.wrap(getPayload(frame)));
+		return result;
+	}
+
+	@Test
+	public void testCreateDraft() {
+		assertTrue(Compression.OFF.createServerDrafts().isEmpty());
+		assertEquals(null, getExtension(Compression.OFF));
+
+		var withContextTakeover = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		assertFalse(withContextTakeover.isServerNoContextTakeover());
+		assertFalse(withContextTakeover.isClientNoContextTakeover());
+
+		var withoutContextTakeover = getExtension(Compression.PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER);
+		assertTrue(withoutContextTakeover.isServerNoContextTakeover());
+		assertTrue(withoutContextTakeover.isClientNoContextTakeover());
+
+		// Every connection gets a copy of the extension
+		var copy = (PerMessageDeflateExtension) withContextTakeover.copyInstance();
+		assertFalse(copy.isServerNoContextTakeover());
+		assertFalse(copy.isClientNoContextTakeover());
+		copy = (PerMessageDeflateExtension) withoutContextTakeover.copyInstance();
+		assertTrue(copy.isServerNoContextTakeover());
+		assertTrue(copy.isClientNoContextTakeover());
+
+		assertEquals(1, Compression.PER_MESSAGE_DEFLATE.createServerDrafts().size());
+	}
+
+	@Test
+	public void testHandshake() {
+		// Client and server with context takeover
+		var client = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		var server = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		assertEquals("permessage-deflate", client.getProvidedExtensionAsClient());
+		assertTrue(server.acceptProvidedExtensionAsServer(client.getProvidedExtensionAsClient()));
+		assertEquals("permessage-deflate", server.getProvidedExtensionAsServer());
+		assertTrue(client.acceptProvidedExtensionAsClient(server.getProvidedExtensionAsServer()));
+		assertFalse(server.isServerNoContextTakeover());
+		assertFalse(server.isClientNoContextTakeover());
+		assertFalse(client.isServerNoContextTakeover());
+		assertFalse(client.isClientNoContextTakeover());
+
+		// Client without context takeover
+		client = getExtension(Compression.PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER);
+		server = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		assertTrue(server.acceptProvidedExtensionAsServer(client.getProvidedExtensionAsClient()));
+		assertEquals("permessage-deflate; server_no_context_takeover; client_no_context_takeover",
+				server.getProvidedExtensionAsServer());
+		assertTrue(server.isServerNoContextTakeover());
+		assertTrue(server.isClientNoContextTakeover());
+
+		// Server without context takeover
+		client = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		server = getExtension(Compression.PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER);
+		assertTrue(server.acceptProvidedExtensionAsServer(client.getProvidedExtensionAsClient()));
+		assertTrue(client.acceptProvidedExtensionAsClient(server.getProvidedExtensionAsServer()));
+		assertTrue(client.isServerNoContextTakeover());
+		assertTrue(client.isClientNoContextTakeover());
+
+		// Default answer of a Java-WebSocket server
+		client = getExtension(Compression.PER_MESSAGE_DEFLATE);
+		var defaultServer = new PerMessageDeflateExtension();
+		assertTrue(client.acceptProvidedExtensionAsClient(defaultServer.getProvidedExtensionAsServer()));
+		assertFalse(client.isServerNoContextTakeover());
+		assertTrue(client.isClientNoContextTakeover());
+
+		assertFalse(server.acceptProvidedExtensionAsServer("x-webkit-deflate-frame"));
+	}
+
+	private static int roundtrip(Compression compression) throws InvalidDataException {
+		var encoder = getExtension(compression);
+		var decoder = (PerMessageDeflateExtension) encoder.copyInstance();
+		var random = new Random(0);
+		var raw = 0;
+		var compressed = 0;
+		for (var cycle = 0; cycle < 10; cycle++) {
+			var message = buildMessage(random, cycle);
+			var frame = new TextFrame();
+			frame.setPayload(ByteBuffer.wrap(message));
+			encoder.encodeFrame(frame);
+			raw += message.length;
+			compressed += frame.getPayloadData().remaining();
+
+			frame = transmit(frame);
+			decoder.decodeFrame(frame);
+			assertArrayEquals(message, getPayload(frame));
+		}
+		assertTrue("Compression ratio " + (double) raw / compressed, raw > compressed * 5);
+		return compressed;
+	}
+
+	@Test
+	public void testRoundtrip() throws InvalidDataException {
+		var withContextTakeover = roundtrip(Compression.PER_MESSAGE_DEFLATE);
+		var withoutContextTakeover = roundtrip(Compression.PER_MESSAGE_DEFLATE_NO_CONTEXT_TAKEOVER);
+		assertTrue(withContextTakeover + " < " + withoutContextTakeover, withContextTakeover < withoutContextTakeover);
+	}
+
+}
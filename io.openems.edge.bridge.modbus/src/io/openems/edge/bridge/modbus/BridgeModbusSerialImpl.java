@@ -6,8 +6,6 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
 import com.ghgande.j2mod.modbus.Modbus;
@@ -27,7 +25,9 @@ import io.openems.edge.bridge.modbus.api.BridgeModbusSerial;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleEvents;
+import io.openems.edge.common.event.CycleListener;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/RTU
@@ -39,12 +39,12 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
+@CycleEvents({ //
+		CycleEvent.BEFORE_PROCESS_IMAGE, //
+		CycleEvent.EXECUTE_WRITE //
 })
 public class BridgeModbusSerialImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, CycleListener {
 
 	/** The configured Port-Name (e.g. '/dev/ttyUSB0' or 'COM3'). */
 	private String portName = "";
@@ -85,6 +85,7 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	}
 
 	private void applyConfig(ConfigSerial config) {
+		this.worker.setReadCoalescingMaxGap(config.readCoalescingMaxGap());
 		this.portName = config.portName();
 		this.baudrate = config.baudRate();
 		this.databits = config.databits();
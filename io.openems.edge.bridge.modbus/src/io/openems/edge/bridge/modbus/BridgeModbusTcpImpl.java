@@ -9,12 +9,12 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
 
 import io.openems.common.exceptions.OpenemsException;
@@ -23,7 +23,9 @@ import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleEvents;
+import io.openems.edge.common.event.CycleListener;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/TCP
@@ -35,17 +37,20 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
+@CycleEvents({ //
+		CycleEvent.BEFORE_PROCESS_IMAGE, //
+		CycleEvent.EXECUTE_WRITE //
 })
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, CycleListener {
 
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
 
+	/** The pipelined connection; null if pipelining is disabled. */
+	private volatile PipelinedModbusTcpConnection pipeline = null;
+
 	public BridgeModbusTcpImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -70,18 +75,48 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	private void applyConfig(ConfigTcp config) {
+		this.worker.setReadCoalescingMaxGap(config.readCoalescingMaxGap());
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.closePipeline();
+		if (config.pipelineWindow() > 1) {
+			this.pipeline = new PipelinedModbusTcpConnection(this.getIpAddress(), this.port, config.pipelineWindow(),
+					config.pipelineRequestsPerDevice(), AbstractModbusBridge.DEFAULT_TIMEOUT);
+		}
+		this.worker.setPipelineWindow(config.pipelineWindow());
+	}
+
+	private void closePipeline() {
+		var pipeline = this.pipeline;
+		this.pipeline = null;
+		if (pipeline != null) {
+			pipeline.close();
+		}
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.closePipeline();
+	}
+
+	@Override
+	public ModbusResponse executeModbusRequest(int unitId, ModbusRequest request) throws Exception {
+		var pipeline = this.pipeline;
+		if (pipeline != null) {
+			return pipeline.execute(unitId, request);
+		}
+		return super.executeModbusRequest(unitId, request);
 	}
 
 	@Override
 	public void closeModbusConnection() {
+		var pipeline = this.pipeline;
+		if (pipeline != null) {
+			// Keep the connection for other outstanding transactions
+			pipeline.closeIfIdle();
+		}
 		if (this._connection != null) {
 			this._connection.close();
 			this._connection = null;
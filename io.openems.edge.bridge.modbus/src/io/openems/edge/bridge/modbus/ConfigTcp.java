@@ -33,5 +33,14 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Combine reads with gaps up to", description = "Combines FC3/FC4 read tasks of the same device whose register gap is at most this many registers into one request (max. 125 registers). -1 disables combining.")
+	int readCoalescingMaxGap() default -1;
+
+	@AttributeDefinition(name = "Pipeline window", description = "Maximum number of outstanding requests on the connection. Values greater than 1 enable pipelining; the device or gateway needs to support multiple Modbus/TCP transactions.")
+	int pipelineWindow() default 1;
+
+	@AttributeDefinition(name = "Pipeline requests per device", description = "Maximum number of outstanding requests per Unit-ID in pipelining mode.")
+	int pipelineRequestsPerDevice() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+package io.openems.edge.bridge.modbus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * A Modbus/TCP connection that allows multiple outstanding requests
+ * ('pipelining'). Responses are matched to their requests by the transaction
+ * identifier of the MBAP header.
+ *
+ * <p>
+ * The number of outstanding requests is limited by a window for the whole
+ * connection and by a limit per Unit-ID. A Unit-ID that misbehaves - i.e. that
+ * does not answer in time or answers with an unexpected Unit-ID or function
+ * code - is afterwards queried serially, i.e. with no other request in flight on
+ * the connection. After {@link #SERIAL_RECOVERY_REQUESTS} successful serial
+ * requests it is pipelined again.
+ */
+public class PipelinedModbusTcpConnection {
+
+	/**
+	 * Number of successful serial requests after which a misbehaving Unit-ID is
+	 * pipelined again.
+	 */
+	protected static final int SERIAL_RECOVERY_REQUESTS = 100;
+
+	private static final int MBAP_HEADER_LENGTH = 7;
+	private static final int MAX_PDU_LENGTH = 253;
+
+	private final Logger log = LoggerFactory.getLogger(PipelinedModbusTcpConnection.class);
+
+	private final InetAddress ipAddress;
+	private final int port;
+	private final int window;
+	private final int maxRequestsPerDevice;
+	private final int timeout;
+	private final Semaphore windowPermits;
+	private final ConcurrentHashMap<Integer, Semaphore> devicePermits = new ConcurrentHashMap<>();
+	/**
+	 * Misbehaving Unit-IDs and their number of successful serial requests.
+	 */
+	private final ConcurrentHashMap<Integer, AtomicInteger> serialDevices = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Transaction> transactions = new ConcurrentHashMap<>();
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+
+	private Socket socket = null;
+	private DataOutputStream output = null;
+
+	private record Transaction(int unitId, int functionCode, CompletableFuture<byte[]> response) {
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ipAddress            the IP address
+	 * @param port                 the port
+	 * @param window               the maximum number of outstanding requests on
+	 *                             the connection
+	 * @param maxRequestsPerDevice the maximum number of outstanding requests per
+	 *                             Unit-ID
+	 * @param timeout              the timeout in [ms]
+	 */
+	public PipelinedModbusTcpConnection(InetAddress ipAddress, int port, int window, int maxRequestsPerDevice,
+			int timeout) {
+		this.ipAddress = ipAddress;
+		this.port = port;
+		this.window = Math.max(1, window);
+		this.maxRequestsPerDevice = Math.max(1, maxRequestsPerDevice);
+		this.timeout = timeout;
+		this.windowPermits = new Semaphore(this.window, true);
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}. This
+	 * method is thread-safe and is expected to be called concurrently.
+	 *
+	 * @param unitId  the Modbus Unit-ID
+	 * @param request the {@link ModbusRequest}
+	 * @return the {@link ModbusResponse}
+	 * @throws Exception on error
+	 */
+	public ModbusResponse execute(int unitId, ModbusRequest request) throws Exception {
+		// Misbehaving devices occupy the complete window
+		final var serialRequests = this.serialDevices.get(unitId);
+		final var permits = serialRequests != null ? this.window : 1;
+		final var devicePermits = this.devicePermits.computeIfAbsent(unitId,
+				ignore -> new Semaphore(this.maxRequestsPerDevice, true));
+
+		if (!devicePermits.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+			throw new OpenemsException("Timeout while waiting for free slot for Unit-ID [" + unitId + "]");
+		}
+		try {
+			if (!this.windowPermits.tryAcquire(permits, this.timeout, TimeUnit.MILLISECONDS)) {
+				throw new OpenemsException("Timeout while waiting for free slot in pipeline window");
+			}
+			try {
+				var response = this.send(unitId, request);
+				if (serialRequests != null && serialRequests.incrementAndGet() >= SERIAL_RECOVERY_REQUESTS
+						&& this.serialDevices.remove(unitId, serialRequests)) {
+					this.log.info("Unit-ID [" + unitId + "] at [" + this.ipAddress.getHostAddress() + "] answered "
+							+ SERIAL_RECOVERY_REQUESTS + " serial requests. Pipelining again.");
+				}
+				return response;
+			} finally {
+				this.windowPermits.release(permits);
+			}
+		} finally {
+			devicePermits.release();
+		}
+	}
+
+	private ModbusResponse send(int unitId, ModbusRequest request) throws Exception {
+		final var transactionId = this.nextTransactionId.getAndIncrement() & 0xFFFF;
+		final var functionCode = request.getFunctionCode();
+		request.setUnitID(unitId);
+		request.setTransactionID(transactionId);
+		final var data = request.getMessage();
+		final var frame = ByteBuffer.allocate(MBAP_HEADER_LENGTH + 1 + data.length) //
+				.putShort((short) transactionId) //
+				.putShort((short) 0) // Protocol-ID
+				.putShort((short) (2 + data.length)) // Unit-ID + Function Code + Data
+				.put((byte) unitId) //
+				.put((byte) functionCode) //
+				.put(data) //
+				.array();
+
+		final var transaction = new Transaction(unitId, functionCode, new CompletableFuture<>());
+		this.transactions.put(transactionId, transaction);
+		try {
+			this.write(frame);
+			final var pdu = transaction.response().get(this.timeout, TimeUnit.MILLISECONDS);
+			return parseResponse(request, unitId, transactionId, pdu);
+
+		} catch (TimeoutException e) {
+			this.fallbackToSerial(unitId, "no response within " + this.timeout + "ms");
+			throw new OpenemsException("No response from Unit-ID [" + unitId + "] for transaction [" + transactionId
+					+ "] within " + this.timeout + "ms");
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+
+		} finally {
+			this.transactions.remove(transactionId);
+		}
+	}
+
+	private static ModbusResponse parseResponse(ModbusRequest request, int unitId, int transactionId, byte[] pdu)
+			throws Exception {
+		final var functionCode = pdu[0] & 0xFF;
+		if ((functionCode & 0x80) != 0) {
+			throw new ModbusSlaveException(pdu.length > 1 ? pdu[1] & 0xFF : 0);
+		}
+		final var response = request.getResponse();
+		response.setUnitID(unitId);
+		response.setTransactionID(transactionId);
+		response.readData(new DataInputStream(new ByteArrayInputStream(pdu, 1, pdu.length - 1)));
+		return response;
+	}
+
+	private synchronized void write(byte[] frame) throws IOException, OpenemsException {
+		if (this.socket == null) {
+			this.connect();
+		}
+		try {
+			this.output.write(frame);
+			this.output.flush();
+		} catch (IOException e) {
+			this.close(this.socket, e);
+			throw e;
+		}
+	}
+
+	private void connect() throws OpenemsException {
+		if (this.ipAddress == null) {
+			throw new OpenemsException("IP-Address is not set");
+		}
+		final var socket = new Socket();
+		try {
+			socket.connect(new InetSocketAddress(this.ipAddress, this.port), this.timeout);
+			socket.setTcpNoDelay(true);
+			this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		} catch (IOException e) {
+			try {
+				socket.close();
+			} catch (IOException e1) {
+				// ignore
+			}
+			throw new OpenemsException("Connection to [" + this.ipAddress.getHostAddress() + ":" + this.port
+					+ "] failed: " + e.getMessage());
+		}
+		this.socket = socket;
+		final var reader = new Thread(() -> this.read(socket),
+				"Modbus/TCP-Pipeline " + this.ipAddress.getHostAddress());
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * Reads responses from the socket until it is closed.
+	 *
+	 * @param socket the {@link Socket}
+	 */
+	private void read(Socket socket) {
+		try {
+			final var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			while (true) {
+				final var transactionId = input.readUnsignedShort();
+				final var protocolId = input.readUnsignedShort();
+				final var length = input.readUnsignedShort();
+				if (protocolId != 0 || length < 2 || length > MAX_PDU_LENGTH + 1) {
+					throw new IOException("Invalid MBAP header. " //
+							+ "Protocol-ID [" + protocolId + "] Length [" + length + "]");
+				}
+				final var unitId = input.readUnsignedByte();
+				final var pdu = new byte[length - 1];
+				input.readFully(pdu);
+
+				final var transaction = this.transactions.get(transactionId);
+				if (transaction == null) {
+					// e.g. late response after a timeout
+					this.log.warn("Dropped response for unknown transaction [" + transactionId + "] from Unit-ID ["
+							+ unitId + "]");
+					continue;
+				}
+				if (transaction.unitId() != unitId || (pdu[0] & 0x7F) != transaction.functionCode()) {
+					this.fallbackToSerial(transaction.unitId(), "unexpected response with Unit-ID [" + unitId
+							+ "] and function code [" + (pdu[0] & 0xFF) + "]");
+					transaction.response().completeExceptionally(new OpenemsException("Unexpected response for " //
+							+ "Unit-ID [" + transaction.unitId() + "] " //
+							+ "and function code [" + transaction.functionCode() + "]"));
+					continue;
+				}
+				transaction.response().complete(pdu);
+			}
+		} catch (IOException e) {
+			this.close(socket, e);
+		}
+	}
+
+	private void fallbackToSerial(int unitId, String reason) {
+		// Restarts the recovery count if the Unit-ID is already queried serially
+		if (this.serialDevices.put(unitId, new AtomicInteger()) == null) {
+			this.log.warn("Unit-ID [" + unitId + "] at [" + this.ipAddress.getHostAddress() + "] misbehaves ("
+					+ reason + "). Falling back to serial requests.");
+		}
+	}
+
+	/**
+	 * Is the given Unit-ID queried serially because it misbehaved?.
+	 *
+	 * @param unitId the Modbus Unit-ID
+	 * @return true if serial
+	 */
+	protected boolean isSerial(int unitId) {
+		return this.serialDevices.containsKey(unitId);
+	}
+
+	/**
+	 * Closes the connection if no transaction is outstanding; otherwise keeps it
+	 * open for the other transactions.
+	 */
+	public synchronized void closeIfIdle() {
+		if (this.transactions.isEmpty()) {
+			this.close(this.socket, new IOException("Connection closed"));
+		}
+	}
+
+	/**
+	 * Closes the connection and fails all outstanding transactions.
+	 */
+	public synchronized void close() {
+		this.close(this.socket, new IOException("Connection closed"));
+	}
+
+	private synchronized void close(Socket socket, IOException cause) {
+		if (socket == null || socket != this.socket) {
+			return;
+		}
+		this.socket = null;
+		this.output = null;
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		this.transactions.values().forEach(t -> t.response().completeExceptionally(cause));
+	}
+}
@@ -4,20 +4,21 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.ComponentContext;
-import org.osgi.service.event.Event;
-import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleListener;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, CycleListener {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -123,17 +124,19 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	@Override
-	public void handleEvent(Event event) {
+	public void handleCycleEvent(CycleEvent event) {
 		if (!this.isEnabled()) {
 			return;
 		}
-		switch (event.getTopic()) {
-		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+		switch (event) {
+		case BEFORE_PROCESS_IMAGE:
 			this.worker.onBeforeProcessImage();
 			break;
-		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
+		case EXECUTE_WRITE:
 			this.worker.onExecuteWrite();
 			break;
+		default:
+			break;
 		}
 	}
 
@@ -156,6 +159,29 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract ModbusTransaction getNewModbusTransaction() throws OpenemsException;
 
+	/**
+	 * Sends a {@link ModbusRequest} to a Unit-ID and returns the
+	 * {@link ModbusResponse}.
+	 * 
+	 * <p>
+	 * The default implementation executes the request in a transaction from
+	 * {@link #getNewModbusTransaction()}. This method may be called concurrently
+	 * if a pipeline window is set via
+	 * {@link ModbusWorker#setPipelineWindow(int)}.
+	 *
+	 * @param unitId  the Modbus Unit-ID
+	 * @param request the {@link ModbusRequest}
+	 * @return the {@link ModbusResponse}
+	 * @throws Exception on error
+	 */
+	public ModbusResponse executeModbusRequest(int unitId, ModbusRequest request) throws Exception {
+		request.setUnitID(unitId);
+		var transaction = this.getNewModbusTransaction();
+		transaction.setRequest(request);
+		transaction.execute();
+		return transaction.getResponse();
+	}
+
 	/**
 	 * Closes the Modbus connection.
 	 */
@@ -7,6 +7,7 @@ import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -33,4 +34,47 @@ public abstract class AbstractReadRegistersTask<//
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
+
+	/**
+	 * Reads an arbitrary range of registers with the function code of this task
+	 * from the Unit-ID of its parent.
+	 * 
+	 * <p>
+	 * This is used by {@link CoalescedReadRegistersTask} to read the registers of
+	 * multiple tasks with one request.
+	 * 
+	 * @param bridge       the {@link AbstractModbusBridge}
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return the registers
+	 * @throws Exception on error
+	 */
+	protected Register[] readRegisters(AbstractModbusBridge bridge, int startAddress, int length) throws Exception {
+		var response = this.executeRequest(bridge, this.createModbusRequest(startAddress, length));
+		var result = this.parseResponse(response);
+		validateResponse(result, length);
+		return result;
+	}
+
+	/**
+	 * Fills the {@link ModbusElement}s of this task from registers that were read
+	 * by a larger request.
+	 * 
+	 * @param registers the registers
+	 * @param offset    the position of {@link #getStartAddress()} within
+	 *                  registers
+	 * @throws OpenemsException on error
+	 */
+	protected void fillElements(Register[] registers, int offset) throws OpenemsException {
+		this.fillElements(Arrays.copyOfRange(registers, offset, offset + this.length));
+	}
+
+	/**
+	 * Factory for a {@link ModbusRequest} with an explicit range.
+	 * 
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a new {@link ModbusRequest}
+	 */
+	protected abstract REQUEST createModbusRequest(int startAddress, int length);
 }
\ No newline at end of file
@@ -72,7 +72,7 @@ public abstract class AbstractReadTask<//
 	 * @param length   expected length
 	 * @throws OpenemsException on failed validation
 	 */
-	private static void validateResponse(Object[] response, int length) throws OpenemsException {
+	protected static void validateResponse(Object[] response, int length) throws OpenemsException {
 		if (response.length < length) {
 			throw new OpenemsException("Received message is too short. " //
 					+ "Expected [" + length + "] " //
@@ -86,7 +86,7 @@ public abstract class AbstractReadTask<//
 	 * @param response the response values
 	 * @throws OpenemsException on error
 	 */
-	private void fillElements(T[] response) throws OpenemsException {
+	protected void fillElements(T[] response) throws OpenemsException {
 		var errors = new ArrayList<String>();
 
 		this.fillElements(FillElementsPriority.HIGH, errors, response);
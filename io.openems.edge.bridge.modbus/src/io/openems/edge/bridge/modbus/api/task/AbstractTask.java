@@ -360,14 +360,9 @@ public abstract non-sealed class AbstractTask<//
 	 */
 	private static <RESPONSE extends ModbusResponse> RESPONSE sendRequest(AbstractModbusBridge bridge, int unitId,
 			Class<RESPONSE> clazz, ModbusRequest request) throws Exception {
-		request.setUnitID(unitId);
-		var transaction = bridge.getNewModbusTransaction();
-		transaction.setRequest(request);
-		transaction.execute();
-
-		var response = transaction.getResponse();
+		var response = bridge.executeModbusRequest(unitId, request);
 		if (clazz.isInstance(response)) {
-			return (RESPONSE) clazz.cast(response);
+			return clazz.cast(response);
 		}
 
 		throw new OpenemsException("Unexpected Modbus response. " //
@@ -0,0 +1,149 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Combines multiple {@link AbstractReadRegistersTask}s with the same function
+ * code and the same parent into one Modbus request. The registers between the
+ * tasks are read as well and discarded.
+ *
+ * <p>
+ * If the combined request fails - e.g. because a device does not allow reading
+ * the gap registers - every task is executed on its own as a fallback. The
+ * onResult callback is informed about every result, so that a failing
+ * combination can be avoided for a while.
+ */
+public final class CoalescedReadRegistersTask implements ReadTask {
+
+	/**
+	 * The maximum number of registers in one FC3/FC4 request.
+	 */
+	public static final int MAX_LENGTH = 125;
+
+	private final Logger log = LoggerFactory.getLogger(CoalescedReadRegistersTask.class);
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final BiConsumer<CoalescedReadRegistersTask, Boolean> onResult;
+	private final int startAddress;
+	private final int length;
+	private final Priority priority;
+	private final ModbusElement[] elements;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param tasks   the tasks, sorted by start address; all of the same class and
+	 *                with the same parent
+	 * @param onResult called after every execution; true if the combined request
+	 *                 was successful
+	 */
+	public CoalescedReadRegistersTask(List<AbstractReadRegistersTask<?, ?>> tasks,
+			BiConsumer<CoalescedReadRegistersTask, Boolean> onResult) {
+		if (tasks.size() < 2) {
+			throw new IllegalArgumentException("CoalescedReadRegistersTask requires at least two tasks");
+		}
+		this.tasks = List.copyOf(tasks);
+		this.onResult = onResult;
+		var first = tasks.get(0);
+		var last = tasks.get(tasks.size() - 1);
+		this.startAddress = first.getStartAddress();
+		this.length = last.getStartAddress() + last.getLength() - this.startAddress;
+		if (this.length > MAX_LENGTH) {
+			throw new IllegalArgumentException("CoalescedReadRegistersTask length [" + this.length
+					+ "] exceeds maximum [" + MAX_LENGTH + "]");
+		}
+		this.priority = tasks.stream() //
+				.map(AbstractReadRegistersTask::getPriority) //
+				.anyMatch(p -> p == Priority.HIGH) ? Priority.HIGH : Priority.LOW;
+		this.elements = tasks.stream() //
+				.flatMap(t -> Stream.of(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+	}
+
+	/**
+	 * Gets the combined tasks.
+	 *
+	 * @return the tasks, sorted by start address
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		try {
+			var registers = this.tasks.get(0).readRegisters(bridge, this.startAddress, this.length);
+			for (var task : this.tasks) {
+				task.fillElements(registers, task.getStartAddress() - this.startAddress);
+			}
+			this.onResult.accept(this, true);
+			return ExecuteState.OK;
+
+		} catch (Exception e) {
+			this.log.info("Combined read [" + this.getParent().id() + ";ref=" + this.startAddress + ";length="
+					+ this.length + "] failed: " + e.getMessage() + ". Falling back to single reads.");
+			this.onResult.accept(this, false);
+
+			var result = ExecuteState.OK;
+			for (var task : this.tasks) {
+				if (task.execute(bridge) == ExecuteState.ERROR) {
+					result = ExecuteState.ERROR;
+				}
+			}
+			return result;
+		}
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.startAddress;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		// Ignore; the parent is given by the combined tasks. This task is created
+		// per Cycle and never added to a ModbusProtocol.
+	}
+
+	@Override
+	public ModbusComponent getParent() {
+		return this.tasks.get(0).getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.priority;
+	}
+
+	@Override
+	public void deactivate() {
+		// Tasks are deactivated via their ModbusProtocol
+	}
+
+	@Override
+	public String toString() {
+		return "CoalescedReadRegistersTask [" + this.tasks.get(0).name + ";ref=" + this.startAddress + ";length="
+				+ this.length + ";tasks=" + this.tasks.size() + "]";
+	}
+}
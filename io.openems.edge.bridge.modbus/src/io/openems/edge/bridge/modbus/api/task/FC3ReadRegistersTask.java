@@ -22,7 +22,12 @@ public class FC3ReadRegistersTask
 
 	@Override
 	protected ReadMultipleRegistersRequest createModbusRequest() {
-		return new ReadMultipleRegistersRequest(this.startAddress, this.length);
+		return this.createModbusRequest(this.startAddress, this.length);
+	}
+
+	@Override
+	protected ReadMultipleRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadMultipleRegistersRequest(startAddress, length);
 	}
 
 	@Override
@@ -25,7 +25,12 @@ public class FC4ReadInputRegistersTask
 
 	@Override
 	protected ReadInputRegistersRequest createModbusRequest() {
-		return new ReadInputRegistersRequest(this.startAddress, this.length);
+		return this.createModbusRequest(this.startAddress, this.length);
+	}
+
+	@Override
+	protected ReadInputRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadInputRegistersRequest(startAddress, length);
 	}
 
 	@Override
@@ -1,15 +1,24 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -39,6 +48,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	/**
+	 * Executes Read-Tasks concurrently; null if pipelining is disabled.
+	 */
+	private volatile ExecutorService pipelineExecutor = null;
+	private volatile int pipelineWindow = 1;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -70,9 +85,41 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		// execute further Read-Tasks concurrently
+		var pipelineExecutor = this.pipelineExecutor;
+		if (pipelineExecutor != null && task instanceof ReadTask) {
+			var tasks = this.cycleTasksManager.pollReadTasks(this.pipelineWindow - 1);
+			if (!tasks.isEmpty()) {
+				tasks.add(0, (ReadTask) task);
+				this.executeConcurrently(pipelineExecutor, tasks);
+				return;
+			}
+		}
+
 		// execute the task
 		var result = this.execute.apply(task);
+		this.handleResult(task, result);
+	}
 
+	private void executeConcurrently(ExecutorService executor, Iterable<ReadTask> tasks) {
+		var futures = new ArrayList<CompletableFuture<ExecuteState>>();
+		for (var task : tasks) {
+			try {
+				futures.add(CompletableFuture //
+						.supplyAsync(() -> this.execute.apply(task), executor) //
+						.exceptionally(e -> ExecuteState.ERROR));
+			} catch (RejectedExecutionException e) {
+				// Executor was shut down in-between
+				futures.add(CompletableFuture.completedFuture(this.execute.apply(task)));
+			}
+		}
+		var i = 0;
+		for (var task : tasks) {
+			this.handleResult(task, futures.get(i++).join());
+		}
+	}
+
+	private void handleResult(Task task, ExecuteState result) {
 		switch (result) {
 		case OK -> {
 			// no exception & at least one sub-task executed
@@ -89,7 +136,43 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		case NO_OP -> {
 		}
 		}
+	}
+
+	/**
+	 * Sets the maximum number of Read-Tasks that are executed concurrently, e.g.
+	 * for pipelined Modbus/TCP. Values smaller or equal 1 execute all Tasks
+	 * sequentially.
+	 * 
+	 * @param window the maximum number of concurrent Read-Tasks
+	 */
+	public synchronized void setPipelineWindow(int window) {
+		if (window == this.pipelineWindow) {
+			return;
+		}
+		var previousExecutor = this.pipelineExecutor;
+		this.pipelineWindow = Math.max(1, window);
+		this.pipelineExecutor = this.pipelineWindow > 1 //
+				? Executors.newFixedThreadPool(this.pipelineWindow, new ThreadFactoryBuilder() //
+						.setNameFormat("Modbus.Pipeline-%d") //
+						.setDaemon(true) //
+						.build()) //
+				: null;
+		if (previousExecutor != null) {
+			// Tasks that are already running finish on the previous executor
+			previousExecutor.shutdown();
+		}
+	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		final ExecutorService pipelineExecutor;
+		synchronized (this) {
+			pipelineExecutor = this.pipelineExecutor;
+			this.pipelineExecutor = null;
+			this.pipelineWindow = 1;
+		}
+		ThreadPoolUtils.shutdownAndAwaitTermination(pipelineExecutor, 5);
 	}
 
 	/**
@@ -139,6 +222,16 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId); // Cleanup
 	}
 
+	/**
+	 * Sets the maximum number of unused registers between two FC3/FC4 Read-Tasks
+	 * of the same Component that are combined to one request.
+	 * 
+	 * @param maxGap the maximum gap; negative to disable combining
+	 */
+	public void setReadCoalescingMaxGap(int maxGap) {
+		this.tasksSupplier.setReadCoalescingMaxGap(maxGap);
+	}
+
 	/**
 	 * Retry Modbus communication to given Component-ID.
 	 * 
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -7,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
@@ -193,6 +196,35 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Polls up to 'max' further Read-Tasks of the current read phase, so that
+	 * they can be executed concurrently with the Task that was returned by the
+	 * previous call to {@link #getNextTask()}. This does not change the state.
+	 * 
+	 * @param max the maximum number of Read-Tasks
+	 * @return a list of Read-Tasks; empty if not in a read phase
+	 */
+	public List<ReadTask> pollReadTasks(int max) {
+		var result = new ArrayList<ReadTask>();
+		if (this.cycleTasks == null) {
+			return result;
+		}
+		switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> {
+			while (result.size() < max) {
+				var task = this.cycleTasks.reads().poll();
+				if (task == null) {
+					break;
+				}
+				result.add(task);
+			}
+		}
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> {
+		}
+		}
+		return result;
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
@@ -0,0 +1,165 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.CoalescedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Combines the FC3/FC4 {@link ReadTask}s of one Cycle to as few Modbus requests
+ * as possible.
+ *
+ * <p>
+ * Tasks are combined if they have the same function code and the same parent
+ * component - and thereby the same Unit-ID -, if the gap between them is at
+ * most 'maxGap' registers and if the combined request does not exceed
+ * {@link CoalescedReadRegistersTask#MAX_LENGTH} registers.
+ *
+ * <p>
+ * Tasks of a failed combined request are read on their own for a cooldown of
+ * {@link #INITIAL_COOLDOWN_CYCLES} Cycles. The cooldown doubles with every
+ * further failure up to {@link #MAX_COOLDOWN_CYCLES} and is reset by a
+ * successful combined request.
+ */
+public class ReadTasksCoalescer {
+
+	protected static final int INITIAL_COOLDOWN_CYCLES = 60;
+	protected static final int MAX_COOLDOWN_CYCLES = 3600;
+
+	private record Key(ModbusComponent parent, Class<?> clazz) {
+	}
+
+	private record Cooldown(int failures, long untilCycle) {
+	}
+
+	private final Map<Task, Cooldown> cooldowns = new ConcurrentHashMap<>();
+
+	/**
+	 * Counts the calls of {@link #coalesce(Collection)}, i.e. the Cycles.
+	 */
+	private volatile long cycle = 0;
+
+	private volatile int maxGap = -1;
+
+	/**
+	 * Sets the maximum number of unused registers between two combined tasks.
+	 *
+	 * @param maxGap the maximum gap; negative to disable combining
+	 */
+	public void setMaxGap(int maxGap) {
+		this.maxGap = maxGap;
+	}
+
+	/**
+	 * Gets the maximum number of unused registers between two combined tasks.
+	 *
+	 * @return the maximum gap; negative if combining is disabled
+	 */
+	public int getMaxGap() {
+		return this.maxGap;
+	}
+
+	/**
+	 * Combines the given {@link ReadTask}s.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return a new list with combined and untouched {@link ReadTask}s
+	 */
+	public List<ReadTask> coalesce(Collection<ReadTask> tasks) {
+		final var cycle = ++this.cycle;
+		final var maxGap = this.maxGap;
+		final var result = new ArrayList<ReadTask>(tasks.size());
+		if (maxGap < 0) {
+			result.addAll(tasks);
+			return result;
+		}
+
+		final var groups = new LinkedHashMap<Key, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t && t.getParent() != null
+					&& !this.isCoolingDown(t, cycle)) {
+				groups.computeIfAbsent(new Key(t.getParent(), t.getClass()), (ignore) -> new ArrayList<>()) //
+						.add(t);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var current = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			var start = 0;
+			var end = 0;
+			for (var task : group) {
+				var taskStart = task.getStartAddress();
+				var taskEnd = taskStart + task.getLength();
+				if (!current.isEmpty() //
+						&& taskStart >= end // no overlap
+						&& taskStart - end <= maxGap //
+						&& taskEnd - start <= CoalescedReadRegistersTask.MAX_LENGTH) {
+					current.add(task);
+					end = taskEnd;
+					continue;
+				}
+				this.flush(current, result);
+				current.add(task);
+				start = taskStart;
+				end = taskEnd;
+			}
+			this.flush(current, result);
+		}
+		return result;
+	}
+
+	private void flush(List<AbstractReadRegistersTask<?, ?>> current, List<ReadTask> result) {
+		if (current.size() == 1) {
+			result.add(current.get(0));
+		} else if (current.size() > 1) {
+			result.add(new CoalescedReadRegistersTask(current, this::handleResult));
+		}
+		current.clear();
+	}
+
+	private boolean isCoolingDown(Task task, long cycle) {
+		var cooldown = this.cooldowns.get(task);
+		return cooldown != null && cooldown.untilCycle() > cycle;
+	}
+
+	/**
+	 * Handles the result of a {@link CoalescedReadRegistersTask}.
+	 *
+	 * @param task    the {@link CoalescedReadRegistersTask}
+	 * @param success true if the combined request was successful
+	 */
+	void handleResult(CoalescedReadRegistersTask task, boolean success) {
+		for (var t : task.getTasks()) {
+			if (success) {
+				this.cooldowns.remove(t);
+			} else {
+				this.cooldowns.compute(t, (ignore, previous) -> {
+					var failures = previous == null ? 0 : previous.failures();
+					var cycles = Math.min(INITIAL_COOLDOWN_CYCLES << Math.min(failures, 16), MAX_COOLDOWN_CYCLES);
+					return new Cooldown(failures + 1, this.cycle + cycles);
+				});
+			}
+		}
+	}
+
+	/**
+	 * Forgets the given tasks, e.g. after their protocol was removed.
+	 *
+	 * @param tasks the tasks
+	 */
+	public void remove(Collection<? extends Task> tasks) {
+		this.cooldowns.keySet().removeAll(tasks);
+	}
+}
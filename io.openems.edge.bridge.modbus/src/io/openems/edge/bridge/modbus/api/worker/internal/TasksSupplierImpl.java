@@ -30,6 +30,11 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Combines FC3/FC4 {@link ReadTask}s to fewer requests.
+	 */
+	private final ReadTasksCoalescer readTasksCoalescer = new ReadTasksCoalescer();
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -46,7 +51,20 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param sourceId Component-ID of the source
 	 */
 	public void removeProtocol(String sourceId) {
-		this.taskManagers.remove(sourceId);
+		var taskManager = this.taskManagers.remove(sourceId);
+		if (taskManager != null) {
+			this.readTasksCoalescer.remove(taskManager.getTasks());
+		}
+	}
+
+	/**
+	 * Sets the maximum number of unused registers between two FC3/FC4
+	 * {@link ReadTask}s of the same Component that are combined to one request.
+	 *
+	 * @param maxGap the maximum gap; negative to disable combining
+	 */
+	public void setReadCoalescingMaxGap(int maxGap) {
+		this.readTasksCoalescer.setMaxGap(maxGap);
 	}
 
 	@Override
@@ -83,9 +101,11 @@ public class TasksSupplierImpl implements TasksSupplier {
 				componentTasks.clear();
 			}
 		});
+		var reads = tasks.values().stream().flatMap(LinkedList::stream) //
+				.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+				.toList();
 		return new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+				this.readTasksCoalescer.coalesce(reads).stream() //
 						// Sort HIGH priority to the end
 						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
 						.collect(Collectors.toCollection(LinkedList::new)),
@@ -17,6 +17,7 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private Parity parity;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readCoalescingMaxGap = -1;
 
 		private Builder() {
 		}
@@ -61,6 +62,11 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadCoalescingMaxGap(int readCoalescingMaxGap) {
+			this.readCoalescingMaxGap = readCoalescingMaxGap;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -117,4 +123,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int readCoalescingMaxGap() {
+		return this.builder.readCoalescingMaxGap;
+	}
+
+}
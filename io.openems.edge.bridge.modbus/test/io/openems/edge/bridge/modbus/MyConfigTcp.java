@@ -12,6 +12,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readCoalescingMaxGap = -1;
+		private int pipelineWindow = 1;
+		private int pipelineRequestsPerDevice = 1;
 
 		private Builder() {
 		}
@@ -41,6 +44,21 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setReadCoalescingMaxGap(int readCoalescingMaxGap) {
+			this.readCoalescingMaxGap = readCoalescingMaxGap;
+			return this;
+		}
+
+		public Builder setPipelineWindow(int pipelineWindow) {
+			this.pipelineWindow = pipelineWindow;
+			return this;
+		}
+
+		public Builder setPipelineRequestsPerDevice(int pipelineRequestsPerDevice) {
+			this.pipelineRequestsPerDevice = pipelineRequestsPerDevice;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +100,19 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int readCoalescingMaxGap() {
+		return this.builder.readCoalescingMaxGap;
+	}
+
+	@Override
+	public int pipelineWindow() {
+		return this.builder.pipelineWindow;
+	}
+
+	@Override
+	public int pipelineRequestsPerDevice() {
+		return this.builder.pipelineRequestsPerDevice;
+	}
+
+}
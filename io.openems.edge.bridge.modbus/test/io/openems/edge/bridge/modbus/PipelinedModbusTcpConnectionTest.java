@@ -0,0 +1,183 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class PipelinedModbusTcpConnectionTest {
+
+	private static final int TIMEOUT = 500;
+
+	private record Request(int transactionId, int unitId, int address) {
+	}
+
+	/**
+	 * A Modbus/TCP server for FC3 requests. It answers every register with its
+	 * address. Requests are collected until 'batchSize' are available and then
+	 * answered in reverse order; requests matching 'ignore' are never answered.
+	 */
+	private static class ReverseOrderServer implements AutoCloseable {
+
+		private final ServerSocket serverSocket;
+		private final Thread thread;
+		private volatile int batchSize = 1;
+		private volatile Predicate<Request> ignore = r -> false;
+
+		private ReverseOrderServer() throws IOException {
+			this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+			this.thread = new Thread(this::run, "PipelinedModbusTcpConnectionTest-Server");
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+
+		private void run() {
+			try (var socket = this.serverSocket.accept()) {
+				this.handle(socket);
+			} catch (IOException e) {
+				// closed
+			}
+		}
+
+		private void handle(Socket socket) throws IOException {
+			var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			var output = new DataOutputStream(socket.getOutputStream());
+			var batch = new ArrayList<Request>();
+			while (true) {
+				var transactionId = input.readUnsignedShort();
+				input.readUnsignedShort(); // Protocol-ID
+				input.readUnsignedShort(); // Length
+				var unitId = input.readUnsignedByte();
+				input.readUnsignedByte(); // Function Code
+				var address = input.readUnsignedShort();
+				input.readUnsignedShort(); // Quantity; always 1
+
+				var request = new Request(transactionId, unitId, address);
+				if (this.ignore.test(request)) {
+					continue;
+				}
+				batch.add(request);
+				if (batch.size() < this.batchSize) {
+					continue;
+				}
+				for (var i = batch.size() - 1; i >= 0; i--) {
+					var r = batch.get(i);
+					output.writeShort(r.transactionId());
+					output.writeShort(0); // Protocol-ID
+					output.writeShort(5); // Length
+					output.writeByte(r.unitId());
+					output.writeByte(3); // Function Code
+					output.writeByte(2); // Byte Count
+					output.writeShort(r.address());
+				}
+				output.flush();
+				batch.clear();
+			}
+		}
+
+		private int getPort() {
+			return this.serverSocket.getLocalPort();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.serverSocket.close();
+		}
+	}
+
+	private ReverseOrderServer server;
+	private PipelinedModbusTcpConnection sut;
+
+	@Before
+	public void before() throws IOException {
+		this.server = new ReverseOrderServer();
+		this.sut = new PipelinedModbusTcpConnection(InetAddress.getLoopbackAddress(), this.server.getPort(), 4, 4,
+				TIMEOUT);
+	}
+
+	@After
+	public void after() throws IOException {
+		this.sut.close();
+		this.server.close();
+	}
+
+	private int read(int unitId, int address) throws Exception {
+		var response = (ReadMultipleRegistersResponse) this.sut.execute(unitId,
+				new ReadMultipleRegistersRequest(address, 1));
+		return response.getRegisterValue(0);
+	}
+
+	@Test
+	public void testTransactionIdMatching() throws Exception {
+		assertEquals(100, this.read(1, 100));
+		assertEquals(200, this.read(1, 200));
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		this.server.batchSize = 4;
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			var futures = new ArrayList<Future<Integer>>();
+			for (var address : List.of(10, 20, 30, 40)) {
+				futures.add(executor.submit(() -> this.read(1, address)));
+			}
+			// Responses arrive in reverse order, but match their requests
+			assertEquals(10, (int) futures.get(0).get(5, TimeUnit.SECONDS));
+			assertEquals(20, (int) futures.get(1).get(5, TimeUnit.SECONDS));
+			assertEquals(30, (int) futures.get(2).get(5, TimeUnit.SECONDS));
+			assertEquals(40, (int) futures.get(3).get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+		assertFalse(this.sut.isSerial(1));
+	}
+
+	@Test
+	public void testTimeoutAndRecovery() throws Exception {
+		this.server.ignore = r -> r.address() == 999;
+		try {
+			this.read(2, 999);
+			fail("Expected timeout");
+		} catch (OpenemsException e) {
+			// expected
+		}
+		assertTrue(this.sut.isSerial(2));
+		assertFalse(this.sut.isSerial(1));
+
+		// Other Unit-IDs are still pipelined
+		assertEquals(1, this.read(1, 1));
+
+		// Recovers after enough successful serial requests
+		for (var i = 0; i < PipelinedModbusTcpConnection.SERIAL_RECOVERY_REQUESTS - 1; i++) {
+			assertEquals(i, this.read(2, i));
+			assertTrue(this.sut.isSerial(2));
+		}
+		assertEquals(7, this.read(2, 7));
+		assertFalse(this.sut.isSerial(2));
+	}
+
+}
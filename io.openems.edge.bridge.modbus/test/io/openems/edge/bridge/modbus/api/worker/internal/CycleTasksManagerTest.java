@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -177,4 +178,30 @@ public class CycleTasksManagerTest {
 		task = sut.getNextTask();
 		assertTrue(task instanceof WaitTask.Mutex);
 	}
+
+	@Test
+	public void testPollReadTasks() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_L_1, RT_H_1, RT_H_2) //
+				.writes(WT_1) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents();
+
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY);
+
+		sut.onBeforeProcessImage();
+		var task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		assertTrue(sut.pollReadTasks(2).isEmpty()); // not in a read phase
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertEquals(RT_L_1, task);
+		assertEquals(List.of(RT_H_1, RT_H_2), sut.pollReadTasks(5));
+
+		sut.onExecuteWrite();
+		assertEquals(WT_1, sut.getNextTask());
+	}
+
 }
@@ -0,0 +1,116 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.CoalescedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksCoalescerTest {
+
+	@Test
+	public void testCoalesce() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var fc3a = new FC3ReadRegistersTask(100, Priority.LOW, new UnsignedDoublewordElement(100));
+		var fc3b = new FC3ReadRegistersTask(104, Priority.HIGH, new UnsignedWordElement(104));
+		var fc3c = new FC3ReadRegistersTask(200, Priority.HIGH, new UnsignedWordElement(200));
+		var fc4 = new FC4ReadInputRegistersTask(105, Priority.HIGH, new UnsignedWordElement(105));
+		component.getModbusProtocol().addTasks(fc3a, fc3b, fc3c, fc4);
+		List<ReadTask> tasks = List.of(fc3c, fc4, fc3b, fc3a);
+
+		var sut = new ReadTasksCoalescer();
+
+		// Disabled by default
+		assertEquals(tasks, sut.coalesce(tasks));
+
+		// Gap of 2 registers between fc3a and fc3b
+		sut.setMaxGap(1);
+		assertEquals(4, sut.coalesce(tasks).size());
+
+		sut.setMaxGap(2);
+		var result = sut.coalesce(tasks);
+		assertEquals(3, result.size());
+		assertTrue(result.contains(fc4));
+		assertTrue(result.contains(fc3c));
+		var coalesced = (CoalescedReadRegistersTask) result.stream() //
+				.filter(CoalescedReadRegistersTask.class::isInstance) //
+				.findFirst().get();
+		assertEquals(List.of(fc3a, fc3b), coalesced.getTasks());
+		assertEquals(100, coalesced.getStartAddress());
+		assertEquals(5, coalesced.getLength());
+		assertEquals(Priority.HIGH, coalesced.getPriority());
+		assertEquals(2, coalesced.getElements().length);
+		assertSame(component, coalesced.getParent());
+
+		// Never exceed the maximum request length
+		var fc3d = new FC3ReadRegistersTask(230, Priority.HIGH, new UnsignedWordElement(230));
+		component.getModbusProtocol().addTask(fc3d);
+		sut.setMaxGap(1000);
+		result = sut.coalesce(List.of(fc3a, fc3b, fc3c, fc3d));
+		assertEquals(2, result.size());
+		assertTrue(result.contains(fc3d));
+	}
+
+	@Test
+	public void testCooldown() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var task0 = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var task1 = new FC3ReadRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101));
+		component.getModbusProtocol().addTasks(task0, task1);
+		List<ReadTask> tasks = List.of(task0, task1);
+
+		var sut = new ReadTasksCoalescer();
+		sut.setMaxGap(10);
+		var coalesced = (CoalescedReadRegistersTask) sut.coalesce(tasks).get(0);
+
+		// First failure: single reads during the initial cooldown
+		sut.handleResult(coalesced, false);
+		for (var i = 1; i < ReadTasksCoalescer.INITIAL_COOLDOWN_CYCLES; i++) {
+			assertEquals(2, sut.coalesce(tasks).size());
+		}
+		coalesced = (CoalescedReadRegistersTask) sut.coalesce(tasks).get(0);
+
+		// Second failure doubles the cooldown
+		sut.handleResult(coalesced, false);
+		for (var i = 1; i < ReadTasksCoalescer.INITIAL_COOLDOWN_CYCLES * 2; i++) {
+			assertEquals(2, sut.coalesce(tasks).size());
+		}
+		coalesced = (CoalescedReadRegistersTask) sut.coalesce(tasks).get(0);
+
+		// Success resets the cooldown
+		sut.handleResult(coalesced, true);
+		coalesced = (CoalescedReadRegistersTask) sut.coalesce(tasks).get(0);
+		sut.handleResult(coalesced, false);
+		for (var i = 1; i < ReadTasksCoalescer.INITIAL_COOLDOWN_CYCLES; i++) {
+			assertEquals(2, sut.coalesce(tasks).size());
+		}
+		assertEquals(1, sut.coalesce(tasks).size());
+	}
+
+	@Test
+	public void testDifferentComponents() throws OpenemsException {
+		var component0 = new DummyModbusComponent("device0", "modbus0");
+		var component1 = new DummyModbusComponent("device1", "modbus0");
+		var task0 = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var task1 = new FC3ReadRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101));
+		component0.getModbusProtocol().addTask(task0);
+		component1.getModbusProtocol().addTask(task1);
+
+		var sut = new ReadTasksCoalescer();
+		sut.setMaxGap(10);
+		assertEquals(2, sut.coalesce(List.of(task0, task1)).size());
+	}
+
+}
@@ -6,6 +6,7 @@ import java.time.temporal.TemporalAmount;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
@@ -169,11 +170,63 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * The returned map is a snapshot; it is created on every call. Code that runs
+	 * every Cycle should prefer {@link #forEachPastValue(LocalDateTime, Consumer)}
+	 * or {@link #findFirstPastValue(LocalDateTime, Predicate)}.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
 	public TreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Performs the given action for each past value that was recorded at or after
+	 * the given time, in ascending order of recording time, without copying the
+	 * past values.
+	 *
+	 * @param since  the earliest recording time; null for all past values
+	 * @param action the action; it must not block
+	 * @return the number of values that were passed to the action
+	 */
+	public default int forEachPastValue(LocalDateTime since, Consumer<Value<T>> action) {
+		var pastValues = since == null ? this.getPastValues() : this.getPastValues().tailMap(since, true);
+		pastValues.values().forEach(action);
+		return pastValues.size();
+	}
+
+	/**
+	 * Finds the oldest past value that was recorded at or after the given time and
+	 * matches the given predicate, without copying the past values.
+	 *
+	 * @param since     the earliest recording time; null for all past values
+	 * @param predicate the {@link Predicate}
+	 * @return the {@link Value}; null if no value matches
+	 */
+	public default Value<T> findFirstPastValue(LocalDateTime since, Predicate<Value<T>> predicate) {
+		var pastValues = since == null ? this.getPastValues() : this.getPastValues().tailMap(since, true);
+		return pastValues.values().stream() //
+				.filter(predicate) //
+				.findFirst() //
+				.orElse(null);
+	}
+
+	/**
+	 * Gets the incrementally maintained aggregate of the past values within the
+	 * {@link ChannelAggregate#PERIOD} that starts at the given time.
+	 *
+	 * <p>
+	 * This is a cheap alternative to aggregating {@link #getPastValues()}. Only the
+	 * last few periods are available.
+	 *
+	 * @param startTime the start of the period, aligned to
+	 *                  {@link ChannelAggregate#PERIOD}
+	 * @return the {@link ChannelAggregate}; null if not available
+	 */
+	public default ChannelAggregate getPastValuesAggregate(LocalDateTime startTime) {
+		return null;
+	}
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
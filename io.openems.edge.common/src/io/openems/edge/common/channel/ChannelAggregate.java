@@ -0,0 +1,136 @@
+package io.openems.edge.common.channel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * An immutable snapshot of the values of a {@link Channel} within one
+ * aggregation period of {@link #PERIOD}.
+ *
+ * <p>
+ * The aggregate is maintained incrementally whenever the Channel gets a new
+ * process image; see {@link Channel#getPastValuesAggregate(LocalDateTime)}. Like
+ * an aggregation over {@link Channel#getPastValues()} it includes the last value
+ * before the start of the period, so Channels whose value did not change within
+ * the period still have an aggregate. UNDEFINED values are ignored.
+ */
+public final class ChannelAggregate {
+
+	/**
+	 * The length of one aggregation period. Periods are aligned to the local
+	 * epoch, i.e. they start at a full 5 minutes.
+	 */
+	public static final Duration PERIOD = Duration.ofMinutes(5);
+
+	private final LocalDateTime startTime;
+	private final long count;
+	private final double sum;
+	private final double min;
+	private final double max;
+	private final Object first;
+	private final Object last;
+	private final Integer mostFrequentOption;
+
+	public ChannelAggregate(LocalDateTime startTime, long count, double sum, double min, double max, Object first,
+			Object last, Integer mostFrequentOption) {
+		this.startTime = startTime;
+		this.count = count;
+		this.sum = sum;
+		this.min = min;
+		this.max = max;
+		this.first = first;
+		this.last = last;
+		this.mostFrequentOption = mostFrequentOption;
+	}
+
+	/**
+	 * Gets the start of the aggregation period.
+	 *
+	 * @return the start time
+	 */
+	public LocalDateTime getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * Gets the number of defined values.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Gets the sum of all values. Booleans are counted as 1 and 0; Strings as 0.
+	 *
+	 * @return the sum
+	 */
+	public double getSum() {
+		return this.sum;
+	}
+
+	/**
+	 * Gets the average of all values; {@link Double#NaN} if there are no values.
+	 *
+	 * @return the average
+	 */
+	public double getAverage() {
+		return this.count == 0 ? Double.NaN : this.sum / this.count;
+	}
+
+	/**
+	 * Gets the minimum value; {@link Double#NaN} if there are no values.
+	 *
+	 * @return the minimum
+	 */
+	public double getMin() {
+		return this.min;
+	}
+
+	/**
+	 * Gets the maximum value; {@link Double#NaN} if there are no values.
+	 *
+	 * @return the maximum
+	 */
+	public double getMax() {
+		return this.max;
+	}
+
+	/**
+	 * Gets the first value of the period.
+	 *
+	 * @return the first value; null if there are no values
+	 */
+	public Object getFirst() {
+		return this.first;
+	}
+
+	/**
+	 * Gets the last value of the period.
+	 *
+	 * @return the last value; null if there are no values
+	 */
+	public Object getLast() {
+		return this.last;
+	}
+
+	/**
+	 * Gets the option of an {@link EnumDoc} Channel that occurred most often. If
+	 * multiple options occurred equally often, the most recent one wins.
+	 *
+	 * @return the option value; null if there are no values or this is not an
+	 *         {@link EnumDoc} Channel
+	 */
+	public Integer getMostFrequentOption() {
+		return this.mostFrequentOption;
+	}
+
+	@Override
+	public String toString() {
+		return "ChannelAggregate [startTime=" + this.startTime + ", count=" + this.count + ", sum=" + this.sum
+				+ ", min=" + this.min + ", max=" + this.max + ", first=" + this.first + ", last=" + this.last
+				+ ", mostFrequentOption=" + this.mostFrequentOption + "]";
+	}
+
+}
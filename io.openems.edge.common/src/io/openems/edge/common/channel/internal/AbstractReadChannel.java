@@ -7,6 +7,7 @@ import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +18,9 @@ import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAggregate;
 import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -34,7 +37,8 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues = new PastValues<>(Channel.MAX_AGE_OF_PAST_VALUES);
+	private final IncrementalAggregator aggregator;
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -51,6 +55,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.aggregator = new IncrementalAggregator(channelDoc instanceof EnumDoc);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -133,15 +138,14 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	/**
 	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}. Also updates the aggregate of the
+	 * current period.
 	 * 
 	 * @param value a new {@link Value}
 	 */
 	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+		this.pastValues.append(value);
+		this.aggregator.append(value);
 	}
 
 	@Override
@@ -297,11 +301,26 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * @return a copy of the map of recording time and historic value at that time
 	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+		return this.pastValues.toTreeMap();
+	}
+
+	@Override
+	public int forEachPastValue(LocalDateTime since, Consumer<Value<T>> action) {
+		return this.pastValues.forEachSince(since, action);
+	}
+
+	@Override
+	public Value<T> findFirstPastValue(LocalDateTime since, Predicate<Value<T>> predicate) {
+		return this.pastValues.findFirstSince(since, predicate);
+	}
+
+	@Override
+	public ChannelAggregate getPastValuesAggregate(LocalDateTime startTime) {
+		return this.aggregator.get(startTime);
 	}
 
 	/**
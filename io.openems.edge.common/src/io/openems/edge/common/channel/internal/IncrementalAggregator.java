@@ -0,0 +1,218 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAggregate;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Incrementally aggregates the values of a {@link Channel} per
+ * {@link ChannelAggregate#PERIOD}.
+ *
+ * <p>
+ * Every appended value updates running statistics of its period in O(1), so
+ * collectors like the Backend-Api or RRD4j do not have to scan
+ * {@link PastValues} for every Channel. The last few periods are kept in a
+ * small ring; their buckets are reused and appending does not allocate.
+ *
+ * <p>
+ * Values are sample based like an aggregation over {@link PastValues}: an
+ * unchanged {@link Value} that is appended again on the next Cycle has the same
+ * timestamp and is counted only once.
+ */
+public class IncrementalAggregator {
+
+	private static final long PERIOD_NANOS = ChannelAggregate.PERIOD.toNanos();
+	private static final int NUMBER_OF_BUCKETS = 3;
+	private static final int INITIAL_OPTIONS_CAPACITY = 4;
+
+	private final boolean trackOptions;
+	private final Bucket[] buckets = new Bucket[NUMBER_OF_BUCKETS];
+
+	/**
+	 * Index of the current bucket; -1 if no value was appended yet.
+	 */
+	private int current = -1;
+	private long sequence = 0;
+	private long lastTimestamp = Long.MIN_VALUE;
+	private Object lastValue = null;
+
+	/**
+	 * Creates an {@link IncrementalAggregator}.
+	 *
+	 * @param trackOptions track the occurrences of options, i.e. for Channels with
+	 *                     an {@link io.openems.edge.common.channel.EnumDoc}
+	 */
+	public IncrementalAggregator(boolean trackOptions) {
+		this.trackOptions = trackOptions;
+	}
+
+	/**
+	 * Appends a value to the bucket of its period.
+	 *
+	 * @param value a new {@link Value}
+	 */
+	public synchronized void append(Value<?> value) {
+		final var timestamp = PastValues.toNanos(value.getTimestamp());
+		if (timestamp == this.lastTimestamp) {
+			// Same Value as in previous Cycle
+			return;
+		}
+		final var start = Math.floorDiv(timestamp, PERIOD_NANOS) * PERIOD_NANOS;
+
+		var bucket = this.current < 0 ? null : this.buckets[this.current];
+		if (bucket == null || bucket.start != start) {
+			this.current = (this.current + 1) % NUMBER_OF_BUCKETS;
+			bucket = this.buckets[this.current];
+			if (bucket == null) {
+				bucket = new Bucket(this.trackOptions);
+				this.buckets[this.current] = bucket;
+			}
+			bucket.reset(start);
+			if (timestamp != start) {
+				// Carry over the last value before the start of the period
+				bucket.add(this.lastValue, this.sequence++);
+			}
+		}
+
+		final var object = value.get();
+		bucket.add(object, this.sequence++);
+		this.lastTimestamp = timestamp;
+		this.lastValue = object;
+	}
+
+	/**
+	 * Gets the aggregate of the period that starts at the given time.
+	 *
+	 * @param startTime the start of the period
+	 * @return the {@link ChannelAggregate}; null if the period is not available
+	 *         anymore
+	 */
+	public synchronized ChannelAggregate get(LocalDateTime startTime) {
+		final var start = PastValues.toNanos(startTime);
+		if (this.current < 0) {
+			return null;
+		}
+		if (this.lastTimestamp < start) {
+			// No new value since the start of the period
+			var bucket = new Bucket(this.trackOptions);
+			bucket.add(this.lastValue, 0);
+			return bucket.toChannelAggregate(startTime);
+		}
+		for (var i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			var bucket = this.buckets[Math.floorMod(this.current - i, NUMBER_OF_BUCKETS)];
+			if (bucket != null && bucket.start == start) {
+				return bucket.toChannelAggregate(startTime);
+			}
+		}
+		return null;
+	}
+
+	private static class Bucket {
+
+		private final boolean trackOptions;
+
+		private long start;
+		private long count;
+		private double sum;
+		private double min;
+		private double max;
+		private Object first;
+		private Object last;
+
+		private int[] options;
+		private long[] optionCounts;
+		private long[] optionSequences;
+		private int numberOfOptions;
+
+		private Bucket(boolean trackOptions) {
+			this.trackOptions = trackOptions;
+			if (trackOptions) {
+				this.options = new int[INITIAL_OPTIONS_CAPACITY];
+				this.optionCounts = new long[INITIAL_OPTIONS_CAPACITY];
+				this.optionSequences = new long[INITIAL_OPTIONS_CAPACITY];
+			}
+			this.reset(0);
+		}
+
+		private void reset(long start) {
+			this.start = start;
+			this.count = 0;
+			this.sum = 0;
+			this.min = Double.NaN;
+			this.max = Double.NaN;
+			this.first = null;
+			this.last = null;
+			this.numberOfOptions = 0;
+		}
+
+		private void add(Object value, long sequence) {
+			if (value == null) {
+				return;
+			}
+			final double d;
+			if (value instanceof Number n) {
+				d = n.doubleValue();
+			} else if (value instanceof Boolean b) {
+				d = b ? 1 : 0;
+			} else {
+				d = 0;
+			}
+			if (this.count == 0) {
+				this.first = value;
+				this.min = d;
+				this.max = d;
+			} else {
+				this.min = Math.min(this.min, d);
+				this.max = Math.max(this.max, d);
+			}
+			this.count++;
+			this.sum += d;
+			this.last = value;
+
+			if (this.trackOptions && value instanceof Integer option) {
+				this.addOption(option, sequence);
+			}
+		}
+
+		private void addOption(int option, long sequence) {
+			for (var i = 0; i < this.numberOfOptions; i++) {
+				if (this.options[i] == option) {
+					this.optionCounts[i]++;
+					this.optionSequences[i] = sequence;
+					return;
+				}
+			}
+			if (this.numberOfOptions == this.options.length) {
+				final var capacity = this.options.length * 2;
+				this.options = Arrays.copyOf(this.options, capacity);
+				this.optionCounts = Arrays.copyOf(this.optionCounts, capacity);
+				this.optionSequences = Arrays.copyOf(this.optionSequences, capacity);
+			}
+			this.options[this.numberOfOptions] = option;
+			this.optionCounts[this.numberOfOptions] = 1;
+			this.optionSequences[this.numberOfOptions] = sequence;
+			this.numberOfOptions++;
+		}
+
+		private ChannelAggregate toChannelAggregate(LocalDateTime startTime) {
+			Integer mostFrequentOption = null;
+			var best = -1;
+			for (var i = 0; i < this.numberOfOptions; i++) {
+				if (best < 0 || this.optionCounts[i] > this.optionCounts[best]
+						|| this.optionCounts[i] == this.optionCounts[best]
+								&& this.optionSequences[i] > this.optionSequences[best]) {
+					best = i;
+				}
+			}
+			if (best >= 0) {
+				mostFrequentOption = this.options[best];
+			}
+			return new ChannelAggregate(startTime, this.count, this.sum, this.min, this.max, this.first, this.last,
+					mostFrequentOption);
+		}
+	}
+
+}
@@ -0,0 +1,213 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAmount;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a {@link Channel} in a ring buffer, sorted by their
+ * timestamp.
+ *
+ * <p>
+ * Appending a value on every Cycle does not allocate: timestamps are kept as
+ * primitive longs and the {@link Value} objects are the instances that were
+ * already created by {@link Channel#setNextValue(Object)}. The buffer only
+ * grows if more values than ever before are within the maximum age.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final long maxAgeNanos;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private Value<T>[] values = newArray(INITIAL_CAPACITY);
+
+	/**
+	 * Index of the oldest value.
+	 */
+	private int head = 0;
+	private int size = 0;
+
+	public PastValues(TemporalAmount maxAge) {
+		this.maxAgeNanos = Duration.from(maxAge).toNanos();
+	}
+
+	/**
+	 * Appends a value and deletes entries that are older than the maximum age,
+	 * relative to the timestamp of the new value.
+	 *
+	 * <p>
+	 * A value with the same timestamp as an existing entry replaces that entry.
+	 *
+	 * @param value a new {@link Value}
+	 */
+	public synchronized void append(Value<T> value) {
+		final var timestamp = toNanos(value.getTimestamp());
+
+		// Find position; values are usually appended in order
+		var pos = this.size;
+		while (pos > 0 && this.timestamps[this.index(pos - 1)] > timestamp) {
+			pos--;
+		}
+
+		if (pos > 0 && this.timestamps[this.index(pos - 1)] == timestamp) {
+			// Replace existing entry
+			this.values[this.index(pos - 1)] = value;
+
+		} else {
+			if (this.size == this.timestamps.length) {
+				this.grow();
+			}
+			// Shift newer entries
+			for (var i = this.size; i > pos; i--) {
+				var to = this.index(i);
+				var from = this.index(i - 1);
+				this.timestamps[to] = this.timestamps[from];
+				this.values[to] = this.values[from];
+			}
+			var index = this.index(pos);
+			this.timestamps[index] = timestamp;
+			this.values[index] = value;
+			this.size++;
+		}
+
+		// Delete old entries
+		final var compareTime = timestamp - this.maxAgeNanos;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			this.values[this.head] = null;
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+		}
+	}
+
+	/**
+	 * Gets the number of past values.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Performs the given action for each past value, starting with the oldest value
+	 * that was recorded at or after the given time.
+	 *
+	 * <p>
+	 * Does not copy the past values. The action is called while holding the lock
+	 * of this {@link PastValues}; it must not block.
+	 *
+	 * @param since  the earliest recording time; null for all past values
+	 * @param action the action
+	 * @return the number of values that were passed to the action
+	 */
+	public synchronized int forEachSince(LocalDateTime since, Consumer<Value<T>> action) {
+		final var start = this.positionOf(since);
+		for (var i = start; i < this.size; i++) {
+			action.accept(this.values[this.index(i)]);
+		}
+		return this.size - start;
+	}
+
+	/**
+	 * Finds the oldest past value that was recorded at or after the given time and
+	 * matches the given predicate.
+	 *
+	 * @param since     the earliest recording time; null for all past values
+	 * @param predicate the {@link Predicate}
+	 * @return the {@link Value}; null if no value matches
+	 */
+	public synchronized Value<T> findFirstSince(LocalDateTime since, Predicate<Value<T>> predicate) {
+		for (var i = this.positionOf(since); i < this.size; i++) {
+			var value = this.values[this.index(i)];
+			if (predicate.test(value)) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets a copy of the past values as a map of recording time and value.
+	 *
+	 * @return a new {@link TreeMap}
+	 */
+	public synchronized TreeMap<LocalDateTime, Value<T>> toTreeMap() {
+		final var result = new TreeMap<LocalDateTime, Value<T>>();
+		for (var i = 0; i < this.size; i++) {
+			var value = this.values[this.index(i)];
+			result.put(value.getTimestamp(), value);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the position of the oldest value that was recorded at or after the
+	 * given time via binary search.
+	 *
+	 * @param since the recording time; null for the oldest value
+	 * @return the position; {@link #size} if there is no such value
+	 */
+	private int positionOf(LocalDateTime since) {
+		if (since == null) {
+			return 0;
+		}
+		final var timestamp = toNanos(since);
+		var low = 0;
+		var high = this.size;
+		while (low < high) {
+			var mid = (low + high) >>> 1;
+			if (this.timestamps[this.index(mid)] < timestamp) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int index(int position) {
+		return (this.head + position) % this.timestamps.length;
+	}
+
+	private void grow() {
+		final var capacity = this.timestamps.length * 2;
+		final var timestamps = new long[capacity];
+		final Value<T>[] values = newArray(capacity);
+		for (var i = 0; i < this.size; i++) {
+			var index = this.index(i);
+			timestamps[i] = this.timestamps[index];
+			values[i] = this.values[index];
+		}
+		this.timestamps = timestamps;
+		this.values = values;
+		this.head = 0;
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} to nanoseconds since the local epoch,
+	 * without creating intermediate objects.
+	 *
+	 * @param dateTime the {@link LocalDateTime}
+	 * @return the nanoseconds
+	 */
+	static long toNanos(LocalDateTime dateTime) {
+		return dateTime.toLocalDate().toEpochDay() * NANOS_PER_DAY + dateTime.toLocalTime().toNanoOfDay();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <T> Value<T>[] newArray(int capacity) {
+		return new Value[capacity];
+	}
+
+}
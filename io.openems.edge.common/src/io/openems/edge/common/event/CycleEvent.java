@@ -0,0 +1,55 @@
+package io.openems.edge.common.event;
+
+/**
+ * The events of the OpenEMS Cycle, in the order they are triggered.
+ *
+ * <p>
+ * Every {@link CycleEvent} is also sent via OSGi EventAdmin on the topic given
+ * by {@link #getTopic()}.
+ */
+public enum CycleEvent {
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}.
+	 */
+	BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}.
+	 */
+	AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_CONTROLLERS}.
+	 */
+	BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_CONTROLLERS}.
+	 */
+	AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_WRITE}.
+	 */
+	BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_EXECUTE_WRITE}.
+	 */
+	EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE),
+	/**
+	 * See {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_WRITE}.
+	 */
+	AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+	private final String topic;
+
+	private CycleEvent(String topic) {
+		this.topic = topic;
+	}
+
+	/**
+	 * Gets the OSGi EventAdmin topic of this event.
+	 *
+	 * @return the topic
+	 */
+	public String getTopic() {
+		return this.topic;
+	}
+
+}
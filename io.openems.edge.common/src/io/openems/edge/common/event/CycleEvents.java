@@ -0,0 +1,27 @@
+package io.openems.edge.common.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.osgi.service.component.annotations.ComponentPropertyType;
+
+/**
+ * Component Property Type for the {@link CycleListener#PROPERTY_EVENTS}
+ * service property.
+ */
+@ComponentPropertyType
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface CycleEvents {
+
+	/**
+	 * Service property with the {@link CycleEvent}s a {@link CycleListener} is
+	 * called for.
+	 *
+	 * @return the {@link CycleEvent}s
+	 */
+	CycleEvent[] value();
+
+}
@@ -0,0 +1,40 @@
+package io.openems.edge.common.event;
+
+import org.osgi.annotation.versioning.ConsumerType;
+
+/**
+ * A listener for {@link CycleEvent}s.
+ *
+ * <p>
+ * Components that are registered as {@link CycleListener} service are called
+ * directly by the Cycle, without going through OSGi EventAdmin. The events are
+ * selected once via the {@link CycleEvents} component property, e.g.:
+ *
+ * <pre>
+ * {@literal @}Component(service = { CycleListener.class, ... })
+ * {@literal @}CycleEvents({ CycleEvent.BEFORE_WRITE, CycleEvent.AFTER_WRITE })
+ * public class MyComponent implements CycleListener, ... {
+ * </pre>
+ *
+ * <p>
+ * Listeners are called synchronously on the Cycle thread. A component should
+ * either use {@link CycleListener} or subscribe to the same topics via OSGi
+ * EventAdmin, not both.
+ */
+@ConsumerType
+public interface CycleListener {
+
+	/**
+	 * Name of the service property that holds the names of the
+	 * {@link CycleEvent}s. See {@link CycleEvents}.
+	 */
+	public static final String PROPERTY_EVENTS = "cycle.events";
+
+	/**
+	 * Handles a {@link CycleEvent}.
+	 *
+	 * @param event the {@link CycleEvent}
+	 */
+	public void handleCycleEvent(CycleEvent event);
+
+}
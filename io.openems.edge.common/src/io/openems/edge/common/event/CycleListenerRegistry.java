@@ -0,0 +1,132 @@
+package io.openems.edge.common.event;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the registered {@link CycleListener}s in one precomputed array per
+ * {@link CycleEvent}.
+ *
+ * <p>
+ * Registering and unregistering replaces the affected arrays (copy-on-write);
+ * {@link #dispatch(CycleEvent, ObjLongConsumer)} only iterates an array and
+ * does not allocate.
+ */
+public class CycleListenerRegistry {
+
+	private static final CycleEvent[] EVENTS = CycleEvent.values();
+	private static final CycleListener[] EMPTY = new CycleListener[0];
+
+	private final Logger log = LoggerFactory.getLogger(CycleListenerRegistry.class);
+
+	private final AtomicReferenceArray<CycleListener[]> listeners = new AtomicReferenceArray<>(EVENTS.length);
+
+	public CycleListenerRegistry() {
+		for (var i = 0; i < EVENTS.length; i++) {
+			this.listeners.set(i, EMPTY);
+		}
+	}
+
+	/**
+	 * Registers a {@link CycleListener} for the given {@link CycleEvent}s.
+	 *
+	 * @param listener the {@link CycleListener}
+	 * @param events   the {@link CycleEvent}s
+	 */
+	public synchronized void register(CycleListener listener, Set<CycleEvent> events) {
+		for (var event : events) {
+			final var current = this.listeners.get(event.ordinal());
+			if (Arrays.asList(current).contains(listener)) {
+				continue;
+			}
+			final var updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = listener;
+			this.listeners.set(event.ordinal(), updated);
+		}
+	}
+
+	/**
+	 * Unregisters a {@link CycleListener} from all {@link CycleEvent}s.
+	 *
+	 * @param listener the {@link CycleListener}
+	 */
+	public synchronized void unregister(CycleListener listener) {
+		for (var i = 0; i < EVENTS.length; i++) {
+			final var current = this.listeners.get(i);
+			if (Arrays.asList(current).contains(listener)) {
+				this.listeners.set(i, Arrays.stream(current) //
+						.filter(l -> l != listener) //
+						.toArray(CycleListener[]::new));
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of {@link CycleListener}s for a {@link CycleEvent}.
+	 *
+	 * @param event the {@link CycleEvent}
+	 * @return the number of listeners
+	 */
+	public int size(CycleEvent event) {
+		return this.listeners.get(event.ordinal()).length;
+	}
+
+	/**
+	 * Calls all {@link CycleListener}s of a {@link CycleEvent}. Exceptions of one
+	 * listener are logged and do not affect the other listeners.
+	 *
+	 * @param event the {@link CycleEvent}
+	 * @param timer is called with every listener and its execution time in [ns];
+	 *              may be null
+	 */
+	public void dispatch(CycleEvent event, ObjLongConsumer<CycleListener> timer) {
+		// Read the array once; it is never modified after publication
+		final var listeners = this.listeners.get(event.ordinal());
+		for (var listener : listeners) {
+			final var start = timer != null ? System.nanoTime() : 0L;
+			try {
+				listener.handleCycleEvent(event);
+			} catch (RuntimeException e) {
+				this.log.warn("Error in CycleListener [" + listener + "] for [" + event + "]: " + e.getMessage());
+			}
+			if (timer != null) {
+				timer.accept(listener, System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Parses the {@link CycleListener#PROPERTY_EVENTS} service property.
+	 *
+	 * @param properties the service properties
+	 * @return the {@link CycleEvent}s; empty if the property is missing
+	 */
+	public static Set<CycleEvent> parseEvents(Map<String, Object> properties) {
+		final var result = EnumSet.noneOf(CycleEvent.class);
+		final var property = properties.get(CycleListener.PROPERTY_EVENTS);
+		final String[] names;
+		if (property instanceof String[] array) {
+			names = array;
+		} else if (property instanceof String string) {
+			names = new String[] { string };
+		} else {
+			return result;
+		}
+		for (var name : names) {
+			try {
+				result.add(CycleEvent.valueOf(name));
+			} catch (IllegalArgumentException e) {
+				// ignore unknown events
+			}
+		}
+		return result;
+	}
+
+}
@@ -40,6 +40,8 @@ import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleListener;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -693,7 +695,9 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 
 	/**
 	 * If the 'system-under-test' is a {@link EventHandler} call the
-	 * {@link EventHandler#handleEvent(Event)} method.
+	 * {@link EventHandler#handleEvent(Event)} method; if it is a
+	 * {@link CycleListener} call the {@link CycleListener#handleCycleEvent(CycleEvent)}
+	 * method.
 	 *
 	 * @param topic the {@link Event} topic
 	 * @throws Exception on error
@@ -704,6 +708,13 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 			var event = new Event(topic, new HashMap<String, Object>());
 			((EventHandler) this.sut).handleEvent(event);
 		}
+		if (this.sut instanceof CycleListener listener) {
+			for (var cycleEvent : CycleEvent.values()) {
+				if (cycleEvent.getTopic().equals(topic)) {
+					listener.handleCycleEvent(cycleEvent);
+				}
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,90 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.value.Value;
+
+public class IncrementalAggregatorTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+	private static <T> Value<T> valueAt(LocalDateTime timestamp, T value) {
+		return new Value<>(null, value) {
+			@Override
+			public LocalDateTime getTimestamp() {
+				return timestamp;
+			}
+		};
+	}
+
+	@Test
+	public void testAggregate() {
+		var sut = new IncrementalAggregator(false);
+		assertNull(sut.get(START));
+
+		sut.append(valueAt(START.minusSeconds(10), 100));
+		sut.append(valueAt(START.plusSeconds(10), 200));
+		var unchanged = valueAt(START.plusSeconds(20), 300);
+		sut.append(unchanged);
+		sut.append(unchanged); // same Value in next Cycle is ignored
+		sut.append(valueAt(START.plusSeconds(30), null));
+		sut.append(valueAt(START.plusMinutes(5), 400));
+
+		var aggregate = sut.get(START);
+		assertEquals(START, aggregate.getStartTime());
+		assertEquals(3, aggregate.getCount()); // including carry-over of 100
+		assertEquals(200., aggregate.getAverage(), 0.001);
+		assertEquals(100., aggregate.getMin(), 0.001);
+		assertEquals(300., aggregate.getMax(), 0.001);
+		assertEquals(100, aggregate.getFirst());
+		assertEquals(300, aggregate.getLast());
+		assertNull(aggregate.getMostFrequentOption());
+
+		// Period starts exactly with a value -> no carry-over
+		aggregate = sut.get(START.plusMinutes(5));
+		assertEquals(1, aggregate.getCount());
+		assertEquals(400, aggregate.getFirst());
+
+		// No new value since start of period -> last value
+		aggregate = sut.get(START.plusMinutes(15));
+		assertEquals(1, aggregate.getCount());
+		assertEquals(400., aggregate.getMax(), 0.001);
+
+		// Period is not available anymore
+		sut.append(valueAt(START.plusMinutes(10), 1));
+		sut.append(valueAt(START.plusMinutes(15), 1));
+		assertNull(sut.get(START));
+	}
+
+	@Test
+	public void testOptions() {
+		var sut = new IncrementalAggregator(true);
+		sut.append(valueAt(START.plusSeconds(1), 1));
+		sut.append(valueAt(START.plusSeconds(2), 2));
+		sut.append(valueAt(START.plusSeconds(3), 2));
+		sut.append(valueAt(START.plusSeconds(4), 1));
+		assertEquals(Integer.valueOf(1), sut.get(START).getMostFrequentOption()); // tie -> most recent
+
+		sut.append(valueAt(START.plusSeconds(5), 3));
+		sut.append(valueAt(START.plusSeconds(6), 2));
+		assertEquals(Integer.valueOf(2), sut.get(START).getMostFrequentOption());
+	}
+
+	@Test
+	public void testBoolean() {
+		var sut = new IncrementalAggregator(false);
+		sut.append(valueAt(START, true));
+		sut.append(valueAt(START.plusSeconds(1), false));
+		sut.append(valueAt(START.plusSeconds(2), true));
+		sut.append(valueAt(START.plusSeconds(3), true));
+		var aggregate = sut.get(START);
+		assertEquals(0.75, aggregate.getAverage(), 0.001);
+		assertEquals(1., aggregate.getMax(), 0.001);
+	}
+
+}
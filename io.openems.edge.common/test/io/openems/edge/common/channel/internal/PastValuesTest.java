@@ -0,0 +1,105 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	@Test
+	public void testAppendAndGrow() throws InterruptedException {
+		var sut = new PastValues<Integer>(Duration.ofMinutes(5));
+		var values = new ArrayList<Value<Integer>>();
+		for (var i = 0; i < 40; i++) {
+			var value = nextValue(i);
+			values.add(value);
+			sut.append(value);
+		}
+
+		assertEquals(40, sut.size());
+		var map = sut.toTreeMap();
+		assertEquals(40, map.size());
+		assertEquals(values, new ArrayList<>(map.values()));
+	}
+
+	@Test
+	public void testOutOfOrderAndReplace() throws InterruptedException {
+		var sut = new PastValues<Integer>(Duration.ofMinutes(5));
+		var v0 = nextValue(0);
+		var v1 = nextValue(1);
+		var v2 = nextValue(2);
+		sut.append(v0);
+		sut.append(v2);
+		sut.append(v1);
+		assertEquals(3, sut.size());
+		assertSame(v1, sut.toTreeMap().get(v1.getTimestamp()));
+		assertEquals(v0.getTimestamp(), sut.toTreeMap().firstKey());
+		assertEquals(v2.getTimestamp(), sut.toTreeMap().lastKey());
+
+		// Same timestamp replaces existing entry
+		var v1Replacement = new Value<>(null, 11) {
+			@Override
+			public LocalDateTime getTimestamp() {
+				return v1.getTimestamp();
+			}
+		};
+		sut.append(v1Replacement);
+		assertEquals(3, sut.size());
+		assertSame(v1Replacement, sut.toTreeMap().get(v1.getTimestamp()));
+	}
+
+	@Test
+	public void testPrune() throws InterruptedException {
+		var sut = new PastValues<Integer>(Duration.ofMillis(50));
+		for (var i = 0; i < 20; i++) {
+			sut.append(nextValue(i));
+		}
+		Thread.sleep(60);
+		var last = nextValue(99);
+		sut.append(last);
+
+		assertEquals(1, sut.size());
+		assertSame(last, sut.toTreeMap().firstEntry().getValue());
+	}
+
+	@Test
+	public void testForEachSinceAndFindFirstSince() throws InterruptedException {
+		var sut = new PastValues<Integer>(Duration.ofMinutes(5));
+		var values = new ArrayList<Value<Integer>>();
+		for (var i = 0; i < 20; i++) {
+			var value = nextValue(i);
+			values.add(value);
+			sut.append(value);
+		}
+
+		// Since is inclusive
+		var result = new ArrayList<Value<Integer>>();
+		assertEquals(5, sut.forEachSince(values.get(15).getTimestamp(), result::add));
+		assertEquals(values.subList(15, 20), result);
+
+		result.clear();
+		assertEquals(20, sut.forEachSince(null, result::add));
+		assertEquals(values, result);
+		assertEquals(0, sut.forEachSince(values.get(19).getTimestamp().plusSeconds(1), result::add));
+
+		// Oldest matching value
+		assertSame(values.get(10), sut.findFirstSince(null, v -> v.get() >= 10));
+		assertSame(values.get(12), sut.findFirstSince(values.get(12).getTimestamp(), v -> v.get() >= 10));
+		assertNull(sut.findFirstSince(null, v -> v.get() > 100));
+	}
+
+	private static Value<Integer> nextValue(int value) throws InterruptedException {
+		// Make sure every Value has a distinct timestamp
+		Thread.sleep(1);
+		return new Value<>(null, value);
+	}
+
+}
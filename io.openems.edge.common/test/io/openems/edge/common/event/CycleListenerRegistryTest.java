@@ -0,0 +1,65 @@
+package io.openems.edge.common.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CycleListenerRegistryTest {
+
+	private static final CycleEvent[] EVENTS = CycleEvent.values();
+
+	private static class CountingListener implements CycleListener {
+
+		private final Set<CycleEvent> events;
+		private long count = 0;
+
+		private CountingListener(Set<CycleEvent> events) {
+			this.events = events;
+		}
+
+		@Override
+		public void handleCycleEvent(CycleEvent event) {
+			this.count++;
+		}
+	}
+
+	@Test
+	public void testRegisterAndDispatch() {
+		var sut = new CycleListenerRegistry();
+		var listener1 = new CountingListener(EnumSet.of(CycleEvent.BEFORE_WRITE, CycleEvent.AFTER_WRITE));
+		var listener2 = new CountingListener(EnumSet.of(CycleEvent.AFTER_WRITE));
+		sut.register(listener1, listener1.events);
+		sut.register(listener1, listener1.events); // ignore duplicate
+		sut.register(listener2, listener2.events);
+		assertEquals(1, sut.size(CycleEvent.BEFORE_WRITE));
+		assertEquals(2, sut.size(CycleEvent.AFTER_WRITE));
+
+		var timed = new ArrayList<CycleListener>();
+		for (var event : EVENTS) {
+			sut.dispatch(event, (listener, nanos) -> timed.add(listener));
+		}
+		assertEquals(2, listener1.count);
+		assertEquals(1, listener2.count);
+		assertEquals(List.of(listener1, listener1, listener2), timed);
+
+		sut.unregister(listener1);
+		assertEquals(0, sut.size(CycleEvent.BEFORE_WRITE));
+		assertEquals(1, sut.size(CycleEvent.AFTER_WRITE));
+	}
+
+	@Test
+	public void testParseEvents() {
+		assertEquals(EnumSet.of(CycleEvent.BEFORE_WRITE, CycleEvent.AFTER_WRITE), CycleListenerRegistry.parseEvents(//
+				Map.of(CycleListener.PROPERTY_EVENTS, new String[] { "BEFORE_WRITE", "AFTER_WRITE", "FOO" })));
+		assertEquals(EnumSet.of(CycleEvent.EXECUTE_WRITE), CycleListenerRegistry.parseEvents(//
+				Map.of(CycleListener.PROPERTY_EVENTS, "EXECUTE_WRITE")));
+		assertEquals(EnumSet.noneOf(CycleEvent.class), CycleListenerRegistry.parseEvents(Map.of()));
+	}
+
+}
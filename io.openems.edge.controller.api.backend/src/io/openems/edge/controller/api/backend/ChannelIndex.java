@@ -0,0 +1,141 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * A precomputed index of the Channels whose values are sent to the Backend.
+ *
+ * <p>
+ * Holds the Channels and their Channel-Address Strings in arrays, so collecting
+ * the values on every Cycle is a tight loop that does not create
+ * {@link io.openems.common.types.ChannelAddress} objects or Strings. The index
+ * is rebuilt only if the enabled Components, the number of their Channels or
+ * the configured {@link PersistencePriority} change.
+ */
+final class ChannelIndex {
+
+	private final PersistencePriority persistencePriority;
+	private final OpenemsComponent[] components;
+	private final int[] numberOfChannels;
+	private final Channel<?>[] channels;
+	private final String[] addresses;
+
+	private ChannelIndex(PersistencePriority persistencePriority, OpenemsComponent[] components,
+			int[] numberOfChannels, Channel<?>[] channels, String[] addresses) {
+		this.persistencePriority = persistencePriority;
+		this.components = components;
+		this.numberOfChannels = numberOfChannels;
+		this.channels = channels;
+		this.addresses = addresses;
+	}
+
+	/**
+	 * Builds a {@link ChannelIndex}. WRITE_ONLY Channels and Channels with a
+	 * lower {@link PersistencePriority} are ignored.
+	 *
+	 * @param components          the enabled {@link OpenemsComponent}s
+	 * @param persistencePriority the minimum {@link PersistencePriority}
+	 * @param onDuplicate         called with the Channel-Address of ignored
+	 *                            duplicated Channels
+	 * @return the {@link ChannelIndex}
+	 */
+	public static ChannelIndex from(List<OpenemsComponent> components, PersistencePriority persistencePriority,
+			Consumer<String> onDuplicate) {
+		final var numberOfChannels = new int[components.size()];
+		final var channels = new ArrayList<Channel<?>>();
+		final var addresses = new ArrayList<String>();
+		final var uniqueAddresses = new HashSet<String>();
+		for (var i = 0; i < numberOfChannels.length; i++) {
+			final var componentChannels = components.get(i).channels();
+			numberOfChannels[i] = componentChannels.size();
+			for (var channel : componentChannels) {
+				final var doc = channel.channelDoc();
+				if (doc.getAccessMode() == AccessMode.WRITE_ONLY
+						|| !doc.getPersistencePriority().isAtLeast(persistencePriority)) {
+					continue;
+				}
+				final var address = channel.address().toString();
+				if (!uniqueAddresses.add(address)) {
+					onDuplicate.accept(address);
+					continue;
+				}
+				channels.add(channel);
+				addresses.add(address);
+			}
+		}
+		return new ChannelIndex(persistencePriority, components.toArray(OpenemsComponent[]::new), numberOfChannels,
+				channels.toArray(Channel<?>[]::new), addresses.toArray(String[]::new));
+	}
+
+	/**
+	 * Checks if this index is still valid for the given Components and
+	 * {@link PersistencePriority}.
+	 *
+	 * @param components          the enabled {@link OpenemsComponent}s
+	 * @param persistencePriority the minimum {@link PersistencePriority}
+	 * @return true if the index does not need to be rebuilt
+	 */
+	public boolean matches(List<OpenemsComponent> components, PersistencePriority persistencePriority) {
+		if (this.persistencePriority != persistencePriority || this.components.length != components.size()) {
+			return false;
+		}
+		for (var i = 0; i < this.components.length; i++) {
+			final var component = components.get(i);
+			if (this.components[i] != component || this.numberOfChannels[i] != component.channels().size()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Collects the current values of all indexed Channels.
+	 *
+	 * @return the values; same order as the index
+	 */
+	public Object[] collectValues() {
+		final var values = new Object[this.channels.length];
+		for (var i = 0; i < values.length; i++) {
+			values[i] = this.channels[i].value().get();
+		}
+		return values;
+	}
+
+	/**
+	 * Gets the number of indexed Channels.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.channels.length;
+	}
+
+	/**
+	 * Gets the Channel at the given position.
+	 *
+	 * @param index the position
+	 * @return the {@link Channel}
+	 */
+	public Channel<?> getChannel(int index) {
+		return this.channels[index];
+	}
+
+	/**
+	 * Gets the Channel-Address String of the Channel at the given position.
+	 *
+	 * @param index the position
+	 * @return the Channel-Address
+	 */
+	public String getAddress(int index) {
+		return this.addresses[index];
+	}
+
+}
@@ -8,6 +8,7 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.OpenemsOEM;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.websocket.Compression;
 
 @ObjectClassDefinition(//
 		name = "Controller Api Backend", //
@@ -50,6 +51,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Binary Data Encoding", description = "Send current data in a compact binary encoding, if supported by OpenEMS Backend.")
+	boolean binaryDataEncoding() default false;
+
+	@AttributeDefinition(name = "Compression", description = "Compress messages to OpenEMS Backend, if supported by OpenEMS Backend. Reduces traffic on metered connections at the cost of CPU.")
+	Compression compression() default Compression.OFF;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
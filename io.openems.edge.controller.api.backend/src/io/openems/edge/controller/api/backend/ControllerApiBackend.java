@@ -8,6 +8,7 @@ import io.openems.common.channel.PersistencePriority;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.StringReadChannel;
@@ -28,6 +29,12 @@ public interface ControllerApiBackend extends Controller, JsonApi, OpenemsCompon
 				// Make sure this is always persisted, as it is required for resending
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Latest timestamp of successfully resent data")), //
+		SEND_QUEUE_SIZE(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of queued messages to the Backend")), //
+		SEND_QUEUE_MERGED(Doc.of(OpenemsType.LONG) //
+				.text("Number of Cycles that were merged into a later message, because the send queue was full")), //
+		SEND_QUEUE_DROPPED(Doc.of(OpenemsType.LONG) //
+				.text("Number of messages that were dropped, because the send queue was full or sending failed")), //
 		;
 
 		private final Doc doc;
@@ -69,6 +76,60 @@ public interface ControllerApiBackend extends Controller, JsonApi, OpenemsCompon
 		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SEND_QUEUE_SIZE}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSendQueueSizeChannel() {
+		return this.channel(ChannelId.SEND_QUEUE_SIZE);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SEND_QUEUE_SIZE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSendQueueSize(int value) {
+		this.getSendQueueSizeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SEND_QUEUE_MERGED}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSendQueueMergedChannel() {
+		return this.channel(ChannelId.SEND_QUEUE_MERGED);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SEND_QUEUE_MERGED} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSendQueueMerged(long value) {
+		this.getSendQueueMergedChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SEND_QUEUE_DROPPED}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSendQueueDroppedChannel() {
+		return this.channel(ChannelId.SEND_QUEUE_DROPPED);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SEND_QUEUE_DROPPED} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSendQueueDropped(long value) {
+		this.getSendQueueDroppedChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets if the edge is currently connected to the backend.
 	 * 
@@ -39,6 +39,7 @@ import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataEncoding;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -139,9 +140,12 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryDataEncoding()) {
+			httpHeaders.put(BinaryDataEncoding.HTTP_HEADER, BinaryDataEncoding.VERSION_1);
+		}
 
 		// Create Websocket instance
-		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
+		this.websocket = new WebsocketClient(this, name, uri, config.compression(), httpHeaders, proxy);
 		this.websocket.start();
 
 		this.resendHistoricDataWorker.setConfig(new ResendHistoricDataWorker.Config(//
@@ -7,6 +7,8 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonObject;
 
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataEncoding;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -21,6 +23,12 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 	public void run(WebSocket ws, JsonObject handshake) {
 		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
 
+		// Use binary data encoding if Backend accepted it
+		this.parent.websocket.setBinaryDataEncoding(this.parent.config.binaryDataEncoding() && JsonUtils
+				.getAsOptionalString(handshake, BinaryDataEncoding.HTTP_HEADER) //
+				.map(BinaryDataEncoding.VERSION_1::equals) //
+				.orElse(false));
+
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
 		var message = new EdgeConfigNotification(config);
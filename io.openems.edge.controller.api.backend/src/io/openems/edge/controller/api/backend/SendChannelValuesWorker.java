@@ -11,7 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -24,7 +24,6 @@ import java.util.stream.Collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
@@ -38,32 +37,44 @@ import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAggregate;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
+import io.openems.edge.controller.api.backend.SendQueue.AggregatedData;
+import io.openems.edge.controller.api.backend.SendQueue.CurrentData;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
- * collect values of Channels. Sending of values is then delegated to an
- * asynchronous task.
+ * collect values of Channels. Values are added to a bounded {@link SendQueue};
+ * sending is then delegated to an asynchronous task.
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}. Aggregated data is
+ * sent first. While the websocket is disconnected or has more than
+ * {@link #MAX_BUFFERED_BYTES} buffered, nothing is sent and queued Cycles are
+ * merged. Data that fails to send is put back at the head of the queue.
  */
 public class SendChannelValuesWorker {
 
 	private static final int AGGREGATION_MINUTES = 5;
 	private static final int SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS = 300; /* 5 minutes */
+	private static final int MAX_QUEUED_CYCLES = 10;
+	private static final int MAX_QUEUED_AGGREGATED_DATA = 12; /* 1 hour */
+	private static final long MAX_BUFFERED_BYTES = 1024 * 1024; /* 1 MiB */
 
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
 
 	private final ControllerApiBackendImpl parent;
+	private final SendQueue sendQueue = new SendQueue(MAX_QUEUED_CYCLES, MAX_QUEUED_AGGREGATED_DATA);
+	// One pending run drains the whole SendQueue; further triggers are discarded
 	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
 			new ArrayBlockingQueue<>(1), //
 			new ThreadFactoryBuilder().setNameFormat(ControllerApiBackendImpl.COMPONENT_NAME + ":SendWorker-%d")
 					.build(), //
-			new ThreadPoolExecutor.DiscardOldestPolicy());
+			new ThreadPoolExecutor.DiscardPolicy());
 
 	/**
 	 * If true: next 'send' sends all channel values.
@@ -77,9 +88,15 @@ public class SendChannelValuesWorker {
 	private Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * The index of Channels that are sent on every Cycle; rebuilt on change.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private ChannelIndex channelIndex = null;
+
+	/**
+	 * Keeps the {@link ChannelIndex} and the values of last successful send.
+	 */
+	private ChannelIndex lastChannelIndex = null;
+	private Object[] lastAllValues = null;
 
 	private Instant lastSendAggregatedDataTimestamp;
 
@@ -112,48 +129,64 @@ public class SendChannelValuesWorker {
 
 		// Update the values of all channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var channelIndex = this.getChannelIndex(enabledComponents);
+		final var allValues = channelIndex == null ? null : this.collectData(channelIndex);
 		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		if (allValues != null) {
+			this.sendQueue.offerCurrentData(new CurrentData(now, channelIndex, allValues));
+		}
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
 			aggregatedValues.rowMap().forEach((timestamp, data) -> {
-				this.executor.execute(new SendAggregatedDataTask(this, Instant.ofEpochMilli(timestamp), data));
+				this.sendQueue.offerAggregatedData(new AggregatedData(Instant.ofEpochMilli(timestamp), data));
 			});
 		}
+		this.executor.execute(this::sendQueuedData);
+
+		this.parent._setSendQueueSize(this.sendQueue.size());
+		this.parent._setSendQueueMerged(this.sendQueue.getMerged());
+		this.parent._setSendQueueDropped(this.sendQueue.getDropped());
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Gets the {@link ChannelIndex} for the enabled Components; rebuilds it if
+	 * Components or Channels changed.
 	 *
 	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @return the {@link ChannelIndex}; null on error
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	private ChannelIndex getChannelIndex(List<OpenemsComponent> enabledComponents) {
+		final var persistencePriority = this.parent.config.persistencePriority();
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
+			var channelIndex = this.channelIndex;
+			if (channelIndex == null || !channelIndex.matches(enabledComponents, persistencePriority)) {
+				channelIndex = ChannelIndex.from(enabledComponents, persistencePriority, //
+						address -> this.parent.logWarn(this.log, "Duplicate Key [" + address + "]"));
+				this.channelIndex = channelIndex;
+			}
+			return channelIndex;
 		} catch (Exception e) {
 			// ConcurrentModificationException can happen if Channels are dynamically added
 			// or removed
+			this.parent.logWarn(this.log, "Unable to index Channels: " + e.getMessage());
+			this.channelIndex = null;
+			return null;
+		}
+	}
+
+	/**
+	 * Cycles through all indexed Channels and collects the value.
+	 *
+	 * @param channelIndex the {@link ChannelIndex}
+	 * @return collected data; null on error
+	 */
+	private Object[] collectData(ChannelIndex channelIndex) {
+		try {
+			return channelIndex.collectValues();
+		} catch (Exception e) {
 			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
+			return null;
 		}
 	}
 
@@ -186,25 +219,34 @@ public class SendChannelValuesWorker {
 								.isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
-						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
-								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
-										channel.getType()));
-
-						// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
-						// this behaviour
-						if (channel.channelDoc() instanceof EnumDoc) {
-							value = aggregateEnumChannel(channel, channelStartTime, endTime);
+						final var isCumulated = channel.channelDoc().getUnit().isCumulated();
+						final var aggregate = channel.getPastValuesAggregate(startTime);
+						JsonElement value;
+						if (aggregate != null) {
+							// Use the incrementally maintained aggregate
+							value = aggregate(isCumulated, channel.getType(), aggregate);
+
+						} else {
+							// This is the highest timestamp before `startTime`. If existing it is used for
+							// the tailMap to make sure we get a Value even for Channels where the value has
+							// not changed within the last 5 minutes.
+							var pastValues = channel.getPastValues();
+							var channelStartTime = Optional.ofNullable(pastValues.floorKey(startTime))
+									.orElse(startTime);
+
+							value = pastValues //
+									.tailMap(channelStartTime, true) //
+									.entrySet() //
+									.stream() //
+									.filter(e -> e.getKey().isBefore(endTime)) //
+									.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
+									.collect(aggregateCollector(isCumulated, channel.getType()));
+
+							// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may
+							// want this behaviour
+							if (channel.channelDoc() instanceof EnumDoc) {
+								value = aggregateEnumChannel(channel, pastValues, channelStartTime, endTime);
+							}
 						}
 
 						if (!sendAllChannels && value.isJsonNull()) {
@@ -222,6 +264,7 @@ public class SendChannelValuesWorker {
 	// TODO aggregation should be moved to doc
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
+			NavigableMap<LocalDateTime, ? extends Value<?>> pastValues, //
 			LocalDateTime channelStartTime, //
 			LocalDateTime endTime //
 	) {
@@ -229,7 +272,7 @@ public class SendChannelValuesWorker {
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
+		final var numberOfValuesPerOption = pastValues //
 				.tailMap(channelStartTime, true) //
 				.entrySet() //
 				.stream() //
@@ -258,7 +301,7 @@ public class SendChannelValuesWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		for (var entry : pastValues.descendingMap().entrySet()) {
 			for (var optionValue : maxValues) {
 				if (!entry.getValue().isDefined()) {
 					continue;
@@ -286,6 +329,32 @@ public class SendChannelValuesWorker {
 		);
 	}
 
+	/**
+	 * Aggregates a {@link ChannelAggregate} the same way as
+	 * {@link #aggregate(boolean, OpenemsType, Collection)} and
+	 * {@link #aggregateEnumChannel(Channel, NavigableMap, LocalDateTime, LocalDateTime)}.
+	 *
+	 * @param isCumulated if the Channel is cumulated
+	 * @param type        the {@link OpenemsType} of the Channel
+	 * @param aggregate   the {@link ChannelAggregate}
+	 * @return the aggregated value; {@link JsonNull} if there are no values
+	 */
+	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, ChannelAggregate aggregate) {
+		if (aggregate.getCount() == 0) {
+			return JsonNull.INSTANCE;
+		}
+		if (aggregate.getMostFrequentOption() != null) {
+			return new JsonPrimitive(aggregate.getMostFrequentOption());
+		}
+		return switch (type) {
+		case DOUBLE, FLOAT -> new JsonPrimitive(isCumulated ? aggregate.getMax() : aggregate.getAverage());
+		// round averages to their type
+		case BOOLEAN, LONG, INTEGER, SHORT -> new JsonPrimitive(
+				isCumulated ? (long) aggregate.getMax() : Math.round(aggregate.getAverage()));
+		case STRING -> new JsonPrimitive(TypeUtils.<String>getAsType(type, aggregate.getFirst()));
+		};
+	}
+
 	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, Collection<Object> values)
 			throws IllegalArgumentException {
 		switch (type) {
@@ -333,107 +402,138 @@ public class SendChannelValuesWorker {
 	/*
 	 * From here things run asynchronously.
 	 */
-	private static class SendTask implements Runnable {
 
-		private final SendChannelValuesWorker parent;
-		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
-
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
-			this.parent = parent;
-			this.timestamp = timestamp;
-			this.allValues = allValues;
+	/**
+	 * Sends queued data; aggregated data first. Stops while the websocket is
+	 * disconnected or applies backpressure, i.e. queued data stays in the
+	 * {@link SendQueue}.
+	 */
+	private void sendQueuedData() {
+		final var websocket = this.parent.websocket;
+		if (websocket == null) {
+			return;
 		}
 
-		@Override
-		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
+		while (canSend(websocket)) {
+			final var data = this.sendQueue.pollAggregatedData();
+			if (data == null) {
+				break;
+			}
+			if (!this.sendAggregatedData(websocket, data)) {
+				this.sendQueue.requeueAggregatedData(data);
+				return;
+			}
+		}
 
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
+		if (!canSend(websocket)) {
+			return;
+		}
+		final var currentData = this.sendQueue.pollCurrentData();
+		if (!currentData.isEmpty() && !this.sendCurrentData(websocket, currentData)) {
+			this.sendQueue.requeueCurrentData(currentData);
+		}
+	}
 
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
+	/**
+	 * Is the websocket connected and not applying backpressure?.
+	 *
+	 * @param websocket the {@link WebsocketClient}
+	 * @return true if data can be sent
+	 */
+	private static boolean canSend(WebsocketClient websocket) {
+		// Buffered bytes are zero while disconnected
+		return websocket.isConnected() && websocket.getBufferedBytes() <= MAX_BUFFERED_BYTES;
+	}
 
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
-			}
+	private boolean sendCurrentData(WebsocketClient websocket, List<CurrentData> currentData) {
+		final var first = currentData.get(0);
+		final var last = currentData.get(currentData.size() - 1);
 
-			// Round timestamp to Global Cycle-Time
-			final var cycleTime = this.parent.parent.cycle.getCycleTime();
-			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
+		// Holds the data of the last successful send. If it is null, it is also used as
+		// a marker to send all data.
+		Object[] lastAllValues;
 
-			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
+		final var isSendAllRequested = this.sendValuesOfAllChannels.getAndSet(false);
+		if (isSendAllRequested) {
+			// Send values of all Channels if explicitly asked for
+			lastAllValues = null;
 
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
-				}
-			}
+		} else if (Duration.between(this.lastSendValuesOfAllChannels, first.timestamp())
+				.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
+			// Send values of all Channels once in a while
+			lastAllValues = null;
 
-			// Create JSON-RPC notification
-			var message = new TimestampedDataNotification();
-			message.add(timestampMillis, sendValuesMap);
+		} else if (this.lastChannelIndex != first.channelIndex()) {
+			// Channels changed; values are not comparable
+			lastAllValues = null;
 
-			// Debug-Log
-			if (this.parent.parent.config.debugMode()) {
-				this.parent.parent.logInfo(this.parent.log,
-						"Sending [" + sendValuesMap.size() + " values]: " + sendValuesMap);
+		} else {
+			// Actually use the kept 'lastSentValues'
+			lastAllValues = this.lastAllValues;
+		}
+		final var isSendAll = lastAllValues == null;
+
+		// Round timestamp to Global Cycle-Time
+		final var cycleTime = this.parent.cycle.getCycleTime();
+
+		// Merge the Changed values of all queued Cycles into one message
+		final var message = new TimestampedDataNotification();
+		var lastChannelIndex = first.channelIndex();
+		var numberOfValues = 0;
+		for (var data : currentData) {
+			final var channelIndex = data.channelIndex();
+			final var values = data.values();
+			if (channelIndex != lastChannelIndex) {
+				lastAllValues = null;
 			}
-
-			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
-
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
+			final var timestampMillis = data.timestamp().toEpochMilli() / cycleTime * cycleTime;
+			final var sendValuesMap = new HashMap<String, JsonElement>();
+			for (var i = 0; i < values.length; i++) {
+				var value = values[i];
+				if (lastAllValues == null || !Objects.equals(value, lastAllValues[i])) {
+					sendValuesMap.put(channelIndex.getAddress(i), //
+							TypeUtils.getAsJson(channelIndex.getChannel(i).getType(), value));
 				}
 			}
-
+			message.add(timestampMillis, sendValuesMap);
+			numberOfValues += sendValuesMap.size();
+			lastChannelIndex = channelIndex;
+			lastAllValues = values;
 		}
 
-	}
-
-	private static final class SendAggregatedDataTask implements Runnable {
+		// Debug-Log
+		if (this.parent.config.debugMode()) {
+			this.parent.logInfo(this.log, "Sending [" + numberOfValues + " values of " + currentData.size()
+					+ " Cycles]: " + message.getData());
+		}
 
-		private final SendChannelValuesWorker parent;
-		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
+		// Try to send
+		var wasSent = websocket.sendTimestampedData(message);
 
-		public SendAggregatedDataTask(SendChannelValuesWorker parent, Instant timestamp,
-				Map<String, JsonElement> allValues) {
-			super();
-			this.parent = parent;
-			this.timestamp = timestamp;
-			this.allValues = allValues;
+		if (wasSent) {
+			// Successfully sent: update information for next runs
+			this.lastChannelIndex = last.channelIndex();
+			this.lastAllValues = last.values();
+			if (isSendAll) {
+				// 'lastSentValues' was empty, i.e. all values were sent
+				this.lastSendValuesOfAllChannels = first.timestamp();
+			}
+		} else if (isSendAllRequested) {
+			// Keep the request for the next try
+			this.sendValuesOfAllChannels.set(true);
 		}
+		return wasSent;
+	}
 
-		@Override
-		public void run() {
-			final var message = new AggregatedDataNotification();
-			message.add(this.timestamp.toEpochMilli(), this.allValues);
-
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+	private boolean sendAggregatedData(WebsocketClient websocket, AggregatedData data) {
+		final var message = new AggregatedDataNotification();
+		message.add(data.timestamp().toEpochMilli(), data.values());
 
-			// Set the UNABLE_TO_SEND channel
-			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
-		}
+		final var wasSent = websocket.sendMessage(message);
 
+		// Set the UNABLE_TO_SEND channel
+		this.parent.getUnableToSendChannel().setNextValue(!wasSent);
+		return wasSent;
 	}
 
-}
\ No newline at end of file
+}
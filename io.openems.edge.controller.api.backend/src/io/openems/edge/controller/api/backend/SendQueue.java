@@ -0,0 +1,162 @@
+package io.openems.edge.controller.api.backend;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+
+/**
+ * The bounded outbound queue for data that is sent to the OpenEMS Backend.
+ *
+ * <p>
+ * Aggregated data is kept in its own queue and is sent first. Current data is
+ * sent as a delta to the last successfully sent values, so if the queue of
+ * current data is full, the oldest entry is merged into the following one
+ * instead of being lost completely; only its intermediate values are lost.
+ */
+final class SendQueue {
+
+	/**
+	 * Current data of one Cycle.
+	 *
+	 * @param timestamp    the timestamp of the Cycle
+	 * @param channelIndex the {@link ChannelIndex}
+	 * @param values       the values in order of the {@link ChannelIndex}
+	 */
+	static record CurrentData(Instant timestamp, ChannelIndex channelIndex, Object[] values) {
+	}
+
+	/**
+	 * Aggregated data of one period.
+	 *
+	 * @param timestamp the start of the period
+	 * @param values    the aggregated values by Channel-Address
+	 */
+	static record AggregatedData(Instant timestamp, Map<String, JsonElement> values) {
+	}
+
+	private final int maxCurrentData;
+	private final int maxAggregatedData;
+	private final ArrayDeque<CurrentData> currentData = new ArrayDeque<>();
+	private final ArrayDeque<AggregatedData> aggregatedData = new ArrayDeque<>();
+
+	private long merged = 0;
+	private long dropped = 0;
+
+	public SendQueue(int maxCurrentData, int maxAggregatedData) {
+		this.maxCurrentData = Math.max(1, maxCurrentData);
+		this.maxAggregatedData = Math.max(1, maxAggregatedData);
+	}
+
+	/**
+	 * Adds {@link CurrentData}. If the queue is full, the oldest entry is merged
+	 * into its successor.
+	 *
+	 * @param data the {@link CurrentData}
+	 */
+	public synchronized void offerCurrentData(CurrentData data) {
+		if (this.currentData.size() >= this.maxCurrentData) {
+			this.currentData.pollFirst();
+			this.merged++;
+		}
+		this.currentData.addLast(data);
+	}
+
+	/**
+	 * Adds {@link AggregatedData}. If the queue is full, the oldest entry is
+	 * dropped.
+	 *
+	 * @param data the {@link AggregatedData}
+	 */
+	public synchronized void offerAggregatedData(AggregatedData data) {
+		if (this.aggregatedData.size() >= this.maxAggregatedData) {
+			this.aggregatedData.pollFirst();
+			this.dropped++;
+		}
+		this.aggregatedData.addLast(data);
+	}
+
+	/**
+	 * Puts {@link CurrentData} back at the head of the queue, e.g. because sending
+	 * failed. If the queue is full, the oldest entries are merged into their
+	 * successors.
+	 *
+	 * @param data the {@link CurrentData}, oldest first
+	 */
+	public synchronized void requeueCurrentData(List<CurrentData> data) {
+		for (var i = data.size() - 1; i >= 0; i--) {
+			this.currentData.addFirst(data.get(i));
+		}
+		while (this.currentData.size() > this.maxCurrentData) {
+			this.currentData.pollFirst();
+			this.merged++;
+		}
+	}
+
+	/**
+	 * Puts {@link AggregatedData} back at the head of the queue, e.g. because
+	 * sending failed. If the queue is full, the entry is dropped, as it is the
+	 * oldest one.
+	 *
+	 * @param data the {@link AggregatedData}
+	 */
+	public synchronized void requeueAggregatedData(AggregatedData data) {
+		if (this.aggregatedData.size() >= this.maxAggregatedData) {
+			this.dropped++;
+			return;
+		}
+		this.aggregatedData.addFirst(data);
+	}
+
+	/**
+	 * Removes and returns all queued {@link CurrentData}, oldest first.
+	 *
+	 * @return a list of {@link CurrentData}; possibly empty
+	 */
+	public synchronized List<CurrentData> pollCurrentData() {
+		final var result = new ArrayList<>(this.currentData);
+		this.currentData.clear();
+		return result;
+	}
+
+	/**
+	 * Removes and returns the oldest queued {@link AggregatedData}.
+	 *
+	 * @return the {@link AggregatedData}; null if the queue is empty
+	 */
+	public synchronized AggregatedData pollAggregatedData() {
+		return this.aggregatedData.pollFirst();
+	}
+
+	/**
+	 * Gets the number of queued entries.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.currentData.size() + this.aggregatedData.size();
+	}
+
+	/**
+	 * Gets the total number of {@link CurrentData} entries that were merged into
+	 * their successor because the queue was full.
+	 *
+	 * @return the number of merged entries
+	 */
+	public synchronized long getMerged() {
+		return this.merged;
+	}
+
+	/**
+	 * Gets the total number of dropped entries.
+	 *
+	 * @return the number of dropped entries
+	 */
+	public synchronized long getDropped() {
+		return this.dropped;
+	}
+
+}
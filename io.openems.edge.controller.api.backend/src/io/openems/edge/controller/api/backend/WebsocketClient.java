@@ -7,10 +7,14 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.java_websocket.WebSocketImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataEncoding;
+import io.openems.common.websocket.Compression;
 import io.openems.common.websocket.OnClose;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
@@ -24,9 +28,9 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
+	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri, Compression compression,
 			Map<String, String> httpHeaders, Proxy proxy) {
-		super(name, serverUri, httpHeaders, proxy);
+		super(name, serverUri, compression.createDraft(), httpHeaders, proxy);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -36,6 +40,10 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+
+			// The dictionary of the binary data encoding is bound to the connection
+			WsData wsData = ws.getAttachment();
+			wsData.clearClosedBinaryDataEncoder();
 		};
 	}
 
@@ -84,10 +92,61 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Enables or disables the binary data encoding for the current connection.
+	 * Every connection starts with a new, empty dictionary.
+	 *
+	 * @param enabled true if binary data encoding was negotiated with the OpenEMS
+	 *                Backend
+	 */
+	protected void setBinaryDataEncoding(boolean enabled) {
+		WsData wsData = this.ws.getAttachment();
+		wsData.setBinaryDataEncoder(this.ws.getConnection(), enabled ? new BinaryDataEncoding.Encoder() : null);
+	}
+
+	/**
+	 * Sends a {@link TimestampedDataNotification}; binary encoded if this was
+	 * negotiated with the OpenEMS Backend on the current connection, otherwise as
+	 * JSON-RPC.
+	 *
+	 * @param message the {@link TimestampedDataNotification}
+	 * @return true if sending was successful
+	 */
+	public boolean sendTimestampedData(TimestampedDataNotification message) {
+		WsData wsData = this.ws.getAttachment();
+		var encoder = wsData.getBinaryDataEncoder(this.ws.getConnection());
+		if (encoder == null) {
+			return this.sendMessage(message);
+		}
+		var wasSent = this.sendMessage(encoder.encode(message));
+		if (!wasSent) {
+			// Dictionary entries might not have arrived
+			encoder.reset();
+		}
+		return wasSent;
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
 
+	/**
+	 * Gets the number of bytes that were passed to the websocket, but were not yet
+	 * written to the network.
+	 *
+	 * @return the number of buffered bytes
+	 */
+	public long getBufferedBytes() {
+		if (!(this.ws.getConnection() instanceof WebSocketImpl connection)) {
+			return 0;
+		}
+		var result = 0L;
+		for (var buffer : connection.outQueue) {
+			result += buffer.remaining();
+		}
+		return result;
+	}
+
 	@Override
 	protected void execute(Runnable command) {
 		this.parent.execute(command);
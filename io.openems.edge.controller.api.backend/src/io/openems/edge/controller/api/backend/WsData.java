@@ -1,7 +1,65 @@
 package io.openems.edge.controller.api.backend;
 
+import org.java_websocket.WebSocket;
+
+import io.openems.common.websocket.BinaryDataEncoding;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	/**
+	 * Binds a {@link BinaryDataEncoding.Encoder} to one connection; the
+	 * dictionary is only known to the OpenEMS Backend on this connection.
+	 */
+	private record BinarySession(WebSocket connection, BinaryDataEncoding.Encoder encoder) {
+	}
+
+	/**
+	 * The {@link BinarySession} of the current connection; null if the binary data
+	 * encoding was not negotiated with the OpenEMS Backend.
+	 */
+	private BinarySession binarySession = null;
+
+	/**
+	 * Sets the {@link BinaryDataEncoding.Encoder} for a connection.
+	 *
+	 * @param connection        the connection, i.e. the {@link WebSocket} engine
+	 * @param binaryDataEncoder the {@link BinaryDataEncoding.Encoder}; null to use
+	 *                          JSON
+	 */
+	public synchronized void setBinaryDataEncoder(WebSocket connection,
+			BinaryDataEncoding.Encoder binaryDataEncoder) {
+		if (connection == null || binaryDataEncoder == null) {
+			this.binarySession = null;
+		} else {
+			this.binarySession = new BinarySession(connection, binaryDataEncoder);
+		}
+	}
+
+	/**
+	 * Removes the {@link BinaryDataEncoding.Encoder} if its connection is not open
+	 * anymore.
+	 */
+	public synchronized void clearClosedBinaryDataEncoder() {
+		if (this.binarySession != null && !this.binarySession.connection().isOpen()) {
+			this.binarySession = null;
+		}
+	}
+
+	/**
+	 * Gets the {@link BinaryDataEncoding.Encoder} for a connection.
+	 *
+	 * @param connection the connection, i.e. the {@link WebSocket} engine
+	 * @return the {@link BinaryDataEncoding.Encoder}; null to use JSON, e.g. if
+	 *         the handshake of this connection has not completed yet
+	 */
+	public synchronized BinaryDataEncoding.Encoder getBinaryDataEncoder(WebSocket connection) {
+		var session = this.binarySession;
+		if (session == null || session.connection() != connection) {
+			return null;
+		}
+		return session.encoder();
+	}
+
 	@Override
 	public String toString() {
 		return "BackendApi.WsData []";
@@ -4,6 +4,7 @@ import java.net.Proxy.Type;
 
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.test.AbstractComponentConfig;
+import io.openems.common.websocket.Compression;
 
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
@@ -19,6 +20,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryDataEncoding;
+		private Compression compression = Compression.OFF;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +77,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryDataEncoding(boolean binaryDataEncoding) {
+			this.binaryDataEncoding = binaryDataEncoding;
+			return this;
+		}
+
+		public Builder setCompression(Compression compression) {
+			this.compression = compression;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +158,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryDataEncoding() {
+		return this.builder.binaryDataEncoding;
+	}
+
+	@Override
+	public Compression compression() {
+		return this.builder.compression;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
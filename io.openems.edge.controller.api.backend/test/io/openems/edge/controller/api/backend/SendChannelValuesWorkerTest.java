@@ -1,14 +1,17 @@
 package io.openems.edge.controller.api.backend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
 
+import io.openems.common.channel.PersistencePriority;
 import io.openems.common.function.ThrowingFunction;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.types.OptionsEnum;
@@ -119,6 +122,31 @@ public class SendChannelValuesWorkerTest {
 		});
 	}
 
+	@Test
+	public void testChannelIndex() throws Exception {
+		final var component = new DummyComponent("component0");
+		final var components = List.<OpenemsComponent>of(component);
+		final var sut = ChannelIndex.from(components, PersistencePriority.VERY_LOW, address -> {
+		});
+
+		assertTrue(sut.matches(components, PersistencePriority.VERY_LOW));
+		assertFalse(sut.matches(components, PersistencePriority.HIGH));
+		assertFalse(sut.matches(List.of(component, new DummyComponent("component1")), PersistencePriority.VERY_LOW));
+
+		final var channel = component.<Channel<DummyEnum>>channel(DummyComponent.ChannelId.DUMMY_ENUM_CHANNEL);
+		writeValue(channel, DummyEnum.VALUE_2);
+		final var values = sut.collectValues();
+		assertEquals(sut.size(), values.length);
+		var found = false;
+		for (var i = 0; i < sut.size(); i++) {
+			if (sut.getAddress(i).equals("component0/DummyEnumChannel")) {
+				assertEquals(DummyEnum.VALUE_2.getValue(), values[i]);
+				found = true;
+			}
+		}
+		assertTrue(found);
+	}
+
 	private static void testAggregateEnumChannel(int numberOfValues,
 			ThrowingFunction<Channel<?>, DummyEnum, Exception> test) throws Exception {
 		final var component = new DummyComponent("component0");
@@ -129,7 +157,8 @@ public class SendChannelValuesWorkerTest {
 
 		assertEquals(numberOfValues, channel.getPastValues().size());
 
-		final var aggregatedValue = SendChannelValuesWorker.aggregateEnumChannel(channel, start, end);
+		final var aggregatedValue = SendChannelValuesWorker.aggregateEnumChannel(channel, channel.getPastValues(),
+				start, end);
 		assertTrue(aggregatedValue.isJsonPrimitive());
 		assertTrue(aggregatedValue.getAsJsonPrimitive().isNumber());
 		assertEquals(expectedValue.getValue(), aggregatedValue.getAsInt());
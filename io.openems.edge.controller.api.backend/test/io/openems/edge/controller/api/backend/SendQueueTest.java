@@ -0,0 +1,80 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.openems.edge.controller.api.backend.SendQueue.AggregatedData;
+import io.openems.edge.controller.api.backend.SendQueue.CurrentData;
+
+public class SendQueueTest {
+
+	@Test
+	public void testCurrentDataIsMerged() {
+		var sut = new SendQueue(2, 2);
+		for (var i = 0; i < 5; i++) {
+			sut.offerCurrentData(new CurrentData(Instant.ofEpochSecond(i), null, new Object[] { i }));
+		}
+		assertEquals(2, sut.size());
+		assertEquals(3, sut.getMerged());
+		assertEquals(0, sut.getDropped());
+
+		var data = sut.pollCurrentData();
+		assertEquals(2, data.size());
+		assertEquals(Instant.ofEpochSecond(3), data.get(0).timestamp());
+		assertEquals(Instant.ofEpochSecond(4), data.get(1).timestamp());
+		assertTrue(sut.pollCurrentData().isEmpty());
+	}
+
+	@Test
+	public void testAggregatedDataIsDropped() {
+		var sut = new SendQueue(2, 2);
+		for (var i = 0; i < 3; i++) {
+			sut.offerAggregatedData(new AggregatedData(Instant.ofEpochSecond(i), Map.of()));
+		}
+		assertEquals(1, sut.getDropped());
+		assertEquals(Instant.ofEpochSecond(1), sut.pollAggregatedData().timestamp());
+		assertEquals(Instant.ofEpochSecond(2), sut.pollAggregatedData().timestamp());
+		assertNull(sut.pollAggregatedData());
+	}
+
+	@Test
+	public void testRequeue() {
+		var sut = new SendQueue(2, 2);
+		sut.offerAggregatedData(new AggregatedData(Instant.ofEpochSecond(0), Map.of()));
+		sut.offerAggregatedData(new AggregatedData(Instant.ofEpochSecond(1), Map.of()));
+
+		// Failed send is retried first
+		var aggregated = sut.pollAggregatedData();
+		sut.requeueAggregatedData(aggregated);
+		assertEquals(0, sut.getDropped());
+		assertEquals(Instant.ofEpochSecond(0), sut.pollAggregatedData().timestamp());
+
+		// Queue got full in the meantime -> requeued entry is the oldest one
+		sut.offerAggregatedData(new AggregatedData(Instant.ofEpochSecond(2), Map.of()));
+		sut.requeueAggregatedData(aggregated);
+		assertEquals(1, sut.getDropped());
+		assertEquals(Instant.ofEpochSecond(1), sut.pollAggregatedData().timestamp());
+
+		sut.offerCurrentData(new CurrentData(Instant.ofEpochSecond(0), null, new Object[] { 0 }));
+		var current = sut.pollCurrentData();
+		sut.offerCurrentData(new CurrentData(Instant.ofEpochSecond(1), null, new Object[] { 1 }));
+		sut.requeueCurrentData(current);
+		var data = sut.pollCurrentData();
+		assertEquals(2, data.size());
+		assertEquals(Instant.ofEpochSecond(0), data.get(0).timestamp());
+		assertEquals(Instant.ofEpochSecond(1), data.get(1).timestamp());
+
+		// Oldest requeued entries are merged if the queue is full
+		sut.offerCurrentData(new CurrentData(Instant.ofEpochSecond(2), null, new Object[] { 2 }));
+		sut.requeueCurrentData(data);
+		assertEquals(1, sut.getMerged());
+		assertEquals(Instant.ofEpochSecond(1), sut.pollCurrentData().get(0).timestamp());
+	}
+
+}
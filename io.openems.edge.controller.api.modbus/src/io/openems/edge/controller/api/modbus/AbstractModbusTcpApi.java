@@ -100,6 +100,9 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 		// configuration settings
 		this.config = config;
+		if (!config.snapshotProcessImage) {
+			this.processImage.clearSnapshot();
+		}
 
 		// update filter for 'Components'; allow disable components
 		final var filter = ConfigUtils.generateReferenceTargetFilter(this.servicePid(), false, config.componentIds);
@@ -140,6 +143,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 		// Initialize Modbus Records
 		this.initializeModbusRecords(this.config.metaComponent, this.config.componentIds);
+		this.processImage.updateLayout();
 	}
 
 	@Override
@@ -338,9 +342,27 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		}
 
 		this.updateCycleValues();
+		this.updateProcessImageSnapshot();
 		this.apiWorker.run();
 	}
 
+	/**
+	 * Once every cycle: encode all Records into a new snapshot of the process
+	 * image, if enabled.
+	 */
+	private void updateProcessImageSnapshot() {
+		if (!this.config.snapshotProcessImage) {
+			return;
+		}
+		try {
+			this.processImage.updateSnapshot();
+		} catch (RuntimeException e) {
+			this.logWarn(this.log, "Unable to update Process Image snapshot: " + e.getMessage());
+			this._setProcessImageFault(true);
+			this.processImage.clearSnapshot();
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	/**
 	 * Once every cycle: update the values for each registered
@@ -431,15 +453,17 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		public final int apiTimeout;
 		public final int port;
 		public final int maxConcurrentConnections;
+		public final boolean snapshotProcessImage;
 
 		public ConfigRecord(Meta metaComponent, String[] componentIds, int apiTimeout, int port,
-				int maxConcurrentConnections) {
+				int maxConcurrentConnections, boolean snapshotProcessImage) {
 			super();
 			this.metaComponent = metaComponent;
 			this.componentIds = componentIds;
 			this.apiTimeout = apiTimeout;
 			this.port = port;
 			this.maxConcurrentConnections = maxConcurrentConnections;
+			this.snapshotProcessImage = snapshotProcessImage;
 		}
 	}
 }
@@ -27,12 +27,54 @@ public class MyProcessImage implements ProcessImage {
 
 	protected final AbstractModbusTcpApi parent;
 
+	/**
+	 * The {@link ProcessImageSnapshot} of the last Cycle; null if snapshots are
+	 * disabled.
+	 */
+	private volatile ProcessImageSnapshot snapshot = null;
+
+	/**
+	 * The {@link ProcessImageSnapshot.Layout} of the current Records; null if it
+	 * needs to be calculated.
+	 */
+	private volatile ProcessImageSnapshot.Layout layout = null;
+
 	protected MyProcessImage(AbstractModbusTcpApi parent) {
 		this.parent = parent;
 	}
 
+	/**
+	 * Encodes all Records into a new {@link ProcessImageSnapshot}. Called once per
+	 * Cycle if snapshots are enabled; reads are then served from the snapshot
+	 * without locking.
+	 */
+	protected void updateSnapshot() {
+		var layout = this.layout;
+		if (layout == null) {
+			layout = ProcessImageSnapshot.Layout.from(this.parent.records);
+			this.layout = layout;
+		}
+		this.snapshot = ProcessImageSnapshot.from(layout, this.parent::getPossiblyDisabledComponent);
+	}
+
+	/**
+	 * Recalculates the {@link ProcessImageSnapshot.Layout}. Called whenever the
+	 * Records change.
+	 */
+	protected void updateLayout() {
+		this.layout = ProcessImageSnapshot.Layout.from(this.parent.records);
+	}
+
+	/**
+	 * Disables the {@link ProcessImageSnapshot}; reads are served from the
+	 * Records again.
+	 */
+	protected void clearSnapshot() {
+		this.snapshot = null;
+	}
+
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
 			var registers = this.getRegisterRange(offset, count);
@@ -51,7 +93,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 
 		try {
@@ -65,30 +107,12 @@ public class MyProcessImage implements ProcessImage {
 				throw new MyIllegalAddressException(this, "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
-			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
-				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
-				}
-
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
-				// make sure this Record fits
-				if (result.length < i + registers.length) {
-					throw new MyIllegalAddressException(this,
-							"Record for Modbus address [" + ref + "] does not fit in Result.");
-				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
-
-				// increase i by word length
-				i += registers.length;
+			var snapshot = this.snapshot;
+			final Register[] result;
+			if (snapshot != null) {
+				result = snapshot.getRegisterRange(this, offset, count);
+			} else {
+				result = this.getRegisterRangeFromRecords(offset, count);
 			}
 			this.parent._setProcessImageFault(false);
 			return result;
@@ -99,29 +123,50 @@ public class MyProcessImage implements ProcessImage {
 		}
 	}
 
-	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
-		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
-
-		try {
-			var record = this.parent.records.get(ref);
-
-			// make sure the ModbusRecord is available
+	private synchronized Register[] getRegisterRangeFromRecords(int offset, int count)
+			throws MyIllegalAddressException {
+		var records = this.parent.records.subMap(offset, offset + count);
+		var result = new Register[count];
+		for (var i = 0; i < count;) {
+			// Get record for modbus address
+			var ref = i + offset;
+			var record = records.get(ref);
 			if (record == null) {
-				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
+				record = new ModbusRecordUint16Reserved(ref);
 			}
 
 			// Get Registers from Record
 			var registers = this.getRecordValueRegisters(record);
 
-			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			// make sure this Record fits
+			if (result.length < i + registers.length) {
 				throw new MyIllegalAddressException(this,
-						"Record for Modbus address [" + ref + "] requires more than one Register.");
+						"Record for Modbus address [" + ref + "] does not fit in Result.");
 			}
+			for (var j = 0; j < registers.length; j++) {
+				result[i + j] = registers[j];
+			}
+
+			// increase i by word length
+			i += registers.length;
+		}
+		return result;
+	}
+
+	@Override
+	public Register getRegister(int ref) throws MyIllegalAddressException {
+		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 
+		try {
+			var snapshot = this.snapshot;
+			final Register result;
+			if (snapshot != null) {
+				result = snapshot.getRegister(this, ref);
+			} else {
+				result = this.getRegisterFromRecords(ref);
+			}
 			this.parent._setProcessImageFault(false);
-			return registers[0];
+			return result;
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
@@ -129,6 +174,25 @@ public class MyProcessImage implements ProcessImage {
 		}
 	}
 
+	private synchronized Register getRegisterFromRecords(int ref) throws MyIllegalAddressException {
+		var record = this.parent.records.get(ref);
+
+		// make sure the ModbusRecord is available
+		if (record == null) {
+			throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
+		}
+
+		// Get Registers from Record
+		var registers = this.getRecordValueRegisters(record);
+
+		// make sure this Record requires only one Register/Word
+		if (registers.length > 1) {
+			throw new MyIllegalAddressException(this,
+					"Record for Modbus address [" + ref + "] requires more than one Register.");
+		}
+		return registers[0];
+	}
+
 	/**
 	 * Get value as byte-array and convert it to InputRegisters.
 	 *
@@ -141,7 +205,7 @@ public class MyProcessImage implements ProcessImage {
 		{
 			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
 			if (cmp != null && !cmp.isEnabled()) {
-				this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "] for " + record);
+				this.logDisabledComponent(cmp.id(), record);
 				component = null;
 			} else {
 				component = cmp;
@@ -161,6 +225,16 @@ public class MyProcessImage implements ProcessImage {
 		return result;
 	}
 
+	/**
+	 * Logs a read of a Record of a disabled Component.
+	 *
+	 * @param componentId the Component-ID
+	 * @param record      the {@link ModbusRecord}
+	 */
+	protected void logDisabledComponent(String componentId, ModbusRecord record) {
+		this.parent.logWarn(this.log, "Trying to access disabled Component [" + componentId + "] for " + record);
+	}
+
 	/**********************************************
 	 * From here, the methods are not implemented!.
 	 **********************************************
@@ -0,0 +1,259 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.NavigableMap;
+import java.util.function.Function;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
+
+/**
+ * An immutable snapshot of the encoded values of all {@link ModbusRecord}s.
+ *
+ * <p>
+ * The values are encoded once per Cycle into one flat byte array, so Modbus
+ * requests only copy bytes and never wait for a lock or for Components. Writes
+ * are still forwarded to the {@link ModbusRecord}, which queues them for the
+ * Cycle.
+ */
+final class ProcessImageSnapshot {
+
+	private static final ModbusRecord RESERVED = new ModbusRecordUint16Reserved(-1);
+	private static final byte[] RESERVED_VALUE = RESERVED.getValue(null);
+
+	/**
+	 * The position of every {@link ModbusRecord} in the encoded values. Only
+	 * changes if the Records change, so it is shared by all snapshots.
+	 */
+	static final class Layout {
+
+		/**
+		 * The {@link ModbusRecord} that starts at an address; null if none.
+		 */
+		private final ModbusRecord[] records;
+
+		/**
+		 * The position of the value of the {@link ModbusRecord} that starts at an
+		 * address in {@link ProcessImageSnapshot#values}.
+		 */
+		private final int[] positions;
+
+		/**
+		 * The number of words of the {@link ModbusRecord} that starts at an address.
+		 */
+		private final int[] words;
+
+		/**
+		 * The index of the Component of the {@link ModbusRecord} that starts at an
+		 * address in {@link #componentIds}; -1 if none.
+		 */
+		private final int[] componentIndexes;
+
+		private final String[] componentIds;
+
+		private final int size;
+
+		private Layout(ModbusRecord[] records, int[] positions, int[] words, int[] componentIndexes,
+				String[] componentIds, int size) {
+			this.records = records;
+			this.positions = positions;
+			this.words = words;
+			this.componentIndexes = componentIndexes;
+			this.componentIds = componentIds;
+			this.size = size;
+		}
+
+		/**
+		 * Calculates the {@link Layout} of the {@link ModbusRecord}s.
+		 *
+		 * @param records the {@link ModbusRecord}s by Modbus address
+		 * @return the {@link Layout}
+		 */
+		public static Layout from(NavigableMap<Integer, ModbusRecord> records) {
+			final var length = records.isEmpty() ? 0 : records.lastKey() + 1;
+			final var recordsByAddress = new ModbusRecord[length];
+			final var positions = new int[length];
+			final var words = new int[length];
+			final var componentIndexes = new int[length];
+			final var componentIds = new ArrayList<String>();
+			final var componentIndexById = new HashMap<String, Integer>();
+			var size = 0;
+
+			for (var entry : records.entrySet()) {
+				final int address = entry.getKey();
+				final var record = entry.getValue();
+				final var componentId = record.getComponentId();
+				if (componentId == null) {
+					componentIndexes[address] = -1;
+				} else {
+					componentIndexes[address] = componentIndexById.computeIfAbsent(componentId, id -> {
+						componentIds.add(id);
+						return componentIds.size() - 1;
+					});
+				}
+				recordsByAddress[address] = record;
+				positions[address] = size;
+				words[address] = record.getType().getWords();
+				size += words[address] * 2;
+			}
+			return new Layout(recordsByAddress, positions, words, componentIndexes,
+					componentIds.toArray(String[]::new), size);
+		}
+	}
+
+	private final Layout layout;
+
+	private final byte[] values;
+
+	/**
+	 * Whether the Component at an index of {@link Layout#componentIds} was
+	 * disabled when the values were encoded.
+	 */
+	private final boolean[] isComponentDisabled;
+
+	private ProcessImageSnapshot(Layout layout, byte[] values, boolean[] isComponentDisabled) {
+		this.layout = layout;
+		this.values = values;
+		this.isComponentDisabled = isComponentDisabled;
+	}
+
+	/**
+	 * Encodes the values of all {@link ModbusRecord}s of a {@link Layout}.
+	 *
+	 * @param layout       the {@link Layout}
+	 * @param getComponent gets the possibly disabled Component for a Component-ID;
+	 *                     possibly null
+	 * @return the {@link ProcessImageSnapshot}
+	 */
+	public static ProcessImageSnapshot from(Layout layout, Function<String, OpenemsComponent> getComponent) {
+		// Resolve every Component only once
+		final var components = new OpenemsComponent[layout.componentIds.length];
+		final var isComponentDisabled = new boolean[layout.componentIds.length];
+		for (var i = 0; i < components.length; i++) {
+			var component = getComponent.apply(layout.componentIds[i]);
+			if (component != null && !component.isEnabled()) {
+				isComponentDisabled[i] = true;
+				component = null;
+			}
+			components[i] = component;
+		}
+
+		final var values = new byte[layout.size];
+		for (var address = 0; address < layout.records.length; address++) {
+			final var record = layout.records[address];
+			if (record == null) {
+				continue;
+			}
+			final var componentIndex = layout.componentIndexes[address];
+			final var value = record.getValue(componentIndex < 0 ? null : components[componentIndex]);
+			if (value.length != layout.words[address] * 2) {
+				throw new IllegalStateException("Value of Record for Modbus address [" + address + "] has ["
+						+ value.length + "] bytes; expected [" + layout.words[address] * 2 + "]");
+			}
+			System.arraycopy(value, 0, values, layout.positions[address], value.length);
+		}
+		return new ProcessImageSnapshot(layout, values, isComponentDisabled);
+	}
+
+	/**
+	 * Gets the Registers of a range of addresses. Addresses without
+	 * {@link ModbusRecord} are returned as 'Reserved'.
+	 *
+	 * @param processImage the {@link MyProcessImage} for exceptions and logging
+	 * @param offset       the start address
+	 * @param count        the number of Registers
+	 * @return the Registers
+	 * @throws MyIllegalAddressException if a {@link ModbusRecord} does not fit in
+	 *                                   the range
+	 */
+	public Register[] getRegisterRange(MyProcessImage processImage, int offset, int count)
+			throws MyIllegalAddressException {
+		final var result = new Register[count];
+		for (var i = 0; i < count;) {
+			final var ref = i + offset;
+			final var words = this.getWords(ref);
+
+			// make sure this Record fits
+			if (result.length < i + words) {
+				throw new MyIllegalAddressException(processImage,
+						"Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			this.copyRegisters(processImage, ref, result, i);
+
+			// increase i by word length
+			i += words;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the Register of a single-word {@link ModbusRecord}.
+	 *
+	 * @param processImage the {@link MyProcessImage} for exceptions and logging
+	 * @param ref          the address
+	 * @return the Register
+	 * @throws MyIllegalAddressException if there is no {@link ModbusRecord} or it
+	 *                                   requires more than one Register
+	 */
+	public Register getRegister(MyProcessImage processImage, int ref) throws MyIllegalAddressException {
+		if (!this.hasRecord(ref)) {
+			throw new MyIllegalAddressException(processImage,
+					"Record for Modbus address [" + ref + "] is not available.");
+		}
+		if (this.layout.words[ref] > 1) {
+			throw new MyIllegalAddressException(processImage,
+					"Record for Modbus address [" + ref + "] requires more than one Register.");
+		}
+		final var result = new Register[1];
+		this.copyRegisters(processImage, ref, result, 0);
+		return result[0];
+	}
+
+	private boolean hasRecord(int ref) {
+		return ref >= 0 && ref < this.layout.records.length && this.layout.records[ref] != null;
+	}
+
+	private int getWords(int ref) {
+		if (!this.hasRecord(ref)) {
+			return 1;
+		}
+		return this.layout.words[ref];
+	}
+
+	private void copyRegisters(MyProcessImage processImage, int ref, Register[] result, int resultOffset) {
+		final ModbusRecord record;
+		final byte[] values;
+		final int position;
+		final int words;
+		if (!this.hasRecord(ref)) {
+			record = RESERVED;
+			values = RESERVED_VALUE;
+			position = 0;
+			words = 1;
+		} else {
+			record = this.layout.records[ref];
+			values = this.values;
+			position = this.layout.positions[ref];
+			words = this.layout.words[ref];
+
+			final var componentIndex = this.layout.componentIndexes[ref];
+			if (componentIndex >= 0 && this.isComponentDisabled[componentIndex]) {
+				processImage.logDisabledComponent(this.layout.componentIds[componentIndex], record);
+			}
+		}
+		for (var j = 0; j < words; j++) {
+			result[resultOffset + j] = new MyRegister(j, values[position + j * 2], values[position + j * 2 + 1], //
+					/*
+					 * On Set-Value event:
+					 */
+					register -> {
+						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+					});
+		}
+	}
+
+}
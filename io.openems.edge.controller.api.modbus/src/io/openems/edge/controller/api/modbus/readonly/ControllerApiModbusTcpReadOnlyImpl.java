@@ -61,7 +61,7 @@ public class ControllerApiModbusTcpReadOnlyImpl extends AbstractModbusTcpApi
 	private void activate(ComponentContext context, Config config) throws ModbusException, OpenemsException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), this.cm,
 				new ConfigRecord(this.metaComponent, config.component_ids(), 0 /* no timeout */, config.port(),
-						config.maxConcurrentConnections()));
+						config.maxConcurrentConnections(), config.snapshotProcessImage()));
 	}
 
 	@Override
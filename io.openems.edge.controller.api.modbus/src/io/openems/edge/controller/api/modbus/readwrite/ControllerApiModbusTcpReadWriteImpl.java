@@ -62,7 +62,7 @@ public class ControllerApiModbusTcpReadWriteImpl extends AbstractModbusTcpApi
 	private void activate(ComponentContext context, Config config) throws ModbusException, OpenemsException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), this.cm,
 				new ConfigRecord(this.metaComponent, config.component_ids(), config.apiTimeout(), config.port(),
-						config.maxConcurrentConnections()));
+						config.maxConcurrentConnections(), config.snapshotProcessImage()));
 	}
 
 	@Override
@@ -0,0 +1,112 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.IllegalAddressException;
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.common.channel.Unit;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecordCycleValue;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Hash;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+import io.openems.edge.common.modbusslave.ModbusType;
+import io.openems.edge.controller.api.modbus.readwrite.ControllerApiModbusTcpReadWriteImpl;
+
+public class ProcessImageSnapshotTest {
+
+	private static final int RESERVED = 0xFFFF;
+
+	private static MyProcessImage createProcessImage() {
+		var parent = new ControllerApiModbusTcpReadWriteImpl();
+		parent.records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
+		parent.records.put(1, new ModbusRecordUint32(1, "Uint32", 0x01020304));
+		parent.records.put(5, new ModbusRecordUint16(5, "Uint16", (short) 7));
+		return new MyProcessImage(parent);
+	}
+
+	private static int[] getValues(Register[] registers) {
+		var result = new int[registers.length];
+		for (var i = 0; i < registers.length; i++) {
+			result[i] = registers[i].getValue();
+		}
+		return result;
+	}
+
+	private static void assertIllegalAddress(ThrowingRunnable runnable) {
+		try {
+			runnable.run();
+			fail("Expected IllegalAddressException");
+		} catch (IllegalAddressException e) {
+			// expected
+		}
+	}
+
+	private static interface ThrowingRunnable {
+		public void run() throws IllegalAddressException;
+	}
+
+	@Test
+	public void test() throws IllegalAddressException {
+		var processImage = createProcessImage();
+		var hash = processImage.getRegisterRange(0, 1)[0].getValue();
+
+		for (var snapshot : new boolean[] { false, true }) {
+			if (snapshot) {
+				processImage.updateSnapshot();
+			} else {
+				processImage.clearSnapshot();
+			}
+
+			assertEquals(hash, processImage.getRegisterRange(0, 1)[0].getValue());
+			assertArrayEquals(new int[] { hash, 0x0102, 0x0304, RESERVED, RESERVED, 7, RESERVED },
+					getValues(processImage.getRegisterRange(0, 7)));
+
+			// Address within a Record is 'Reserved'
+			assertEquals(RESERVED, processImage.getRegisterRange(2, 1)[0].getValue());
+
+			// Record does not fit
+			assertIllegalAddress(() -> processImage.getRegisterRange(0, 2));
+
+			assertEquals(7, processImage.getRegister(5).getValue());
+			assertIllegalAddress(() -> processImage.getRegister(1));
+			assertIllegalAddress(() -> processImage.getRegister(4));
+			assertIllegalAddress(() -> processImage.getRegister(100));
+		}
+	}
+
+	@Test
+	public void testUpdateValues() throws IllegalAddressException {
+		var parent = new ControllerApiModbusTcpReadWriteImpl();
+		var value = new AtomicInteger(1);
+		var record = new ModbusRecordCycleValue<OpenemsComponent>(0, "Value", Unit.NONE, "", ModbusType.UINT16,
+				c -> value.get());
+		parent.records.put(0, record);
+		var processImage = new MyProcessImage(parent);
+
+		record.updateValue(parent);
+		processImage.updateSnapshot();
+		assertEquals(1, processImage.getRegister(0).getValue());
+
+		// New value of the next Cycle
+		value.set(2);
+		record.updateValue(parent);
+		assertEquals(1, processImage.getRegister(0).getValue());
+		processImage.updateSnapshot();
+		assertEquals(2, processImage.getRegister(0).getValue());
+
+		// Records changed
+		parent.records.put(1, new ModbusRecordUint16(1, "Uint16", (short) 7));
+		processImage.updateLayout();
+		processImage.updateSnapshot();
+		assertArrayEquals(new int[] { 2, 7 }, getValues(processImage.getRegisterRange(0, 2)));
+	}
+
+}
@@ -0,0 +1,115 @@
+package io.openems.edge.controller.api.mqtt;
+
+import java.util.Objects;
+
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Table;
+import com.google.gson.JsonElement;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+
+/**
+ * Helper to find the Channel values that need to be published.
+ *
+ * <p>
+ * A value is changed if it is not equal to the last sent value. For numeric
+ * Channels a relative deadband can be applied: changes within the deadband are
+ * not published and the last sent value is kept as reference, so slow drifts
+ * are still published once they exceed the deadband.
+ */
+final class ChangedValues {
+
+	private ChangedValues() {
+	}
+
+	/**
+	 * Is a deadband applicable for this Channel, i.e. is it a numeric Channel
+	 * without options?
+	 *
+	 * @param channel the {@link Channel}
+	 * @return true if a deadband is applicable
+	 */
+	public static boolean hasDeadband(Channel<?> channel) {
+		final var doc = channel.channelDoc();
+		if (doc instanceof EnumDoc) {
+			return false;
+		}
+		return switch (doc.getType()) {
+		case SHORT, INTEGER, LONG, FLOAT, DOUBLE -> true;
+		case BOOLEAN, STRING -> false;
+		};
+	}
+
+	/**
+	 * Gets the values that differ from the last sent values.
+	 *
+	 * @param allValues        the current values
+	 * @param lastSentValues   the last sent values; empty to get all values
+	 * @param deadband         the relative deadband in [%]; zero for every change
+	 * @param deadbandChannels the Channel-IDs by Component-ID for which the
+	 *                         deadband is applicable
+	 * @return the changed values
+	 */
+	public static ImmutableTable<String, String, JsonElement> get(Table<String, String, JsonElement> allValues,
+			Table<String, String, JsonElement> lastSentValues, int deadband,
+			SetMultimap<String, String> deadbandChannels) {
+		if (lastSentValues.isEmpty()) {
+			return ImmutableTable.copyOf(allValues);
+		}
+		final var result = ImmutableTable.<String, String, JsonElement>builder();
+		for (var cell : allValues.cellSet()) {
+			final var value = cell.getValue();
+			final var lastValue = lastSentValues.get(cell.getRowKey(), cell.getColumnKey());
+			if (Objects.equals(value, lastValue)) {
+				continue;
+			}
+			if (deadband > 0 && isWithinDeadband(value, lastValue, deadband)
+					&& deadbandChannels.containsEntry(cell.getRowKey(), cell.getColumnKey())) {
+				continue;
+			}
+			result.put(cell);
+		}
+		return result.build();
+	}
+
+	/**
+	 * Gets the last sent values after a successful send. Values within the
+	 * deadband keep their last sent value; values of Channels that are not in
+	 * 'allValues' anymore are dropped.
+	 *
+	 * @param allValues      the current values
+	 * @param lastSentValues the last sent values before this send
+	 * @param sentValues     the values that were sent
+	 * @return the new last sent values
+	 */
+	public static ImmutableTable<String, String, JsonElement> getLastSentValues(
+			Table<String, String, JsonElement> allValues, Table<String, String, JsonElement> lastSentValues,
+			Table<String, String, JsonElement> sentValues) {
+		final var result = ImmutableTable.<String, String, JsonElement>builder();
+		for (var cell : allValues.cellSet()) {
+			final var lastSentValue = lastSentValues.get(cell.getRowKey(), cell.getColumnKey());
+			if (lastSentValue == null || sentValues.contains(cell.getRowKey(), cell.getColumnKey())) {
+				result.put(cell);
+			} else {
+				result.put(cell.getRowKey(), cell.getColumnKey(), lastSentValue);
+			}
+		}
+		return result.build();
+	}
+
+	private static boolean isWithinDeadband(JsonElement value, JsonElement lastValue, int deadband) {
+		if (value == null || lastValue == null || !isNumber(value) || !isNumber(lastValue)) {
+			return false;
+		}
+		final var current = value.getAsDouble();
+		final var last = lastValue.getAsDouble();
+		return Math.abs(current - last) <= Math.abs(last) * deadband / 100.;
+	}
+
+	private static boolean isNumber(JsonElement element) {
+		return element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber();
+	}
+
+}
@@ -35,6 +35,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Publish Mode", description = "Publish one message per Channel, or only changed values as one message per Component or per Edge.")
+	PublishMode publishMode() default PublishMode.CHANNEL;
+
+	@AttributeDefinition(name = "Deadband [%]", description = "Publish numeric values only if they changed by more than this percentage; 0 publishes every change.")
+	int deadband() default 0;
+
+	@AttributeDefinition(name = "Compress Payload?", description = "Compress messages of Publish Mode 'Component' and 'Edge' with GZIP.")
+	boolean compressPayload() default false;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
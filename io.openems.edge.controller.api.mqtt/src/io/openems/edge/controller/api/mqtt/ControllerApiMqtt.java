@@ -2,18 +2,27 @@ package io.openems.edge.controller.api.mqtt;
 
 import org.osgi.service.event.EventHandler;
 
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.Controller;
 
 public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHandler {
 
 	public static final String TOPIC_PREFIX = "edge/%s/";
+	public static final String TOPIC_CHANNEL = "channel";
 	public static final String TOPIC_CHANNEL_PREFIX = "channel/";
 	public static final String TOPIC_CHANNEL_LAST_UPDATE = "lastUpdate";
 	public static final String TOPIC_EDGE_CONFIG = "edgeConfig/";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		PUBLISHED_MESSAGES(Doc.of(OpenemsType.LONG) //
+				.text("Number of published MQTT messages with Channel values")), //
+		PUBLISHED_BYTES(Doc.of(OpenemsType.LONG) //
+				.text("Payload bytes of published MQTT messages with Channel values")), //
+		SEND_QUEUE_DROPPED(Doc.of(OpenemsType.LONG) //
+				.text("Number of Cycles that were not sent, because the previous send was still in progress")), //
 		;
 
 		private final Doc doc;
@@ -27,4 +36,58 @@ public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHa
 			return this.doc;
 		}
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PUBLISHED_MESSAGES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPublishedMessagesChannel() {
+		return this.channel(ChannelId.PUBLISHED_MESSAGES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PUBLISHED_MESSAGES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPublishedMessages(long value) {
+		this.getPublishedMessagesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PUBLISHED_BYTES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPublishedBytesChannel() {
+		return this.channel(ChannelId.PUBLISHED_BYTES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PUBLISHED_BYTES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPublishedBytes(long value) {
+		this.getPublishedBytesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SEND_QUEUE_DROPPED}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSendQueueDroppedChannel() {
+		return this.channel(ChannelId.SEND_QUEUE_DROPPED);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SEND_QUEUE_DROPPED} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSendQueueDropped(long value) {
+		this.getSendQueueDroppedChannel().setNextValue(value);
+	}
 }
@@ -0,0 +1,18 @@
+package io.openems.edge.controller.api.mqtt;
+
+public enum PublishMode {
+	/**
+	 * One retained message per Channel to
+	 * 'channel/{Component-ID}/{Channel-ID}'.
+	 */
+	CHANNEL,
+	/**
+	 * One JsonObject of changed Channel values per Component to
+	 * 'channel/{Component-ID}'.
+	 */
+	COMPONENT,
+	/**
+	 * One JsonObject of changed Channel values of all Components to 'channel'.
+	 */
+	EDGE;
+}
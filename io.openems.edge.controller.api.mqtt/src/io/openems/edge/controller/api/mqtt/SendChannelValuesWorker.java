@@ -1,29 +1,39 @@
 package io.openems.edge.controller.api.mqtt;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.OpenemsComponent;
 
 /**
@@ -34,6 +44,12 @@ import io.openems.edge.common.component.OpenemsComponent;
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
  * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ *
+ * <p>
+ * Depending on the {@link PublishMode} values are published as one message
+ * per Channel, or as one JsonObject per Component or per Edge. JsonObjects are
+ * only retained if they contain all values, i.e. a new subscriber receives the
+ * latest complete set of values followed by the changes.
  */
 public class SendChannelValuesWorker {
 
@@ -41,11 +57,23 @@ public class SendChannelValuesWorker {
 	private static final boolean MQTT_RETAIN = true; // send last value to subscriber
 	private static final int SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS = 300; /* 5 minutes */
 	private static final MqttProperties MQTT_PROPERTIES;
+	private static final MqttProperties MQTT_PROPERTIES_JSON;
+	private static final MqttProperties MQTT_PROPERTIES_GZIP;
 
 	static {
-		MQTT_PROPERTIES = new MqttProperties();
+		MQTT_PROPERTIES = createMqttProperties(null);
+		MQTT_PROPERTIES_JSON = createMqttProperties("application/json");
+		MQTT_PROPERTIES_GZIP = createMqttProperties("application/gzip");
+	}
+
+	private static MqttProperties createMqttProperties(String contentType) {
+		var result = new MqttProperties();
 		// channel value is only valid for restricted time
-		MQTT_PROPERTIES.setMessageExpiryInterval(Long.valueOf(SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS * 2));
+		result.setMessageExpiryInterval(Long.valueOf(SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS * 2));
+		if (contentType != null) {
+			result.setContentType(contentType);
+		}
+		return result;
 	}
 
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
@@ -54,7 +82,18 @@ public class SendChannelValuesWorker {
 	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
 			new ArrayBlockingQueue<>(1), //
 			new ThreadFactoryBuilder().setNameFormat(ControllerApiMqttImpl.COMPONENT_NAME + ":SendWorker-%d").build(), //
-			new ThreadPoolExecutor.DiscardOldestPolicy());
+			new ThreadPoolExecutor.DiscardOldestPolicy() {
+				@Override
+				public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
+					if (!e.isShutdown()) {
+						SendChannelValuesWorker.this.parent._setSendQueueDropped(//
+								SendChannelValuesWorker.this.sendQueueDropped.incrementAndGet());
+					}
+					super.rejectedExecution(r, e);
+				}
+			});
+
+	private final AtomicLong sendQueueDropped = new AtomicLong(0);
 
 	/**
 	 * If true: next 'send' sends all channel values.
@@ -71,6 +110,16 @@ public class SendChannelValuesWorker {
 	 */
 	private Table<String, String, JsonElement> lastAllValues = ImmutableTable.of();
 
+	/**
+	 * Channels that support a deadband; only updated if the enabled Components or
+	 * the EdgeConfig changed.
+	 */
+	private SetMultimap<String, String> deadbandChannels = null;
+	private List<OpenemsComponent> deadbandComponents = List.of();
+
+	private long publishedMessages = 0;
+	private long publishedBytes = 0;
+
 	protected SendChannelValuesWorker(ControllerApiMqttImpl parent) {
 		this.parent = parent;
 	}
@@ -82,6 +131,14 @@ public class SendChannelValuesWorker {
 		this.sendValuesOfAllChannels.set(true);
 	}
 
+	/**
+	 * Triggers updating the Channels that support a deadband, e.g. after a
+	 * Component added or removed Channels.
+	 */
+	public synchronized void resetDeadbandChannels() {
+		this.deadbandChannels = null;
+	}
+
 	/**
 	 * Stops the {@link SendChannelValuesWorker}.
 	 */
@@ -100,9 +157,15 @@ public class SendChannelValuesWorker {
 		// Update the values of all channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
 		final var allValues = this.collectData(enabledComponents);
+		final SetMultimap<String, String> deadbandChannels;
+		if (this.parent.config.deadband() > 0) {
+			deadbandChannels = this.getDeadbandChannels(enabledComponents);
+		} else {
+			deadbandChannels = ImmutableSetMultimap.of();
+		}
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this, now, allValues, deadbandChannels));
 	}
 
 	/**
@@ -115,11 +178,7 @@ public class SendChannelValuesWorker {
 		try {
 			return enabledComponents.parallelStream() //
 					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
+					.filter(this::isPublished) //
 					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
 							c -> c.address().getChannelId(), c -> c.value().asJson()));
 			// TODO remove values for disappeared components
@@ -141,6 +200,79 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	/**
+	 * Gets the published Channels that support a deadband. They are only collected
+	 * again if the enabled Components changed or after
+	 * {@link #resetDeadbandChannels()}.
+	 *
+	 * @param enabledComponents the enabled components
+	 * @return the Channel-IDs by Component-ID
+	 */
+	synchronized SetMultimap<String, String> getDeadbandChannels(List<OpenemsComponent> enabledComponents) {
+		if (this.deadbandChannels == null || !this.deadbandComponents.equals(enabledComponents)) {
+			this.deadbandChannels = this.collectDeadbandChannels(enabledComponents);
+			this.deadbandComponents = List.copyOf(enabledComponents);
+		}
+		if (this.deadbandChannels == null) {
+			return ImmutableSetMultimap.of();
+		}
+		return this.deadbandChannels;
+	}
+
+	/**
+	 * Collects the published Channels that support a deadband.
+	 *
+	 * @param enabledComponents the enabled components
+	 * @return the Channel-IDs by Component-ID; null on error
+	 */
+	private SetMultimap<String, String> collectDeadbandChannels(List<OpenemsComponent> enabledComponents) {
+		try {
+			var result = ImmutableSetMultimap.<String, String>builder();
+			for (var component : enabledComponents) {
+				for (var channel : component.channels()) {
+					if (this.isPublished(channel) && ChangedValues.hasDeadband(channel)) {
+						var address = channel.address();
+						result.put(address.getComponentId(), address.getChannelId());
+					}
+				}
+			}
+			return result.build();
+		} catch (Exception e) {
+			// ConcurrentModificationException can happen if Channels are dynamically added
+			// or removed; try again next Cycle
+			return null;
+		}
+	}
+
+	private boolean isPublished(Channel<?> channel) {
+		// Ignore WRITE_ONLY Channels
+		return channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
+				// Ignore Low-Priority Channels
+				&& channel.channelDoc().getPersistencePriority().isAtLeast(this.parent.config.persistencePriority());
+	}
+
+	/**
+	 * Serializes a JsonElement to a MQTT payload.
+	 *
+	 * @param json     the {@link JsonElement}
+	 * @param compress compress the payload with GZIP
+	 * @return the payload
+	 */
+	protected static byte[] toPayload(JsonElement json, boolean compress) {
+		var bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+		if (!compress) {
+			return bytes;
+		}
+		var out = new ByteArrayOutputStream(bytes.length / 4 + 32);
+		try (var gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		} catch (IOException e) {
+			// ByteArrayOutputStream never throws
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
@@ -150,12 +282,14 @@ public class SendChannelValuesWorker {
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
 		private final ImmutableTable<String, String, JsonElement> allValues;
+		private final SetMultimap<String, String> deadbandChannels;
 
 		public SendTask(SendChannelValuesWorker parent, Instant timestamp,
-				ImmutableTable<String, String, JsonElement> allValues) {
+				ImmutableTable<String, String, JsonElement> allValues, SetMultimap<String, String> deadbandChannels) {
 			this.parent = parent;
 			this.timestamp = timestamp;
 			this.allValues = allValues;
+			this.deadbandChannels = deadbandChannels;
 		}
 
 		@Override
@@ -181,22 +315,23 @@ public class SendChannelValuesWorker {
 			}
 
 			// Send changed values
-			var allSendSuccessful = true;
+			final var config = this.parent.parent.config;
+			final var changedValues = ChangedValues.get(this.allValues, lastAllValues, config.deadband(),
+					this.deadbandChannels);
+			final var sendAll = lastAllValues.isEmpty();
 			List<String> sendTopics = new ArrayList<>();
-			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
-				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						var subtopic = row.getKey() + "/" + column.getKey();
-						sendTopics.add(subtopic);
-						if (!this.publish(row.getKey() + "/" + column.getKey(), column.getValue().toString())) {
-							allSendSuccessful = false;
-						}
-					}
-				}
-			}
+			final var allSendSuccessful = switch (config.publishMode()) {
+			case CHANNEL -> this.publishPerChannel(changedValues, sendTopics);
+			case COMPONENT -> this.publishPerComponent(changedValues, sendAll, config.compressPayload(), sendTopics);
+			case EDGE -> this.publishPerEdge(changedValues, sendAll, config.compressPayload(), sendTopics);
+			};
 
 			// Update lastUpdate timestamp
-			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
+			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE,
+					String.valueOf(this.timestamp).getBytes(StandardCharsets.UTF_8), MQTT_RETAIN, MQTT_PROPERTIES);
+
+			this.parent.parent._setPublishedMessages(this.parent.publishedMessages);
+			this.parent.parent._setPublishedBytes(this.parent.publishedBytes);
 
 			// Successful?
 			if (allSendSuccessful) {
@@ -204,8 +339,14 @@ public class SendChannelValuesWorker {
 						+ StringUtils.toShortString(String.join(", ", sendTopics), 100));
 
 				// update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
+				if (sendAll || config.deadband() == 0) {
+					this.parent.lastAllValues = this.allValues;
+				} else {
+					// Values within the deadband stay at their last sent value
+					this.parent.lastAllValues = ChangedValues.getLastSentValues(this.allValues, lastAllValues,
+							changedValues);
+				}
+				if (sendAll) {
 					// 'lastSentValues' was empty, i.e. all values were sent
 					this.parent.lastSendValuesOfAllChannels = this.timestamp;
 				}
@@ -215,19 +356,85 @@ public class SendChannelValuesWorker {
 			}
 		}
 
+		private boolean publishPerChannel(ImmutableTable<String, String, JsonElement> values,
+				List<String> sendTopics) {
+			var allSendSuccessful = true;
+			for (var cell : values.cellSet()) {
+				var subtopic = cell.getRowKey() + "/" + cell.getColumnKey();
+				sendTopics.add(subtopic);
+				if (!this.publish(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + subtopic, //
+						cell.getValue().toString().getBytes(StandardCharsets.UTF_8), MQTT_RETAIN, MQTT_PROPERTIES)) {
+					allSendSuccessful = false;
+				}
+			}
+			return allSendSuccessful;
+		}
+
+		private boolean publishPerComponent(ImmutableTable<String, String, JsonElement> values, boolean sendAll,
+				boolean compress, List<String> sendTopics) {
+			var allSendSuccessful = true;
+			for (Entry<String, Map<String, JsonElement>> row : values.rowMap().entrySet()) {
+				sendTopics.add(row.getKey());
+				if (!this.publish(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + row.getKey(), toJson(row.getValue()),
+						sendAll, compress)) {
+					allSendSuccessful = false;
+				}
+			}
+			return allSendSuccessful;
+		}
+
+		private boolean publishPerEdge(ImmutableTable<String, String, JsonElement> values, boolean sendAll,
+				boolean compress, List<String> sendTopics) {
+			if (values.isEmpty()) {
+				return true;
+			}
+			var json = new JsonObject();
+			for (Entry<String, Map<String, JsonElement>> row : values.rowMap().entrySet()) {
+				json.add(row.getKey(), toJson(row.getValue()));
+			}
+			sendTopics.add(ControllerApiMqtt.TOPIC_CHANNEL);
+			return this.publish(ControllerApiMqtt.TOPIC_CHANNEL, json, sendAll, compress);
+		}
+
+		private static JsonObject toJson(Map<String, JsonElement> values) {
+			var result = new JsonObject();
+			for (Entry<String, JsonElement> column : values.entrySet()) {
+				result.add(column.getKey(), column.getValue());
+			}
+			return result;
+		}
+
 		/**
-		 * Publish a Channel value message.
+		 * Publish a JsonObject of Channel values. Only complete sets of values are
+		 * retained.
 		 *
-		 * @param subTopic the Channel Subtopic
-		 * @param value    the value Json.toString()
+		 * @param subTopic the Subtopic
+		 * @param json     the {@link JsonObject}
+		 * @param retain   the MQTT retained parameter
+		 * @param compress compress the payload with GZIP
 		 * @return true if sent successfully; false otherwise
 		 */
-		private boolean publish(String subTopic, String value) {
-			return this.parent.parent.publish(//
-					/* topic */ ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + subTopic, //
-					/* message */ value.toString(), //
-					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES //
-			);
+		private boolean publish(String subTopic, JsonObject json, boolean retain, boolean compress) {
+			return this.publish(subTopic, toPayload(json, compress), retain,
+					compress ? MQTT_PROPERTIES_GZIP : MQTT_PROPERTIES_JSON);
+		}
+
+		/**
+		 * Publish a message and count it on success.
+		 *
+		 * @param subTopic   the Subtopic
+		 * @param payload    the payload
+		 * @param retain     the MQTT retained parameter
+		 * @param properties the {@link MqttProperties}
+		 * @return true if sent successfully; false otherwise
+		 */
+		private boolean publish(String subTopic, byte[] payload, boolean retain, MqttProperties properties) {
+			if (!this.parent.parent.publish(subTopic, new MqttMessage(payload, MQTT_QOS, retain, properties))) {
+				return false;
+			}
+			this.parent.publishedMessages++;
+			this.parent.publishedBytes += payload.length;
+			return true;
 		}
 
 	}
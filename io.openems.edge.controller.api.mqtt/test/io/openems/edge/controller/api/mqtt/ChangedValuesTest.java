@@ -0,0 +1,109 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+
+public class ChangedValuesTest {
+
+	private static final ImmutableSetMultimap<String, String> SUM_SOC = ImmutableSetMultimap.of("_sum", "EssSoc");
+
+	private static ImmutableTable<String, String, JsonElement> values(JsonElement soc, JsonElement state) {
+		return ImmutableTable.<String, String, JsonElement>builder() //
+				.put("_sum", "EssSoc", soc) //
+				.put("_sum", "State", state) //
+				.build();
+	}
+
+	@Test
+	public void testGet() {
+		var lastSent = values(new JsonPrimitive(50), new JsonPrimitive(0));
+
+		// Empty last sent values: all values
+		assertEquals(lastSent, ChangedValues.get(lastSent, ImmutableTable.of(), 10, SUM_SOC));
+
+		// No deadband: every change
+		var changed = ChangedValues.get(values(new JsonPrimitive(52), new JsonPrimitive(0)), lastSent, 0,
+				SUM_SOC);
+		assertEquals(1, changed.size());
+		assertEquals(new JsonPrimitive(52), changed.get("_sum", "EssSoc"));
+
+		// Within deadband of 10 %
+		assertTrue(ChangedValues.get(values(new JsonPrimitive(55), new JsonPrimitive(0)), lastSent, 10,
+				SUM_SOC).isEmpty());
+
+		// Outside deadband of 10 %
+		assertEquals(1, ChangedValues.get(values(new JsonPrimitive(56), new JsonPrimitive(0)), lastSent, 10,
+				SUM_SOC).size());
+
+		// Deadband is not applicable to 'State'
+		assertEquals(1, ChangedValues.get(values(new JsonPrimitive(50), new JsonPrimitive(11)),
+				values(new JsonPrimitive(50), new JsonPrimitive(10)), 100, SUM_SOC).size());
+
+		// Change from and to null is always published
+		assertEquals(1, ChangedValues.get(values(JsonNull.INSTANCE, new JsonPrimitive(0)), lastSent, 100,
+				SUM_SOC).size());
+	}
+
+	@Test
+	public void testGetLastSentValues() {
+		var lastSent = values(new JsonPrimitive(50), new JsonPrimitive(0));
+		var allValues = ImmutableTable.<String, String, JsonElement>builder() //
+				.put("_sum", "EssSoc", new JsonPrimitive(52)) // within deadband; not sent
+				.put("_sum", "State", new JsonPrimitive(1)) //
+				.put("meter0", "ActivePower", new JsonPrimitive(100)) // new Channel
+				.build();
+		var sent = ImmutableTable.of("_sum", "State", (JsonElement) new JsonPrimitive(1));
+
+		var result = ChangedValues.getLastSentValues(allValues, lastSent, sent);
+		assertEquals(3, result.size());
+		assertEquals(new JsonPrimitive(50), result.get("_sum", "EssSoc"));
+		assertEquals(new JsonPrimitive(1), result.get("_sum", "State"));
+		assertEquals(new JsonPrimitive(100), result.get("meter0", "ActivePower"));
+
+		// Values of disappeared Channels are dropped
+		result = ChangedValues.getLastSentValues(ImmutableTable.of("_sum", "State", new JsonPrimitive(1)), result,
+				ImmutableTable.of());
+		assertEquals(ImmutableTable.of("_sum", "State", new JsonPrimitive(1)), result);
+	}
+
+	@Test
+	public void testHasDeadband() {
+		var sum = new DummySum();
+		assertTrue(ChangedValues.hasDeadband(sum.channel(Sum.ChannelId.ESS_SOC)));
+		assertFalse(ChangedValues.hasDeadband(sum.channel(OpenemsComponent.ChannelId.STATE)));
+	}
+
+	@Test
+	public void testToPayload() throws IOException {
+		var json = new JsonObject();
+		json.addProperty("EssSoc", 50);
+
+		assertEquals("{\"EssSoc\":50}",
+				new String(SendChannelValuesWorker.toPayload(json, false), StandardCharsets.UTF_8));
+
+		try (var gzip = new GZIPInputStream(
+				new ByteArrayInputStream(SendChannelValuesWorker.toPayload(json, true)))) {
+			assertEquals("{\"EssSoc\":50}", new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+}
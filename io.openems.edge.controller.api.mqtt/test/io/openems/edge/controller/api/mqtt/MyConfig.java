@@ -10,6 +10,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String id;
 		private String uri;
 		private PersistencePriority persistencePriority;
+		private PublishMode publishMode = PublishMode.CHANNEL;
+		private int deadband = 0;
+		private boolean compressPayload = false;
 		private boolean debugMode;
 		private String clientId;
 		private String username;
@@ -48,6 +51,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setPublishMode(PublishMode publishMode) {
+			this.publishMode = publishMode;
+			return this;
+		}
+
+		public Builder setDeadband(int deadband) {
+			this.deadband = deadband;
+			return this;
+		}
+
+		public Builder setCompressPayload(boolean compressPayload) {
+			this.compressPayload = compressPayload;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -84,6 +102,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.persistencePriority;
 	}
 
+	@Override
+	public PublishMode publishMode() {
+		return this.builder.publishMode;
+	}
+
+	@Override
+	public int deadband() {
+		return this.builder.deadband;
+	}
+
+	@Override
+	public boolean compressPayload() {
+		return this.builder.compressPayload;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
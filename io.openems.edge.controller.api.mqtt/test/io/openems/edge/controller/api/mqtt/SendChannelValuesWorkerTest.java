@@ -0,0 +1,256 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.paho.mqttv5.common.MqttMessage;
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyMeta;
+import io.openems.edge.common.test.TestUtils;
+
+public class SendChannelValuesWorkerTest {
+
+	private static final String LAST_UPDATE = ControllerApiMqtt.TOPIC_CHANNEL_PREFIX
+			+ ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE;
+
+	private static record Message(String topic, String payload, boolean retained) {
+	}
+
+	/**
+	 * Records published messages instead of sending them to a broker.
+	 */
+	private static class MyControllerApiMqtt extends ControllerApiMqttImpl {
+
+		private final List<Message> messages = new ArrayList<>();
+		private final Semaphore sends = new Semaphore(0);
+		private CountDownLatch blockPublish = new CountDownLatch(0);
+
+		public MyControllerApiMqtt(DummyComponentManager componentManager, MyConfig config) {
+			this.componentManager = componentManager;
+			this.config = config;
+		}
+
+		@Override
+		protected boolean publish(String subTopic, MqttMessage message) {
+			try {
+				this.blockPublish.await();
+			} catch (InterruptedException e) {
+				return false;
+			}
+			synchronized (this.messages) {
+				this.messages.add(new Message(subTopic, new String(message.getPayload(), StandardCharsets.UTF_8),
+						message.isRetained()));
+			}
+			if (subTopic.equals(LAST_UPDATE)) {
+				this.sends.release();
+			}
+			return true;
+		}
+
+		private List<Message> getMessages() {
+			synchronized (this.messages) {
+				var result = this.messages.stream() //
+						.filter(m -> !m.topic.equals(LAST_UPDATE)) //
+						.toList();
+				this.messages.clear();
+				return result;
+			}
+		}
+	}
+
+	private final TimeLeapClock clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L), ZoneOffset.UTC);
+	private final List<OpenemsComponent> components = new ArrayList<>();
+	private final DummySum sum = new DummySum();
+	private final DummyMeta meta = new DummyMeta("_meta");
+
+	private MyControllerApiMqtt parent;
+	private SendChannelValuesWorker sut;
+
+	private void create(PublishMode publishMode, int deadband) {
+		this.components.add(this.sum);
+		this.components.add(this.meta);
+		var componentManager = new DummyComponentManager(this.clock) {
+			@Override
+			public List<OpenemsComponent> getEnabledComponents() {
+				return SendChannelValuesWorkerTest.this.components;
+			}
+		};
+		this.parent = new MyControllerApiMqtt(componentManager, MyConfig.create() //
+				.setId("ctrl0") //
+				.setPersistencePriority(PersistencePriority.VERY_LOW) //
+				.setPublishMode(publishMode) //
+				.setDeadband(deadband) //
+				.build());
+		this.sut = new SendChannelValuesWorker(this.parent);
+	}
+
+	@After
+	public void after() {
+		if (this.sut != null) {
+			this.sut.deactivate();
+		}
+	}
+
+	private List<Message> cycle() throws InterruptedException {
+		this.sut.collectData();
+		assertTrue(this.parent.sends.tryAcquire(5, TimeUnit.SECONDS));
+		return this.parent.getMessages();
+	}
+
+	private void setSoc(int value) {
+		TestUtils.withValue(this.sum, Sum.ChannelId.ESS_SOC, value);
+	}
+
+	private static JsonObject json(Message message) {
+		return JsonParser.parseString(message.payload).getAsJsonObject();
+	}
+
+	@Test
+	public void testPerChannel() throws InterruptedException {
+		this.create(PublishMode.CHANNEL, 0);
+		this.setSoc(50);
+
+		var messages = this.cycle();
+		assertTrue(messages.size() > 2);
+		assertTrue(messages.stream().allMatch(Message::retained));
+		assertTrue(messages.contains(new Message("channel/_sum/EssSoc", "50", true)));
+
+		this.setSoc(51);
+		assertEquals(List.of(new Message("channel/_sum/EssSoc", "51", true)), this.cycle());
+	}
+
+	@Test
+	public void testPerComponent() throws InterruptedException {
+		this.create(PublishMode.COMPONENT, 0);
+		this.setSoc(50);
+
+		// Full send: one retained JsonObject per Component
+		var messages = this.cycle();
+		assertEquals(List.of("channel/_meta", "channel/_sum"), messages.stream().map(Message::topic).sorted().toList());
+		assertTrue(messages.stream().allMatch(Message::retained));
+
+		// Changes only: not retained
+		this.setSoc(51);
+		messages = this.cycle();
+		assertEquals(1, messages.size());
+		assertEquals("channel/_sum", messages.get(0).topic);
+		assertFalse(messages.get(0).retained);
+		assertEquals("{\"EssSoc\":51}", messages.get(0).payload);
+
+		// Nothing changed
+		assertTrue(this.cycle().isEmpty());
+
+		// Full send after 5 minutes
+		this.clock.leap(301, ChronoUnit.SECONDS);
+		messages = this.cycle();
+		assertEquals(2, messages.size());
+		assertTrue(messages.stream().allMatch(Message::retained));
+	}
+
+	@Test
+	public void testPerEdge() throws InterruptedException {
+		this.create(PublishMode.EDGE, 0);
+		this.setSoc(50);
+
+		var messages = this.cycle();
+		assertEquals(1, messages.size());
+		assertEquals("channel", messages.get(0).topic);
+		assertTrue(messages.get(0).retained);
+		var json = json(messages.get(0));
+		assertTrue(json.has("_meta"));
+		assertEquals(50, json.getAsJsonObject("_sum").get("EssSoc").getAsInt());
+
+		this.setSoc(51);
+		messages = this.cycle();
+		assertEquals(1, messages.size());
+		assertFalse(messages.get(0).retained);
+		assertEquals("{\"_sum\":{\"EssSoc\":51}}", messages.get(0).payload);
+	}
+
+	@Test
+	public void testDeadband() throws InterruptedException {
+		this.create(PublishMode.COMPONENT, 10);
+		this.setSoc(50);
+		this.cycle();
+
+		// Within deadband of the last sent value
+		this.setSoc(54);
+		assertTrue(this.cycle().isEmpty());
+		this.setSoc(55);
+		assertTrue(this.cycle().isEmpty());
+
+		// Slow drift is published once it exceeds the deadband
+		this.setSoc(56);
+		var messages = this.cycle();
+		assertEquals(1, messages.size());
+		assertEquals("{\"EssSoc\":56}", messages.get(0).payload);
+
+		// Values of a disappeared Component are not kept
+		this.components.remove(this.sum);
+		assertTrue(this.cycle().isEmpty());
+		this.components.add(this.sum);
+		messages = this.cycle();
+		assertEquals(1, messages.size());
+		assertEquals("channel/_sum", messages.get(0).topic);
+		assertEquals(56, json(messages.get(0)).get("EssSoc").getAsInt());
+	}
+
+	@Test
+	public void testDeadbandChannels() {
+		this.create(PublishMode.COMPONENT, 10);
+		var deadbandChannels = this.sut.getDeadbandChannels(this.components);
+		assertTrue(deadbandChannels.containsEntry("_sum", "EssSoc"));
+		assertFalse(deadbandChannels.containsEntry("_sum", "State"));
+
+		// Only collected again if the Components changed
+		assertSame(deadbandChannels, this.sut.getDeadbandChannels(this.components));
+		this.components.remove(this.meta);
+		assertNotSame(deadbandChannels, this.sut.getDeadbandChannels(this.components));
+
+		// ...or on EdgeConfig update
+		deadbandChannels = this.sut.getDeadbandChannels(this.components);
+		this.sut.resetDeadbandChannels();
+		assertNotSame(deadbandChannels, this.sut.getDeadbandChannels(this.components));
+	}
+
+	@Test
+	public void testSendQueueDropped() throws InterruptedException {
+		this.create(PublishMode.EDGE, 0);
+		this.parent.blockPublish = new CountDownLatch(1);
+
+		// First send blocks, second is queued, third replaces the second
+		this.sut.collectData();
+		this.sut.collectData();
+		this.sut.collectData();
+		assertEquals(1L, (long) this.parent.getSendQueueDroppedChannel().getNextValue().get());
+
+		this.parent.blockPublish.countDown();
+		assertTrue(this.parent.sends.tryAcquire(2, 5, TimeUnit.SECONDS));
+		assertEquals(1L, (long) this.parent.getSendQueueDroppedChannel().getNextValue().get());
+	}
+
+}
@@ -0,0 +1,198 @@
+package io.openems.edge.controller.api.rest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * An immutable index of the Component-IDs and Channel-IDs of a list of
+ * {@link OpenemsComponent}s, used to resolve {@link ChannelAddress}es with
+ * regular expressions.
+ *
+ * <p>
+ * IDs are kept in sorted maps, so literal IDs are resolved by a single lookup
+ * and patterns with a literal prefix followed by '.*' only test the IDs with
+ * that prefix. Other patterns are matched against all IDs. Compiled patterns
+ * are cached. Results keep the order of the Components and of their Channels.
+ */
+final class ChannelAddressIndex {
+
+	private static final int MAX_CACHED_PATTERNS = 256;
+	private static final ConcurrentHashMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+	private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+	private static final int[] NO_POSITIONS = new int[0];
+
+	private final List<OpenemsComponent> components;
+	private final int[] numberOfChannels;
+	private final Channel<?>[][] channels;
+	private final NavigableMap<String, Integer> componentPositions;
+	private final List<NavigableMap<String, Integer>> channelPositions;
+	private final boolean hasDuplicatedComponentIds;
+
+	private ChannelAddressIndex(List<OpenemsComponent> components) {
+		this.components = components;
+		this.numberOfChannels = new int[components.size()];
+		this.channels = new Channel<?>[components.size()][];
+		this.componentPositions = new TreeMap<>();
+		this.channelPositions = new ArrayList<>(components.size());
+		var hasDuplicatedComponentIds = false;
+		for (var i = 0; i < this.channels.length; i++) {
+			final var component = components.get(i);
+			if (this.componentPositions.putIfAbsent(component.id(), i) != null) {
+				hasDuplicatedComponentIds = true;
+			}
+			final var componentChannels = component.channels().toArray(Channel<?>[]::new);
+			final var positions = new TreeMap<String, Integer>();
+			for (var j = 0; j < componentChannels.length; j++) {
+				positions.putIfAbsent(componentChannels[j].channelId().id(), j);
+			}
+			this.numberOfChannels[i] = componentChannels.length;
+			this.channels[i] = componentChannels;
+			this.channelPositions.add(positions);
+		}
+		this.hasDuplicatedComponentIds = hasDuplicatedComponentIds;
+	}
+
+	/**
+	 * Builds a {@link ChannelAddressIndex}.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @return the {@link ChannelAddressIndex}
+	 */
+	public static ChannelAddressIndex from(List<OpenemsComponent> components) {
+		return new ChannelAddressIndex(components);
+	}
+
+	/**
+	 * Checks if this index is still valid for the given Components, i.e. the
+	 * Components and the number of their Channels did not change.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @return true if the index does not need to be rebuilt
+	 */
+	public boolean matches(List<OpenemsComponent> components) {
+		if (this.components.size() != components.size()) {
+			return false;
+		}
+		for (var i = 0; i < this.numberOfChannels.length; i++) {
+			final var component = components.get(i);
+			if (this.components.get(i) != component || this.numberOfChannels[i] != component.channels().size()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the Channels that match the {@link ChannelAddress}; regular expressions
+	 * are allowed.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return a list of matching {@link Channel}s
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		final var componentIdRegex = channelAddress.getComponentId();
+		final var channelIdRegex = channelAddress.getChannelId();
+		final int[] componentPositions;
+		if (this.hasDuplicatedComponentIds) {
+			componentPositions = this.scanComponents(componentIdRegex);
+		} else {
+			componentPositions = select(this.componentPositions, componentIdRegex);
+		}
+		final var result = new ArrayList<Channel<?>>();
+		for (var i : componentPositions) {
+			final var componentChannels = this.channels[i];
+			for (var j : select(this.channelPositions.get(i), channelIdRegex)) {
+				result.add(componentChannels[j]);
+			}
+		}
+		return result;
+	}
+
+	private int[] scanComponents(String regex) throws PatternSyntaxException {
+		final var pattern = compile(regex);
+		return IntStream.range(0, this.components.size()) //
+				.filter(i -> pattern.matcher(this.components.get(i).id()).matches()) //
+				.toArray();
+	}
+
+	/**
+	 * Selects the positions of all IDs that match the regular expression.
+	 *
+	 * @param positions the positions by ID
+	 * @param regex     the regular expression
+	 * @return the matching positions in ascending order
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	private static int[] select(NavigableMap<String, Integer> positions, String regex)
+			throws PatternSyntaxException {
+		if (isLiteral(regex, regex.length())) {
+			final var position = positions.get(regex);
+			return position == null ? NO_POSITIONS : new int[] { position };
+		}
+
+		final var pattern = compile(regex);
+		final Map<String, Integer> candidates;
+		final String prefix;
+		if (regex.endsWith(".*") && isLiteral(regex, regex.length() - 2)) {
+			prefix = regex.substring(0, regex.length() - 2);
+			candidates = positions.tailMap(prefix, true);
+		} else {
+			prefix = null;
+			candidates = positions;
+		}
+
+		var result = new int[Math.min(8, positions.size())];
+		var size = 0;
+		for (var entry : candidates.entrySet()) {
+			final var id = entry.getKey();
+			if (prefix != null && !id.startsWith(prefix)) {
+				// tailMap is sorted: no more IDs with this prefix
+				break;
+			}
+			if (pattern.matcher(id).matches()) {
+				if (size == result.length) {
+					result = Arrays.copyOf(result, size * 2);
+				}
+				result[size++] = entry.getValue();
+			}
+		}
+		result = Arrays.copyOf(result, size);
+		Arrays.sort(result);
+		return result;
+	}
+
+	private static boolean isLiteral(String regex, int length) {
+		for (var i = 0; i < length; i++) {
+			if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) != -1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Pattern compile(String regex) throws PatternSyntaxException {
+		var pattern = PATTERNS.get(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			if (PATTERNS.size() >= MAX_CACHED_PATTERNS) {
+				PATTERNS.clear();
+			}
+			PATTERNS.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+}
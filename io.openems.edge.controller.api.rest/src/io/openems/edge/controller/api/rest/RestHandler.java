@@ -12,7 +12,6 @@ import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -64,6 +63,12 @@ public class RestHandler extends AbstractHandler {
 
 	private final AbstractRestApi parent;
 
+	/**
+	 * Index of the enabled Components and their Channels; rebuilt on request if
+	 * the Components changed.
+	 */
+	private volatile ChannelAddressIndex channelAddressIndex = null;
+
 	public RestHandler(AbstractRestApi parent) {
 		this.parent = parent;
 	}
@@ -217,7 +222,7 @@ public class RestHandler extends AbstractHandler {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
 		var components = this.parent.getComponentManager().getEnabledComponents();
-		var channels = getChannels(components, channelAddress);
+		var channels = this.getChannelAddressIndex(components).getChannels(channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channels.size() == 0) {
@@ -274,11 +279,24 @@ public class RestHandler extends AbstractHandler {
 	 */
 	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
 			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
+		return ChannelAddressIndex.from(components).getChannels(channelAddress);
+	}
+
+	/**
+	 * Gets the {@link ChannelAddressIndex} for the given Components. The index is
+	 * immutable and only rebuilt if the Components changed, so concurrent requests
+	 * do not block each other or the Cycle.
+	 *
+	 * @param components the enabled {@link OpenemsComponent}s
+	 * @return the {@link ChannelAddressIndex}
+	 */
+	private ChannelAddressIndex getChannelAddressIndex(List<OpenemsComponent> components) {
+		var index = this.channelAddressIndex;
+		if (index == null || !index.matches(components)) {
+			index = ChannelAddressIndex.from(components);
+			this.channelAddressIndex = index;
+		}
+		return index;
 	}
 
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
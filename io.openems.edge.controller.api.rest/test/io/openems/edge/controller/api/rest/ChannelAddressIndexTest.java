@@ -0,0 +1,68 @@
+package io.openems.edge.controller.api.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.OpenemsComponent;
+
+public class ChannelAddressIndexTest {
+
+	@Test
+	public void testGetChannels() {
+		var foo1 = new DummyComponent("foo1");
+		var bar0 = new DummyComponent("bar0");
+		var foo0 = new DummyComponent("foo0");
+		var foobar = new DummyComponent("foobar");
+		var components = List.<OpenemsComponent>of(foo1, bar0, foo0, foobar);
+		var index = ChannelAddressIndex.from(components);
+
+		// Literal
+		assertEquals(List.of(foo0.channel("DummyChannel")),
+				index.getChannels(new ChannelAddress("foo0", "DummyChannel")));
+		assertEquals(List.of(), index.getChannels(new ChannelAddress("foo", "DummyChannel")));
+
+		// Prefix; keeps order of Components
+		assertEquals(List.of(//
+				foo1.channel("DummyChannel"), //
+				foo0.channel("DummyChannel"), //
+				foobar.channel("DummyChannel")), //
+				index.getChannels(new ChannelAddress("foo.*", "Dummy.*")));
+
+		// Other regular expressions
+		assertEquals(List.of(foo1.channel("DummyChannel"), foo0.channel("DummyChannel")),
+				index.getChannels(new ChannelAddress("foo[0-9]", "DummyChannel")));
+		assertEquals(List.of(bar0.channel("DummyChannel"), foo0.channel("DummyChannel")),
+				index.getChannels(new ChannelAddress(".*0", "Dummy.*")));
+		assertEquals(components.size() * foo0.channels().size(),
+				index.getChannels(new ChannelAddress(".*", ".*")).size());
+	}
+
+	@Test
+	public void testDuplicatedComponentIds() {
+		var foo0 = new DummyComponent("foo0");
+		var foo0Duplicate = new DummyComponent("foo0");
+		var index = ChannelAddressIndex.from(List.<OpenemsComponent>of(foo0, foo0Duplicate));
+
+		assertEquals(List.of(foo0.channel("DummyChannel"), foo0Duplicate.channel("DummyChannel")),
+				index.getChannels(new ChannelAddress("foo0", "DummyChannel")));
+	}
+
+	@Test
+	public void testMatches() {
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var index = ChannelAddressIndex.from(List.<OpenemsComponent>of(foo0, bar0));
+
+		assertTrue(index.matches(List.<OpenemsComponent>of(foo0, bar0)));
+		assertFalse(index.matches(List.<OpenemsComponent>of(bar0, foo0)));
+		assertFalse(index.matches(List.<OpenemsComponent>of(foo0)));
+		assertFalse(index.matches(List.<OpenemsComponent>of(foo0, new DummyComponent("bar0"))));
+	}
+
+}
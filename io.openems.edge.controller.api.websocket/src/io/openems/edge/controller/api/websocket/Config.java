@@ -3,6 +3,8 @@ package io.openems.edge.controller.api.websocket;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.Compression;
+
 @ObjectClassDefinition(//
 		name = "Controller Api Websocket", //
 		description = "This controller provides an HTTP Websocket/JSON api. It is required for OpenEMS UI.")
@@ -23,5 +25,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Api-Timeout", description = "Sets the timeout in seconds for updates on Channels set by this Api.")
 	int apiTimeout() default 60;
 
+	@AttributeDefinition(name = "Compression", description = "Per-message compression offered to OpenEMS UIs.")
+	Compression compression() default Compression.OFF;
+
 	String webconsole_configurationFactory_nameHint() default "Controller Api Websocket [{id}]";
 }
\ No newline at end of file
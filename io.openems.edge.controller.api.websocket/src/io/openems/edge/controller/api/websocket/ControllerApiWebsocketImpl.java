@@ -34,6 +34,7 @@ import io.openems.common.jsonrpc.request.SubscribeSystemLogRequest;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.Compression;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -103,7 +104,7 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
 
 		this.apiWorker.setTimeoutSeconds(config.apiTimeout());
-		this.startServer(config.port(), POOL_SIZE, DebugMode.OFF);
+		this.startServer(config.port(), POOL_SIZE, DebugMode.OFF, config.compression());
 	}
 
 	@Override
@@ -117,12 +118,13 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 	/**
 	 * Create and start new server.
 	 *
-	 * @param port      the port
-	 * @param poolSize  number of threads dedicated to handle the tasks
-	 * @param debugMode activate a regular debug log about the state of the tasks
+	 * @param port        the port
+	 * @param poolSize    number of threads dedicated to handle the tasks
+	 * @param debugMode   activate a regular debug log about the state of the tasks
+	 * @param compression the {@link Compression} offered to clients
 	 */
-	private synchronized void startServer(int port, int poolSize, DebugMode debugMode) {
-		this.server = new WebsocketServer(this, "Websocket Api", port, poolSize, debugMode);
+	private synchronized void startServer(int port, int poolSize, DebugMode debugMode, Compression compression) {
+		this.server = new WebsocketServer(this, "Websocket Api", port, poolSize, debugMode, compression);
 		this.server.start();
 	}
 
@@ -5,6 +5,7 @@ import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.Compression;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -16,8 +17,8 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnClose onClose;
 
 	public WebsocketServer(ControllerApiWebsocketImpl parent, String name, int port, int poolSize,
-			DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+			DebugMode debugMode, Compression compression) {
+		super(name, port, poolSize, debugMode, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -1,6 +1,7 @@
 package io.openems.edge.controller.api.websocket;
 
 import io.openems.common.test.AbstractComponentConfig;
+import io.openems.common.websocket.Compression;
 
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
@@ -9,6 +10,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String id;
 		private int port;
 		private int apiTimeout;
+		private Compression compression = Compression.OFF;
 
 		private Builder() {
 		}
@@ -28,6 +30,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setCompression(Compression compression) {
+			this.compression = compression;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -58,4 +65,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public int apiTimeout() {
 		return this.builder.apiTimeout;
 	}
+
+	@Override
+	public Compression compression() {
+		return this.builder.compression;
+	}
 }
\ No newline at end of file
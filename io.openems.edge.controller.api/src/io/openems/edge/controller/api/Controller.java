@@ -1,12 +1,17 @@
 package io.openems.edge.controller.api;
 
+import java.util.Set;
+
 import org.osgi.annotation.versioning.ProviderType;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -23,10 +28,37 @@ public interface Controller extends OpenemsComponent {
 	 */
 	public void run() throws OpenemsNamedException;
 
+	/**
+	 * Gets the targets that are written by this Controller, i.e. Component-IDs
+	 * (e.g. "ess0") or Channel-Addresses (e.g. "io0/Relay1").
+	 *
+	 * <p>
+	 * Used by the Cycle if parallel execution of Controllers is enabled:
+	 * Controllers that share a target are executed one after the other in the
+	 * order given by the Scheduler; Controllers without common targets may run
+	 * concurrently. The default 'null' means 'unknown'; such a Controller is never
+	 * executed concurrently with any other Controller.
+	 *
+	 * @return a Set of Component-IDs and Channel-Addresses; null if unknown
+	 */
+	public default Set<String> getWriteTargets() {
+		return null;
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
-				.text("Running the Controller failed"));
+				.text("Running the Controller failed")), //
+		/**
+		 * Execution time of {@link Controller#run()} in the last Cycle in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Controller
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		RUN_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
 
@@ -68,6 +100,35 @@ public interface Controller extends OpenemsComponent {
 		this.getRunFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRunDurationChannel() {
+		return this.channel(ChannelId.RUN_DURATION);
+	}
+
+	/**
+	 * Gets the execution time of the last run in [ms]. See
+	 * {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRunDuration() {
+		return this.getRunDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#RUN_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRunDuration(long value) {
+		this.getRunDurationChannel().setNextValue(value);
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
@@ -185,10 +185,7 @@ public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsCo
 	 */
 	private OptionalInt getLastValidSoc(IntegerReadChannel channel) {
 		// get first defined value
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var value = channel.findFirstPastValue(null, Value::isDefined);
+		return value == null ? OptionalInt.empty() : OptionalInt.of(value.get());
 	}
 }
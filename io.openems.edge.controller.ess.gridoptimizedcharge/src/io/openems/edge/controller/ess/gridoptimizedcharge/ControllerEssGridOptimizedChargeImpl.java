@@ -4,7 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoField;
-import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
 import java.util.OptionalDouble;
 
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -25,7 +25,6 @@ import org.slf4j.LoggerFactory;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.ComponentManagerProvider;
@@ -363,19 +362,22 @@ public class ControllerEssGridOptimizedChargeImpl extends AbstractOpenemsCompone
 	private OptionalDouble getChannelAverageOfPastSeconds(int consideredSeconds, IntegerReadChannel channel) {
 
 		// Get the past channel values
-		var pastValues = channel.getPastValues()
-				.tailMap(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), true)
-				.values();
+		var pastValues = new IntSummaryStatistics();
+		var numberOfValues = channel.forEachPastValue(
+				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), value -> {
+					if (value.isDefined()) {
+						pastValues.accept(value.get());
+					}
+				});
 
 		// Make sure we have at least one value
-		if (pastValues.isEmpty()) {
-			pastValues = new ArrayList<>();
-			pastValues.add(channel.value());
+		if (numberOfValues == 0 && channel.value().isDefined()) {
+			pastValues.accept(channel.value().get());
 		}
 
-		return pastValues.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
+		return pastValues.getCount() > 0 //
+				? OptionalDouble.of(pastValues.getAverage()) //
+				: OptionalDouble.empty();
 	}
 
 	/**
@@ -4,8 +4,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -26,7 +29,6 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -99,6 +101,13 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 		}
 	}
 
+	@Override
+	public synchronized Set<String> getWriteTargets() {
+		return this.outputChannelAdresses.stream() //
+				.map(ChannelAddress::toString) //
+				.collect(Collectors.toSet());
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var outputChannels = this.getOutputChannels();
@@ -156,19 +165,23 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		var values = inputChannel.getPastValues().tailMap(
+		var values = new IntSummaryStatistics();
+		var numberOfValues = inputChannel.forEachPastValue(
 				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
+				value -> {
+					if (value.isDefined()) {
+						values.accept(value.get());
+					}
+				});
 
 		// make sure we have at least one value
-		if (values.isEmpty()) {
-			values = new ArrayList<>();
-			values.add(inputChannel.value());
+		if (numberOfValues == 0 && inputChannel.value().isDefined()) {
+			values.accept(inputChannel.value().get());
 		}
 
-		var inputValueOpt = values.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
+		var inputValueOpt = values.getCount() > 0 //
+				? OptionalDouble.of(values.getAverage()) //
+				: OptionalDouble.empty();
 		int inputValue;
 		if (inputValueOpt.isPresent()) {
 			inputValue = (int) Math.round(inputValueOpt.getAsDouble());
@@ -0,0 +1,281 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+import org.osgi.util.tracker.ServiceTracker;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * An in-memory registry of all {@link OpenemsComponent} services, updated from
+ * OSGi service events.
+ *
+ * <p>
+ * Readers get an immutable {@link Snapshot} with the enabled Components, a map
+ * of Component-IDs and lazily built indexes per type. Getting Components does
+ * not parse LDAP filters or get and unget services; the snapshot is only
+ * rebuilt when a service is registered, modified or unregistered.
+ */
+public class ComponentRegistry {
+
+	private static final String PROPERTY_ID = "id";
+	private static final String PROPERTY_ENABLED = "enabled";
+	private static final String PROPERTY_FACTORY_PID = "service.factoryPid";
+
+	private record Entry(OpenemsComponent component, String id, boolean enabled, boolean isComponentManagerFactory,
+			String[] objectClass) {
+
+		private boolean isRegisteredAs(String className) {
+			for (var name : this.objectClass) {
+				if (name.equals(className)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the registered Components.
+	 */
+	public static final class Snapshot {
+
+		private static final Snapshot EMPTY = new Snapshot(Collections.emptyList());
+
+		private final Entry[] entries;
+		private final List<OpenemsComponent> enabledComponents;
+		private final List<OpenemsComponent> allComponents;
+		private final Map<String, OpenemsComponent> componentsById;
+		private final Map<String, OpenemsComponent> enabledComponentsById;
+		private final ConcurrentHashMap<Class<?>, List<?>> enabledComponentsByType = new ConcurrentHashMap<>();
+
+		private Snapshot(List<Entry> entries) {
+			this.entries = entries.toArray(Entry[]::new);
+			final var enabledComponents = new ArrayList<OpenemsComponent>(this.entries.length);
+			final var allComponents = new ArrayList<OpenemsComponent>(this.entries.length);
+			final var componentsById = new HashMap<String, OpenemsComponent>();
+			final var enabledComponentsById = new HashMap<String, OpenemsComponent>();
+			for (var entry : this.entries) {
+				if (!entry.isComponentManagerFactory) {
+					allComponents.add(entry.component);
+					if (entry.enabled) {
+						enabledComponents.add(entry.component);
+					}
+				}
+				if (entry.id != null) {
+					componentsById.putIfAbsent(entry.id, entry.component);
+					if (entry.enabled) {
+						enabledComponentsById.putIfAbsent(entry.id, entry.component);
+					}
+				}
+			}
+			this.enabledComponents = List.copyOf(enabledComponents);
+			this.allComponents = List.copyOf(allComponents);
+			// HashMap instead of Map.copyOf(): its linear probing is slow for similar
+			// Component-IDs like 'meter0', 'meter1',...
+			this.componentsById = componentsById;
+			this.enabledComponentsById = enabledComponentsById;
+		}
+
+		/**
+		 * Gets all enabled Components.
+		 *
+		 * @return an immutable list of Components
+		 */
+		public List<OpenemsComponent> getEnabledComponents() {
+			return this.enabledComponents;
+		}
+
+		/**
+		 * Gets all Components, including disabled ones.
+		 *
+		 * @return an immutable list of Components
+		 */
+		public List<OpenemsComponent> getAllComponents() {
+			return this.allComponents;
+		}
+
+		/**
+		 * Gets all enabled Components that were registered as service of the given
+		 * type.
+		 *
+		 * @param <T>   the type
+		 * @param clazz the class of the type
+		 * @return an immutable list of Components
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+			return (List<T>) this.enabledComponentsByType.computeIfAbsent(clazz, c -> {
+				final var className = c.getName();
+				final var result = new ArrayList<T>();
+				for (var entry : this.entries) {
+					if (entry.enabled && entry.isRegisteredAs(className) && c.isInstance(entry.component)) {
+						result.add((T) entry.component);
+					}
+				}
+				return List.copyOf(result);
+			});
+		}
+
+		/**
+		 * Gets the Component with the given ID. Be careful, that the Component might
+		 * not be 'enabled'.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the Component or null if not found
+		 */
+		public OpenemsComponent getComponent(String componentId) {
+			return this.componentsById.get(componentId);
+		}
+
+		/**
+		 * Gets the enabled Component with the given ID.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the Component or null if not found or not enabled
+		 */
+		public OpenemsComponent getEnabledComponent(String componentId) {
+			return this.enabledComponentsById.get(componentId);
+		}
+
+		/**
+		 * Gets the number of registered Components.
+		 *
+		 * @return the size
+		 */
+		public int size() {
+			return this.entries.length;
+		}
+	}
+
+	/**
+	 * Registered Components by their Service-ID, i.e. in order of registration.
+	 */
+	private final TreeMap<Long, Entry> entries = new TreeMap<>();
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	/**
+	 * Gets the current {@link Snapshot}.
+	 *
+	 * @return the {@link Snapshot}; never null
+	 */
+	public Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Adds or updates a Component.
+	 *
+	 * @param serviceId   the Service-ID
+	 * @param component   the {@link OpenemsComponent}
+	 * @param id          the value of the 'id' property; null if not set
+	 * @param enabled     the value of the 'enabled' property
+	 * @param factoryPid  the value of the 'service.factoryPid' property; null if
+	 *                    not set
+	 * @param objectClass the names of the classes under which the service was
+	 *                    registered
+	 */
+	public synchronized void put(long serviceId, OpenemsComponent component, String id, boolean enabled,
+			String factoryPid, String[] objectClass) {
+		this.entries.put(serviceId, new Entry(component, id, enabled,
+				ComponentManager.SINGLETON_SERVICE_PID.equals(factoryPid), objectClass.clone()));
+		this.snapshot = new Snapshot(new ArrayList<>(this.entries.values()));
+	}
+
+	/**
+	 * Removes a Component.
+	 *
+	 * @param serviceId the Service-ID
+	 */
+	public synchronized void remove(long serviceId) {
+		if (this.entries.remove(serviceId) != null) {
+			this.snapshot = new Snapshot(new ArrayList<>(this.entries.values()));
+		}
+	}
+
+	/**
+	 * Creates a {@link ServiceTracker} that keeps this registry up-to-date.
+	 *
+	 * @param bundleContext the {@link BundleContext}
+	 * @param self          the {@link ComponentManager} itself; its service is
+	 *                      not got from the framework to avoid a circular
+	 *                      activation
+	 * @return the {@link ServiceTracker}; needs to be opened and closed
+	 */
+	public ServiceTracker<OpenemsComponent, OpenemsComponent> createTracker(BundleContext bundleContext,
+			OpenemsComponent self) {
+		return new ServiceTracker<>(bundleContext, OpenemsComponent.class, null) {
+
+			@Override
+			public OpenemsComponent addingService(ServiceReference<OpenemsComponent> reference) {
+				final OpenemsComponent component;
+				if (isSelf(reference)) {
+					component = self;
+				} else {
+					component = bundleContext.getService(reference);
+					if (component == null) {
+						return null;
+					}
+				}
+				ComponentRegistry.this.put(reference, component);
+				return component;
+			}
+
+			@Override
+			public void modifiedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+				ComponentRegistry.this.put(reference, component);
+			}
+
+			@Override
+			public void removedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+				ComponentRegistry.this.remove((Long) reference.getProperty(Constants.SERVICE_ID));
+				if (!isSelf(reference)) {
+					bundleContext.ungetService(reference);
+				}
+			}
+		};
+	}
+
+	private void put(ServiceReference<?> reference, OpenemsComponent component) {
+		final var id = reference.getProperty(PROPERTY_ID);
+		final var factoryPid = reference.getProperty(PROPERTY_FACTORY_PID);
+		final var objectClass = reference.getProperty(Constants.OBJECTCLASS);
+		this.put((Long) reference.getProperty(Constants.SERVICE_ID), component, //
+				id == null ? null : id.toString(), //
+				isEnabled(reference.getProperty(PROPERTY_ENABLED)), //
+				factoryPid == null ? null : factoryPid.toString(), //
+				objectClass instanceof String[] names ? names : new String[0]);
+	}
+
+	private static boolean isSelf(ServiceReference<?> reference) {
+		return ComponentManager.SINGLETON_SERVICE_PID.equals(reference.getProperty(Constants.SERVICE_PID));
+	}
+
+	/**
+	 * Evaluates the 'enabled' property like the LDAP filter '(enabled=true)'.
+	 *
+	 * @param value the property value
+	 * @return true if enabled
+	 */
+	protected static boolean isEnabled(Object value) {
+		if (value instanceof Boolean b) {
+			return b;
+		}
+		if (value instanceof Boolean[] array) {
+			return Arrays.asList(array).contains(Boolean.TRUE);
+		}
+		return value != null && "true".equals(value.toString().trim());
+	}
+
+}
@@ -1,7 +1,10 @@
 package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ObjLongConsumer;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -20,11 +23,20 @@ import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.event.CycleListener;
+import io.openems.edge.common.event.CycleListenerRegistry;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleTimingsRequest;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleTimingsResponse;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,10 +47,21 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
 
+	protected final CycleTimings timings = new CycleTimings();
+
+	protected final CycleListenerRegistry cycleListeners = new CycleListenerRegistry();
+
+	/**
+	 * Records the execution time of a {@link CycleListener} in the
+	 * {@link CycleTimings}.
+	 */
+	protected final ObjLongConsumer<CycleListener> cycleListenerTimer = (listener, nanos) -> this.timings
+			.recordEventHandler(listener instanceof OpenemsComponent c ? c.id() : listener.getClass().getName(), nanos);
+
 	@Reference
 	private ConfigurationAdmin cm;
 
@@ -57,6 +80,11 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	 */
 	protected final TreeSet<Scheduler> schedulers = new TreeSet<>(Comparator.comparing(Scheduler::id));
 
+	/**
+	 * Executes Controllers in parallel; null if disabled by configuration.
+	 */
+	protected volatile ParallelControllerExecutor parallelControllerExecutor = null;
+
 	private Config config = null;
 
 	@Reference(//
@@ -76,10 +104,23 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE)
+	protected void addCycleListener(CycleListener listener, Map<String, Object> properties) {
+		this.cycleListeners.register(listener, CycleListenerRegistry.parseEvents(properties));
+	}
+
+	protected void removeCycleListener(CycleListener listener) {
+		this.cycleListeners.unregister(listener);
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
-				Cycle.ChannelId.values() //
+				Cycle.ChannelId.values(), //
+				CyclePhase.values() //
 		);
 	}
 
@@ -87,6 +128,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyParallelControllers(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +140,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyParallelControllers(config);
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +153,19 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.applyParallelControllers(null);
+	}
+
+	private synchronized void applyParallelControllers(Config config) {
+		var executor = this.parallelControllerExecutor;
+		var enabled = config != null && config.parallelControllers();
+		if (enabled && executor == null) {
+			this.parallelControllerExecutor = new ParallelControllerExecutor(
+					Runtime.getRuntime().availableProcessors());
+		} else if (!enabled && executor != null) {
+			this.parallelControllerExecutor = null;
+			executor.shutdown();
+		}
 	}
 
 	@Override
@@ -131,4 +187,25 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		return Cycle.DEFAULT_CYCLE_TIME;
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.ADMIN);
+
+		switch (request.getMethod()) {
+		case GetCycleTimingsRequest.METHOD:
+			return this.handleGetCycleTimingsRequest(GetCycleTimingsRequest.from(request));
+		}
+		return null;
+	}
+
+	private CompletableFuture<? extends JsonrpcResponseSuccess> handleGetCycleTimingsRequest(
+			GetCycleTimingsRequest request) {
+		var response = new GetCycleTimingsResponse(request.getId(), this.timings, request.getSlowest());
+		if (request.isReset()) {
+			this.timings.reset();
+		}
+		return CompletableFuture.completedFuture(response);
+	}
+
 }
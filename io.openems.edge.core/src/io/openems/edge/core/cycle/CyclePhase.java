@@ -0,0 +1,78 @@
+package io.openems.edge.core.cycle;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * The phases of one OpenEMS Cycle; each phase provides a Channel with its
+ * duration in the last Cycle in [ms].
+ */
+public enum CyclePhase implements io.openems.edge.common.channel.ChannelId {
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}.
+	 */
+	BEFORE_PROCESS_IMAGE_TIME("BeforeProcessImage"),
+	/**
+	 * Switching the process image of all Channels.
+	 */
+	PROCESS_IMAGE_TIME("ProcessImage"),
+	/**
+	 * Calculating the Channels of the Sum-Component.
+	 */
+	SUM_TIME("Sum"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}.
+	 */
+	AFTER_PROCESS_IMAGE_TIME("AfterProcessImage"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_CONTROLLERS}.
+	 */
+	BEFORE_CONTROLLERS_TIME("BeforeControllers"),
+	/**
+	 * Executing the Controllers.
+	 */
+	CONTROLLERS_TIME("Controllers"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_CONTROLLERS}.
+	 */
+	AFTER_CONTROLLERS_TIME("AfterControllers"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_WRITE}.
+	 */
+	BEFORE_WRITE_TIME("BeforeWrite"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_EXECUTE_WRITE}.
+	 */
+	EXECUTE_WRITE_TIME("ExecuteWrite"),
+	/**
+	 * Handling of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_WRITE}.
+	 */
+	AFTER_WRITE_TIME("AfterWrite");
+
+	private final String phase;
+	private final Doc doc;
+
+	private CyclePhase(String phase) {
+		this.phase = phase;
+		this.doc = Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of phase '" + phase + "' in the last Cycle");
+	}
+
+	/**
+	 * Gets the name of the phase.
+	 *
+	 * @return the name
+	 */
+	public String getPhase() {
+		return this.phase;
+	}
+
+	@Override
+	public Doc doc() {
+		return this.doc;
+	}
+
+}
@@ -0,0 +1,200 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.utils.TimingHistogram;
+
+/**
+ * Collects the durations of the phases of the Cycle, of the Controllers and of
+ * single event handlers in {@link TimingHistogram}s.
+ *
+ * <p>
+ * Additionally keeps the slowest Controllers and event handlers of the last
+ * finished Cycle.
+ */
+public class CycleTimings {
+
+	/**
+	 * Maximum number of slowest entries that are kept per Cycle.
+	 */
+	public static final int SLOWEST_CAPACITY = 20;
+
+	public enum Type {
+		CONTROLLER, EVENT_HANDLER;
+	}
+
+	private static final CyclePhase[] PHASES = CyclePhase.values();
+
+	private final TimingHistogram[] phaseHistograms = new TimingHistogram[PHASES.length];
+	private final long[] lastPhaseMicros = new long[PHASES.length];
+	private final ConcurrentHashMap<String, TimingHistogram> controllerHistograms = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, TimingHistogram> handlerHistograms = new ConcurrentHashMap<>();
+
+	private Slowest currentSlowest = new Slowest();
+	private Slowest lastSlowest = new Slowest();
+
+	public CycleTimings() {
+		for (var i = 0; i < PHASES.length; i++) {
+			this.phaseHistograms[i] = new TimingHistogram();
+		}
+	}
+
+	/**
+	 * Records the end of a phase.
+	 *
+	 * @param phase      the {@link CyclePhase}
+	 * @param startNanos the start of the phase from {@link System#nanoTime()}
+	 * @return the end of the phase, i.e. the start of the next phase
+	 */
+	public long recordPhase(CyclePhase phase, long startNanos) {
+		final var now = System.nanoTime();
+		final var micros = (now - startNanos) / 1_000;
+		this.phaseHistograms[phase.ordinal()].record(micros);
+		this.lastPhaseMicros[phase.ordinal()] = micros;
+		return now;
+	}
+
+	/**
+	 * Records the execution time of a Controller.
+	 *
+	 * @param controllerId the Component-ID of the Controller
+	 * @param nanos        the duration in [ns]
+	 */
+	public void recordController(String controllerId, long nanos) {
+		this.record(Type.CONTROLLER, this.controllerHistograms, controllerId, nanos);
+	}
+
+	/**
+	 * Records the execution time of an event handler.
+	 *
+	 * @param handler the name of the event handler
+	 * @param nanos   the duration in [ns]
+	 */
+	public void recordEventHandler(String handler, long nanos) {
+		this.record(Type.EVENT_HANDLER, this.handlerHistograms, handler, nanos);
+	}
+
+	private void record(Type type, ConcurrentHashMap<String, TimingHistogram> histograms, String name,
+			long nanos) {
+		final var micros = nanos / 1_000;
+		var histogram = histograms.get(name);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(name, key -> new TimingHistogram());
+		}
+		histogram.record(micros);
+		synchronized (this) {
+			this.currentSlowest.add(type, name, micros);
+		}
+	}
+
+	/**
+	 * Finishes the current Cycle: the slowest entries of this Cycle become
+	 * available via {@link #toJson(int)}.
+	 */
+	public synchronized void finishCycle() {
+		final var finished = this.currentSlowest;
+		this.currentSlowest = this.lastSlowest;
+		this.currentSlowest.clear();
+		this.lastSlowest = finished;
+	}
+
+	/**
+	 * Gets the duration of a phase in the last Cycle.
+	 *
+	 * @param phase the {@link CyclePhase}
+	 * @return the duration in [us]
+	 */
+	public long getLastPhaseMicros(CyclePhase phase) {
+		return this.lastPhaseMicros[phase.ordinal()];
+	}
+
+	/**
+	 * Resets all histograms.
+	 */
+	public void reset() {
+		for (var histogram : this.phaseHistograms) {
+			histogram.reset();
+		}
+		this.controllerHistograms.clear();
+		this.handlerHistograms.clear();
+	}
+
+	/**
+	 * Gets the collected timings as {@link JsonObject}.
+	 *
+	 * @param slowest the maximum number of slowest entries of the last Cycle
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson(int slowest) {
+		final var phases = JsonUtils.buildJsonObject();
+		for (var phase : PHASES) {
+			phases.add(phase.getPhase(), this.phaseHistograms[phase.ordinal()].toJson());
+		}
+		return JsonUtils.buildJsonObject() //
+				.add("phases", phases.build()) //
+				.add("controllers", toJson(this.controllerHistograms)) //
+				.add("eventHandlers", toJson(this.handlerHistograms)) //
+				.add("slowest", this.getSlowestJson(slowest)) //
+				.build();
+	}
+
+	private synchronized JsonArray getSlowestJson(int limit) {
+		final var result = JsonUtils.buildJsonArray();
+		final var slowest = this.lastSlowest;
+		for (var i = 0; i < Math.min(limit, slowest.size); i++) {
+			result.add(JsonUtils.buildJsonObject() //
+					.addProperty("type", slowest.types[i]) //
+					.addProperty("name", slowest.names[i]) //
+					.addProperty("duration", slowest.micros[i]) //
+					.build());
+		}
+		return result.build();
+	}
+
+	private static JsonObject toJson(Map<String, TimingHistogram> histograms) {
+		final var result = JsonUtils.buildJsonObject();
+		new TreeMap<>(histograms).forEach((name, histogram) -> result.add(name, histogram.toJson()));
+		return result.build();
+	}
+
+	/**
+	 * The slowest entries of one Cycle, sorted descending by duration.
+	 */
+	private static class Slowest {
+
+		private final Type[] types = new Type[SLOWEST_CAPACITY];
+		private final String[] names = new String[SLOWEST_CAPACITY];
+		private final long[] micros = new long[SLOWEST_CAPACITY];
+		private int size = 0;
+
+		private void add(Type type, String name, long micros) {
+			if (this.size == SLOWEST_CAPACITY && micros <= this.micros[SLOWEST_CAPACITY - 1]) {
+				return;
+			}
+			var pos = Math.min(this.size, SLOWEST_CAPACITY - 1);
+			while (pos > 0 && this.micros[pos - 1] < micros) {
+				this.types[pos] = this.types[pos - 1];
+				this.names[pos] = this.names[pos - 1];
+				this.micros[pos] = this.micros[pos - 1];
+				pos--;
+			}
+			this.types[pos] = type;
+			this.names[pos] = name;
+			this.micros[pos] = micros;
+			if (this.size < SLOWEST_CAPACITY) {
+				this.size++;
+			}
+		}
+
+		private void clear() {
+			this.size = 0;
+		}
+	}
+
+}
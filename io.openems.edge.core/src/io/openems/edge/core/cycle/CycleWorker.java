@@ -1,6 +1,8 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,13 +13,18 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleListener;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
 
+	private static final CyclePhase[] PHASES = CyclePhase.values();
+
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
 
@@ -43,11 +50,16 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Prepare measurement of the phases
+		final var timings = this.parent.timings;
+		var phaseStart = System.nanoTime();
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(CycleEvent.BEFORE_PROCESS_IMAGE);
+			phaseStart = timings.recordPhase(CyclePhase.BEFORE_PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
@@ -62,6 +74,7 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			phaseStart = timings.recordPhase(CyclePhase.PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Update the Channels in the Sum-Component.
@@ -70,16 +83,19 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			phaseStart = timings.recordPhase(CyclePhase.SUM_TIME, phaseStart);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(CycleEvent.AFTER_PROCESS_IMAGE);
+			phaseStart = timings.recordPhase(CyclePhase.AFTER_PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(CycleEvent.BEFORE_CONTROLLERS);
+			phaseStart = timings.recordPhase(CyclePhase.BEFORE_CONTROLLERS_TIME, phaseStart);
 
 			var hasDisabledController = false;
 
@@ -89,6 +105,7 @@ public class CycleWorker extends AbstractWorker {
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
 			} else {
+				var controllers = new ArrayList<Controller>();
 				for (Scheduler scheduler : this.parent.schedulers) {
 					var schedulerControllerIsMissing = false;
 
@@ -109,59 +126,52 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
+						controllers.add(controller);
 					}
 
 					// announce Scheduler Controller is missing
 					scheduler._setControllerIsMissing(schedulerControllerIsMissing);
 				}
+
+				var parallelControllerExecutor = this.parent.parallelControllerExecutor;
+				if (parallelControllerExecutor != null) {
+					final var essIds = this.parent.componentManager
+							.getEnabledComponentsOfType(ManagedSymmetricEss.class).stream() //
+							.map(OpenemsComponent::id) //
+							.collect(Collectors.toUnmodifiableSet());
+					parallelControllerExecutor.execute(controllers, essIds, this::runController);
+				} else {
+					controllers.forEach(this::runController);
+				}
 			}
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			phaseStart = timings.recordPhase(CyclePhase.CONTROLLERS_TIME, phaseStart);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(CycleEvent.AFTER_CONTROLLERS);
+			phaseStart = timings.recordPhase(CyclePhase.AFTER_CONTROLLERS_TIME, phaseStart);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(CycleEvent.BEFORE_WRITE);
+			phaseStart = timings.recordPhase(CyclePhase.BEFORE_WRITE_TIME, phaseStart);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(CycleEvent.EXECUTE_WRITE);
+			phaseStart = timings.recordPhase(CyclePhase.EXECUTE_WRITE_TIME, phaseStart);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(CycleEvent.AFTER_WRITE);
+			phaseStart = timings.recordPhase(CyclePhase.AFTER_WRITE_TIME, phaseStart);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +183,58 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+		// Announce durations of the phases
+		for (var phase : PHASES) {
+			this.parent.channel(phase).setNextValue(timings.getLastPhaseMicros(phase) / 1000.);
+		}
+		timings.finishCycle();
+	}
+
+	/**
+	 * Calls the directly registered {@link CycleListener}s and sends the event via
+	 * OSGi EventAdmin.
+	 *
+	 * @param event the {@link CycleEvent}
+	 */
+	private void sendEvent(CycleEvent event) {
+		this.parent.cycleListeners.dispatch(event, this.parent.cycleListenerTimer);
+		EventBuilder.send(this.parent.eventAdmin, event.getTopic());
+	}
+
+	/**
+	 * Executes the Controller logic and announces the result.
+	 *
+	 * @param controller the {@link Controller}
+	 */
+	private void runController(Controller controller) {
+		final var start = System.nanoTime();
+		try {
+			// Execute Controller logic
+			controller.run();
+
+			// announce running was ok
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} catch (Exception e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			if (e instanceof ClassCastException || e instanceof NullPointerException
+					|| e instanceof IllegalArgumentException) {
+				e.printStackTrace();
+			}
+			// announce running failed
+			controller._setRunFailed(true);
+		}
+		final var nanos = System.nanoTime() - start;
+		controller._setRunDuration(TimeUnit.NANOSECONDS.toMillis(nanos));
+		this.parent.timings.recordController(controller.id(), nanos);
 	}
 
 }
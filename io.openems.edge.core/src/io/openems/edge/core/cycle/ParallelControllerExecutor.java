@@ -0,0 +1,201 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+
+/**
+ * Executes the Controllers of one Cycle on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * A Controller waits for all previous Controllers - in the order given by the
+ * Schedulers - that write one of its targets (see
+ * {@link Controller#getWriteTargets()}). Controllers with unknown targets wait
+ * for all previous Controllers and are waited for by all following
+ * Controllers. All Controllers that write an ESS also share the
+ * {@value #POWER_COMPONENT_ID} Component, because the ESS forward their
+ * setpoints to its solver, which is not thread-safe.
+ *
+ * <p>
+ * {@link #shutdown()} may be called from any thread, e.g. on reconfiguration,
+ * while a Cycle is executing. The thread pool is then closed only after that
+ * Cycle has finished, so Controllers that are still queued are executed and
+ * the Cycle does not hang.
+ */
+public class ParallelControllerExecutor {
+
+	/**
+	 * The Component-ID of the Ess.Power Component.
+	 */
+	protected static final String POWER_COMPONENT_ID = "_power";
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Guards {@link #running} and {@link #isShutdown}.
+	 */
+	private final Object lock = new Object();
+
+	private int running = 0;
+	private boolean isShutdown = false;
+
+	public ParallelControllerExecutor(int parallelism) {
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Executes the Controllers and blocks until all are finished.
+	 *
+	 * <p>
+	 * After {@link #shutdown()} the Controllers are executed sequentially on the
+	 * calling thread.
+	 *
+	 * @param controllers the Controllers in Scheduler order
+	 * @param essIds      the Component-IDs of all {@link ManagedSymmetricEss}
+	 * @param runner      executes one Controller; must not throw
+	 */
+	public void execute(List<Controller> controllers, Set<String> essIds, Consumer<Controller> runner) {
+		synchronized (this.lock) {
+			if (this.isShutdown) {
+				controllers.forEach(runner);
+				return;
+			}
+			this.running++;
+		}
+		try {
+			this.executeParallel(controllers, essIds, runner);
+		} finally {
+			synchronized (this.lock) {
+				this.running--;
+				if (this.isShutdown && this.running == 0) {
+					this.pool.shutdown();
+				}
+			}
+		}
+	}
+
+	private void executeParallel(List<Controller> controllers, Set<String> essIds, Consumer<Controller> runner) {
+		final var dependencies = getDependencies(controllers.stream() //
+				.map(controller -> getWriteTargets(controller, essIds)) //
+				.toList());
+		final var futures = new CompletableFuture<?>[controllers.size()];
+		for (var i = 0; i < futures.length; i++) {
+			final var controller = controllers.get(i);
+			final Runnable task = () -> runner.accept(controller);
+			final var predecessors = dependencies.get(i);
+			if (predecessors.isEmpty()) {
+				futures[i] = CompletableFuture.runAsync(task, this.pool);
+			} else {
+				futures[i] = CompletableFuture.allOf(predecessors.stream() //
+						.map(j -> futures[j]) //
+						.toArray(CompletableFuture[]::new)) //
+						.thenRunAsync(task, this.pool);
+			}
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	/**
+	 * Shuts down the thread pool; immediately if no Cycle is executing, otherwise
+	 * once the executing Cycle has finished.
+	 */
+	public void shutdown() {
+		synchronized (this.lock) {
+			this.isShutdown = true;
+			if (this.running == 0) {
+				this.pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Blocks until the thread pool has terminated after {@link #shutdown()}.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit    the {@link TimeUnit} of the timeout
+	 * @return true if the thread pool terminated
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	protected boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return this.pool.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * Gets the write targets of a Controller. If the Controller writes an ESS,
+	 * {@value #POWER_COMPONENT_ID} is added as implicit target.
+	 *
+	 * @param controller the {@link Controller}
+	 * @param essIds     the Component-IDs of all {@link ManagedSymmetricEss}
+	 * @return the write targets; null if unknown
+	 */
+	protected static Set<String> getWriteTargets(Controller controller, Set<String> essIds) {
+		final var targets = controller.getWriteTargets();
+		if (targets == null || targets.contains(POWER_COMPONENT_ID)) {
+			return targets;
+		}
+		for (var target : targets) {
+			final var separator = target.indexOf('/');
+			final var componentId = separator < 0 ? target : target.substring(0, separator);
+			if (essIds.contains(componentId)) {
+				final var result = new HashSet<>(targets);
+				result.add(POWER_COMPONENT_ID);
+				return result;
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Calculates for every Controller the indexes of the previous Controllers it
+	 * has to wait for.
+	 *
+	 * @param writeTargets the write targets of the Controllers in Scheduler order;
+	 *                     null entries for unknown targets
+	 * @return a list of predecessor indexes per Controller
+	 */
+	protected static List<List<Integer>> getDependencies(List<Set<String>> writeTargets) {
+		final var result = new ArrayList<List<Integer>>(writeTargets.size());
+		for (var i = 0; i < writeTargets.size(); i++) {
+			final var targets = writeTargets.get(i);
+			final var predecessors = new ArrayList<Integer>();
+			for (var j = 0; j < i; j++) {
+				final var other = writeTargets.get(j);
+				if (targets == null || other == null || conflicts(targets, other)) {
+					predecessors.add(j);
+				}
+			}
+			result.add(predecessors);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether two Sets of write targets overlap. A Component-ID overlaps
+	 * with all Channel-Addresses of that Component.
+	 *
+	 * @param targets1 the first Set
+	 * @param targets2 the second Set
+	 * @return true if at least one target is written by both
+	 */
+	private static boolean conflicts(Set<String> targets1, Set<String> targets2) {
+		for (var target1 : targets1) {
+			for (var target2 : targets2) {
+				if (target1.equals(target2) //
+						|| target1.startsWith(target2 + "/") //
+						|| target2.startsWith(target1 + "/")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
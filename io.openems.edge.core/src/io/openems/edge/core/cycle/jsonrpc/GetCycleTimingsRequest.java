@@ -0,0 +1,86 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Gets the timing histograms of the Cycle phases, Controllers and event
+ * handlers and the slowest entries of the last Cycle.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleTimings",
+ *   "params": {
+ *   	"slowest"?: number = 10, // number of slowest entries of the last Cycle
+ *   	"reset"?: boolean = false // reset the histograms after reading
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleTimingsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleTimings";
+	public static final int DEFAULT_SLOWEST = 10;
+	public static final boolean DEFAULT_RESET = false;
+
+	/**
+	 * Parses a generic {@link JsonrpcRequest} to a {@link GetCycleTimingsRequest}.
+	 *
+	 * @param r the {@link JsonrpcRequest}
+	 * @return the {@link GetCycleTimingsRequest}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static GetCycleTimingsRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		var p = r.getParams();
+		int slowest = JsonUtils.getAsOptionalInt(p, "slowest").orElse(DEFAULT_SLOWEST);
+		boolean reset = JsonUtils.getAsOptionalBoolean(p, "reset").orElse(DEFAULT_RESET);
+		return new GetCycleTimingsRequest(r.getId(), slowest, reset);
+	}
+
+	private final int slowest;
+	private final boolean reset;
+
+	public GetCycleTimingsRequest(int slowest, boolean reset) {
+		this(UUID.randomUUID(), slowest, reset);
+	}
+
+	public GetCycleTimingsRequest(UUID id, int slowest, boolean reset) {
+		super(id, METHOD, JsonrpcRequest.DEFAULT_TIMEOUT_SECONDS);
+		this.slowest = slowest;
+		this.reset = reset;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("slowest", this.slowest) //
+				.addProperty("reset", this.reset) //
+				.build();
+	}
+
+	/**
+	 * Gets the number of slowest entries of the last Cycle.
+	 *
+	 * @return the number of entries
+	 */
+	public int getSlowest() {
+		return this.slowest;
+	}
+
+	/**
+	 * Gets the reset option.
+	 *
+	 * @return true if the histograms should be reset after reading
+	 */
+	public boolean isReset() {
+		return this.reset;
+	}
+
+}
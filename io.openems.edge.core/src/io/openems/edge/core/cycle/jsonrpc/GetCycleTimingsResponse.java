@@ -0,0 +1,51 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.edge.core.cycle.CycleTimings;
+
+/**
+ * JSON-RPC Response to "getCycleTimings" Request.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "phases": {
+ *       [phase: string]: {
+ *         "count": number, "mean": number, "p50": number, "p90": number, "p99": number, "max": number
+ *       }
+ *     },
+ *     "controllers": { [controllerId: string]: {...} },
+ *     "eventHandlers": { [handler: string]: {...} },
+ *     "slowest": [{
+ *       "type": "CONTROLLER" | "EVENT_HANDLER",
+ *       "name": string,
+ *       "duration": number
+ *     }]
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>
+ * All durations are in [us].
+ */
+public class GetCycleTimingsResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject result;
+
+	public GetCycleTimingsResponse(UUID id, CycleTimings timings, int slowest) {
+		super(id);
+		this.result = timings.toJson(slowest);
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.result;
+	}
+
+}
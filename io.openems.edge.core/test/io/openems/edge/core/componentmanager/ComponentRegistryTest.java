@@ -0,0 +1,81 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ComponentRegistryTest {
+
+	private static final String[] OPENEMS_COMPONENT = { OpenemsComponent.class.getName() };
+	private static final String[] SUM = { OpenemsComponent.class.getName(), Sum.class.getName() };
+
+	@Test
+	public void test() {
+		final var registry = new ComponentRegistry();
+		final var sum = new DummySum();
+		final var cycle0 = new DummyCycle(1000);
+		final var cycle1 = new DummyCycle(1000);
+		final var componentManager = new DummyCycle(1000);
+		assertTrue(registry.getSnapshot().getEnabledComponents().isEmpty());
+
+		registry.put(3L, cycle1, "cycle1", false, null, OPENEMS_COMPONENT);
+		registry.put(1L, sum, "_sum", true, null, SUM);
+		registry.put(2L, cycle0, "cycle0", true, null, OPENEMS_COMPONENT);
+		registry.put(4L, componentManager, "_componentManager", true, ComponentManager.SINGLETON_SERVICE_PID,
+				OPENEMS_COMPONENT);
+
+		var snapshot = registry.getSnapshot();
+		assertEquals(4, snapshot.size());
+
+		// Ordered by Service-ID; ComponentManager factory is excluded
+		assertEquals(List.of(sum, cycle0), snapshot.getEnabledComponents());
+		assertEquals(List.of(sum, cycle0, cycle1), snapshot.getAllComponents());
+
+		assertSame(cycle1, snapshot.getComponent("cycle1"));
+		assertNull(snapshot.getEnabledComponent("cycle1"));
+		assertSame(cycle0, snapshot.getEnabledComponent("cycle0"));
+		assertSame(componentManager, snapshot.getEnabledComponent("_componentManager"));
+		assertNull(snapshot.getComponent("foo"));
+
+		// Type index only contains services registered under that type
+		assertEquals(List.of(sum), snapshot.getEnabledComponentsOfType(Sum.class));
+		assertTrue(snapshot.getEnabledComponentsOfType(Cycle.class).isEmpty());
+		assertSame(snapshot.getEnabledComponentsOfType(Sum.class), snapshot.getEnabledComponentsOfType(Sum.class));
+
+		// Modify and remove create a new Snapshot; the old one stays unchanged
+		registry.put(3L, cycle1, "cycle1", true, null, OPENEMS_COMPONENT);
+		registry.remove(1L);
+		assertEquals(List.of(sum, cycle0), snapshot.getEnabledComponents());
+		snapshot = registry.getSnapshot();
+		assertEquals(List.of(cycle0, cycle1), snapshot.getEnabledComponents());
+		assertTrue(snapshot.getEnabledComponentsOfType(Sum.class).isEmpty());
+
+		// Removing an unknown Service-ID keeps the Snapshot
+		registry.remove(99L);
+		assertSame(snapshot, registry.getSnapshot());
+	}
+
+	@Test
+	public void testIsEnabled() {
+		assertTrue(ComponentRegistry.isEnabled(true));
+		assertTrue(ComponentRegistry.isEnabled("true"));
+		assertTrue(ComponentRegistry.isEnabled(new Boolean[] { false, true }));
+		assertFalse(ComponentRegistry.isEnabled(false));
+		assertFalse(ComponentRegistry.isEnabled("false"));
+		assertFalse(ComponentRegistry.isEnabled(null));
+	}
+
+}
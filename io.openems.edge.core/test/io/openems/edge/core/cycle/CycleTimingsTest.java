@@ -0,0 +1,38 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import io.openems.common.utils.JsonUtils;
+
+public class CycleTimingsTest {
+
+	@Test
+	public void testSlowest() throws Exception {
+		var sut = new CycleTimings();
+		for (var i = 0; i < CycleTimings.SLOWEST_CAPACITY + 10; i++) {
+			sut.recordController("ctrl" + i, i * 1_000_000L);
+		}
+		sut.recordEventHandler("modbus0", 500_000_000L);
+		sut.recordPhase(CyclePhase.CONTROLLERS_TIME, System.nanoTime());
+		sut.finishCycle();
+
+		// Next Cycle does not influence the finished one
+		sut.recordController("ctrl99", 999_000_000L);
+
+		var json = sut.toJson(3);
+		var slowest = JsonUtils.getAsJsonArray(json, "slowest");
+		assertEquals(3, slowest.size());
+		assertEquals("modbus0", JsonUtils.getAsString(slowest.get(0), "name"));
+		assertEquals("EVENT_HANDLER", JsonUtils.getAsString(slowest.get(0), "type"));
+		assertEquals(500_000, JsonUtils.getAsLong(slowest.get(0), "duration"));
+		assertEquals("ctrl29", JsonUtils.getAsString(slowest.get(1), "name"));
+		assertEquals("ctrl28", JsonUtils.getAsString(slowest.get(2), "name"));
+
+		assertEquals(CycleTimings.SLOWEST_CAPACITY, sut.toJson(100).getAsJsonArray("slowest").size());
+		assertEquals(1, JsonUtils.getAsLong(JsonUtils.getAsJsonObject(
+				JsonUtils.getAsJsonObject(json, "phases"), "Controllers"), "count"));
+	}
+
+}
@@ -0,0 +1,166 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.controller.api.Controller;
+
+public class ParallelControllerExecutorTest {
+
+	private static class DummyController extends AbstractDummyOpenemsComponent<DummyController>
+			implements Controller {
+
+		private final Set<String> writeTargets;
+		private final List<String> log;
+
+		public DummyController(String id, Set<String> writeTargets, List<String> log) {
+			super(id, //
+					OpenemsComponent.ChannelId.values(), //
+					Controller.ChannelId.values());
+			this.writeTargets = writeTargets;
+			this.log = log;
+		}
+
+		@Override
+		protected DummyController self() {
+			return this;
+		}
+
+		@Override
+		public Set<String> getWriteTargets() {
+			return this.writeTargets;
+		}
+
+		@Override
+		public void run() {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			this.log.add(this.id());
+		}
+	}
+
+	@Test
+	public void testGetDependencies() {
+		var dependencies = ParallelControllerExecutor.getDependencies(Arrays.asList(//
+				Set.of("ess0"), // 0
+				Set.of("io0/Relay1"), // 1
+				Set.of("ess0", "evcs0"), // 2
+				Set.of("io0"), // 3
+				null, // 4
+				Set.of("io1/Relay1"))); // 5
+
+		assertEquals(List.of(), dependencies.get(0));
+		assertEquals(List.of(), dependencies.get(1));
+		assertEquals(List.of(0), dependencies.get(2));
+		assertEquals(List.of(1), dependencies.get(3));
+		assertEquals(List.of(0, 1, 2, 3), dependencies.get(4));
+		assertEquals(List.of(4), dependencies.get(5));
+	}
+
+	@Test
+	public void testGetWriteTargets() {
+		var log = new ArrayList<String>();
+		var essIds = Set.of("ess0", "ess1");
+		var writeEss0 = ParallelControllerExecutor.getWriteTargets(new DummyController("ctrl0", Set.of("ess0"), log),
+				essIds);
+		var writeEss1 = ParallelControllerExecutor.getWriteTargets(
+				new DummyController("ctrl1", Set.of("ess1/SetActivePowerEquals"), log), essIds);
+		var writeIo = Set.of("io0/Relay1");
+
+		// Different ESS share the Power Component
+		assertEquals(Set.of("ess0", ParallelControllerExecutor.POWER_COMPONENT_ID), writeEss0);
+		assertEquals(List.of(List.of(), List.of(0), List.of()),
+				ParallelControllerExecutor.getDependencies(Arrays.asList(writeEss0, writeEss1, writeIo)));
+
+		assertSame(writeIo,
+				ParallelControllerExecutor.getWriteTargets(new DummyController("ctrl2", writeIo, log), essIds));
+		assertNull(ParallelControllerExecutor.getWriteTargets(new DummyController("ctrl3", null, log), essIds));
+	}
+
+	@Test
+	public void testExecute() {
+		var log = Collections.synchronizedList(new ArrayList<String>());
+		var controllers = List.<Controller>of(//
+				new DummyController("ctrl0", Set.of("ess0"), log), //
+				new DummyController("ctrl1", Set.of("io0/Relay1"), log), //
+				new DummyController("ctrl2", Set.of("ess0"), log), //
+				new DummyController("ctrl3", null, log));
+
+		var sut = new ParallelControllerExecutor(4);
+		try {
+			sut.execute(controllers, Set.of(), controller -> ((DummyController) controller).run());
+		} finally {
+			sut.shutdown();
+		}
+
+		assertEquals(4, log.size());
+		// Scheduler order is kept for conflicting Controllers
+		assertTrue(log.indexOf("ctrl0") < log.indexOf("ctrl2"));
+		assertEquals("ctrl3", log.get(3));
+	}
+
+	@Test
+	public void testShutdownDuringCycle() throws Exception {
+		var log = Collections.synchronizedList(new ArrayList<String>());
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var controllers = List.<Controller>of(//
+				new DummyController("ctrl0", Set.of("ess0"), log), //
+				new DummyController("ctrl1", Set.of("ess0"), log), //
+				new DummyController("ctrl2", null, log));
+
+		var sut = new ParallelControllerExecutor(2);
+		var cycle = Executors.newSingleThreadExecutor();
+		try {
+			// ctrl0 blocks; ctrl1 and ctrl2 are still queued behind it
+			var future = cycle.submit(() -> sut.execute(controllers, Set.of(), controller -> {
+				if (controller.id().equals("ctrl0")) {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				((DummyController) controller).run();
+			}));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			// Reconfiguration while the Cycle is running
+			sut.shutdown();
+			release.countDown();
+
+			future.get(10, TimeUnit.SECONDS);
+			assertEquals(List.of("ctrl0", "ctrl1", "ctrl2"), log);
+			assertTrue(sut.awaitTermination(10, TimeUnit.SECONDS));
+
+			// Following Cycles run sequentially on the calling thread
+			var thread = new AtomicReference<Thread>();
+			sut.execute(controllers, Set.of(), controller -> thread.set(Thread.currentThread()));
+			assertSame(Thread.currentThread(), thread.get());
+
+		} finally {
+			cycle.shutdownNow();
+		}
+	}
+
+}
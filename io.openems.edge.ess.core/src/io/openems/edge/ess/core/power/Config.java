@@ -23,6 +23,9 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default EssPower.DEFAULT_DEBUG_MODE;
 
+	@AttributeDefinition(name = "Cache Solutions", description = "Reuses the solutions of identical linear programs, e.g. of Cycles with unchanged Constraints")
+	boolean cacheSolutions() default EssPower.DEFAULT_CACHE_SOLUTIONS;
+
 	@AttributeDefinition(name = "Enable PID Filter", description = "Enables the PID Filter with the settings for P, I and D below")
 	boolean enablePid() default true;
 
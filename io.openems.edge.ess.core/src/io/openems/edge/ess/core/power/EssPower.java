@@ -20,6 +20,7 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 
 	public static final boolean DEFAULT_SYMMETRIC_MODE = true;
 	public static final boolean DEFAULT_DEBUG_MODE = false;
+	public static final boolean DEFAULT_CACHE_SOLUTIONS = true;
 	public static final SolverStrategy DEFAULT_SOLVER_STRATEGY = SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET;
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
@@ -107,12 +107,14 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.solver.setCacheSolutions(false);
 	}
 
 	private void updateConfig(Config config) {
 		this.data.setSymmetricMode(config.symmetricMode());
 		this.debugMode = config.debugMode();
 		this.solver.setDebugMode(config.debugMode());
+		this.solver.setCacheSolutions(config.cacheSolutions());
 		this.config = config;
 
 		if (config.enablePid()) {
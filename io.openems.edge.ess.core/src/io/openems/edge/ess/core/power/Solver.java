@@ -28,6 +28,7 @@ import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeI
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolutionCache;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -45,6 +46,7 @@ public class Solver {
 	private final Optimizers optimizers = new Optimizers();
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
+	private volatile SolutionCache solutionCache = null;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
 
@@ -64,7 +66,7 @@ public class Solver {
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
 			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			return ConstraintSolver.solve(this.data.getCoefficients(), constraints, this.solutionCache);
 		};
 	}
 
@@ -84,7 +86,8 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters(),
+					this.solutionCache);
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -99,7 +102,8 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters(),
+					this.solutionCache);
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -136,7 +140,7 @@ public class Solver {
 
 			// Add Strict constraints if required
 			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+					allConstraints, this.solutionCache);
 
 			// Print log with currently active EQUALS != 0 Constraints
 			if (this.debugMode) {
@@ -152,7 +156,8 @@ public class Solver {
 			targetDirection = TargetDirection.from(//
 					this.data.getInverters(), //
 					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
+					this.data.getConstraintsForAllInverters(), //
+					this.solutionCache //
 			);
 
 			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
@@ -244,18 +249,19 @@ public class Solver {
 			case NONE:
 				break;
 			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints, this.solutionCache);
 				break;
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
 				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
-						targetInverters, allConstraints);
+						targetInverters, allConstraints, this.solutionCache);
 				break;
 			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
 				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), allInverters,
-						targetInverters, allConstraints, targetDirection);
+						targetInverters, allConstraints, targetDirection, this.solutionCache);
 				break;
 			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
+				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints,
+						this.solutionCache);
 				break;
 			}
 
@@ -264,7 +270,7 @@ public class Solver {
 			}
 		}
 		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints, this.solutionCache);
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
@@ -400,4 +406,22 @@ public class Solver {
 	protected void setDebugMode(boolean debugMode) {
 		this.debugMode = debugMode;
 	}
+
+	/**
+	 * Enables or disables reusing solutions of identical problems. Disabling drops
+	 * all cached solutions.
+	 *
+	 * @param cacheSolutions true to enable the {@link SolutionCache}
+	 */
+	protected void setCacheSolutions(boolean cacheSolutions) {
+		if (!cacheSolutions) {
+			this.solutionCache = null;
+		} else if (this.solutionCache == null) {
+			this.solutionCache = new SolutionCache(SolutionCache.DEFAULT_MAX_SIZE);
+		}
+	}
+
+	protected SolutionCache getSolutionCache() {
+		return this.solutionCache;
+	}
 }
@@ -14,6 +14,7 @@ import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolutionCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -30,10 +31,11 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 	 * @param allInverters   a list of all {@link Inverter}s
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allConstraints a list of all {@link Constraint}s
+	 * @param cache          the {@link SolutionCache}; null to always solve
 	 * @throws OpenemsException on error
 	 */
-	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints)
-			throws OpenemsException {
+	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints,
+			SolutionCache cache) throws OpenemsException {
 		var constraints = new LinearConstraintSet(
 				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
 
@@ -130,7 +132,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			allConstraints.addAll(newConstraints);
 			for (Constraint constraint : newConstraints) {
 				try {
-					ConstraintSolver.solve(coefficients, allConstraints);
+					ConstraintSolver.solve(coefficients, allConstraints, cache);
 					break;
 				} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 					// Unable to add Constraint
@@ -9,6 +9,7 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolutionCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -24,10 +25,11 @@ public class KeepAllEqual {
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allInverters   all {@link Inverter}s
 	 * @param allConstraints all active {@link Constraint}s
+	 * @param cache          the {@link SolutionCache}; null to always solve
 	 * @return a solution or null
 	 */
 	public static PointValuePair apply(Coefficients coefficients, List<Inverter> allInverters,
-			List<Constraint> allConstraints) {
+			List<Constraint> allConstraints, SolutionCache cache) {
 		try {
 			List<Constraint> constraints = new ArrayList<>(allConstraints);
 			// Create weighted Constraint between first inverter and every other inverter
@@ -50,7 +52,7 @@ public class KeepAllEqual {
 										-1) },
 						Relationship.EQUALS, 0));
 			}
-			return ConstraintSolver.solve(coefficients, constraints);
+			return ConstraintSolver.solve(coefficients, constraints, cache);
 
 		} catch (OpenemsException | NoFeasibleSolutionException | UnboundedSolutionException e) {
 			return null;
@@ -13,6 +13,7 @@ import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.TargetDirection;
 import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolutionCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -30,12 +31,13 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 	 * @param targetInverters the target {@link Inverter}s
 	 * @param allConstraints  all active {@link Constraint}s
 	 * @param targetDirection the {@link TargetDirection}
+	 * @param cache           the {@link SolutionCache}; null to always solve
 	 * @return a solution as {@link PointValuePair} or null
 	 * @throws OpenemsException on error
 	 */
 	public static PointValuePair apply(Coefficients coefficients, List<Inverter> allInverters,
-			List<Inverter> targetInverters, List<Constraint> allConstraints, TargetDirection targetDirection)
-			throws OpenemsException {
+			List<Inverter> targetInverters, List<Constraint> allConstraints, TargetDirection targetDirection,
+			SolutionCache cache) throws OpenemsException {
 		List<Constraint> constraints = new ArrayList<>(allConstraints);
 
 		// Add Zero-Constraint for all Inverters that are not Target
@@ -50,7 +52,7 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 			}
 		}
 
-		var result = ConstraintSolver.solve(coefficients, constraints);
+		var result = ConstraintSolver.solve(coefficients, constraints, cache);
 
 		var relationship = Relationship.EQUALS;
 		switch (targetDirection) {
@@ -68,11 +70,11 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 		for (Inverter inv : targetInverters) {
 			// Create Constraint to force Ess positive/negative/zero according to
 			// targetDirection
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(result, constraints, coefficients, cache,
 					ConstraintUtil.createSimpleConstraint(coefficients, //
 							inv.toString() + ": Force ActivePower " + targetDirection.name(), //
 							inv.getEssId(), inv.getPhase(), Pwr.ACTIVE, relationship, 0));
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(result, constraints, coefficients, cache,
 					ConstraintUtil.createSimpleConstraint(coefficients, //
 							inv.toString() + ": Force ReactivePower " + targetDirection.name(), //
 							inv.getEssId(), inv.getPhase(), Pwr.REACTIVE, relationship, 0));
@@ -93,14 +95,14 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 
 			var activePowerTarget = CalculatePowerExtrema.from(coefficients, allConstraints, inv.getEssId(),
 					inv.getPhase(), Pwr.ACTIVE, goal);
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(result, constraints, coefficients, cache,
 					ConstraintUtil.createSimpleConstraint(coefficients, //
 							inv.toString() + ": Set ActivePower " + goal.name() + " value", //
 							inv.getEssId(), inv.getPhase(), Pwr.ACTIVE, Relationship.EQUALS, activePowerTarget));
 
 			var reactivePowerTarget = CalculatePowerExtrema.from(coefficients, allConstraints, inv.getEssId(),
 					inv.getPhase(), Pwr.REACTIVE, goal);
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(result, constraints, coefficients, cache,
 					ConstraintUtil.createSimpleConstraint(coefficients, //
 							inv.toString() + ": Set ReactivePower " + goal.name() + " value", //
 							inv.getEssId(), inv.getPhase(), Pwr.REACTIVE, Relationship.EQUALS, reactivePowerTarget));
@@ -115,15 +117,16 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 	 * @param lastResult   the last result
 	 * @param constraints  the list of {@link Constraint}s
 	 * @param coefficients the {@link Coefficients}
+	 * @param cache        the {@link SolutionCache}; null to always solve
 	 * @param c            the {@link Constraint} to be added
 	 * @return new solution on success; last result on error
 	 */
 	private static PointValuePair addContraintIfProblemStillSolves(PointValuePair lastResult,
-			List<Constraint> constraints, Coefficients coefficients, Constraint c) {
+			List<Constraint> constraints, Coefficients coefficients, SolutionCache cache, Constraint c) {
 		constraints.add(c);
 		// Try to solve with Constraint
 		try {
-			return ConstraintSolver.solve(coefficients, constraints); // only if solving was successful
+			return ConstraintSolver.solve(coefficients, constraints, cache); // only if solving was successful
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 			// solving failed
 			constraints.remove(c);
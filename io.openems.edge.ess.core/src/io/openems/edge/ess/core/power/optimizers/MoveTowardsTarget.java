@@ -14,6 +14,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.TargetDirection;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolutionCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -35,12 +36,13 @@ public class MoveTowardsTarget {
 	 * @param targetInverters the target {@link Inverter}s
 	 * @param allConstraints  all active {@link Constraint}s
 	 * @param targetDirection the {@link TargetDirection}
+	 * @param cache           the {@link SolutionCache}; null to always solve
 	 * @return a solution as {@link PointValuePair} or null
 	 * @throws OpenemsException on error
 	 */
 	public static PointValuePair apply(Coefficients coefficients, TargetDirection targetDirection,
-			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints)
-			throws OpenemsException {
+			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints,
+			SolutionCache cache) throws OpenemsException {
 		// find maxLastActive + maxWeight
 		var maxLastActivePower = 0;
 		var sumWeights = 0;
@@ -146,7 +148,7 @@ public class MoveTowardsTarget {
 			}
 
 			try {
-				return ConstraintSolver.solve(coefficients, constraints);
+				return ConstraintSolver.solve(coefficients, constraints, cache);
 			} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 				// Adjust next weights
 				for (Entry<Inverter, Double> entry : nextWeights.entrySet()) {
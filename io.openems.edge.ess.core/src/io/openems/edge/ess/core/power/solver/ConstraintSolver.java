@@ -17,11 +17,34 @@ public class ConstraintSolver {
 	 *
 	 * @param coefficients the {@link Coefficients}
 	 * @param constraints  a list of Constraints
+	 * @param cache        the {@link SolutionCache}; null to always solve
 	 * @return a solution
 	 * @throws NoFeasibleSolutionException if not solvable
 	 * @throws UnboundedSolutionException  if not solvable
 	 */
-	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
+	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints, SolutionCache cache)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		if (cache == null) {
+			return solveUncached(coefficients, constraints);
+		}
+
+		final var key = SolutionCache.Key.from(coefficients, constraints);
+		final var cached = cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		try {
+			final var solution = solveUncached(coefficients, constraints);
+			cache.put(key, solution);
+			return solution;
+
+		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
+			cache.put(key, e);
+			throw e;
+		}
+	}
+
+	private static PointValuePair solveUncached(Coefficients coefficients, List<Constraint> constraints)
 			throws NoFeasibleSolutionException, UnboundedSolutionException {
 		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
 		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
@@ -0,0 +1,196 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+
+/**
+ * A bounded, least-recently-used cache of solved linear programs.
+ *
+ * <p>
+ * The solution of {@link ConstraintSolver#solve(Coefficients, List, SolutionCache)} only
+ * depends on the number of Coefficients and on the Constraints, so identical
+ * problems - e.g. the feasibility checks of one Cycle or the problems of
+ * consecutive Cycles with unchanged Constraints - do not need to be solved
+ * again. Infeasible and unbounded problems are cached as well.
+ */
+public class SolutionCache {
+
+	public static final int DEFAULT_MAX_SIZE = 128;
+
+	private static final Object NO_FEASIBLE_SOLUTION = new Object();
+	private static final Object UNBOUNDED_SOLUTION = new Object();
+
+	/**
+	 * The key of a linear program: the number of Coefficients and a sparse
+	 * representation of all Constraints with a value.
+	 */
+	protected static final class Key {
+
+		private final double[] values;
+		private final int hashCode;
+
+		private Key(double[] values) {
+			this.values = values;
+			this.hashCode = Arrays.hashCode(values);
+		}
+
+		/**
+		 * Builds a {@link Key} for the given problem.
+		 *
+		 * @param coefficients the {@link Coefficients}
+		 * @param constraints  a list of Constraints
+		 * @return the {@link Key}
+		 */
+		protected static Key from(Coefficients coefficients, List<Constraint> constraints) {
+			var length = 1;
+			for (var c : constraints) {
+				length += 3 + 2 * c.getCoefficients().length;
+			}
+			final var values = new double[length];
+			var i = 0;
+			values[i++] = coefficients.getNoOfCoefficients();
+			for (var c : constraints) {
+				final var value = c.getValue();
+				if (value.isEmpty()) {
+					// ignored by LinearSolverUtil
+					continue;
+				}
+				values[i++] = c.getRelationship().ordinal();
+				values[i++] = value.get();
+				values[i++] = c.getCoefficients().length;
+				for (var co : c.getCoefficients()) {
+					values[i++] = co.getCoefficient().getIndex();
+					values[i++] = co.getValue();
+				}
+			}
+			return new Key(i == length ? values : Arrays.copyOf(values, i));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key other)) {
+				return false;
+			}
+			return this.hashCode == other.hashCode && Arrays.equals(this.values, other.values);
+		}
+	}
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, Object> entries;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	public SolutionCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				return this.size() > SolutionCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Gets the cached solution for a problem.
+	 *
+	 * @param key the {@link Key} of the problem
+	 * @return the solution; null if the problem is not cached
+	 * @throws NoFeasibleSolutionException if the cached problem is not solvable
+	 * @throws UnboundedSolutionException  if the cached problem is not solvable
+	 */
+	protected synchronized PointValuePair get(Key key)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		final var entry = this.entries.get(key);
+		if (entry == null) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		if (entry == NO_FEASIBLE_SOLUTION) {
+			throw new NoFeasibleSolutionException();
+		}
+		if (entry == UNBOUNDED_SOLUTION) {
+			throw new UnboundedSolutionException();
+		}
+		return (PointValuePair) entry;
+	}
+
+	/**
+	 * Caches the solution of a problem.
+	 *
+	 * @param key      the {@link Key} of the problem
+	 * @param solution the solution
+	 */
+	protected synchronized void put(Key key, PointValuePair solution) {
+		this.entries.put(key, solution);
+	}
+
+	/**
+	 * Caches that a problem is not solvable.
+	 *
+	 * @param key       the {@link Key} of the problem
+	 * @param exception the exception of the solver
+	 */
+	protected synchronized void put(Key key, RuntimeException exception) {
+		if (exception instanceof NoFeasibleSolutionException) {
+			this.entries.put(key, NO_FEASIBLE_SOLUTION);
+		} else if (exception instanceof UnboundedSolutionException) {
+			this.entries.put(key, UNBOUNDED_SOLUTION);
+		}
+	}
+
+	/**
+	 * Removes all cached solutions.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Gets the number of cached problems.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Gets the number of lookups that found a cached solution.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of lookups that did not find a cached solution.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+}
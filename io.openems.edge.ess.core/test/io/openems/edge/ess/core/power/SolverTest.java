@@ -0,0 +1,125 @@
+package io.openems.edge.ess.core.power;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class SolverTest {
+
+	private static Data createData(int numberOfEss) {
+		var data = new Data();
+		for (var i = 0; i < numberOfEss; i++) {
+			data.addEss(new DummyManagedSymmetricEss("ess" + i) //
+					.withAllowedChargePower(-50000) //
+					.withAllowedDischargePower(50000) //
+					.withMaxApparentPower(12000) //
+					.withSoc(30 + i % 40));
+		}
+		data.initializeCycle();
+		return data;
+	}
+
+	private static void addClusterConstraint(Data data, int numberOfEss, double value) throws OpenemsException {
+		var coefficients = new ArrayList<LinearCoefficient>();
+		for (var i = 0; i < numberOfEss; i++) {
+			coefficients.add(new LinearCoefficient(data.getCoefficient("ess" + i, Phase.ALL, Pwr.ACTIVE), 1));
+		}
+		data.addConstraint(new Constraint("Cluster", coefficients, Relationship.EQUALS, value));
+	}
+
+	@Test
+	public void testCache() throws OpenemsException {
+		var data = createData(2);
+		addClusterConstraint(data, 2, 10000);
+		var solver = new Solver(data);
+		solver.setCacheSolutions(true);
+		var cache = solver.getSolutionCache();
+
+		var constraints = data.getConstraintsForAllInverters();
+		var solution = ConstraintSolver.solve(data.getCoefficients(), constraints, cache);
+		assertEquals(1, cache.size());
+
+		// Identical problem with new Constraint objects is served from cache
+		var hits = cache.getHits();
+		assertSame(solution,
+				ConstraintSolver.solve(data.getCoefficients(), data.getConstraintsForAllInverters(), cache));
+		assertEquals(hits + 1, cache.getHits());
+
+		// Same result as without cache
+		assertArrayEquals(solution.getPoint(),
+				ConstraintSolver.solve(data.getCoefficients(), constraints, null).getPoint(), 0.001);
+
+		// Infeasible problems are cached as well
+		addClusterConstraint(data, 2, 200000);
+		List<Constraint> infeasible = data.getConstraintsForAllInverters();
+		for (var i = 0; i < 2; i++) {
+			try {
+				ConstraintSolver.solve(data.getCoefficients(), infeasible, cache);
+				fail("Expected NoFeasibleSolutionException");
+			} catch (NoFeasibleSolutionException e) {
+				// expected
+			}
+		}
+		assertEquals(2, cache.size());
+
+		// Disabling drops the cache
+		solver.setCacheSolutions(false);
+		assertNull(solver.getSolutionCache());
+	}
+
+	@Test
+	public void testCachePerSolver() throws OpenemsException {
+		var solver0 = new Solver(createData(1));
+		var solver1 = new Solver(createData(1));
+		solver0.setCacheSolutions(true);
+		solver1.setCacheSolutions(true);
+		assertNotSame(solver0.getSolutionCache(), solver1.getSolutionCache());
+
+		// Disabling one Solver does not affect the other
+		var cache1 = solver1.getSolutionCache();
+		solver0.setCacheSolutions(false);
+		assertNull(solver0.getSolutionCache());
+		assertSame(cache1, solver1.getSolutionCache());
+	}
+
+	@Test
+	public void testCacheAcrossCycles() throws OpenemsException {
+		final var numberOfEss = 4;
+		var data = createData(numberOfEss);
+		var solver = new Solver(data);
+		solver.setCacheSolutions(true);
+		solver.onSolved((isSolved, duration, strategy) -> assertTrue(isSolved));
+
+		for (var cycle = 0; cycle < 30; cycle++) {
+			data.initializeCycle();
+			// Setpoint changes every 10 Cycles
+			addClusterConstraint(data, numberOfEss, 1000 * numberOfEss * (cycle / 10 % 3 - 1));
+			solver.solve(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+		}
+
+		// Problems of Cycles with unchanged setpoint are served from cache
+		var cache = solver.getSolutionCache();
+		assertTrue(cache.getHits() > cache.getMisses());
+	}
+
+}
@@ -40,21 +40,21 @@ public class TargetDirectionTest {
 		data.addSimpleConstraint("", ess0.id(), Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 0);
 		assertEquals(TargetDirection.KEEP_ZERO, //
 				TargetDirection.from(data.getInverters(), data.getCoefficients(),
-						data.getConstraintsForAllInverters()));
+						data.getConstraintsForAllInverters(), null));
 		data.initializeCycle();
 
 		// #2
 		data.addSimpleConstraint("", ess0.id(), Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, -1);
 		assertEquals(TargetDirection.CHARGE, //
 				TargetDirection.from(data.getInverters(), data.getCoefficients(),
-						data.getConstraintsForAllInverters()));
+						data.getConstraintsForAllInverters(), null));
 		data.initializeCycle();
 
 		// #3
 		data.addSimpleConstraint("", ess0.id(), Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 1);
 		assertEquals(TargetDirection.DISCHARGE, //
 				TargetDirection.from(data.getInverters(), data.getCoefficients(),
-						data.getConstraintsForAllInverters()));
+						data.getConstraintsForAllInverters(), null));
 	}
 
 	private static class MyData extends Data {
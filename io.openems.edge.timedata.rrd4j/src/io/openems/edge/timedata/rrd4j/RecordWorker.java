@@ -0,0 +1,509 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.timedata.DurationUnit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelAggregate;
+import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.component.ComponentManager;
+
+@Component(//
+		scope = ServiceScope.PROTOTYPE, //
+		service = RecordWorker.class //
+)
+public class RecordWorker extends AbstractImmediateWorker {
+
+	public record Config(//
+			String rrdDbId, //
+			boolean readOnly, //
+			boolean debugMode, //
+			PersistencePriority persistencePriority, //
+			int writeThreads, //
+			int maxOpenFiles, //
+			boolean memoryMapped, //
+			Consumer<? super Boolean> onQueueFull, //
+			Consumer<? super Boolean> onUnableToInsert //
+	) {
+
+	}
+
+	/**
+	 * Maximum number of records in the queue.
+	 */
+	public static final int MAX_QUEUE_SIZE = 100_000;
+
+	/**
+	 * Maximum number of records that are written in one run.
+	 */
+	public static final int MAX_BATCH_SIZE = 10_000;
+
+	/**
+	 * Sync period of the memory-mapped backend in [s].
+	 */
+	public static final int MEMORY_MAPPED_SYNC_PERIOD = 300;
+
+	private static record DataRecord(//
+			long timestamp, //
+			ChannelAddress address, //
+			Unit unit, //
+			double value //
+	) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
+
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
+	@Reference
+	private ComponentManager componentManager;
+
+	private Config config;
+
+	public void setConfig(Config config) {
+		this.config = config;
+	}
+
+	// Record queue
+	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+
+	// One cache of open RrdDb handles per write thread
+	private RrdDbCache[] caches = new RrdDbCache[0];
+	private ExecutorService executor = null;
+	private RrdBackendFactory factory = null;
+
+	// keeps the last recorded timestamp
+	private Instant lastTimestamp = Instant.MIN;
+
+	@Activate
+	public RecordWorker() {
+	}
+
+	@Override
+	public void activate(String name) {
+		final var writeThreads = Math.max(1, this.config.writeThreads());
+		this.caches = new RrdDbCache[writeThreads];
+		for (var i = 0; i < writeThreads; i++) {
+			this.caches[i] = new RrdDbCache(Math.max(1, this.config.maxOpenFiles() / writeThreads));
+		}
+		if (writeThreads > 1) {
+			this.executor = Executors.newFixedThreadPool(writeThreads,
+					new ThreadFactoryBuilder().setNameFormat(name + "-Write-%d").build());
+		}
+		if (this.config.memoryMapped()) {
+			this.factory = new RrdNioBackendFactory(MEMORY_MAPPED_SYNC_PERIOD, 1);
+		}
+		super.activate(name);
+	}
+
+	@Override
+	@Deactivate
+	public void deactivate() {
+		super.deactivate();
+		if (this.executor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+			this.executor = null;
+		}
+		for (var cache : this.caches) {
+			synchronized (cache) {
+				cache.close();
+			}
+		}
+		if (this.factory != null) {
+			try {
+				this.factory.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close RRD4j backend: " + e.getMessage());
+			}
+			this.factory = null;
+		}
+	}
+
+	/**
+	 * Collects the data from Channels. This is called synchronously by the main
+	 * OpenEMS cycle. On finish it triggers a next async task to write the data to
+	 * RRD4J.
+	 * 
+	 * <p>
+	 * Cumulated Channels are collected with a timestamp rounded to the current
+	 * hour. e.g.
+	 * 
+	 * <pre>
+	 * 08:00     08:35 09:00
+	 *   |---------|-----|
+	 * 08:00 -> timestamp of the data
+	 * 08:35 -> timestamp the data gets collected
+	 * </pre>
+	 */
+	public void collectData() {
+		final var timestamp = Instant.now(this.componentManager.getClock()) //
+				.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS)) //
+				.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+
+		final var now = LocalDateTime.now(this.componentManager.getClock());
+
+		// Same second as last run? -> RRD4j can only handle one sample per second per
+		// database. Timestamps are all stored "truncated to seconds".
+		if (timestamp.equals(this.lastTimestamp)) {
+			return;
+		}
+
+		final var to = now.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS));
+		final var from = to.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+
+		// RRD4j requires us to write one value per DEFAULT_HEARTBEAT_SECONDS
+		if (this.lastTimestamp.equals(timestamp)) {
+			return;
+		}
+
+		this.lastTimestamp = timestamp;
+
+		this.componentManager.getEnabledComponents().stream() //
+				.flatMap(component -> component.channels().stream()) //
+				.filter(channel -> {
+					final var doc = channel.channelDoc();
+					return Optional.of(this.config.persistencePriority) //
+							.map(p -> doc.getPersistencePriority().isAtLeast(p)
+									&& doc.getAccessMode() != AccessMode.WRITE_ONLY) //
+							.orElse(false);
+				}).map(channel -> {
+					final var channelMapFunction = getChannelMapFunction(channel.channelDoc().getType());
+					final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
+
+					final long writeSeconds;
+					if (channel.channelDoc().getUnit().isCumulated()) {
+						// Write every 1h
+						writeSeconds = timestamp.truncatedTo(ChronoUnit.HOURS).getEpochSecond();
+					} else {
+						writeSeconds = timestamp.getEpochSecond();
+					}
+
+					final OptionalDouble value;
+					final var aggregate = channel.getPastValuesAggregate(from);
+					if (aggregate != null) {
+						// Use the incrementally maintained aggregate
+						value = aggregate(channel.channelDoc().getUnit(), aggregate);
+
+					} else {
+						// This is the highest timestamp before `startTime`. If existing it is used for
+						// the tailMap to make sure we get a Value even for Channels where the value has
+						// not changed within the last 5 minutes.
+						var pastValues = channel.getPastValues();
+						var channelStartTime = Optional.ofNullable(pastValues.floorKey(from)) //
+								.orElse(from);
+
+						var aggregatedValue = channelAggregateFunction.apply(//
+								pastValues //
+										.tailMap(channelStartTime, true) //
+										.entrySet().stream() //
+										.filter(e -> e.getKey().isBefore(to)) //
+										.map(Entry::getValue) //
+										.map(Value::get) //
+										.filter(Objects::nonNull) //
+										.mapToDouble(channelMapFunction) // convert to double
+						);
+
+						if (channel.channelDoc() instanceof EnumDoc) {
+							final var enumChannelValue = aggregateEnumChannel(channel, pastValues, channelStartTime,
+									to);
+							if (!enumChannelValue.isJsonNull()) {
+								aggregatedValue = OptionalDouble.of(enumChannelValue.getAsDouble());
+							}
+						}
+						value = aggregatedValue;
+					}
+
+					if (!value.isPresent()) {
+						// only available channels
+						return null;
+					}
+
+					return new DataRecord(//
+							writeSeconds, //
+							channel.address(), //
+							channel.channelDoc().getUnit(), //
+							value.getAsDouble() //
+					);
+				}) //
+				.filter(Objects::nonNull) //
+				.forEach(dataRecord -> {
+					this.config.onQueueFull.accept(!this.records.offer(dataRecord));
+				});
+
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		final var batch = new ArrayList<DataRecord>();
+		batch.add(this.records.take());
+		this.records.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+		if (this.config.readOnly() && this.config.debugMode()) {
+			for (var record : batch) {
+				this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			}
+			return;
+		}
+
+		// Group records by database and distribute the databases to the write threads
+		final var caches = this.caches;
+		final var shards = new ArrayList<Map<ChannelAddress, List<DataRecord>>>(caches.length);
+		for (var i = 0; i < caches.length; i++) {
+			shards.add(new LinkedHashMap<>());
+		}
+		for (var record : batch) {
+			shards.get(Math.floorMod(record.address().hashCode(), caches.length)) //
+					.computeIfAbsent(record.address(), ignore -> new ArrayList<>()) //
+					.add(record);
+		}
+
+		final var executor = this.executor;
+		boolean isFailed;
+		if (executor == null) {
+			isFailed = this.write(caches[0], shards.get(0));
+
+		} else {
+			final var tasks = new ArrayList<Callable<Boolean>>(caches.length);
+			for (var i = 0; i < caches.length; i++) {
+				final var cache = caches[i];
+				final var shard = shards.get(i);
+				if (!shard.isEmpty()) {
+					tasks.add(() -> this.write(cache, shard));
+				}
+			}
+			isFailed = false;
+			for (var future : executor.invokeAll(tasks)) {
+				try {
+					isFailed |= future.get();
+				} catch (ExecutionException e) {
+					isFailed = true;
+				}
+			}
+		}
+		this.config.onUnableToInsert.accept(isFailed);
+	}
+
+	/**
+	 * Writes the records of one shard.
+	 *
+	 * @param cache   the {@link RrdDbCache} of the shard
+	 * @param records the records grouped by database
+	 * @return true if writing at least one record failed
+	 */
+	private boolean write(RrdDbCache cache, Map<ChannelAddress, List<DataRecord>> records) {
+		var isFailed = false;
+		synchronized (cache) {
+			for (var entry : records.entrySet()) {
+				final var address = entry.getKey();
+				final var first = entry.getValue().get(0);
+				try {
+					final var database = cache.get(address, () -> this.openRrdDb(first));
+					for (var record : entry.getValue()) {
+						writeRecord(database, record);
+					}
+				} catch (Throwable e) {
+					isFailed = true;
+					cache.invalidate(address);
+					if (this.config.debugMode()) {
+						this.log.error("Unable to insert Sample [%s] %s: %s".formatted(address,
+								e.getClass().getSimpleName(), e.getMessage()), e);
+					}
+				}
+			}
+		}
+		return isFailed;
+	}
+
+	private RrdDb openRrdDb(DataRecord record) throws IOException {
+		final var factory = this.factory;
+		if (factory != null) {
+			return this.rrd4jSupplier.getRrdDb(factory, this.config.rrdDbId, record.address, record.unit,
+					record.timestamp - 1);
+		}
+		return this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit, record.timestamp - 1);
+	}
+
+	private static void writeRecord(RrdDb database, DataRecord record) throws IOException {
+		if (database.getLastUpdateTime() == record.timestamp()) {
+			// overwrite last value if same time stamp
+			final var robin = database.getArchive(0).getRobin(0);
+			robin.setValue(robin.getSize() - 1, record.value());
+		} else if (database.getLastUpdateTime() < record.timestamp()) {
+			// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+			// YYY. Last update time was ZZZ, at least one second step is required".
+
+			// Add Sample to RRD4J
+			database.createSample(record.timestamp()) //
+					.setValue(0, record.value) //
+					.update();
+		}
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 *
+	 * @return debug log
+	 */
+	public String debugLog() {
+		var open = 0;
+		var hits = 0L;
+		var misses = 0L;
+		for (var cache : this.caches) {
+			synchronized (cache) {
+				open += cache.size();
+				hits += cache.getHits();
+				misses += cache.getMisses();
+			}
+		}
+		return "Queue:" + this.records.size() + "|Open:" + open + "|Hits:" + hits + "/" + (hits + misses);
+	}
+
+	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE //
+			= value -> ((Boolean) value ? 1d : 0d);
+	private static final ToDoubleFunction<? super Object> MAP_SHORT_TO_DOUBLE //
+			= value -> ((Short) value).doubleValue();
+	private static final ToDoubleFunction<? super Object> MAP_INTEGER_TO_DOUBLE //
+			= value -> ((Integer) value).doubleValue();
+	private static final ToDoubleFunction<? super Object> MAP_LONG_TO_DOUBLE //
+			= value -> ((Long) value).doubleValue();
+	private static final ToDoubleFunction<? super Object> MAP_FLOAT_TO_DOUBLE //
+			= value -> ((Float) value).doubleValue();
+	private static final ToDoubleFunction<? super Object> MAP_DOUBLE_TO_DOUBLE //
+			= value -> ((Double) value);
+	private static final ToDoubleFunction<? super Object> MAP_TO_DOUBLE_NOT_SUPPORTED //
+			= value -> 0d;
+
+	private static ToDoubleFunction<? super Object> getChannelMapFunction(OpenemsType openemsType) {
+		return switch (openemsType) {
+		case BOOLEAN -> MAP_BOOLEAN_TO_DOUBLE;
+		case SHORT -> MAP_SHORT_TO_DOUBLE;
+		case INTEGER -> MAP_INTEGER_TO_DOUBLE;
+		case LONG -> MAP_LONG_TO_DOUBLE;
+		case FLOAT -> MAP_FLOAT_TO_DOUBLE;
+		case DOUBLE -> MAP_DOUBLE_TO_DOUBLE;
+		case STRING -> MAP_TO_DOUBLE_NOT_SUPPORTED; // Strings are not supported by RRD4J
+		};
+	}
+
+	/**
+	 * Aggregates a {@link ChannelAggregate} the same way as the
+	 * {@link Unit#getChannelAggregateFunction()} and
+	 * {@link #aggregateEnumChannel(Channel, NavigableMap, LocalDateTime, LocalDateTime)}.
+	 *
+	 * @param unit      the {@link Unit} of the Channel
+	 * @param aggregate the {@link ChannelAggregate}
+	 * @return the aggregated value; empty if there are no values
+	 */
+	protected static OptionalDouble aggregate(Unit unit, ChannelAggregate aggregate) {
+		if (aggregate.getCount() == 0) {
+			return OptionalDouble.empty();
+		}
+		if (aggregate.getMostFrequentOption() != null) {
+			return OptionalDouble.of(aggregate.getMostFrequentOption());
+		}
+		return OptionalDouble.of(unit.isCumulated() ? aggregate.getMax() : aggregate.getAverage());
+	}
+
+	protected static JsonElement aggregateEnumChannel(//
+			Channel<?> channel, //
+			NavigableMap<LocalDateTime, ? extends Value<?>> pastValues, //
+			LocalDateTime channelStartTime, //
+			LocalDateTime endTime //
+	) {
+		final var doc = channel.channelDoc();
+		if (!(doc instanceof EnumDoc)) {
+			return JsonNull.INSTANCE;
+		}
+		final var numberOfValuesPerOption = pastValues //
+				.tailMap(channelStartTime, true) //
+				.entrySet() //
+				.stream() //
+				.filter(e -> e.getKey().isBefore(endTime)) //
+				.filter(e -> e.getValue().isDefined()) //
+				.map(e -> (Integer) e.getValue().get()) //
+				.collect(groupingBy(Function.identity(), counting()));
+
+		final var values = numberOfValuesPerOption.entrySet().stream() //
+				.sorted((o1, o2) -> Long.compare(o2.getValue(), o1.getValue())) //
+				.toList();
+
+		final var maxValues = new ArrayList<Integer>();
+		var maxCount = -1L;
+		for (var entry : values) {
+			if (entry.getValue() < maxCount) {
+				break;
+			}
+			if (entry.getValue() == maxCount) {
+				maxValues.add(entry.getKey());
+				continue;
+			}
+			maxCount = entry.getValue();
+			maxValues.clear();
+			maxValues.add(entry.getKey());
+		}
+
+		// pick first value with most appearances
+		for (var entry : pastValues.descendingMap().entrySet()) {
+			for (var optionValue : maxValues) {
+				if (!entry.getValue().isDefined()) {
+					continue;
+				}
+				final var entryValue = entry.getValue().get();
+				if (((Integer) entryValue).intValue() == optionValue) {
+					return new JsonPrimitive(optionValue);
+				}
+			}
+		}
+		return JsonNull.INSTANCE;
+	}
+
+}
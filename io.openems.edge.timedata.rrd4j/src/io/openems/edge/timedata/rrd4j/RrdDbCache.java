@@ -0,0 +1,124 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A bounded LRU cache of open {@link RrdDb} handles.
+ *
+ * <p>
+ * Evicted handles are closed. This class is not thread-safe; it is meant to be
+ * owned by exactly one writer thread, so a handle is never closed while it is
+ * in use.
+ */
+public class RrdDbCache implements AutoCloseable {
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	private final int capacity;
+	private final LinkedHashMap<ChannelAddress, RrdDb> handles;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	public RrdDbCache(int capacity) {
+		this.capacity = Math.max(1, capacity);
+		this.handles = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ChannelAddress, RrdDb> eldest) {
+				if (this.size() <= RrdDbCache.this.capacity) {
+					return false;
+				}
+				RrdDbCache.this.closeQuietly(eldest.getKey(), eldest.getValue());
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Gets the open {@link RrdDb} for the Channel-Address; opens it via the given
+	 * supplier if it is not cached.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param opener         opens the {@link RrdDb}
+	 * @return the {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	public RrdDb get(ChannelAddress channelAddress, ThrowingSupplier<RrdDb, IOException> opener)
+			throws IOException {
+		var database = this.handles.get(channelAddress);
+		if (database != null && !database.isClosed()) {
+			this.hits++;
+			return database;
+		}
+		this.misses++;
+		database = opener.get();
+		this.handles.put(channelAddress, database);
+		return database;
+	}
+
+	/**
+	 * Removes and closes the cached {@link RrdDb} of the Channel-Address, e.g.
+	 * after an error.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 */
+	public void invalidate(ChannelAddress channelAddress) {
+		var database = this.handles.remove(channelAddress);
+		if (database != null) {
+			this.closeQuietly(channelAddress, database);
+		}
+	}
+
+	/**
+	 * Gets the number of open handles.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.handles.size();
+	}
+
+	/**
+	 * Gets the number of cache hits.
+	 *
+	 * @return the hits
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of cache misses, i.e. opened handles.
+	 *
+	 * @return the misses
+	 */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	@Override
+	public void close() {
+		this.handles.forEach(this::closeQuietly);
+		this.handles.clear();
+	}
+
+	private void closeQuietly(ChannelAddress channelAddress, RrdDb database) {
+		try {
+			database.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdDb [" + channelAddress + "]: " + e.getMessage());
+		}
+	}
+
+}
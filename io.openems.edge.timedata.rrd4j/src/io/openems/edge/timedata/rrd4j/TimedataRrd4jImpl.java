@@ -0,0 +1,162 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceScope;
+import org.osgi.service.metatype.annotations.Designate;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleEvents;
+import io.openems.edge.common.event.CycleListener;
+import io.openems.edge.timedata.api.Timedata;
+import io.openems.edge.timedata.api.Timeranges;
+
+@Designate(ocd = Config.class, factory = true)
+@Component(//
+		name = "Timedata.Rrd4j", //
+		immediate = true, //
+		configurationPolicy = ConfigurationPolicy.REQUIRE //
+)
+@CycleEvents({ //
+		CycleEvent.AFTER_PROCESS_IMAGE //
+})
+public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
+		implements TimedataRrd4j, Timedata, OpenemsComponent, CycleListener {
+
+	@Reference(scope = ReferenceScope.PROTOTYPE_REQUIRED)
+	private RecordWorker worker;
+
+	@Reference
+	private Rrd4jReadHandler readHandler;
+
+	private boolean debugMode = false;
+
+	public TimedataRrd4jImpl() {
+		super(//
+				OpenemsComponent.ChannelId.values(), //
+				Timedata.ChannelId.values(), //
+				TimedataRrd4j.ChannelId.values() //
+		);
+	}
+
+	@Activate
+	private void activate(ComponentContext context, Config config) throws Exception {
+		super.activate(context, config.id(), config.alias(), config.enabled());
+		this.debugMode = config.debugMode();
+
+		this.worker.setConfig(new RecordWorker.Config(//
+				this.id(), //
+				config.isReadOnly(), //
+				this.debugMode, //
+				config.persistencePriority(), //
+				config.writeThreads(), //
+				config.maxOpenFiles(), //
+				config.memoryMapped(), //
+				isFull -> this._setQueueIsFull(isFull), //
+				unableToInsert -> this._setUnableToInsertSample(unableToInsert) //
+		));
+		if (config.enabled()) {
+			this.worker.activate(this.id());
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		super.deactivate();
+	}
+
+	@Override
+	public String debugLog() {
+		if (!this.debugMode) {
+			return null;
+		}
+		return this.worker.debugLog();
+	}
+
+	@Override
+	public Timeranges getResendTimeranges(//
+			final ChannelAddress notSendChannel, //
+			final long lastResendTimestamp //
+	) throws OpenemsNamedException {
+		return this.readHandler.getResendTimeranges(this.id(), notSendChannel, lastResendTimestamp, this.debugMode);
+	}
+
+	@Override
+	public SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> queryResendData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryResendData(this.id(), fromDate, toDate, channels, this.debugMode);
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricData(this.id(), fromDate, toDate, channels, resolution, this.debugMode);
+	}
+
+	@Override
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricEnergy(this.id(), fromDate, toDate, channels, this.debugMode);
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricEnergyPerPeriod(this.id(), fromDate, toDate, channels, resolution,
+				this.debugMode);
+	}
+
+	@Override
+	public CompletableFuture<Optional<Object>> getLatestValue(ChannelAddress channelAddress) {
+		return this.readHandler.getLatestValue(this.id(), channelAddress);
+	}
+
+	@Override
+	public void handleCycleEvent(CycleEvent event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event) {
+		case AFTER_PROCESS_IMAGE:
+			this.worker.collectData();
+			break;
+		default:
+			break;
+		}
+	}
+
+}
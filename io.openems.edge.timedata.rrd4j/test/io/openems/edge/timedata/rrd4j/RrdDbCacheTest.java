@@ -0,0 +1,67 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.types.ChannelAddress;
+
+public class RrdDbCacheTest {
+
+	private static final long START = 1577836800L; /* 1. January 2020 00:00:00 */
+
+	private static RrdDb createRrdDb(RrdBackendFactory factory, String path) throws IOException {
+		final var rrdDef = new RrdDef(path, START - 1, Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+		rrdDef.addDatasource(new DsDef(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+				Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 8_928);
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 12, 8_016);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(factory) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		final var factory = new RrdMemoryBackendFactory();
+		final var addresses = new ChannelAddress[3];
+		for (var i = 0; i < addresses.length; i++) {
+			addresses[i] = new ChannelAddress("meter0", "Channel" + i);
+		}
+
+		try (var cache = new RrdDbCache(2)) {
+			final var db0 = cache.get(addresses[0], () -> createRrdDb(factory, "db0"));
+			final var db1 = cache.get(addresses[1], () -> createRrdDb(factory, "db1"));
+			assertSame(db0, cache.get(addresses[0], () -> createRrdDb(factory, "db0")));
+			assertEquals(1, cache.getHits());
+
+			// db1 is least recently used
+			final var db2 = cache.get(addresses[2], () -> createRrdDb(factory, "db2"));
+			assertEquals(2, cache.size());
+			assertTrue(db1.isClosed());
+			assertFalse(db0.isClosed());
+
+			cache.invalidate(addresses[0]);
+			assertTrue(db0.isClosed());
+			assertEquals(1, cache.size());
+
+			cache.close();
+			assertTrue(db2.isClosed());
+			assertEquals(0, cache.size());
+		}
+	}
+
+}